@@ -4,11 +4,15 @@ import com.serhat.secondhand.agreements.entity.Agreement;
 import com.serhat.secondhand.agreements.entity.AgreementUpdateEvent;
 import com.serhat.secondhand.agreements.entity.enums.AgreementType;
 import com.serhat.secondhand.agreements.repository.AgreementUpdateEventRepository;
+import com.serhat.secondhand.core.scheduling.ClusterLeased;
+import com.serhat.secondhand.core.scheduling.SchedulerLeaseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
@@ -22,8 +26,11 @@ public class AgreementUpdateWatcher {
     private final AgreementService agreementService;
     private final AgreementUpdateEventRepository agreementUpdateEventRepository;
     private final AgreementEmailNotificationService agreementEmailNotificationService;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final PlatformTransactionManager transactionManager;
 
     @Scheduled(fixedDelay = CHECK_INTERVAL_MS)
+    @ClusterLeased(name = "agreement-update-watcher", leaseMs = 5 * 60 * 1000L)
     public void checkAndNotifyAgreementUpdates() {
         List<AgreementType> requiredTypes = agreementRequirementService.getAllRequiredAgreementTypes();
         if (requiredTypes.isEmpty()) {
@@ -41,10 +48,13 @@ public class AgreementUpdateWatcher {
             }
 
             try {
-                agreementUpdateEventRepository.save(AgreementUpdateEvent.builder()
-                        .agreementType(type)
-                        .version(version)
-                        .build());
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    schedulerLeaseService.fenceCurrent();
+                    agreementUpdateEventRepository.save(AgreementUpdateEvent.builder()
+                            .agreementType(type)
+                            .version(version)
+                            .build());
+                });
             } catch (DataIntegrityViolationException ex) {
                 log.debug("Agreement update event already created concurrently for type={} version={}", type, version);
                 continue;
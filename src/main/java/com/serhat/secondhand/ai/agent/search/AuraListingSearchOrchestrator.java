@@ -4,30 +4,39 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.serhat.secondhand.ai.agent.dto.SuggestedListingDto;
 import com.serhat.secondhand.ai.application.GeminiClient;
+import com.serhat.secondhand.listing.domain.entity.enums.base.Currency;
 import com.serhat.secondhand.listing.application.query.ListingSearchService;
 import com.serhat.secondhand.listing.domain.dto.response.listing.*;
 import com.serhat.secondhand.listing.domain.entity.enums.base.ListingStatus;
 import com.serhat.secondhand.listing.domain.entity.enums.base.ListingType;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.regex.Pattern;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AuraListingSearchOrchestrator {
 
     private static final int DEFAULT_SIZE = 8;
     private static final int MAX_SIZE = 10;
     private static final int MAX_QUERY_LEN = 200;
+    // Fiyat aralıklı metin aramasında filtre sonrası boş sayfa kalmaması için çekilen aday sayısı
+    private static final int PRICE_FILTER_FETCH_SIZE = 50;
 
     private static final Pattern BYPASS_SEARCH_INTENT = Pattern.compile(
             "(?i)^\\s*(merhaba|selam|hi|hello|nasılsın|kimsin|ne yapabilirsin|help|yardım|günaydın|iyi akşamlar|iyi günler|teşekkürler|thanks|ok|tamam)\\s*[.!?]?\\s*$"
@@ -37,10 +46,38 @@ public class AuraListingSearchOrchestrator {
     private final ObjectMapper objectMapper;
     private final ListingSearchService listingSearchService;
     private final AuraAgentSearchRateLimiter rateLimiter;
+    private final AuraRuleSearchPlanner ruleSearchPlanner;
+    private final MeterRegistry meterRegistry;
+    private final Executor taskExecutor;
 
     @Value("${aura.agent.search.enabled:true}")
     private boolean searchEnabled;
 
+    @Value("${aura.agent.search.rules.enabled:true}")
+    private boolean rulesEnabled;
+
+    @Value("${aura.agent.search.rules.confidence-threshold:0.6}")
+    private double rulesConfidenceThreshold;
+
+    @Value("${aura.agent.search.rules.shadow-sample-rate:0.02}")
+    private double rulesShadowSampleRate;
+
+    public AuraListingSearchOrchestrator(GeminiClient geminiClient,
+                                         ObjectMapper objectMapper,
+                                         ListingSearchService listingSearchService,
+                                         AuraAgentSearchRateLimiter rateLimiter,
+                                         AuraRuleSearchPlanner ruleSearchPlanner,
+                                         MeterRegistry meterRegistry,
+                                         @Qualifier("taskExecutor") Executor taskExecutor) {
+        this.geminiClient = geminiClient;
+        this.objectMapper = objectMapper;
+        this.listingSearchService = listingSearchService;
+        this.rateLimiter = rateLimiter;
+        this.ruleSearchPlanner = ruleSearchPlanner;
+        this.meterRegistry = meterRegistry;
+        this.taskExecutor = taskExecutor;
+    }
+
     public AgentSearchAugmentation augment(Long userId, String userMessage, String memoryData) {
         log.info("Aura augment invoked for userId={}, userMessage='{}'", userId, userMessage);
         if (!searchEnabled || userId == null || userMessage == null || userMessage.isBlank()) {
@@ -59,8 +96,7 @@ public class AuraListingSearchOrchestrator {
             return AgentSearchAugmentation.rateLimited();
         }
 
-        SearchPlan plan = extractPlanWithLlm(userMessage, memoryData);
-        log.info("Aura LLM search plan extracted: {}", plan);
+        SearchPlan plan = planSearch(userMessage, memoryData);
         if (plan.mode() == SearchPlanMode.NONE) {
             // Fall back to a global search using the raw message instead of giving up
             String fallbackQuery = truncate(userMessage.trim(), MAX_QUERY_LEN);
@@ -91,9 +127,80 @@ public class AuraListingSearchOrchestrator {
         }
     }
 
+    /**
+     * Rule-based plan when it is confident enough; otherwise the LLM plan. Each LLM fallback also records
+     * whether the rules' low-confidence guess agreed with it, which is the signal for tuning the lexicon
+     * and the threshold. A sample of the confident rule plans, which skip the LLM, is re-planned off the
+     * request path so their disagreement rate is measured too.
+     */
+    private SearchPlan planSearch(String userMessage, String memoryData) {
+        AuraRuleSearchPlanner.Result rules = null;
+        if (rulesEnabled) {
+            try {
+                rules = ruleSearchPlanner.plan(userMessage);
+            } catch (RuntimeException e) {
+                log.warn("Aura rule-based planning failed: {}", e.getMessage());
+            }
+        }
+        if (rules != null && rules.plan().mode() != SearchPlanMode.NONE && rules.confidence() >= rulesConfidenceThreshold) {
+            countPlan("rules");
+            log.info("Aura rule-based search plan (confidence={}): {}", rules.confidence(), rules.plan());
+            if (ThreadLocalRandom.current().nextDouble() < rulesShadowSampleRate) {
+                sampleBypassedPlan(rules, userMessage, memoryData);
+            }
+            return rules.plan();
+        }
+
+        SearchPlan plan = extractPlanWithLlm(userMessage, memoryData);
+        countPlan("llm");
+        log.info("Aura LLM search plan extracted: {}", plan);
+        if (rules != null) {
+            recordShadow("fallback", rules, plan);
+        }
+        return plan;
+    }
+
+    private void sampleBypassedPlan(AuraRuleSearchPlanner.Result rules, String userMessage, String memoryData) {
+        try {
+            taskExecutor.execute(() -> recordShadow("bypass", rules, extractPlanWithLlm(userMessage, memoryData)));
+        } catch (RejectedExecutionException e) {
+            log.debug("Aura bypass shadow sample dropped: {}", e.getMessage());
+        }
+    }
+
+    private void recordShadow(String source, AuraRuleSearchPlanner.Result rules, SearchPlan llm) {
+        String result = rules.plan().mode() == SearchPlanMode.NONE ? "no_candidate"
+                : samePlan(rules.plan(), llm) ? "agree" : "disagree";
+        Counter.builder("aura.search.plan.shadow")
+                .tag("source", source)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+        log.debug("Aura plan shadow | source={} result={} confidence={} rules={} llm={}",
+                source, result, rules.confidence(), rules.plan(), llm);
+    }
+
+    private void countPlan(String source) {
+        Counter.builder("aura.search.plan").tag("source", source).register(meterRegistry).increment();
+    }
+
+    private static boolean samePlan(SearchPlan rules, SearchPlan llm) {
+        if (rules.mode() != llm.mode()) {
+            return false;
+        }
+        if (rules.mode() == SearchPlanMode.CATEGORY_FILTER && rules.category() != llm.category()) {
+            return false;
+        }
+        return samePrice(rules.minPrice(), llm.minPrice()) && samePrice(rules.maxPrice(), llm.maxPrice());
+    }
+
+    private static boolean samePrice(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+
     private SearchPlan extractPlanWithLlm(String userMessage, String memoryData) {
         try {
-            String raw = geminiClient.generateTextForMemory(buildPlanPrompt(userMessage, memoryData));
+            String raw = geminiClient.generateCachedTextForMemory(buildPlanPrompt(userMessage, memoryData));
             return parsePlan(raw);
         } catch (Exception e) {
             log.debug("Plan LLM parse path failed: {}", e.getMessage());
@@ -153,7 +260,7 @@ public class AuraListingSearchOrchestrator {
             if (searchQuery == null || searchQuery.isBlank()) {
                 return SearchPlan.none();
             }
-            return SearchPlan.global(truncate(searchQuery, MAX_QUERY_LEN), size);
+            return SearchPlan.global(truncate(searchQuery, MAX_QUERY_LEN), min, max, null, size);
         }
 
         if (mode == SearchPlanMode.CATEGORY_FILTER) {
@@ -172,9 +279,11 @@ public class AuraListingSearchOrchestrator {
         int size = clampSize(plan.resultSize() > 0 ? plan.resultSize() : DEFAULT_SIZE);
         log.info("Aura executing DB search. Mode={}, Query='{}', Size={}", plan.mode(), plan.searchQuery(), size);
         Page<ListingDto> result = switch (plan.mode()) {
-            case GLOBAL_TEXT -> listingSearchService.globalSearch(plan.searchQuery(), 0, size, userId);
+            case GLOBAL_TEXT -> plan.hasPriceBounds() || plan.currency() != null
+                    ? globalSearchWithinPrice(plan, size, userId)
+                    : listingSearchService.globalSearch(plan.searchQuery(), 0, size, userId);
             case CATEGORY_FILTER -> {
-                ListingFilterDto filters = buildCategoryFilter(plan.category(), plan.minPrice(), plan.maxPrice(), size);
+                ListingFilterDto filters = buildCategoryFilter(plan.category(), plan.minPrice(), plan.maxPrice(), plan.currency(), size);
                 yield listingSearchService.filterByCategory(filters, userId);
             }
             case NONE -> Page.empty();
@@ -183,7 +292,33 @@ public class AuraListingSearchOrchestrator {
         return result;
     }
 
-    private ListingFilterDto buildCategoryFilter(ListingType type, BigDecimal min, BigDecimal max, int size) {
+    /**
+     * Metin araması fiyat filtresi almadığı için aday sayısı büyütülüp fiyat/para birimi burada uygulanır.
+     */
+    private Page<ListingDto> globalSearchWithinPrice(SearchPlan plan, int size, Long userId) {
+        Page<ListingDto> candidates = listingSearchService.globalSearch(plan.searchQuery(), 0, PRICE_FILTER_FETCH_SIZE, userId);
+        List<ListingDto> matched = candidates.getContent().stream()
+                .filter(dto -> withinPrice(dto, plan))
+                .toList();
+        return new PageImpl<>(matched.subList(0, Math.min(size, matched.size())), PageRequest.of(0, size), matched.size());
+    }
+
+    private static boolean withinPrice(ListingDto dto, SearchPlan plan) {
+        if (plan.currency() != null && dto.getCurrency() != plan.currency()) {
+            return false;
+        }
+        if (!plan.hasPriceBounds()) {
+            return true;
+        }
+        BigDecimal price = dto.getPrice();
+        if (price == null) {
+            return false;
+        }
+        return (plan.minPrice() == null || price.compareTo(plan.minPrice()) >= 0)
+                && (plan.maxPrice() == null || price.compareTo(plan.maxPrice()) <= 0);
+    }
+
+    private ListingFilterDto buildCategoryFilter(ListingType type, BigDecimal min, BigDecimal max, Currency currency, int size) {
         ListingFilterDto f = switch (type) {
             case ELECTRONICS -> new ElectronicListingFilterDto();
             case VEHICLE -> new VehicleListingFilterDto();
@@ -203,6 +338,9 @@ public class AuraListingSearchOrchestrator {
         if (max != null) {
             f.setMaxPrice(max);
         }
+        if (currency != null) {
+            f.setCurrency(currency);
+        }
         return f;
     }
 
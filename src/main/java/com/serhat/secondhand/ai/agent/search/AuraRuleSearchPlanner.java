@@ -0,0 +1,376 @@
+package com.serhat.secondhand.ai.agent.search;
+
+import com.serhat.secondhand.listing.domain.entity.enums.base.Currency;
+import com.serhat.secondhand.listing.domain.entity.enums.base.ListingType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Builds a {@link SearchPlan} from the user message without calling the LLM.
+ * <p>
+ * Price bounds, currency and result size are read with regexes; the remaining words are matched
+ * against {@link AuraSearchLexicon}. The returned confidence reflects how much of the intent was
+ * recognised (category, brand/model, search verb, price); the orchestrator asks the LLM only when it
+ * is below {@code aura.agent.search.rules.confidence-threshold}.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuraRuleSearchPlanner {
+
+    public record Result(SearchPlan plan, double confidence) {
+    }
+
+    private record Amount(BigDecimal number, String unit, Currency currency) {
+        BigDecimal value() {
+            return number.multiply(multiplier(unit));
+        }
+
+        boolean explicit() {
+            return unit != null || currency != null;
+        }
+
+        /** A bare amount counts as a price only with a currency or a spelled-out unit ("4k" is a resolution). */
+        boolean priceLike() {
+            return currency != null || (unit != null && !"k".equals(unit));
+        }
+    }
+
+    private record Token(String original, String folded) {
+    }
+
+    private static final int DEFAULT_SIZE = 8;
+    private static final int MAX_SIZE = 10;
+    private static final int MAX_QUERY_LEN = 200;
+    private static final int LONG_MESSAGE_WORDS = 14;
+
+    private static final String AMOUNT = "((?<![\\p{L}\\p{N}])(?:[₺$€]\\s*)?\\d+(?:[.,]\\d+)*\\s*"
+            + "(?:(?:bin|milyon|mn)(?![a-z]{4,})|k(?![a-z]))?\\s*"
+            + "(?:(?:tl|lira|usd|dolar|euro|eur)(?![a-z]{4,})|[₺$€])?)";
+
+    /** Turkish case suffix glued to an amount: "5000'e", "tl'ye", "bine", "binden". */
+    private static final String SUFFIX = "(?:'?(?:y?[ae]|n[ae]|[dt][ae]n))?";
+
+    private static final Pattern RANGE = Pattern.compile(AMOUNT + "\\s*(?:-|–|ile|ila|to|and)\\s*" + AMOUNT
+            + "(?:" + SUFFIX + "\\s*(arasi|arasinda|arasindaki|between))?");
+    private static final Pattern MAX_AFTER = Pattern.compile(AMOUNT
+            + "(?:" + SUFFIX + "\\s*(?:kadar|alti|altinda|altindaki)|'?[dt][ae]n\\s*(?:az|ucuz|dusuk|asagi))\\b");
+    private static final Pattern MAX_BEFORE = Pattern.compile(
+            "\\b(?:en fazla|en cok|max|maks|maksimum|maximum|under|below|butcem|butce)\\s*:?\\s*(?:(?:de|da|ile)\\s+)?" + AMOUNT);
+    private static final Pattern MIN_AFTER = Pattern.compile(AMOUNT
+            + "(?:" + SUFFIX + "\\s*(?:ve\\s+)?(?:ustu|uzeri|ustunde|uzerinde|uzerindeki|yukari|over|above)|'?[dt][ae]n\\s*(?:fazla|pahali|yuksek))\\b");
+    private static final Pattern MIN_BEFORE = Pattern.compile("\\b(?:en az|min|minimum|over|above)\\s*:?\\s*" + AMOUNT);
+    private static final Pattern BARE = Pattern.compile(AMOUNT);
+    private static final Pattern AMOUNT_PARTS = Pattern.compile(
+            "([₺$€])?\\s*(\\d+(?:[.,]\\d+)*)\\s*(bin|milyon|mn|k)?\\s*(tl|lira|usd|dolar|euro|eur|[₺$€])?");
+    private static final Pattern RESULT_SIZE = Pattern.compile(
+            "(?<![\\p{L}\\p{N}])(\\d{1,2})\\s*(?:tane|adet|ilan|sonuc|secenek|oneri)");
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    private static final Set<String> INTENT_WORDS = Set.of(
+            "ara", "ariyorum", "arar", "bul", "bulur", "bulabilir", "oner", "onerir", "onerin", "oneri", "onerisi",
+            "goster", "gosterir", "listele", "ilan", "ilanlar", "ilanlari", "ilani", "satilik", "almak", "alacagim",
+            "alabilecegim", "alabilirim", "lazim", "istiyorum", "ucuz", "uygun", "fiyatli", "ikinci", "el",
+            "find", "search", "show", "recommend", "buy", "looking", "listings", "listing"
+    );
+    private static final Set<String> FILLER_WORDS = Set.of(
+            "bana", "bir", "bi", "icin", "ile", "ve", "veya", "ya", "da", "de", "mi", "mu", "misin", "musun",
+            "var", "lutfen", "en", "cok", "biraz", "tane", "adet", "olan", "gibi", "kadar", "alti", "altinda",
+            "ustu", "uzeri", "arasi", "fiyat", "fiyati", "butce", "butcem", "sonuc", "secenek", "bu", "su", "o",
+            "the", "a", "an", "for", "me", "please", "some", "any", "with", "under", "below", "over", "above"
+    );
+    private static final Set<String> HELP_WORDS = Set.of(
+            "nasil", "neden", "niye", "sifre", "sifremi", "hesap", "hesabim", "iade", "kargo", "siparis", "siparisim",
+            "odeme", "giris", "kayit", "destek", "sikayet", "iptal", "password", "account", "refund", "how", "why"
+    );
+    private static final List<String> SUFFIXES = List.of(
+            "lari", "leri", "lar", "ler", "yi", "yu", "ya", "ye", "da", "de", "ta", "te", "i", "u", "a", "e");
+
+    private final AuraSearchLexicon lexicon;
+
+    public Result plan(String userMessage) {
+        if (userMessage == null || userMessage.isBlank()) {
+            return new Result(SearchPlan.none(), 0);
+        }
+        String original = userMessage.trim();
+        String folded = AuraSearchLexicon.fold(original);
+        boolean[] consumed = new boolean[folded.length()];
+
+        int size = extractResultSize(folded, consumed);
+        Amount[] bounds = extractPrice(folded, consumed);
+        Amount min = bounds[0];
+        Amount max = bounds[1];
+        Currency currency = max != null && max.currency() != null ? max.currency()
+                : min != null ? min.currency() : null;
+
+        List<Token> tokens = tokenize(original, folded, consumed);
+        Set<ListingType> categoryTypes = EnumSet.noneOf(ListingType.class);
+        Set<ListingType> productTypes = EnumSet.noneOf(ListingType.class);
+        List<String> content = new ArrayList<>();
+        boolean intent = false;
+        boolean help = false;
+        int unknown = 0;
+
+        int i = 0;
+        while (i < tokens.size()) {
+            int matched = matchLexicon(tokens, i, categoryTypes, productTypes);
+            if (matched > 0) {
+                for (int k = i; k < i + matched; k++) {
+                    content.add(tokens.get(k).original());
+                }
+                i += matched;
+                continue;
+            }
+            String word = tokens.get(i).folded();
+            if (INTENT_WORDS.contains(word)) {
+                intent = true;
+            } else if (HELP_WORDS.contains(word)) {
+                help = true;
+            } else if (!FILLER_WORDS.contains(word)) {
+                content.add(tokens.get(i).original());
+                unknown++;
+            }
+            i++;
+        }
+
+        boolean product = !productTypes.isEmpty();
+        Set<ListingType> candidates = EnumSet.noneOf(ListingType.class);
+        if (product && !categoryTypes.isEmpty()) {
+            candidates.addAll(categoryTypes);
+            candidates.retainAll(productTypes);
+            if (candidates.isEmpty()) {
+                candidates.addAll(categoryTypes);
+                candidates.addAll(productTypes);
+            }
+        } else {
+            candidates.addAll(product ? productTypes : categoryTypes);
+        }
+        ListingType type = candidates.size() == 1 ? candidates.iterator().next() : null;
+
+        double confidence = 0;
+        if (type != null) {
+            confidence += 0.45;
+        } else if (!candidates.isEmpty()) {
+            confidence += 0.1;
+        }
+        if (product) confidence += 0.35;
+        if (intent) confidence += 0.2;
+        if (min != null || max != null) confidence += 0.15;
+        if (help && !product) confidence -= 0.4;
+        if (tokens.size() > LONG_MESSAGE_WORDS) confidence -= 0.2;
+        if (unknown > 2) confidence -= 0.05 * (unknown - 2);
+        confidence = Math.max(0, Math.min(1, confidence));
+
+        BigDecimal minPrice = min != null ? min.value() : null;
+        BigDecimal maxPrice = max != null ? max.value() : null;
+        SearchPlan plan;
+        if (product || (type != null && unknown > 0)) {
+            String query = truncate(String.join(" ", content));
+            plan = query.length() >= 2 ? SearchPlan.global(query, minPrice, maxPrice, currency, size) : SearchPlan.none();
+        } else if (type != null) {
+            plan = SearchPlan.category(type, minPrice, maxPrice, currency, size);
+        } else {
+            plan = SearchPlan.none();
+        }
+        return new Result(plan, confidence);
+    }
+
+    /** Longest lexicon phrase starting at {@code start}; the last word may carry a Turkish suffix. */
+    private int matchLexicon(List<Token> tokens, int start, Set<ListingType> categoryTypes, Set<ListingType> productTypes) {
+        int longest = Math.min(lexicon.maxWords(), tokens.size() - start);
+        for (int n = longest; n >= 1; n--) {
+            StringBuilder prefix = new StringBuilder();
+            for (int k = start; k < start + n - 1; k++) {
+                prefix.append(tokens.get(k).folded()).append(' ');
+            }
+            AuraSearchLexicon.Term term = lookupWithSuffix(prefix.toString(), tokens.get(start + n - 1).folded());
+            if (term != null) {
+                (term.kind() == AuraSearchLexicon.Kind.PRODUCT ? productTypes : categoryTypes).addAll(term.types());
+                return n;
+            }
+        }
+        return 0;
+    }
+
+    private AuraSearchLexicon.Term lookupWithSuffix(String prefix, String last) {
+        AuraSearchLexicon.Term term = lexicon.lookup(prefix + last);
+        if (term != null) {
+            return term;
+        }
+        for (String suffix : SUFFIXES) {
+            if (last.endsWith(suffix) && last.length() - suffix.length() >= 3) {
+                term = lexicon.lookup(prefix + last.substring(0, last.length() - suffix.length()));
+                if (term != null) {
+                    return term;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<Token> tokenize(String original, String folded, boolean[] consumed) {
+        List<Token> tokens = new ArrayList<>();
+        Matcher m = WORD.matcher(folded);
+        while (m.find()) {
+            if (!consumed[m.start()] && !gluedToConsumed(folded, consumed, m.start())) {
+                tokens.add(new Token(original.substring(m.start(), m.end()), m.group()));
+            }
+        }
+        return tokens;
+    }
+
+    /** Suffix left over from a consumed span, e.g. the "lik" of "20 bin tl'lik". */
+    private static boolean gluedToConsumed(String folded, boolean[] consumed, int start) {
+        int p = start - 1;
+        if (p >= 0 && folded.charAt(p) == '\'') {
+            p--;
+        }
+        return p >= 0 && consumed[p] && !Character.isWhitespace(folded.charAt(p));
+    }
+
+    private static int extractResultSize(String folded, boolean[] consumed) {
+        Matcher m = RESULT_SIZE.matcher(folded);
+        if (!m.find()) {
+            return DEFAULT_SIZE;
+        }
+        mark(consumed, m.start(), m.end());
+        int size = Integer.parseInt(m.group(1));
+        return size < 1 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+    }
+
+    /** Returns {@code [min, max]}; either may be null. */
+    private static Amount[] extractPrice(String folded, boolean[] consumed) {
+        Amount min = null;
+        Amount max = null;
+
+        Matcher range = RANGE.matcher(folded);
+        while (range.find()) {
+            Amount from = parseAmount(range.group(1));
+            Amount to = parseAmount(range.group(2));
+            if (from == null || to == null || (range.group(3) == null && !from.explicit() && !to.explicit())) {
+                continue;
+            }
+            // "10-20 bin": birim yalnızca ikinci tutarda yazılır.
+            String unit = from.unit() != null ? from.unit() : to.unit();
+            Currency currency = to.currency() != null ? to.currency() : from.currency();
+            from = new Amount(from.number(), unit, currency);
+            to = new Amount(to.number(), to.unit(), currency);
+            boolean ordered = from.value().compareTo(to.value()) <= 0;
+            min = ordered ? from : to;
+            max = ordered ? to : from;
+            mark(consumed, range.start(), range.end());
+            return new Amount[]{min, max};
+        }
+
+        Matcher m = MAX_AFTER.matcher(folded);
+        if (m.find()) {
+            max = parseAmount(m.group(1));
+            mark(consumed, m.start(), m.end());
+        } else if ((m = MAX_BEFORE.matcher(folded)).find()) {
+            max = parseAmount(m.group(1));
+            mark(consumed, m.start(), m.end());
+        }
+        m = MIN_AFTER.matcher(folded);
+        if (m.find() && !consumed[m.start()]) {
+            min = parseAmount(m.group(1));
+            mark(consumed, m.start(), m.end());
+        } else if ((m = MIN_BEFORE.matcher(folded)).find() && !consumed[m.start()]) {
+            min = parseAmount(m.group(1));
+            mark(consumed, m.start(), m.end());
+        }
+        if (min == null && max == null) {
+            // "20 bin tl telefon": yönsüz ama birimli/para birimli tutar bütçe (üst sınır) kabul edilir.
+            Matcher bare = BARE.matcher(folded);
+            while (bare.find()) {
+                Amount amount = parseAmount(bare.group(1));
+                if (amount != null && amount.priceLike() && !consumed[bare.start()]) {
+                    max = amount;
+                    mark(consumed, bare.start(), bare.end());
+                    break;
+                }
+            }
+        }
+        return new Amount[]{min, max};
+    }
+
+    private static Amount parseAmount(String text) {
+        if (text == null) {
+            return null;
+        }
+        Matcher m = AMOUNT_PARTS.matcher(text);
+        if (!m.find()) {
+            return null;
+        }
+        BigDecimal number = parseNumber(m.group(2));
+        if (number == null) {
+            return null;
+        }
+        Currency currency = parseCurrency(m.group(4) != null ? m.group(4) : m.group(1));
+        return new Amount(number, m.group(3), currency);
+    }
+
+    private static BigDecimal multiplier(String unit) {
+        if (unit == null) {
+            return BigDecimal.ONE;
+        }
+        return switch (unit) {
+            case "bin", "k" -> BigDecimal.valueOf(1_000);
+            case "milyon", "mn" -> BigDecimal.valueOf(1_000_000);
+            default -> BigDecimal.ONE;
+        };
+    }
+
+    /** "10.000" and "10,000" are thousands; "1.5" and "2,5" are decimals. */
+    private static BigDecimal parseNumber(String digits) {
+        int lastDot = digits.lastIndexOf('.');
+        int lastComma = digits.lastIndexOf(',');
+        String normalized;
+        if (lastDot >= 0 && lastComma >= 0) {
+            char decimal = lastDot > lastComma ? '.' : ',';
+            char grouping = decimal == '.' ? ',' : '.';
+            normalized = digits.replace(String.valueOf(grouping), "").replace(decimal, '.');
+        } else if (lastDot >= 0 || lastComma >= 0) {
+            char separator = lastDot >= 0 ? '.' : ',';
+            int last = Math.max(lastDot, lastComma);
+            boolean grouping = digits.indexOf(separator) != last || digits.length() - last - 1 == 3;
+            normalized = grouping ? digits.replace(String.valueOf(separator), "") : digits.replace(separator, '.');
+        } else {
+            normalized = digits;
+        }
+        try {
+            return new BigDecimal(normalized);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Currency parseCurrency(String token) {
+        if (token == null) {
+            return null;
+        }
+        return switch (token) {
+            case "tl", "lira", "₺" -> Currency.TRY;
+            case "usd", "dolar", "$" -> Currency.USD;
+            case "eur", "euro", "€" -> Currency.EUR;
+            default -> null;
+        };
+    }
+
+    private static void mark(boolean[] consumed, int start, int end) {
+        for (int i = start; i < end && i < consumed.length; i++) {
+            consumed[i] = true;
+        }
+    }
+
+    private static String truncate(String s) {
+        String t = s.trim();
+        return t.length() <= MAX_QUERY_LEN ? t : t.substring(0, MAX_QUERY_LEN);
+    }
+}
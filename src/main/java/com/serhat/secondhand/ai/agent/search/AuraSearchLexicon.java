@@ -0,0 +1,198 @@
+package com.serhat.secondhand.ai.agent.search;
+
+import com.serhat.secondhand.core.application.EnumReadService;
+import com.serhat.secondhand.listing.domain.entity.enums.base.ListingType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Vocabulary of the rule-based search planner, keyed by folded text (see {@link #fold(String)}).
+ * <ul>
+ *   <li>{@link Kind#CATEGORY}: words naming a kind of item — {@link ListingType} names/labels, Turkish
+ *       synonyms and the type/genre/discipline catalogues from {@link EnumReadService}.</li>
+ *   <li>{@link Kind#PRODUCT}: brand and model names (car, electronic, clothing); these make a query
+ *       specific enough for free-text search.</li>
+ * </ul>
+ * Catalogues are read from the database lazily and rebuilt every {@code aura.agent.search.rules.lexicon-refresh-ms}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuraSearchLexicon {
+
+    public enum Kind {
+        CATEGORY,
+        PRODUCT
+    }
+
+    public record Term(Kind kind, Set<ListingType> types) {
+    }
+
+    record Snapshot(Map<String, Term> terms, int maxWords) {
+    }
+
+    private static final long RETRY_AFTER_FAILURE_MS = 60_000;
+
+    /** Catalogue entries that name nothing specific. */
+    private static final Set<String> IGNORED = Set.of("other", "diger", "genel", "standart", "standard", "none", "yok");
+
+    private static final Map<ListingType, List<String>> CATEGORY_SYNONYMS = Map.of(
+            ListingType.VEHICLE, List.of("araba", "araç", "arac", "otomobil", "oto", "vasıta", "motosiklet", "motor",
+                    "suv", "kamyonet", "car", "cars", "vehicle", "motorcycle"),
+            ListingType.ELECTRONICS, List.of("elektronik", "telefon", "cep telefonu", "akıllı telefon", "bilgisayar",
+                    "laptop", "notebook", "dizüstü", "tablet", "televizyon", "tv", "kulaklık", "kamera", "konsol",
+                    "oyun konsolu", "monitör", "phone", "computer", "headphones", "camera"),
+            ListingType.REAL_ESTATE, List.of("emlak", "ev", "daire", "konut", "kiralık", "villa", "arsa", "rezidans",
+                    "stüdyo", "apartment", "house", "flat"),
+            ListingType.CLOTHING, List.of("giyim", "kıyafet", "elbise", "ayakkabı", "mont", "ceket", "pantolon",
+                    "tişört", "gömlek", "etek", "kazak", "sweatshirt", "clothes", "shoes", "jacket", "dress"),
+            ListingType.BOOKS, List.of("kitap", "kitaplar", "roman", "dergi", "ders kitabı", "book", "books", "novel"),
+            ListingType.SPORTS, List.of("spor", "spor malzemesi", "bisiklet", "fitness", "dambıl", "kamp", "raket",
+                    "kayak", "bicycle", "bike", "sports")
+    );
+
+    private final EnumReadService enumReadService;
+
+    @Value("${aura.agent.search.rules.lexicon-refresh-ms:3600000}")
+    private long refreshMs;
+
+    private volatile Snapshot snapshot;
+    private volatile long nextRefreshAt;
+
+    public Term lookup(String foldedPhrase) {
+        return current().terms().get(foldedPhrase);
+    }
+
+    public int maxWords() {
+        return current().maxWords();
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s != null && System.currentTimeMillis() < nextRefreshAt) {
+            return s;
+        }
+        synchronized (this) {
+            if (snapshot == null || System.currentTimeMillis() >= nextRefreshAt) {
+                rebuild();
+            }
+            return snapshot;
+        }
+    }
+
+    private void rebuild() {
+        Builder builder = new Builder();
+        for (ListingType type : ListingType.values()) {
+            if (type == ListingType.OTHER) {
+                continue;
+            }
+            builder.add(type.name().replace('_', ' '), Kind.CATEGORY, type);
+            builder.add(type.getLabel(), Kind.CATEGORY, type);
+            CATEGORY_SYNONYMS.getOrDefault(type, List.of()).forEach(word -> builder.add(word, Kind.CATEGORY, type));
+        }
+        boolean catalogsLoaded = true;
+        try {
+            builder.addCatalog(enumReadService::getVehicleTypes, Kind.CATEGORY, ListingType.VEHICLE);
+            builder.addCatalog(enumReadService::getCarBrands, Kind.PRODUCT, ListingType.VEHICLE);
+            builder.addCatalog(enumReadService::getVehicleModels, Kind.PRODUCT, ListingType.VEHICLE);
+            builder.addCatalog(enumReadService::getElectronicTypes, Kind.CATEGORY, ListingType.ELECTRONICS);
+            builder.addCatalog(enumReadService::getElectronicBrands, Kind.PRODUCT, ListingType.ELECTRONICS);
+            builder.addCatalog(enumReadService::getElectronicModels, Kind.PRODUCT, ListingType.ELECTRONICS);
+            builder.addCatalog(enumReadService::getRealEstateTypes, Kind.CATEGORY, ListingType.REAL_ESTATE);
+            builder.addCatalog(enumReadService::getClothingTypes, Kind.CATEGORY, ListingType.CLOTHING);
+            builder.addCatalog(enumReadService::getClothingBrands, Kind.PRODUCT, ListingType.CLOTHING);
+            builder.addCatalog(enumReadService::getBookTypes, Kind.CATEGORY, ListingType.BOOKS);
+            builder.addCatalog(enumReadService::getBookGenres, Kind.CATEGORY, ListingType.BOOKS);
+            builder.addCatalog(enumReadService::getSportEquipmentTypes, Kind.CATEGORY, ListingType.SPORTS);
+            builder.addCatalog(enumReadService::getSportDisciplines, Kind.CATEGORY, ListingType.SPORTS);
+        } catch (RuntimeException e) {
+            // Katalog okunamazsa statik sözlükle devam; kısa süre sonra tekrar denenir.
+            catalogsLoaded = false;
+            log.warn("Aura search lexicon catalogue load failed: {}", e.getMessage());
+        }
+        snapshot = builder.build();
+        nextRefreshAt = System.currentTimeMillis() + (catalogsLoaded ? refreshMs : RETRY_AFTER_FAILURE_MS);
+        log.info("Aura search lexicon built: {} terms (catalogues loaded={})", snapshot.terms().size(), catalogsLoaded);
+    }
+
+    /**
+     * Lower-cases and folds Turkish letters to ASCII one character at a time, so offsets in the result
+     * line up with the input.
+     */
+    public static String fold(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            char lower = c == 'İ' || c == 'I' ? 'i' : Character.toLowerCase(c);
+            sb.append(switch (lower) {
+                case 'ı', 'î' -> 'i';
+                case 'ş' -> 's';
+                case 'ğ' -> 'g';
+                case 'ü', 'û' -> 'u';
+                case 'ö' -> 'o';
+                case 'ç' -> 'c';
+                case 'â' -> 'a';
+                default -> lower;
+            });
+        }
+        return sb.toString();
+    }
+
+    private static final class Builder {
+        private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+        private final Map<String, Term> terms = new HashMap<>();
+        private int maxWords = 1;
+
+        void addCatalog(Supplier<List<Map<String, Object>>> catalog, Kind kind, ListingType type) {
+            for (Map<String, Object> item : catalog.get()) {
+                add(asText(item.get("name")), kind, type);
+                add(asText(item.get("label")), kind, type);
+            }
+        }
+
+        void add(String raw, Kind kind, ListingType type) {
+            if (raw == null) {
+                return;
+            }
+            String phrase = Arrays.stream(WORD_SEPARATOR.split(fold(raw)))
+                    .filter(word -> !word.isEmpty())
+                    .collect(Collectors.joining(" "));
+            // Tek harfli veya salt sayısal model adları ("3", "5") serbest metinde yanlış eşleşir.
+            if (phrase.length() < 2 || phrase.chars().noneMatch(Character::isLetter) || IGNORED.contains(phrase)) {
+                return;
+            }
+            terms.merge(phrase, new Term(kind, EnumSet.of(type)), Builder::merge);
+            maxWords = Math.max(maxWords, phrase.split(" ").length);
+        }
+
+        Snapshot build() {
+            return new Snapshot(Map.copyOf(terms), Math.min(maxWords, 4));
+        }
+
+        private static Term merge(Term existing, Term added) {
+            Set<ListingType> types = EnumSet.noneOf(ListingType.class);
+            types.addAll(existing.types());
+            types.addAll(added.types());
+            // Bir ürün adı kategori kelimesiyle çakışırsa daha belirgin olan ürün kabul edilir.
+            Kind kind = existing.kind() == Kind.PRODUCT || added.kind() == Kind.PRODUCT ? Kind.PRODUCT : Kind.CATEGORY;
+            return new Term(kind, Set.copyOf(types));
+        }
+
+        private static String asText(Object value) {
+            return value == null ? null : String.valueOf(value);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.serhat.secondhand.ai.agent.search;
 
+import com.serhat.secondhand.listing.domain.entity.enums.base.Currency;
 import com.serhat.secondhand.listing.domain.entity.enums.base.ListingType;
 
 import java.math.BigDecimal;
@@ -13,17 +14,30 @@ public record SearchPlan(
         ListingType category,
         BigDecimal minPrice,
         BigDecimal maxPrice,
+        Currency currency,
         int resultSize
 ) {
     public static SearchPlan none() {
-        return new SearchPlan(SearchPlanMode.NONE, null, null, null, null, 0);
+        return new SearchPlan(SearchPlanMode.NONE, null, null, null, null, null, 0);
     }
 
     public static SearchPlan global(String query, int size) {
-        return new SearchPlan(SearchPlanMode.GLOBAL_TEXT, query, null, null, null, size);
+        return global(query, null, null, null, size);
+    }
+
+    public static SearchPlan global(String query, BigDecimal minPrice, BigDecimal maxPrice, Currency currency, int size) {
+        return new SearchPlan(SearchPlanMode.GLOBAL_TEXT, query, null, minPrice, maxPrice, currency, size);
+    }
+
+    public boolean hasPriceBounds() {
+        return minPrice != null || maxPrice != null;
     }
 
     public static SearchPlan category(ListingType type, BigDecimal minPrice, BigDecimal maxPrice, int size) {
-        return new SearchPlan(SearchPlanMode.CATEGORY_FILTER, null, type, minPrice, maxPrice, size);
+        return category(type, minPrice, maxPrice, null, size);
+    }
+
+    public static SearchPlan category(ListingType type, BigDecimal minPrice, BigDecimal maxPrice, Currency currency, int size) {
+        return new SearchPlan(SearchPlanMode.CATEGORY_FILTER, null, type, minPrice, maxPrice, currency, size);
     }
 }
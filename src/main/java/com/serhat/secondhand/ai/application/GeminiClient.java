@@ -1,136 +1,106 @@
 package com.serhat.secondhand.ai.application;
 
-import com.serhat.secondhand.ai.dto.GeminiRequest;
-import com.serhat.secondhand.ai.dto.GeminiResponse;
+import com.serhat.secondhand.ai.client.GeminiTransport;
+import com.serhat.secondhand.ai.client.GeminiTransportException;
 import com.serhat.secondhand.core.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
-
-import java.util.List;
 
+/**
+ * Synchronous facade over {@link GeminiTransport}. Callers keep the blocking API; pooling, per-model
+ * limits, retries, single-flight and the response cache live in the transport.
+ */
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class GeminiClient {
 
-    @Value("${gemini.api.key}")
-    private String apiKey;
+    private static final String MEMORY_FALLBACK_REPLY = "Cevap hazır";
 
     @Value("${gemini.api.model:gemini-3.1-flash-lite}")
     private String model;
 
-    @Value("${gemini.api.base-url}")
-    private String baseUrl;
-
     @Value("${gemini.api.fallback-memory-model:gemini-3.1-flash-lite}")
     private String fallbackMemoryModel;
 
-    private final RestTemplate restTemplate;
-
-    public GeminiClient() {
-        org.springframework.http.client.SimpleClientHttpRequestFactory factory = new org.springframework.http.client.SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000);
-        factory.setReadTimeout(30000);
-        this.restTemplate = new RestTemplate(factory);
-    }
+    private final GeminiTransport transport;
 
     public String model() {
         return model;
     }
 
     public String generateText(String message) {
-        return generateTextWithModel(model, message, false);
+        return generateTextWithModel(model, message, false, false);
     }
 
     public String generateTextForMemory(String message) {
+        return generateForMemory(message, false);
+    }
+
+    /**
+     * Same as {@link #generateTextForMemory(String)} for deterministic prompts: identical prompts are
+     * answered from the transport's response cache for {@code gemini.transport.cache-ttl-seconds}.
+     */
+    public String generateCachedTextForMemory(String message) {
+        return generateForMemory(message, true);
+    }
+
+    private String generateForMemory(String message, boolean cacheable) {
         try {
-            return generateTextWithModel(model, message, true);
+            return generateTextWithModel(model, message, true, cacheable);
         } catch (RuntimeException e) {
             log.warn("Primary model failed for memory extraction: {}", e.getMessage());
             try {
-                return generateTextWithModel(fallbackMemoryModel, message, true);
+                return generateTextWithModel(fallbackMemoryModel, message, true, cacheable);
             } catch (RuntimeException fallbackException) {
                 log.error("Fallback model also failed for memory extraction: {}", fallbackException.getMessage(), fallbackException);
-                return "Cevap hazır";
+                return MEMORY_FALLBACK_REPLY;
             }
         }
     }
 
-    private String generateTextWithModel(String modelName, String message, boolean swallowRateLimit) {
-        String url = buildGenerateContentUrl(modelName);
-        log.debug("Request to model: {} at URL: {}", modelName, url.replace(apiKey, "***"));
-
-        var request = new GeminiRequest(List.of(
-                new GeminiRequest.Content(List.of(
-                        new GeminiRequest.Part(message)
-                ))
-        ));
-
-        long[] backoffMillis = {3000L, 3000L};
-        int maxAttempts = backoffMillis.length + 1;
-        int attempt = 0;
-
-        while (attempt < maxAttempts) {
-            try {
-                GeminiResponse response = restTemplate.postForObject(url, request, GeminiResponse.class);
-
-                if (response != null && response.candidates() != null && !response.candidates().isEmpty()) {
-                    String responseText = response.candidates().get(0).content().parts().get(0).text();
-                    log.info("Response received successfully from model {}: {} characters", modelName, responseText.length());
-                    return responseText;
-                }
-
-                log.warn("Empty response received for message: {}", message);
-                return "Empty response from AI.";
-
-            } catch (HttpClientErrorException.TooManyRequests e) {
-                if (attempt >= maxAttempts - 1) {
-                    if (swallowRateLimit) {
-                        log.warn("Rate limit exceeded for model {}: {}", modelName, e.getMessage());
-                        return "Cevap hazır";
-                    }
-                    log.error("Rate limit exceeded for model {} after {} attempts: {}", modelName, maxAttempts, e.getMessage(), e);
-                    throw new BusinessException("The AI service is temporarily unavailable. Please try again in a few minutes.", HttpStatus.TOO_MANY_REQUESTS, "AI_RATE_LIMIT_EXCEEDED");
-                }
-                long waitTime = backoffMillis[attempt];
-                log.warn("Rate limit exceeded for model {}. Attempt {}/{}. Waiting {}ms. Error: {}", 
-                        modelName, attempt + 1, maxAttempts, waitTime, e.getMessage());
-                try {
-                    Thread.sleep(waitTime);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    log.error("Thread interrupted while waiting for retry: {}", ie.getMessage(), ie);
-                    throw new BusinessException("The request was interrupted. Please try again.", HttpStatus.INTERNAL_SERVER_ERROR, "AI_REQUEST_INTERRUPTED");
-                }
-                attempt++;
-
-            } catch (HttpClientErrorException e) {
-                log.error("HTTP Error calling Gemini API: Status={}, Body={}, Message={}", 
-                        e.getStatusCode(), e.getResponseBodyAsString(), e.getMessage(), e);
-                throw new BusinessException("The AI service encountered an error. Please try again later.", HttpStatus.BAD_GATEWAY, "AI_SERVICE_ERROR");
-
-            } catch (Exception e) {
-                log.error("Unexpected error calling Gemini API with model {}: {}", modelName, e.getMessage(), e);
-                throw new BusinessException("An unexpected error occurred. Please try again later.", HttpStatus.INTERNAL_SERVER_ERROR, "AI_UNEXPECTED_ERROR");
+    private String generateTextWithModel(String modelName, String message, boolean swallowRateLimit, boolean cacheable) {
+        String responseText;
+        try {
+            responseText = transport.await(transport.generate(modelName, message, cacheable));
+        } catch (GeminiTransportException e) {
+            boolean rateLimited = e.getKind() == GeminiTransportException.Kind.RATE_LIMITED
+                    || e.getKind() == GeminiTransportException.Kind.OVERLOADED;
+            if (rateLimited && swallowRateLimit) {
+                log.warn("Rate limit exceeded for model {}: {}", modelName, e.getMessage());
+                return MEMORY_FALLBACK_REPLY;
             }
+            throw toBusinessException(modelName, e);
         }
 
-        throw new BusinessException("Request failed after maximum retries.", HttpStatus.SERVICE_UNAVAILABLE, "AI_MAX_RETRIES_EXCEEDED");
-    }
-
-    private String buildGenerateContentUrl(String modelName) {
-        String normalizedBaseUrl = baseUrl;
-        while (normalizedBaseUrl.endsWith("/")) {
-            normalizedBaseUrl = normalizedBaseUrl.substring(0, normalizedBaseUrl.length() - 1);
-        }
-
-        if (!normalizedBaseUrl.matches(".*/v\\d+(beta)?/models$")) {
-            normalizedBaseUrl += "/v1beta/models";
+        if (responseText == null) {
+            log.warn("Empty response received for message: {}", message);
+            return "Empty response from AI.";
         }
+        return responseText;
+    }
 
-        return normalizedBaseUrl + "/" + modelName + ":generateContent?key=" + apiKey;
+    private BusinessException toBusinessException(String modelName, GeminiTransportException e) {
+        return switch (e.getKind()) {
+            case RATE_LIMITED, OVERLOADED -> {
+                log.error("Rate limit exceeded for model {}: {}", modelName, e.getMessage());
+                yield new BusinessException("The AI service is temporarily unavailable. Please try again in a few minutes.", HttpStatus.TOO_MANY_REQUESTS, "AI_RATE_LIMIT_EXCEEDED");
+            }
+            case TIMEOUT -> {
+                log.error("Gemini call timed out for model {}: {}", modelName, e.getMessage());
+                yield new BusinessException("The AI service did not respond in time. Please try again later.", HttpStatus.GATEWAY_TIMEOUT, "AI_TIMEOUT");
+            }
+            case HTTP_ERROR -> {
+                log.error("HTTP Error calling Gemini API: Status={}, Message={}", e.getStatus(), e.getMessage());
+                yield new BusinessException("The AI service encountered an error. Please try again later.", HttpStatus.BAD_GATEWAY, "AI_SERVICE_ERROR");
+            }
+            case UNEXPECTED -> {
+                log.error("Unexpected error calling Gemini API with model {}: {}", modelName, e.getMessage(), e);
+                yield new BusinessException("An unexpected error occurred. Please try again later.", HttpStatus.INTERNAL_SERVER_ERROR, "AI_UNEXPECTED_ERROR");
+            }
+        };
     }
 }
@@ -0,0 +1,153 @@
+package com.serhat.secondhand.ai.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking admission control for one model: at most {@code maxConcurrent} requests in flight and,
+ * when {@code requestsPerMinute > 0}, a token bucket refilled continuously (burst = {@code maxConcurrent}).
+ * <p>
+ * {@link #acquire()} never blocks; a request that cannot start yet waits in a bounded FIFO and is
+ * admitted by {@link #release()} or by a scheduled drain when only the token bucket is holding it back.
+ * Futures are completed outside the lock, so their continuations may call back into the limiter.
+ */
+final class GeminiModelLimiter {
+
+    static final class RejectedException extends RuntimeException {
+        RejectedException(String message) {
+            super(message);
+        }
+    }
+
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final long acquireTimeoutMs;
+    private final double tokensPerNano;
+    private final double capacity;
+    private final ScheduledExecutorService scheduler;
+    private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+
+    private int inFlight;
+    private double tokens;
+    private long refilledAt = System.nanoTime();
+    private boolean drainScheduled;
+
+    GeminiModelLimiter(int maxConcurrent, int requestsPerMinute, int maxWaiting, long acquireTimeoutMs,
+                       ScheduledExecutorService scheduler) {
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxWaiting = Math.max(0, maxWaiting);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.tokensPerNano = requestsPerMinute > 0 ? requestsPerMinute / (double) TimeUnit.MINUTES.toNanos(1) : 0;
+        this.capacity = this.maxConcurrent;
+        this.tokens = capacity;
+        this.scheduler = scheduler;
+    }
+
+    CompletableFuture<Void> acquire() {
+        CompletableFuture<Void> ticket = new CompletableFuture<>();
+        boolean granted = false;
+        boolean rejected = false;
+        synchronized (this) {
+            purgeDoneWaiters();
+            if (waiters.isEmpty() && tryTake()) {
+                granted = true;
+            } else if (waiters.size() >= maxWaiting) {
+                rejected = true;
+            } else {
+                waiters.addLast(ticket);
+                scheduleDrainIfThrottled();
+            }
+        }
+        if (granted) {
+            grant(ticket);
+        } else if (rejected) {
+            ticket.completeExceptionally(new RejectedException("Too many waiting requests"));
+        } else if (acquireTimeoutMs > 0) {
+            ticket.orTimeout(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        }
+        return ticket;
+    }
+
+    void release() {
+        List<CompletableFuture<Void>> ready;
+        synchronized (this) {
+            inFlight = Math.max(0, inFlight - 1);
+            ready = drainLocked();
+        }
+        ready.forEach(this::grant);
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+
+    synchronized int waiting() {
+        return waiters.size();
+    }
+
+    private void grant(CompletableFuture<Void> ticket) {
+        // Süresi dolmuş bir bekleyiciye verilen slot hemen geri bırakılır.
+        if (!ticket.complete(null)) {
+            release();
+        }
+    }
+
+    private List<CompletableFuture<Void>> drainLocked() {
+        List<CompletableFuture<Void>> ready = new ArrayList<>();
+        purgeDoneWaiters();
+        while (!waiters.isEmpty() && tryTake()) {
+            ready.add(waiters.pollFirst());
+            purgeDoneWaiters();
+        }
+        scheduleDrainIfThrottled();
+        return ready;
+    }
+
+    private void purgeDoneWaiters() {
+        while (!waiters.isEmpty() && waiters.peekFirst().isDone()) {
+            waiters.pollFirst();
+        }
+    }
+
+    private boolean tryTake() {
+        if (inFlight >= maxConcurrent) {
+            return false;
+        }
+        if (tokensPerNano > 0) {
+            refill();
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+        }
+        inFlight++;
+        return true;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+    }
+
+    /** Waiters held back only by the token bucket are admitted when the next token is due. */
+    private void scheduleDrainIfThrottled() {
+        if (drainScheduled || waiters.isEmpty() || inFlight >= maxConcurrent || tokensPerNano <= 0) {
+            return;
+        }
+        long delayNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+        drainScheduled = true;
+        scheduler.schedule(() -> {
+            List<CompletableFuture<Void>> ready;
+            synchronized (this) {
+                drainScheduled = false;
+                ready = drainLocked();
+            }
+            ready.forEach(this::grant);
+        }, Math.max(1L, delayNanos), TimeUnit.NANOSECONDS);
+    }
+}
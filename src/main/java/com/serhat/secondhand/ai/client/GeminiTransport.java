@@ -0,0 +1,359 @@
+package com.serhat.secondhand.ai.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.serhat.secondhand.ai.config.GeminiTransportConfig;
+import com.serhat.secondhand.ai.dto.GeminiRequest;
+import com.serhat.secondhand.ai.dto.GeminiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.timeout.ReadTimeoutException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Asynchronous transport to the Gemini {@code generateContent} API.
+ * <ul>
+ *   <li>HTTP goes through a pooled reactor-netty client; no request thread is held by I/O.</li>
+ *   <li>Each model has a {@link GeminiModelLimiter} (concurrency + optional requests per minute).</li>
+ *   <li>Concurrent calls with the same model and prompt share one upstream request (single-flight).</li>
+ *   <li>Prompts marked cacheable (deterministic extraction prompts) are served from a TTL cache.</li>
+ *   <li>429/503 are retried on a scheduler with exponential backoff or the server's {@code Retry-After};
+ *       nothing sleeps. Retries stay within {@code gemini.transport.call-timeout-ms} of the call's start,
+ *       so no attempt (or limiter permit) is spent after the caller has given up.</li>
+ * </ul>
+ * A completed future holds the first candidate's text, or {@code null} when the response had none.
+ * Failures complete it with {@link GeminiTransportException}.
+ */
+@Component
+@Slf4j
+public class GeminiTransport {
+
+    private record HttpReply(int status, String body, String retryAfter) {
+    }
+
+    @Value("${gemini.api.key}")
+    private String apiKey;
+
+    @Value("${gemini.api.base-url}")
+    private String baseUrl;
+
+    private final GeminiTransportConfig config;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ConnectionProvider connectionProvider;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, GeminiModelLimiter> limiters = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<String, String> responseCache;
+    private final Counter singleFlightJoins;
+
+    public GeminiTransport(GeminiTransportConfig config, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.connectionProvider = ConnectionProvider.builder("gemini")
+                .maxConnections(Math.max(1, config.getMaxConnections()))
+                .pendingAcquireTimeout(Duration.ofMillis(config.getConnectTimeoutMs()))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+        this.httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) Math.min(Integer.MAX_VALUE, config.getConnectTimeoutMs()))
+                .responseTimeout(Duration.ofMillis(config.getResponseTimeoutMs()))
+                .headers(headers -> headers.set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "gemini-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.responseCache = Caffeine.newBuilder()
+                .maximumSize(config.getCacheMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(config.getCacheTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responseCache, "geminiResponses");
+        this.singleFlightJoins = Counter.builder("ai.gemini.singleflight.joined").register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+        connectionProvider.dispose();
+    }
+
+    public CompletableFuture<String> generate(String model, String prompt, boolean cacheable) {
+        String key = key(model, prompt);
+        if (cacheable) {
+            String cached = responseCache.getIfPresent(key);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            singleFlightJoins.increment();
+            return existing.copy();
+        }
+        created.whenComplete((text, error) -> {
+            inFlight.remove(key, created);
+            if (error == null && text != null && cacheable) {
+                responseCache.put(key, text);
+            }
+        });
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getCallTimeoutMs());
+        attempt(model, prompt, 0, deadlineNanos, created);
+        return created.copy();
+    }
+
+    /**
+     * Blocks until {@code future} completes or {@code gemini.transport.call-timeout-ms} passes, for the
+     * synchronous callers. Failures surface as {@link GeminiTransportException}.
+     */
+    public String await(CompletableFuture<String> future) {
+        try {
+            return future.get(config.getCallTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new GeminiTransportException(GeminiTransportException.Kind.TIMEOUT, 0, "Gemini call timed out", e);
+        } catch (ExecutionException e) {
+            throw asTransportException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeminiTransportException(GeminiTransportException.Kind.UNEXPECTED, 0, "Interrupted while waiting for Gemini", e);
+        }
+    }
+
+    private void attempt(String model, String prompt, int attempt, long deadlineNanos, CompletableFuture<String> result) {
+        if (deadlineExpired(model, attempt, deadlineNanos, result)) {
+            return;
+        }
+        GeminiModelLimiter limiter = limiterFor(model);
+        limiter.acquire().whenComplete((ignored, acquireError) -> {
+            if (acquireError != null) {
+                record(model, "overloaded", null);
+                result.completeExceptionally(new GeminiTransportException(GeminiTransportException.Kind.OVERLOADED, 0,
+                        "No Gemini capacity for model " + model, acquireError));
+                return;
+            }
+            // Limiter kuyruğunda beklerken süre dolmuş olabilir: izni geri ver, istek atma.
+            if (deadlineExpired(model, attempt, deadlineNanos, result)) {
+                limiter.release();
+                return;
+            }
+            Timer.Sample sample = Timer.start(meterRegistry);
+            CompletableFuture<HttpReply> call;
+            try {
+                call = send(model, prompt);
+            } catch (RuntimeException e) {
+                call = CompletableFuture.failedFuture(e);
+            }
+            call.whenComplete((reply, error) -> {
+                limiter.release();
+                handle(model, prompt, attempt, deadlineNanos, result, sample, reply, error);
+            });
+        });
+    }
+
+    private void handle(String model, String prompt, int attempt, long deadlineNanos, CompletableFuture<String> result,
+                        Timer.Sample sample, HttpReply reply, Throwable error) {
+        if (error != null) {
+            Throwable cause = unwrap(error);
+            boolean timeout = cause instanceof ReadTimeoutException || cause instanceof TimeoutException;
+            record(model, timeout ? "timeout" : "error", sample);
+            log.warn("Gemini call failed | model={} type={} message={}", model, cause.getClass().getSimpleName(), cause.getMessage());
+            result.completeExceptionally(new GeminiTransportException(
+                    timeout ? GeminiTransportException.Kind.TIMEOUT : GeminiTransportException.Kind.UNEXPECTED,
+                    0, "Gemini call failed", cause));
+            return;
+        }
+        int status = reply.status();
+        if (status >= 200 && status < 300) {
+            try {
+                String text = firstCandidateText(reply.body());
+                record(model, "success", sample);
+                log.info("Response received successfully from model {}: {} characters", model, text != null ? text.length() : 0);
+                result.complete(text);
+            } catch (JsonProcessingException | RuntimeException e) {
+                record(model, "error", sample);
+                result.completeExceptionally(new GeminiTransportException(GeminiTransportException.Kind.UNEXPECTED,
+                        status, "Unreadable Gemini response", e));
+            }
+            return;
+        }
+        boolean retryable = status == 429 || status == 503;
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        if (retryable && attempt < config.getMaxRetries() && remainingMs > 0) {
+            // Retry-After çağrı süresini aşamaz; süre biterken tetiklenen deneme attempt() içinde düşer.
+            long delayMs = Math.min(retryDelayMs(attempt, reply.retryAfter()), remainingMs);
+            record(model, "retried", sample);
+            log.warn("Gemini returned {} for model {}. Attempt {}/{}. Retrying in {}ms",
+                    status, model, attempt + 1, config.getMaxRetries() + 1, delayMs);
+            try {
+                scheduler.schedule(() -> attempt(model, prompt, attempt + 1, deadlineNanos, result), delayMs, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(new GeminiTransportException(GeminiTransportException.Kind.UNEXPECTED,
+                        status, "Could not schedule Gemini retry", e));
+            }
+            return;
+        }
+        record(model, retryable ? "rate_limited" : "http_error", sample);
+        if (!retryable) {
+            log.error("HTTP Error calling Gemini API: Status={}, Body={}", status, reply.body());
+        }
+        result.completeExceptionally(new GeminiTransportException(
+                retryable ? GeminiTransportException.Kind.RATE_LIMITED : GeminiTransportException.Kind.HTTP_ERROR,
+                status, "Gemini returned HTTP " + status, null));
+    }
+
+    private boolean deadlineExpired(String model, int attempt, long deadlineNanos, CompletableFuture<String> result) {
+        if (System.nanoTime() - deadlineNanos < 0) {
+            return false;
+        }
+        record(model, "deadline_exceeded", null);
+        log.warn("Gemini call deadline passed before attempt {} | model={}", attempt + 1, model);
+        result.completeExceptionally(new GeminiTransportException(GeminiTransportException.Kind.TIMEOUT, 0,
+                "Gemini call deadline passed before attempt " + (attempt + 1), null));
+        return true;
+    }
+
+    private CompletableFuture<HttpReply> send(String model, String prompt) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(new GeminiRequest(List.of(
+                    new GeminiRequest.Content(List.of(new GeminiRequest.Part(prompt))))));
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        String url = buildGenerateContentUrl(model);
+        log.debug("Request to model: {} at URL: {}", model, url.replace(apiKey, "***"));
+        return httpClient.post()
+                .uri(url)
+                .send(ByteBufFlux.fromString(Mono.just(json)))
+                .responseSingle((response, body) -> body.asString(StandardCharsets.UTF_8)
+                        .defaultIfEmpty("")
+                        .map(text -> new HttpReply(response.status().code(), text,
+                                response.responseHeaders().get(HttpHeaderNames.RETRY_AFTER))))
+                .toFuture();
+    }
+
+    private String firstCandidateText(String body) throws JsonProcessingException {
+        GeminiResponse response = objectMapper.readValue(body, GeminiResponse.class);
+        if (response == null || response.candidates() == null || response.candidates().isEmpty()) {
+            return null;
+        }
+        GeminiResponse.Content content = response.candidates().get(0).content();
+        if (content == null || content.parts() == null || content.parts().isEmpty()) {
+            return null;
+        }
+        return content.parts().get(0).text();
+    }
+
+    private long retryDelayMs(int attempt, String retryAfter) {
+        if (retryAfter != null) {
+            try {
+                long seconds = Long.parseLong(retryAfter.trim());
+                if (seconds >= 0) {
+                    return TimeUnit.SECONDS.toMillis(seconds);
+                }
+            } catch (NumberFormatException ignored) {
+                // HTTP-date biçimi: üstel beklemeye düş
+            }
+        }
+        return config.getRetryBackoffMs() << Math.min(attempt, 10);
+    }
+
+    private GeminiModelLimiter limiterFor(String model) {
+        return limiters.computeIfAbsent(model, name -> {
+            GeminiModelLimiter limiter = new GeminiModelLimiter(
+                    config.getMaxConcurrentPerModel(),
+                    config.getRequestsPerMinutePerModel(),
+                    config.getMaxWaitingPerModel(),
+                    config.getAcquireTimeoutMs(),
+                    scheduler);
+            Gauge.builder("ai.gemini.inflight", limiter, GeminiModelLimiter::inFlight).tag("model", name).register(meterRegistry);
+            Gauge.builder("ai.gemini.waiting", limiter, GeminiModelLimiter::waiting).tag("model", name).register(meterRegistry);
+            return limiter;
+        });
+    }
+
+    private void record(String model, String outcome, Timer.Sample sample) {
+        if (sample != null) {
+            sample.stop(Timer.builder("ai.gemini.request")
+                    .tag("model", model)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        } else {
+            Counter.builder("ai.gemini.rejected").tag("model", model).register(meterRegistry).increment();
+        }
+    }
+
+    private String buildGenerateContentUrl(String modelName) {
+        String normalizedBaseUrl = baseUrl;
+        while (normalizedBaseUrl.endsWith("/")) {
+            normalizedBaseUrl = normalizedBaseUrl.substring(0, normalizedBaseUrl.length() - 1);
+        }
+
+        if (!normalizedBaseUrl.matches(".*/v\\d+(beta)?/models$")) {
+            normalizedBaseUrl += "/v1beta/models";
+        }
+
+        return normalizedBaseUrl + "/" + modelName + ":generateContent?key=" + apiKey;
+    }
+
+    private static GeminiTransportException asTransportException(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof GeminiTransportException transportException) {
+            return transportException;
+        }
+        return new GeminiTransportException(GeminiTransportException.Kind.UNEXPECTED, 0, "Gemini call failed", cause);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException) && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    private static String key(String model, String prompt) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(prompt.getBytes(StandardCharsets.UTF_8));
+            return model + ":" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.serhat.secondhand.ai.client;
+
+import lombok.Getter;
+
+/**
+ * Failure of a Gemini call after admission control and retries; {@link com.serhat.secondhand.ai.application.GeminiClient} maps the
+ * {@link Kind} to the user-facing error.
+ */
+@Getter
+public class GeminiTransportException extends RuntimeException {
+
+    public enum Kind {
+        /** 429 (or 503) after all retries. */
+        RATE_LIMITED,
+        /** The per-model limiter rejected the request or it waited too long for a slot. */
+        OVERLOADED,
+        TIMEOUT,
+        /** Non-retryable HTTP error status. */
+        HTTP_ERROR,
+        UNEXPECTED
+    }
+
+    private final Kind kind;
+    private final int status;
+
+    public GeminiTransportException(Kind kind, int status, String message, Throwable cause) {
+        super(message, cause);
+        this.kind = kind;
+        this.status = status;
+    }
+}
@@ -0,0 +1,35 @@
+package com.serhat.secondhand.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Gemini HTTP katmanı: havuzlu, bloklamayan istemci; model başına eşzamanlılık ve dakika başı istek
+ * sınırı, aynı prompt'ların tek çağrıda birleştirilmesi ve deterministik prompt'lar için önbellek.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "gemini.transport")
+@Getter
+@Setter
+public class GeminiTransportConfig {
+    private int maxConnections = 50;
+    private long connectTimeoutMs = 5_000;
+    private long responseTimeoutMs = 30_000;
+    /** Çağıranın sonucu en fazla bekleyeceği süre (sıra, tekrar denemeler ve yanıt dahil). */
+    private long callTimeoutMs = 45_000;
+    /** Model başına aynı anda uçuşta olabilecek istek sayısı. */
+    private int maxConcurrentPerModel = 8;
+    /** Model başına dakikadaki istek sınırı; 0 sınırsız. */
+    private int requestsPerMinutePerModel = 0;
+    /** İzin bekleyen istek sayısı; aşılırsa istek hemen reddedilir. */
+    private int maxWaitingPerModel = 100;
+    private long acquireTimeoutMs = 10_000;
+    /** 429/503 yanıtlarında ek deneme sayısı; beklemeler zamanlayıcıda yapılır, thread uyutulmaz. */
+    private int maxRetries = 2;
+    /** İlk tekrar bekleme süresi; her denemede iki katına çıkar. Retry-After başlığı varsa o kullanılır. */
+    private long retryBackoffMs = 2_000;
+    private long cacheTtlSeconds = 600;
+    private long cacheMaxEntries = 2_000;
+}
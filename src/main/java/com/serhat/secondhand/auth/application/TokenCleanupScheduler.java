@@ -1,17 +1,24 @@
 package com.serhat.secondhand.auth.application;
 
+import com.serhat.secondhand.core.scheduling.ClusterLeased;
+import com.serhat.secondhand.core.scheduling.SchedulerLeaseService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
 public class TokenCleanupScheduler {
 
     private final TokenService tokenService;
+    private final SchedulerLeaseService schedulerLeaseService;
 
     @Scheduled(fixedRate = 5 * 60 * 1000)
+    @ClusterLeased(name = "token-cleanup", lockAtLeastForMs = 60_000)
+    @Transactional
     public void cleanupExpiredTokens() {
+        schedulerLeaseService.fenceCurrent();
         tokenService.cleanupExpiredTokens();
     }
 }
\ No newline at end of file
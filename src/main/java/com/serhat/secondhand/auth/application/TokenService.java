@@ -4,6 +4,7 @@ import com.serhat.secondhand.auth.domain.entity.Token;
 import com.serhat.secondhand.auth.domain.entity.enums.TokenStatus;
 import com.serhat.secondhand.auth.domain.entity.enums.TokenType;
 import com.serhat.secondhand.auth.domain.repository.TokenRepository;
+import com.serhat.secondhand.core.jwt.VerifiedTokenCache;
 import com.serhat.secondhand.user.domain.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +22,7 @@ import java.util.UUID;
 public class TokenService {
 
     private final TokenRepository tokenRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Transactional
     public Token saveToken(String tokenValue, TokenType tokenType, User user, LocalDateTime expiresAt, Token oldRefreshToken, boolean rememberMe) {
@@ -73,6 +75,7 @@ public class TokenService {
 
     @Transactional
     public void revokeToken(String tokenValue) {
+        verifiedTokenCache.evict(tokenValue);
         tokenRepository.findByToken(tokenValue)
                 .ifPresent(token -> {
                     token.setTokenStatus(TokenStatus.REVOKED);
@@ -83,6 +86,7 @@ public class TokenService {
 
     @Transactional
     public void revokeAllUserTokens(User user) {
+        verifiedTokenCache.revokeUser(user.getId());
         int revokedCount = tokenRepository.bulkUpdateUserTokensByStatus(
                 user,
                 TokenStatus.ACTIVE,
@@ -1,13 +1,19 @@
 package com.serhat.secondhand.campaign.application;
 
+import com.serhat.secondhand.campaign.application.event.SellerCampaignsChangedEvent;
 import com.serhat.secondhand.campaign.repository.CampaignRepository;
+import com.serhat.secondhand.core.scheduling.ClusterLeased;
+import com.serhat.secondhand.core.scheduling.SchedulerLeaseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -15,15 +21,23 @@ import java.time.LocalDateTime;
 public class CampaignScheduler {
 
     private final CampaignRepository campaignRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulerLeaseService schedulerLeaseService;
 
     @Scheduled(fixedDelayString = "#{@campaignConfigProperties.schedulerDeactivateFixedDelayMs}")
+    @ClusterLeased(name = "campaign-expiry")
     @Transactional
     public void deactivateExpiredCampaigns() {
+        schedulerLeaseService.fenceCurrent();
         LocalDateTime now = LocalDateTime.now();
+        List<Long> sellerIds = campaignRepository.findSellerIdsWithActiveExpired(now);
         int deactivatedCount = campaignRepository.deactivateAllExpired(now);
         if (deactivatedCount > 0) {
             log.info("Deactivated {} expired campaigns", deactivatedCount);
         }
+        if (!sellerIds.isEmpty()) {
+            eventPublisher.publishEvent(new SellerCampaignsChangedEvent(new HashSet<>(sellerIds)));
+        }
     }
 
 }
@@ -1,5 +1,6 @@
 package com.serhat.secondhand.campaign.application;
 
+import com.serhat.secondhand.campaign.application.event.SellerCampaignsChangedEvent;
 import com.serhat.secondhand.campaign.dto.CampaignDto;
 import com.serhat.secondhand.campaign.dto.CreateCampaignRequest;
 import com.serhat.secondhand.campaign.dto.UpdateCampaignRequest;
@@ -13,11 +14,13 @@ import com.serhat.secondhand.listing.domain.entity.enums.base.ListingType;
 import com.serhat.secondhand.user.application.IUserService;
 import com.serhat.secondhand.user.domain.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -34,6 +37,7 @@ public class CampaignService implements ICampaignService {
     private final IUserService userService;
     private final CampaignValidator campaignValidator;
     private final CampaignMapper campaignMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Result<CampaignDto> create(Long userId, CreateCampaignRequest request) {
         Result<User> sellerResult = findSellerById(userId);
@@ -47,7 +51,9 @@ public class CampaignService implements ICampaignService {
             return Result.error(validationResult.getMessage(), validationResult.getErrorCode());
         }
         
-        return Result.success(campaignMapper.toDto(campaignRepository.save(campaign)));
+        Campaign saved = campaignRepository.save(campaign);
+        eventPublisher.publishEvent(new SellerCampaignsChangedEvent(Set.of(seller.getId())));
+        return Result.success(campaignMapper.toDto(saved));
     }
 
     public Result<CampaignDto> update(Long userId, UUID id, UpdateCampaignRequest request) {
@@ -66,7 +72,9 @@ public class CampaignService implements ICampaignService {
             return Result.error(validationResult.getMessage(), validationResult.getErrorCode());
         }
         
-        return Result.success(campaignMapper.toDto(campaignRepository.save(campaign)));
+        Campaign saved = campaignRepository.save(campaign);
+        eventPublisher.publishEvent(new SellerCampaignsChangedEvent(Set.of(seller.getId())));
+        return Result.success(campaignMapper.toDto(saved));
     }
 
     public Result<Void> delete(Long userId, UUID id) {
@@ -79,6 +87,7 @@ public class CampaignService implements ICampaignService {
         Campaign campaign = campaignResult.getData();
         
         campaignRepository.delete(campaign);
+        eventPublisher.publishEvent(new SellerCampaignsChangedEvent(Set.of(seller.getId())));
         return Result.success();
     }
 
@@ -100,6 +109,22 @@ public class CampaignService implements ICampaignService {
         return campaigns;
     }
 
+    /**
+     * Campaigns of the sellers that are active and not yet ended, including ones that start later;
+     * the source of the campaign pricing index.
+     */
+    @Transactional(readOnly = true)
+    public List<Campaign> loadIndexableCampaignsForSellers(List<Long> sellerIds) {
+        if (sellerIds == null || sellerIds.isEmpty()) return List.of();
+
+        List<Campaign> campaigns = campaignRepository.findAllActiveOrUpcomingBySellerIds(sellerIds, LocalDateTime.now());
+        if (campaigns.isEmpty()) {
+            return campaigns;
+        }
+        hydrateEligibleCollections(campaigns);
+        return campaigns;
+    }
+
     private Result<Void> assertOwnedBySeller(Campaign campaign, User seller) {
         if (!campaign.getSeller().getId().equals(seller.getId())) {
             return Result.error(CampaignErrorCodes.CAMPAIGN_NOT_OWNED);
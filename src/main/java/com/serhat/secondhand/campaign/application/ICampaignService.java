@@ -22,4 +22,6 @@ public interface ICampaignService {
     Page<CampaignDto> listMyCampaigns(Long userId, Pageable pageable);
     
     List<Campaign> loadActiveCampaignsForSellers(List<Long> sellerIds);
+
+    List<Campaign> loadIndexableCampaignsForSellers(List<Long> sellerIds);
 }
@@ -0,0 +1,9 @@
+package com.serhat.secondhand.campaign.application.event;
+
+import java.util.Set;
+
+/**
+ * Published when the campaigns of one or more sellers were created, changed, deleted or deactivated.
+ */
+public record SellerCampaignsChangedEvent(Set<Long> sellerIds) {
+}
@@ -0,0 +1,192 @@
+package com.serhat.secondhand.campaign.application.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.serhat.secondhand.campaign.application.ICampaignService;
+import com.serhat.secondhand.campaign.application.event.SellerCampaignsChangedEvent;
+import com.serhat.secondhand.campaign.config.CampaignConfigProperties;
+import com.serhat.secondhand.campaign.entity.Campaign;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Per-node, per-seller index of active campaigns used by listing card pricing and cart pricing.
+ * <p>
+ * A seller is loaded from the database once (batched for a page of listings, including sellers
+ * with no campaign) and then served from memory:
+ * <ul>
+ *   <li>After a campaign change commits, the seller is dropped here and on every other node through
+ *       Redis pub/sub, and reloaded on its next lookup.</li>
+ *   <li>Every invalidation bumps the index version; a load that started before the bump is returned
+ *       to its caller but not stored, and the version is checked again after storing (evicting what was
+ *       just stored if it moved), so a concurrent stale read cannot outlive the change.</li>
+ *   <li>Entries expire after {@code app.campaign.index-refresh-ms}, which bounds staleness when a
+ *       pub/sub message is lost.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class CampaignPricingIndex implements MessageListener {
+
+    public static final String CHANNEL = "campaign:index:invalidation";
+
+    private static final String SEPARATOR = "\u001F";
+
+    private final ICampaignService campaignService;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong version = new AtomicLong();
+    private final Cache<Long, SellerCampaigns> sellers;
+    private final Counter loadedSellers;
+    private final Counter localInvalidations;
+    private final Counter remoteInvalidations;
+
+    public CampaignPricingIndex(ICampaignService campaignService,
+                                CampaignConfigProperties config,
+                                StringRedisTemplate redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                MeterRegistry meterRegistry) {
+        this.campaignService = campaignService;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.sellers = Caffeine.newBuilder()
+                .maximumSize(config.getIndexMaximumSellers())
+                .expireAfterWrite(Duration.ofMillis(config.getIndexRefreshMs()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sellers, "campaignPricingIndex");
+        this.loadedSellers = Counter.builder("campaign.index.loaded.sellers").register(meterRegistry);
+        this.localInvalidations = Counter.builder("campaign.index.invalidations").tag("origin", "local").register(meterRegistry);
+        this.remoteInvalidations = Counter.builder("campaign.index.invalidations").tag("origin", "remote").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public SellerCampaigns forSeller(Long sellerId) {
+        if (sellerId == null) {
+            return null;
+        }
+        return forSellers(List.of(sellerId)).get(sellerId);
+    }
+
+    /** Entries for every given seller; sellers without campaigns map to an empty entry. */
+    public Map<Long, SellerCampaigns> forSellers(Collection<Long> sellerIds) {
+        Set<Long> unique = sellerIds == null ? Set.of() : sellerIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (unique.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, SellerCampaigns> out = new HashMap<>(sellers.getAllPresent(unique));
+        if (out.size() == unique.size()) {
+            return out;
+        }
+        List<Long> missing = unique.stream().filter(id -> !out.containsKey(id)).toList();
+        out.putAll(load(missing));
+        return out;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSellerCampaignsChanged(SellerCampaignsChangedEvent event) {
+        if (event.sellerIds() == null || event.sellerIds().isEmpty()) {
+            return;
+        }
+        invalidateLocal(event.sellerIds());
+        localInvalidations.increment(event.sellerIds().size());
+        publish(event.sellerIds());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 2);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            Set<Long> sellerIds = new HashSet<>();
+            for (String id : parts[1].split(",")) {
+                if (!id.isBlank()) {
+                    sellerIds.add(Long.parseLong(id));
+                }
+            }
+            invalidateLocal(sellerIds);
+            remoteInvalidations.increment(sellerIds.size());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed campaign index invalidation: {}", e.getMessage());
+        }
+    }
+
+    private Map<Long, SellerCampaigns> load(List<Long> sellerIds) {
+        long loadedAt = version.get();
+        Map<Long, List<CompiledCampaign>> bySeller = new HashMap<>();
+        for (Campaign campaign : campaignService.loadIndexableCampaignsForSellers(sellerIds)) {
+            CompiledCampaign compiled = CompiledCampaign.from(campaign);
+            if (compiled.sellerId() != null) {
+                bySeller.computeIfAbsent(compiled.sellerId(), key -> new ArrayList<>()).add(compiled);
+            }
+        }
+        Map<Long, SellerCampaigns> loaded = new HashMap<>();
+        for (Long sellerId : sellerIds) {
+            loaded.put(sellerId, new SellerCampaigns(sellerId, loadedAt, bySeller.getOrDefault(sellerId, List.of())));
+        }
+        // Yükleme sırasında bir invalidation geldiyse sonuç eski olabilir: döndür ama saklama.
+        if (version.get() == loadedAt) {
+            sellers.putAll(loaded);
+            // Kontrol ile putAll arasına düşen invalidation'ın sildiği girdiyi eski veriyle geri
+            // yazmış olabiliriz; sürüm değiştiyse az önce yazılanlar da düşürülür.
+            if (version.get() != loadedAt) {
+                sellers.invalidateAll(loaded.keySet());
+            }
+        }
+        loadedSellers.increment(sellerIds.size());
+        return loaded;
+    }
+
+    private void invalidateLocal(Collection<Long> sellerIds) {
+        version.incrementAndGet();
+        sellers.invalidateAll(sellerIds);
+    }
+
+    private void publish(Set<Long> sellerIds) {
+        String body = sellerIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + SEPARATOR + body);
+        } catch (RuntimeException e) {
+            // index-refresh-ms diğer node'lardaki bayatlığı sınırlar; yayın hatası çağıranı bozmamalı.
+            log.warn("Campaign index invalidation publish failed | type={} message={}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+}
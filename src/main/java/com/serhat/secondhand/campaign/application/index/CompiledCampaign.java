@@ -0,0 +1,95 @@
+package com.serhat.secondhand.campaign.application.index;
+
+import com.serhat.secondhand.campaign.entity.Campaign;
+import com.serhat.secondhand.campaign.entity.CampaignDiscountKind;
+import com.serhat.secondhand.listing.domain.entity.enums.base.ListingType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable, detached form of an active {@link Campaign} with its eligibility rules resolved once:
+ * <ul>
+ *   <li>{@code universal} — applies to every campaignable listing of the seller.</li>
+ *   <li>{@code types} / {@code listingIds} — otherwise, applies when either contains the listing.
+ *       Listing IDs are dropped for {@code applyToFutureListings} campaigns, which match by type only.</li>
+ * </ul>
+ * The percent factor is pre-divided with the same precision the pricing code always used, so a
+ * discount is a single multiplication.
+ */
+public record CompiledCampaign(
+        UUID id,
+        Long sellerId,
+        String name,
+        CampaignDiscountKind discountKind,
+        BigDecimal value,
+        BigDecimal percentFactor,
+        BigDecimal fixedAmount,
+        int minQuantity,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt,
+        boolean universal,
+        Set<ListingType> types,
+        Set<UUID> listingIds) {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final int SCALE = 2;
+    private static final int PRECISION = 6;
+
+    public static CompiledCampaign from(Campaign campaign) {
+        Set<ListingType> types = campaign.getEligibleTypes() == null || campaign.getEligibleTypes().isEmpty()
+                ? Set.of()
+                : Collections.unmodifiableSet(EnumSet.copyOf(campaign.getEligibleTypes()));
+        Set<UUID> listingIds = campaign.isApplyToFutureListings() || campaign.getEligibleListingIds() == null
+                ? Set.of()
+                : Set.copyOf(campaign.getEligibleListingIds());
+
+        boolean percent = campaign.getDiscountKind() == CampaignDiscountKind.PERCENT;
+        BigDecimal value = campaign.getValue() != null ? campaign.getValue() : BigDecimal.ZERO;
+
+        return new CompiledCampaign(
+                campaign.getId(),
+                campaign.getSeller() != null ? campaign.getSeller().getId() : null,
+                campaign.getName(),
+                campaign.getDiscountKind(),
+                campaign.getValue(),
+                percent ? value.divide(HUNDRED, PRECISION, RoundingMode.HALF_UP) : null,
+                percent ? null : value.setScale(SCALE, RoundingMode.HALF_UP),
+                campaign.getMinQuantity() != null ? campaign.getMinQuantity() : 1,
+                campaign.getStartsAt(),
+                campaign.getEndsAt(),
+                types.isEmpty() && listingIds.isEmpty(),
+                types,
+                listingIds);
+    }
+
+    public boolean isPercent() {
+        return percentFactor != null;
+    }
+
+    /** Bundle campaigns only apply in a cart that reaches {@code minQuantity}. */
+    public boolean isBundle() {
+        return minQuantity > 1;
+    }
+
+    public boolean isLiveAt(LocalDateTime now) {
+        return (startsAt == null || !now.isBefore(startsAt)) && (endsAt == null || !now.isAfter(endsAt));
+    }
+
+    public boolean appliesTo(UUID listingId, ListingType type) {
+        return universal || (type != null && types.contains(type)) || (listingId != null && listingIds.contains(listingId));
+    }
+
+    /** Discount for one unit of {@code unitPrice} (already scaled), never more than the price itself. */
+    public BigDecimal discountFor(BigDecimal unitPrice) {
+        BigDecimal discount = isPercent()
+                ? unitPrice.multiply(percentFactor).setScale(SCALE, RoundingMode.HALF_UP)
+                : fixedAmount;
+        return discount.compareTo(unitPrice) > 0 ? unitPrice : discount;
+    }
+}
@@ -0,0 +1,187 @@
+package com.serhat.secondhand.campaign.application.index;
+
+import com.serhat.secondhand.listing.domain.entity.enums.base.ListingType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One seller's entry in the {@link CampaignPricingIndex}: every active campaign that has not ended,
+ * including ones that start later, plus a view of the campaigns live right now bucketed by scope
+ * (universal / listing type / listing ID).
+ * <p>
+ * The live view knows the next instant at which a campaign starts or ends and is rebuilt in memory
+ * when a lookup passes it, so time windows never require a reload.
+ */
+public final class SellerCampaigns {
+
+    /** Best listing card campaign for a listing and the discount it gives. */
+    public record CardOffer(CompiledCampaign campaign, BigDecimal discount) {
+    }
+
+    private final Long sellerId;
+    private final long version;
+    private final List<CompiledCampaign> campaigns;
+    private volatile LiveView live;
+
+    SellerCampaigns(Long sellerId, long version, List<CompiledCampaign> campaigns) {
+        this.sellerId = sellerId;
+        this.version = version;
+        this.campaigns = List.copyOf(campaigns);
+    }
+
+    public Long sellerId() {
+        return sellerId;
+    }
+
+    /** Index version this entry was loaded at. */
+    public long version() {
+        return version;
+    }
+
+    public boolean isEmpty() {
+        return campaigns.isEmpty();
+    }
+
+    /** Live campaigns (bundles included) whose scope covers the listing. */
+    public List<CompiledCampaign> applicable(UUID listingId, ListingType type, LocalDateTime now) {
+        if (campaigns.isEmpty()) {
+            return List.of();
+        }
+        LiveView view = liveAt(now);
+        List<CompiledCampaign> out = new ArrayList<>(view.universal.all);
+        Bucket byType = view.byType.get(type);
+        if (byType != null) {
+            out.addAll(byType.all);
+        }
+        Bucket byListing = listingId != null ? view.byListing.get(listingId) : null;
+        if (byListing != null) {
+            for (CompiledCampaign c : byListing.all) {
+                if (!out.contains(c)) {
+                    out.add(c);
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Highest non-bundle discount for a listing card, or {@code null} when none applies.
+     * The strongest percent and the largest fixed campaign of each bucket are kept at build time,
+     * so this is three hash lookups and a single multiplication.
+     */
+    public CardOffer bestCardOffer(UUID listingId, ListingType type, BigDecimal unitPrice, LocalDateTime now) {
+        if (campaigns.isEmpty()) {
+            return null;
+        }
+        LiveView view = liveAt(now);
+        Bucket byType = view.byType.get(type);
+        Bucket byListing = listingId != null ? view.byListing.get(listingId) : null;
+
+        CompiledCampaign percent = strongerPercent(strongerPercent(view.universal.bestPercent,
+                byType != null ? byType.bestPercent : null), byListing != null ? byListing.bestPercent : null);
+        CompiledCampaign fixed = largerFixed(largerFixed(view.universal.bestFixed,
+                byType != null ? byType.bestFixed : null), byListing != null ? byListing.bestFixed : null);
+
+        BigDecimal percentDiscount = percent != null ? percent.discountFor(unitPrice) : BigDecimal.ZERO;
+        BigDecimal fixedDiscount = fixed != null ? fixed.discountFor(unitPrice) : BigDecimal.ZERO;
+        if (percentDiscount.signum() <= 0 && fixedDiscount.signum() <= 0) {
+            return null;
+        }
+        return percentDiscount.compareTo(fixedDiscount) >= 0
+                ? new CardOffer(percent, percentDiscount)
+                : new CardOffer(fixed, fixedDiscount);
+    }
+
+    private LiveView liveAt(LocalDateTime now) {
+        LiveView view = live;
+        if (view == null || !view.covers(now)) {
+            view = LiveView.build(campaigns, now);
+            live = view;
+        }
+        return view;
+    }
+
+    private static CompiledCampaign strongerPercent(CompiledCampaign a, CompiledCampaign b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return b.percentFactor().compareTo(a.percentFactor()) > 0 ? b : a;
+    }
+
+    private static CompiledCampaign largerFixed(CompiledCampaign a, CompiledCampaign b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return b.fixedAmount().compareTo(a.fixedAmount()) > 0 ? b : a;
+    }
+
+    private static final class Bucket {
+        private final List<CompiledCampaign> all = new ArrayList<>();
+        private CompiledCampaign bestPercent;
+        private CompiledCampaign bestFixed;
+
+        void add(CompiledCampaign campaign) {
+            all.add(campaign);
+            if (campaign.isBundle()) {
+                return;
+            }
+            if (campaign.isPercent()) {
+                bestPercent = strongerPercent(bestPercent, campaign);
+            } else {
+                bestFixed = largerFixed(bestFixed, campaign);
+            }
+        }
+    }
+
+    private record LiveView(LocalDateTime builtAt,
+                            LocalDateTime changesAt,
+                            Bucket universal,
+                            Map<ListingType, Bucket> byType,
+                            Map<UUID, Bucket> byListing) {
+
+        boolean covers(LocalDateTime now) {
+            return !now.isBefore(builtAt) && (changesAt == null || now.isBefore(changesAt));
+        }
+
+        static LiveView build(List<CompiledCampaign> campaigns, LocalDateTime now) {
+            Bucket universal = new Bucket();
+            Map<ListingType, Bucket> byType = new EnumMap<>(ListingType.class);
+            Map<UUID, Bucket> byListing = new HashMap<>();
+            LocalDateTime changesAt = null;
+
+            for (CompiledCampaign c : campaigns) {
+                if (c.startsAt() != null && now.isBefore(c.startsAt())) {
+                    changesAt = earliest(changesAt, c.startsAt());
+                    continue;
+                }
+                if (c.endsAt() != null && now.isAfter(c.endsAt())) {
+                    continue;
+                }
+                if (c.endsAt() != null) {
+                    // endsAt dahil canlı; bir nanosaniye sonrası ilk geçersiz an
+                    changesAt = earliest(changesAt, c.endsAt().plusNanos(1));
+                }
+                if (c.universal()) {
+                    universal.add(c);
+                    continue;
+                }
+                for (ListingType type : c.types()) {
+                    byType.computeIfAbsent(type, key -> new Bucket()).add(c);
+                }
+                for (UUID listingId : c.listingIds()) {
+                    byListing.computeIfAbsent(listingId, key -> new Bucket()).add(c);
+                }
+            }
+            return new LiveView(now, changesAt, universal, byType, byListing);
+        }
+
+        private static LocalDateTime earliest(LocalDateTime current, LocalDateTime candidate) {
+            return current == null || candidate.isBefore(current) ? candidate : current;
+        }
+    }
+}
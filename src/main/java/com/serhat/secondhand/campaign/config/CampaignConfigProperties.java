@@ -13,5 +13,11 @@ public class CampaignConfigProperties {
 
     private int listDefaultSize = 5;
     private long schedulerDeactivateFixedDelayMs = 600000L;
+
+    /** Fiyat index'inde bellekte tutulacak en fazla satıcı sayısı. */
+    private long indexMaximumSellers = 50_000L;
+
+    /** Bir satıcı girdisinin en uzun ömrü; kaybolan bir pub/sub mesajında bayatlığı sınırlar. */
+    private long indexRefreshMs = 600_000L;
 }
 
@@ -1,5 +1,6 @@
 package com.serhat.secondhand.campaign.mapper;
 
+import com.serhat.secondhand.campaign.application.index.CompiledCampaign;
 import com.serhat.secondhand.campaign.dto.CampaignDto;
 import com.serhat.secondhand.campaign.dto.CreateCampaignRequest;
 import com.serhat.secondhand.campaign.dto.UpdateCampaignRequest;
@@ -25,6 +26,16 @@ public class CampaignMapper {
         );
     }
 
+    public AppliedCampaignDto toAppliedCampaignDto(CompiledCampaign campaign, BigDecimal discountAmount) {
+        return new AppliedCampaignDto(
+                campaign.id(),
+                campaign.name(),
+                campaign.discountKind(),
+                campaign.value(),
+                discountAmount
+        );
+    }
+
     public CampaignDto toDto(Campaign campaign) {
         return CampaignDto.builder()
                 .id(campaign.getId())
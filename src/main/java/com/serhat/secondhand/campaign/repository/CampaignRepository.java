@@ -36,6 +36,16 @@ public interface CampaignRepository extends JpaRepository<Campaign, UUID> {
             "AND (c.endsAt IS NULL OR c.endsAt >= CURRENT_TIMESTAMP)")
     List<Campaign> findAllActiveBySellerIds(@Param("sellerIds") List<Long> sellerIds);
 
+    @Query("SELECT DISTINCT c.seller.id FROM Campaign c WHERE c.active = true AND c.endsAt < :now")
+    List<Long> findSellerIdsWithActiveExpired(@Param("now") LocalDateTime now);
+
+    @Query("SELECT c FROM Campaign c " +
+            "WHERE c.seller.id IN :sellerIds " +
+            "AND c.active = true " +
+            "AND (c.endsAt IS NULL OR c.endsAt >= :now)")
+    List<Campaign> findAllActiveOrUpcomingBySellerIds(@Param("sellerIds") List<Long> sellerIds,
+                                                      @Param("now") LocalDateTime now);
+
     @Query("SELECT c.id AS campaignId, t AS listingType " +
             "FROM Campaign c JOIN c.eligibleTypes t WHERE c.id IN :campaignIds")
     List<CampaignEligibleTypeProjection> findEligibleTypesByCampaignIds(@Param("campaignIds") List<UUID> campaignIds);
@@ -2,6 +2,8 @@ package com.serhat.secondhand.cart.application;
 
 import com.serhat.secondhand.cart.config.CartConfig;
 import com.serhat.secondhand.cart.repository.CartRepository;
+import com.serhat.secondhand.core.scheduling.ClusterLeased;
+import com.serhat.secondhand.core.scheduling.SchedulerLeaseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -20,13 +22,16 @@ public class CartReservationScheduler {
 
     private final CartRepository cartRepository;
     private final CartConfig cartConfig;
+    private final SchedulerLeaseService schedulerLeaseService;
 
     @Scheduled(fixedRateString = "${app.cart.scheduler.cleanup-fixed-rate-ms:60000}")
+    @ClusterLeased(name = "cart-reservation-cleanup")
     @Transactional
     public void cleanupExpiredReservations() {
         if (!cartConfig.getReservation().isEnabled()) {
             return;
         }
+        schedulerLeaseService.fenceCurrent();
 
         int clearedCount = clearExpiredReservationsNow();
         if (clearedCount > 0) {
@@ -3,17 +3,16 @@ package com.serhat.secondhand.checkout.application;
 import com.serhat.secondhand.cart.entity.Cart;
 import com.serhat.secondhand.core.exception.BusinessException;
 import com.serhat.secondhand.core.result.Result;
-import com.serhat.secondhand.listing.util.ListingErrorCodes;
-import com.serhat.secondhand.listing.domain.entity.Listing;
+import com.serhat.secondhand.inventory.application.InventoryService;
 import com.serhat.secondhand.listing.domain.repository.listing.ListingRepository;
+import com.serhat.secondhand.listing.util.ListingErrorCodes;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
-import com.serhat.secondhand.inventory.application.InventoryService;
+import java.util.TreeMap;
 import java.util.UUID;
 
 @Component
@@ -23,21 +22,27 @@ public class CheckoutStockReservationService {
     private final ListingRepository listingRepository;
     private final InventoryService inventoryService;
 
+    /**
+     * Reserves the stock for every cart line. Lines are merged per listing and reserved in listing id
+     * order, so two checkouts sharing listings always lock the inventory rows in the same order and
+     * cannot deadlock, whatever order the items sit in their carts.
+     */
     public Result<Map<UUID, Integer>> reserveStock(List<Cart> cartItems) {
-        Map<UUID, Integer> reserved = new HashMap<>();
+        Map<UUID, Integer> requested = new TreeMap<>();
         for (Cart item : cartItems) {
-            Listing listing = listingRepository.findByIdWithLock(item.getListing().getId()).orElse(null);
+            int requestedQty = item.getQuantity() != null ? item.getQuantity() : 1;
+            requested.merge(item.getListing().getId(), requestedQty, Integer::sum);
+        }
 
-            if (listing == null) {
-                releaseReservedStock(reserved);
-                return Result.error(ListingErrorCodes.LISTING_NOT_FOUND.toString(), "Listing Not Found.");
-            }
+        if (listingRepository.countByIdIn(requested.keySet()) != requested.size()) {
+            return Result.error(ListingErrorCodes.LISTING_NOT_FOUND.toString(), "Listing Not Found.");
+        }
 
-            int requestedQty = item.getQuantity() != null ? item.getQuantity() : 1;
+        Map<UUID, Integer> reserved = new LinkedHashMap<>();
+        for (Map.Entry<UUID, Integer> entry : requested.entrySet()) {
             try {
-                inventoryService.reserveQuantity(listing.getId(), requestedQty);
-                // We assume there's always an inventory if a listing is active
-                reserved.merge(listing.getId(), requestedQty, Integer::sum);
+                inventoryService.reserveQuantity(entry.getKey(), entry.getValue());
+                reserved.put(entry.getKey(), entry.getValue());
             } catch (BusinessException e) {
                 releaseReservedStock(reserved);
                 return Result.error(e.getMessage(), e.getErrorCode());
@@ -50,7 +55,7 @@ public class CheckoutStockReservationService {
         if (reserved == null) {
             return;
         }
-        reserved.forEach((listingId, quantity) -> {
+        new TreeMap<>(reserved).forEach((listingId, quantity) -> {
             try {
                 inventoryService.restoreQuantity(listingId, quantity);
             } catch (Exception ignored) {
@@ -4,6 +4,7 @@ import com.serhat.secondhand.core.audit.dto.AuditLogDto;
 import com.serhat.secondhand.core.audit.entity.AuditLog;
 import com.serhat.secondhand.core.audit.mapper.AuditLogMapper;
 import com.serhat.secondhand.core.audit.repository.AuditLogRepository;
+import com.serhat.secondhand.email.application.EmailTemplateService;
 import com.serhat.secondhand.email.application.event.EmailEventPublisher;
 import com.serhat.secondhand.email.application.event.impl.SystemAuditEmailEvent;
 import com.serhat.secondhand.email.application.event.model.GenericEmailData;
@@ -20,19 +21,23 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuditLogService {
 
+    private static final String AUDIT_DETAILS_TEMPLATE = "system/audit-details.html";
     private static final DateTimeFormatter TURKISH_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd MMMM yyyy, HH:mm", Locale.forLanguageTag("tr"));
 
     private final AuditLogRepository auditLogRepository;
     private final AuditLogMapper auditLogMapper;
     private final UserRepository userRepository;
     private final EmailEventPublisher emailEventPublisher;
+    private final EmailTemplateService emailTemplateService;
 
     private void sendAuditEmail(String userEmail, String subject, String content, EmailType emailType) {
         if (userEmail == null || userEmail.isBlank()) return;
@@ -86,60 +91,15 @@ public class AuditLogService {
     }
 
     private String buildAuditEmailHtml(String description, String eventTypeTitle, String ipAddress, String userAgent, LocalDateTime timestamp, String warningMessage, boolean isWarning) {
-        String formattedIp = formatIpAddress(ipAddress);
-        String formattedTime = formatTimestamp(timestamp);
-        String formattedAgent = simplifyUserAgent(userAgent);
-
-        String statusBadgeColor = isWarning ? "#dc2626" : "#16a34a";
-        String statusBgColor = isWarning ? "#fef2f2" : "#f0fdf4";
-        String warningBoxBg = isWarning ? "#fffbe6" : "#f0fdf4";
-        String warningBoxBorder = isWarning ? "#ffe58f" : "#bbf7d0";
-        String warningBoxTextColor = isWarning ? "#8c6b00" : "#166534";
-
-        StringBuilder sb = new StringBuilder();
-        sb.append("<p style='font-size: 15px; color: #334155; margin-bottom: 20px; line-height: 1.6;'>").append(description).append("</p>");
-
-        // Detail Box Card
-        sb.append("<div style='background-color: #f8fafc; border: 1px solid #e2e8f0; border-radius: 12px; padding: 20px; margin-bottom: 24px;'>");
-        sb.append("<h3 style='margin: 0 0 16px 0; font-size: 12px; font-weight: 700; text-transform: uppercase; letter-spacing: 0.8px; color: #64748b;'>Erişim Detayları</h3>");
-
-        sb.append("<table style='width: 100%; border-collapse: collapse; font-size: 14px;'>");
-
-        // Event Type row
-        sb.append("<tr>");
-        sb.append("<td style='padding: 8px 0; color: #64748b; font-weight: 500; width: 130px;'>İşlem Türü:</td>");
-        sb.append("<td style='padding: 8px 0; font-weight: 600; color: #0f172a;'><span style='display: inline-block; padding: 3px 10px; background-color: ").append(statusBgColor).append("; color: ").append(statusBadgeColor).append("; border-radius: 6px; font-size: 12px; font-weight: 700;'>").append(eventTypeTitle).append("</span></td>");
-        sb.append("</tr>");
-
-        // IP Row
-        sb.append("<tr>");
-        sb.append("<td style='padding: 8px 0; color: #64748b; font-weight: 500;'>IP Adresi:</td>");
-        sb.append("<td style='padding: 8px 0; font-weight: 600; color: #0f172a; font-family: ui-monospace, SFMono-Regular, Menlo, Monaco, Consolas, monospace;'>").append(formattedIp).append("</td>");
-        sb.append("</tr>");
-
-        // Device Row
-        sb.append("<tr>");
-        sb.append("<td style='padding: 8px 0; color: #64748b; font-weight: 500;'>Cihaz / Tarayıcı:</td>");
-        sb.append("<td style='padding: 8px 0; font-weight: 600; color: #0f172a;'>").append(formattedAgent).append("</td>");
-        sb.append("</tr>");
-
-        // Time Row
-        sb.append("<tr>");
-        sb.append("<td style='padding: 8px 0; color: #64748b; font-weight: 500;'>Tarih ve Saat:</td>");
-        sb.append("<td style='padding: 8px 0; font-weight: 600; color: #0f172a;'>").append(formattedTime).append("</td>");
-        sb.append("</tr>");
-
-        sb.append("</table>");
-        sb.append("</div>");
-
-        // Warning callout box if present
-        if (warningMessage != null && !warningMessage.isBlank()) {
-            sb.append("<div style='background-color: ").append(warningBoxBg).append("; border: 1px solid ").append(warningBoxBorder).append("; border-radius: 10px; padding: 16px; margin-bottom: 20px; color: ").append(warningBoxTextColor).append("; font-size: 14px; line-height: 1.5;'>");
-            sb.append("<strong>🛡️ Güvenlik Tavsiyesi:</strong> ").append(warningMessage);
-            sb.append("</div>");
-        }
-
-        return sb.toString();
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("description", description);
+        variables.put("eventTypeTitle", eventTypeTitle);
+        variables.put("ipAddress", formatIpAddress(ipAddress));
+        variables.put("device", simplifyUserAgent(userAgent));
+        variables.put("time", formatTimestamp(timestamp));
+        variables.put("warningMessage", warningMessage == null || warningMessage.isBlank() ? null : warningMessage);
+        variables.put("warning", isWarning);
+        return emailTemplateService.render(AUDIT_DETAILS_TEMPLATE, variables, EmailType.SYSTEM);
     }
 
     @Async("taskExecutor")
@@ -0,0 +1,180 @@
+package com.serhat.secondhand.core.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Redis value codec: Jackson Smile (binary JSON) in a small versioned frame.
+ * <pre>
+ * magic(1) | format(1) | flags(1) | schema(4) | [rawLength(4) when deflated] | payload
+ * </pre>
+ * <ul>
+ *   <li>Smile back-references repeated property names and short strings, so the {@code @class}
+ *       type ids written by the cache mapper are stored once per entry instead of once per object.</li>
+ *   <li>Payloads of at least {@code compressionThreshold} bytes are deflated (fastest level) when that
+ *       actually makes them smaller.</li>
+ *   <li>{@code schema} is a {@link CacheSchemaFingerprint}; an entry written by a different DTO shape,
+ *       or one that no longer decodes, is returned as {@code null} (a cache miss) and gets rewritten.</li>
+ *   <li>Values without the magic byte are pre-binary JSON entries and are read with {@code legacySerializer}.</li>
+ * </ul>
+ */
+@Slf4j
+public class BinaryCacheSerializer implements RedisSerializer<Object> {
+
+    private static final byte MAGIC = (byte) 0xB1;
+    private static final byte FORMAT_SMILE = 1;
+    private static final byte FLAG_DEFLATED = 1;
+    private static final int HEADER_LENGTH = 7;
+    private static final int MAX_RAW_LENGTH = 64 * 1024 * 1024;
+
+    private final ObjectMapper smileMapper;
+    private final RedisSerializer<Object> legacySerializer;
+    private final int compressionThreshold;
+    private final DistributionSummary encodedBytes;
+    private final Counter compressedWrites;
+    private final Counter schemaMismatches;
+    private final Counter legacyReads;
+
+    public BinaryCacheSerializer(ObjectMapper smileMapper,
+                                 RedisSerializer<Object> legacySerializer,
+                                 int compressionThreshold,
+                                 MeterRegistry meterRegistry) {
+        this.smileMapper = smileMapper;
+        this.legacySerializer = legacySerializer;
+        this.compressionThreshold = compressionThreshold;
+        this.encodedBytes = DistributionSummary.builder("cache.codec.encoded.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.compressedWrites = Counter.builder("cache.codec.compressed.writes").register(meterRegistry);
+        this.schemaMismatches = Counter.builder("cache.codec.schema.mismatch").register(meterRegistry);
+        this.legacyReads = Counter.builder("cache.codec.legacy.reads").register(meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] payload;
+        try {
+            payload = smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value of type " + value.getClass().getName(), e);
+        }
+
+        byte[] body = payload;
+        boolean deflated = false;
+        if (compressionThreshold > 0 && payload.length >= compressionThreshold) {
+            byte[] compressed = deflate(payload);
+            if (compressed.length < payload.length) {
+                body = compressed;
+                deflated = true;
+                compressedWrites.increment();
+            }
+        }
+
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_LENGTH + (deflated ? Integer.BYTES : 0) + body.length);
+        frame.put(MAGIC).put(FORMAT_SMILE).put(deflated ? FLAG_DEFLATED : 0);
+        frame.putInt(CacheSchemaFingerprint.of(value));
+        if (deflated) {
+            frame.putInt(payload.length);
+        }
+        frame.put(body);
+        encodedBytes.record(frame.capacity());
+        return frame.array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            legacyReads.increment();
+            return legacySerializer.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[1] != FORMAT_SMILE) {
+            schemaMismatches.increment();
+            return null;
+        }
+
+        ByteBuffer frame = ByteBuffer.wrap(bytes);
+        frame.position(2);
+        boolean deflated = (frame.get() & FLAG_DEFLATED) != 0;
+        int schema = frame.getInt();
+        try {
+            Object value;
+            if (deflated) {
+                int rawLength = frame.getInt();
+                byte[] payload = inflate(bytes, frame.position(), bytes.length - frame.position(), rawLength);
+                value = smileMapper.readValue(payload, Object.class);
+            } else {
+                value = smileMapper.readValue(bytes, frame.position(), bytes.length - frame.position(), Object.class);
+            }
+            if (CacheSchemaFingerprint.of(value) != schema) {
+                schemaMismatches.increment();
+                return null;
+            }
+            return value;
+        } catch (IOException | DataFormatException | RuntimeException e) {
+            // Okunamayan kayıt hata değil, miss: çağıran yeniden hesaplayıp üzerine yazar.
+            schemaMismatches.increment();
+            log.debug("Discarding undecodable cache entry: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(buffer);
+                out.write(buffer, 0, written);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] source, int offset, int length, int rawLength) throws DataFormatException {
+        if (rawLength < 0 || rawLength > MAX_RAW_LENGTH) {
+            throw new DataFormatException("Invalid cache payload length " + rawLength);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(source, offset, length);
+            byte[] raw = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, rawLength - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != rawLength) {
+                throw new DataFormatException("Truncated cache payload");
+            }
+            return raw;
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.serhat.secondhand.core.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub channel that tells every other node to drop an L1 (Caffeine) entry
+ * after a put/evict/clear was applied to the shared L2 (Redis).
+ * <p>
+ * Message format: {@code nodeId␟cacheName␟op␟key} where {@code op} is {@code E} (evict one key)
+ * or {@code C} (clear the cache). Messages published by this node are ignored on receipt.
+ */
+@Slf4j
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "cache:l1:invalidation";
+
+    private static final String SEPARATOR = "\u001F";
+    private static final String OP_EVICT = "E";
+    private static final String OP_CLEAR = "C";
+
+    /** Receives invalidations from other nodes. */
+    public interface LocalInvalidator {
+        void evictLocal(String cacheName, String key);
+
+        void clearLocal(String cacheName);
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile LocalInvalidator localInvalidator;
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void setLocalInvalidator(LocalInvalidator localInvalidator) {
+        this.localInvalidator = localInvalidator;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(nodeId + SEPARATOR + cacheName + SEPARATOR + OP_EVICT + SEPARATOR + key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(nodeId + SEPARATOR + cacheName + SEPARATOR + OP_CLEAR + SEPARATOR);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        LocalInvalidator invalidator = localInvalidator;
+        if (invalidator == null) {
+            return;
+        }
+        if (OP_CLEAR.equals(parts[2])) {
+            invalidator.clearLocal(parts[1]);
+        } else if (OP_EVICT.equals(parts[2]) && parts.length == 4) {
+            invalidator.evictLocal(parts[1], parts[3]);
+        }
+    }
+
+    private void publish(String body) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, body);
+        } catch (RuntimeException e) {
+            // L1 TTL bounds staleness on other nodes; a lost message must not fail the caller.
+            log.warn("L1 invalidation publish failed | type={} message={}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.serhat.secondhand.core.cache;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+/**
+ * Structural fingerprint of a cached value: a hash over the field names and declared types of every
+ * application class found in the value (root, collection/map elements and polymorphic fields).
+ * <p>
+ * It is written next to each binary cache entry and recomputed on read; when a DTO gains, loses or
+ * retypes a field the fingerprints differ and the entry is treated as a miss. Renaming the key
+ * prefix by hand is therefore no longer needed after a DTO change.
+ */
+final class CacheSchemaFingerprint {
+
+    private static final String APP_PACKAGE = "com.serhat.secondhand";
+    private static final int MAX_VALUE_DEPTH = 4;
+    private static final int MAX_TYPE_DEPTH = 2;
+
+    private static final ClassValue<Integer> STRUCTURE = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            StringBuilder sb = new StringBuilder();
+            describe(type, 0, sb);
+            CRC32C crc = new CRC32C();
+            crc.update(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return (int) crc.getValue();
+        }
+    };
+
+    /** Fields whose runtime content is not fixed by the declared type (collections, maps, Object, abstract types). */
+    private static final ClassValue<List<Field>> DYNAMIC_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> dynamic = new ArrayList<>();
+            for (Field field : instanceFields(type)) {
+                Class<?> declared = field.getType();
+                boolean open = Collection.class.isAssignableFrom(declared)
+                        || Map.class.isAssignableFrom(declared)
+                        || declared == Object.class
+                        || (declared.isArray() && !declared.getComponentType().isPrimitive())
+                        || (isAppType(declared) && !declared.isEnum()
+                            && (declared.isInterface() || Modifier.isAbstract(declared.getModifiers())));
+                if (open && field.trySetAccessible()) {
+                    dynamic.add(field);
+                }
+            }
+            return List.copyOf(dynamic);
+        }
+    };
+
+    private CacheSchemaFingerprint() {
+    }
+
+    static int of(Object value) {
+        Set<Class<?>> types = new HashSet<>();
+        collect(value, 0, types);
+        // Sıra bağımsız birleştirme: aynı tip kümesi her zaman aynı değeri verir.
+        int hash = 17;
+        for (Class<?> type : types) {
+            hash += Integer.rotateLeft(STRUCTURE.get(type) * 0x9E3779B1, 7);
+        }
+        return hash;
+    }
+
+    private static void collect(Object value, int depth, Set<Class<?>> types) {
+        if (value == null || depth > MAX_VALUE_DEPTH) {
+            return;
+        }
+        if (value instanceof Collection<?> collection) {
+            for (Object element : collection) {
+                collect(element, depth + 1, types);
+            }
+            return;
+        }
+        if (value instanceof Map<?, ?> map) {
+            for (Object element : map.values()) {
+                collect(element, depth + 1, types);
+            }
+            return;
+        }
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            if (!type.getComponentType().isPrimitive()) {
+                for (Object element : (Object[]) value) {
+                    collect(element, depth + 1, types);
+                }
+            }
+            return;
+        }
+        if (!isAppType(type) || !types.add(type)) {
+            return;
+        }
+        for (Field field : DYNAMIC_FIELDS.get(type)) {
+            try {
+                collect(field.get(value), depth + 1, types);
+            } catch (IllegalAccessException ignored) {
+                // trySetAccessible başarılı olmuştu; erişilemeyen alan parmak izine katılmaz.
+            }
+        }
+    }
+
+    private static void describe(Class<?> type, int depth, StringBuilder sb) {
+        sb.append(type.getName());
+        if (type.isEnum()) {
+            sb.append(Arrays.toString(type.getEnumConstants()));
+            return;
+        }
+        for (Field field : instanceFields(type)) {
+            sb.append('|').append(field.getName()).append(':').append(field.getGenericType().getTypeName());
+            Class<?> declared = field.getType();
+            if (depth < MAX_TYPE_DEPTH && isAppType(declared) && declared != type) {
+                sb.append('{');
+                describe(declared, depth + 1, sb);
+                sb.append('}');
+            }
+        }
+    }
+
+    private static List<Field> instanceFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            List<Field> declared = new ArrayList<>();
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+                    declared.add(field);
+                }
+            }
+            declared.sort(Comparator.comparing(Field::getName));
+            fields.addAll(declared);
+        }
+        return fields;
+    }
+
+    private static boolean isAppType(Class<?> type) {
+        return type.getName().startsWith(APP_PACKAGE);
+    }
+}
@@ -0,0 +1,196 @@
+package com.serhat.secondhand.core.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Two-tier {@link Cache}: a per-node Caffeine L1 in front of the shared Redis L2.
+ * <ul>
+ *   <li>Reads hit L1 first; an L2 hit is copied into L1.</li>
+ *   <li>Writes and evictions go to L2, then L1, then are broadcast through
+ *       {@link CacheInvalidationBus} so other nodes drop their L1 copy.</li>
+ * </ul>
+ * L1 keys are the {@link String} form of the cache key, which is also what the Redis tier and the
+ * invalidation messages use. Values served from L1 are shared instances and must be treated as
+ * read-only by callers, as every {@code @Cacheable} in the project already does.
+ */
+public class TieredCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final CacheInvalidationBus invalidationBus;
+
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remotePuts;
+    private final Counter remoteEvictions;
+
+    public TieredCache(String name,
+                       com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                       Cache remote,
+                       CacheInvalidationBus invalidationBus,
+                       MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+        this.remoteHits = tierCounter(meterRegistry, "cache.gets", "result", "hit");
+        this.remoteMisses = tierCounter(meterRegistry, "cache.gets", "result", "miss");
+        this.remotePuts = Counter.builder("cache.puts").tag("cache", name).tag("tier", "l2").register(meterRegistry);
+        this.remoteEvictions = Counter.builder("cache.evictions").tag("cache", name).tag("tier", "l2").register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return new SimpleValueWrapper(cached);
+        }
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            remoteHits.increment();
+            local.put(localKey, wrapper.get());
+        } else {
+            remoteMisses.increment();
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return (T) cached;
+        }
+        boolean[] loaded = new boolean[1];
+        T value = remote.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        if (loaded[0]) {
+            remoteMisses.increment();
+            invalidationBus.publishEvict(name, localKey);
+        } else {
+            remoteHits.increment();
+        }
+        if (value != null) {
+            local.put(localKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        remote.put(key, value);
+        remotePuts.increment();
+        if (value != null) {
+            local.put(localKey, value);
+        } else {
+            local.invalidate(localKey);
+        }
+        invalidationBus.publishEvict(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        String localKey = localKey(key);
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        if (existing == null) {
+            remotePuts.increment();
+            invalidationBus.publishEvict(name, localKey);
+        }
+        local.invalidate(localKey);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        remote.evict(key);
+        remoteEvictions.increment();
+        local.invalidate(localKey);
+        invalidationBus.publishEvict(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String localKey = localKey(key);
+        boolean evicted = remote.evictIfPresent(key);
+        if (evicted) {
+            remoteEvictions.increment();
+        }
+        local.invalidate(localKey);
+        invalidationBus.publishEvict(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        remoteEvictions.increment();
+        local.invalidateAll();
+        invalidationBus.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        remoteEvictions.increment();
+        local.invalidateAll();
+        invalidationBus.publishClear(name);
+        return invalidated;
+    }
+
+    // ── Cross-node invalidation (no re-broadcast) ────────────────────────────
+
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter tierCounter(MeterRegistry meterRegistry, String meterName, String tagKey, String tagValue) {
+        return Counter.builder(meterName)
+                .tag("cache", name)
+                .tag("tier", "l2")
+                .tag(tagKey, tagValue)
+                .register(meterRegistry);
+    }
+}
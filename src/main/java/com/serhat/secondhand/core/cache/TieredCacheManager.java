@@ -0,0 +1,93 @@
+package com.serhat.secondhand.core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link CacheManager} that puts a per-cache-name Caffeine L1 in front of a Redis L2 manager.
+ * <p>
+ * Each cache name gets its own {@link LocalTier} (size/TTL); names without an explicit tier use
+ * the default one, and names mapped to {@code null} bypass L1 entirely and return the L2 cache as is.
+ */
+public class TieredCacheManager implements CacheManager, CacheInvalidationBus.LocalInvalidator {
+
+    /** Size/TTL of the Caffeine tier for one cache name. */
+    public record LocalTier(long maximumSize, Duration ttl) {
+    }
+
+    private final CacheManager remoteCacheManager;
+    private final Map<String, LocalTier> localTiers;
+    private final LocalTier defaultLocalTier;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TieredCacheManager(CacheManager remoteCacheManager,
+                              Map<String, LocalTier> localTiers,
+                              LocalTier defaultLocalTier,
+                              CacheInvalidationBus invalidationBus,
+                              MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localTiers = localTiers;
+        this.defaultLocalTier = defaultLocalTier;
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+        invalidationBus.setLocalInvalidator(this);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache existing = caches.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> decorate(n, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void evictLocal(String cacheName, String key) {
+        if (caches.get(cacheName) instanceof TieredCache tiered) {
+            tiered.evictLocal(key);
+        }
+    }
+
+    @Override
+    public void clearLocal(String cacheName) {
+        if (caches.get(cacheName) instanceof TieredCache tiered) {
+            tiered.clearLocal();
+        }
+    }
+
+    private Cache decorate(String name, Cache remote) {
+        LocalTier tier = localTiers.containsKey(name) ? localTiers.get(name) : defaultLocalTier;
+        if (tier == null) {
+            return remote;
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(tier.maximumSize())
+                .expireAfterWrite(tier.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of("tier", "l1"));
+        return new TieredCache(name, local, remote, invalidationBus, meterRegistry);
+    }
+}
@@ -72,23 +72,6 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
-    @Bean(name = "viewTrackingExecutor")
-    public ThreadPoolTaskExecutor viewTrackingExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(4);
-        executor.setQueueCapacity(500);
-        executor.setThreadNamePrefix("view-tracking-");
-        executor.setWaitForTasksToCompleteOnShutdown(false);
-        executor.setAwaitTerminationSeconds(10);
-        executor.setRejectedExecutionHandler((r, e) -> 
-            log.debug("View tracking task rejected. Queue full."));
-        executor.initialize();
-        
-        log.info("View tracking executor initialized - Core: 2, Max: 4, Queue: 500");
-        return executor;
-    }
-
     @Override
     public Executor getAsyncExecutor() {
         return taskExecutor();
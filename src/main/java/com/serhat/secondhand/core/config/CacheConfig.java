@@ -7,8 +7,16 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.serhat.secondhand.core.cache.BinaryCacheSerializer;
+import com.serhat.secondhand.core.cache.CacheInvalidationBus;
+import com.serhat.secondhand.core.cache.TieredCacheManager;
+import com.serhat.secondhand.core.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -18,19 +26,27 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Tek noktada, deterministic ve <b>simetrik</b> Redis cache konfigürasyonu.
  *
  * <h3>Tasarım kararları</h3>
  * <ul>
- *   <li><b>Tek serializer:</b> {@link GenericJackson2JsonRedisSerializer} ile tek
- *       {@link ObjectMapper}. Projede başka {@code RedisTemplate} / serializer yoktur.</li>
+ *   <li><b>Tek serializer:</b> {@link #cacheValueSerializer} — CacheManager ve {@code redisTemplate}
+ *       aynı codec'i kullanır. Varsayılan {@link BinaryCacheSerializer}: Smile (ikili JSON) +
+ *       eşik üstünde Deflate + şema parmak izi. {@code app.cache.codec.format=json} → eski
+ *       {@link GenericJackson2JsonRedisSerializer}.</li>
  *   <li><b>Polymorphic typing:</b> {@code As.PROPERTY} (@class) +
  *       {@code DefaultTyping.EVERYTHING}. Yazma ve okuma <b>tüm seviyelerde</b>
  *       (root, nested, final) {@code @class} taşır → asimetri yoktur.
@@ -41,8 +57,13 @@ import java.time.Duration;
  *       diskriminatörünü override etmez (ListingDto da {@code type}; filter DTO'da
  *       {@code listingType} kullanılır).</li>
  *   <li><b>Cache key versioning:</b> Tüm anahtarların başına {@code v4::} prefix
- *       eklenir. Eski v1/v2/v3 anahtarları erişilemez, TTL ile temizlenir.</li>
+ *       eklenir. Eski v1/v2/v3 anahtarları erişilemez, TTL ile temizlenir. DTO alan
+ *       değişiklikleri için artık bump gerekmez: ikili kayıttaki şema parmak izi uyuşmazsa
+ *       kayıt miss sayılır ve yeniden yazılır. Binary öncesi JSON kayıtları okunmaya devam eder.</li>
  *   <li><b>JavaTimeModule:</b> {@code LocalDateTime} ISO-8601 string olarak.</li>
+ *   <li><b>İki katman:</b> Redis (L2) önünde cache başına Caffeine (L1) —
+ *       {@link TieredCacheManager}. {@code @CacheEvict} / put diğer node'ların L1'ini
+ *       Redis pub/sub ile düşürür. {@code app.cache.l1.enabled=false} → yalnızca Redis.</li>
  * </ul>
  */
 @Configuration
@@ -50,15 +71,23 @@ import java.time.Duration;
 @Slf4j
 public class CacheConfig {
 
-    /** Cache key prefix versiyonu. Serializer/format değişimlerinde bumb edilir. */
+    /**
+     * Cache key prefix versiyonu. DTO şekil değişiklikleri {@link BinaryCacheSerializer} şema
+     * parmak iziyle yakalanır; yalnızca okunamayan bir çerçeve formatına geçişte bump edilir.
+     */
     private static final String CACHE_VERSION = "v4";
 
+    /** Tier tanımı olmayan cache'ler için L1 varsayılanı (Redis default TTL ile aynı). */
+    private static final TieredCacheManager.LocalTier DEFAULT_LOCAL_TIER =
+            new TieredCacheManager.LocalTier(1_000, Duration.ofMinutes(30));
+
     @Bean
     @Primary
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-
-        GenericJackson2JsonRedisSerializer jsonSerializer =
-                new GenericJackson2JsonRedisSerializer(buildCacheObjectMapper());
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     MeterRegistry meterRegistry,
+                                     RedisSerializer<Object> cacheValueSerializer,
+                                     @Value("${app.cache.l1.enabled:true}") boolean l1Enabled) {
 
         // Tüm cache'lerin paylaştığı temel konfig.
         // computePrefixWith ile her cache name'in önüne "v<N>::" eklenir → eski versiyon anahtarlarıyla çakışmaz.
@@ -69,7 +98,7 @@ public class CacheConfig {
                 .serializeKeysWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
-                        .fromSerializer(jsonSerializer));
+                        .fromSerializer(cacheValueSerializer));
 
         // ── Tier 1: Statik Lookup — 24 saat ────────────────────────────
         RedisCacheConfiguration lookupConfig = defaultConfig.entryTtl(Duration.ofHours(24));
@@ -95,9 +124,10 @@ public class CacheConfig {
         // ── Tier 4: Ultra Kısa — 5 dakika ────────────────────────────
         RedisCacheConfiguration ultraShortConfig = defaultConfig.entryTtl(Duration.ofMinutes(5));
 
-        log.info("Redis cache manager initialized | typing=As.PROPERTY EVERYTHING | keyPrefix={}::", CACHE_VERSION);
+        log.info("Redis cache manager initialized | typing=As.PROPERTY EVERYTHING | codec={} | keyPrefix={}::",
+                cacheValueSerializer.getClass().getSimpleName(), CACHE_VERSION);
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(defaultConfig)
 
                 // Tier 0 — Coğrafi katalog (7 gün, restart'ta silinmez)
@@ -123,8 +153,6 @@ public class CacheConfig {
                 .withCacheConfiguration("userProfile", profileConfig)
 
                 // Tier 3 — Aggregation istatistikleri (10 dakika)
-                .withCacheConfiguration("reviewStatsBatch", aggregationConfig)
-                .withCacheConfiguration("favoriteStatsBatch", aggregationConfig)
                 .withCacheConfiguration("sellerViewStats", aggregationConfig)
                 .withCacheConfiguration("userListings", aggregationConfig)
 
@@ -137,24 +165,117 @@ public class CacheConfig {
                 .withCacheConfiguration("userBadges", ultraShortConfig)
 
                 .build();
+        // Bean olarak kaydedilmediği için tier konfigürasyonlarının yüklenmesi burada tetiklenir.
+        redisCacheManager.afterPropertiesSet();
+
+        if (!l1Enabled) {
+            return redisCacheManager;
+        }
+        log.info("Tiered cache manager initialized | L1=Caffeine (per-cache tier) | L2=Redis");
+        return new TieredCacheManager(redisCacheManager, localTiers(), DEFAULT_LOCAL_TIER,
+                cacheInvalidationBus, meterRegistry);
+    }
+
+    /**
+     * L1 (Caffeine) katmanı: TTL'ler yukarıdaki Redis tier'larıyla aynıdır, boyutlar node başına
+     * heap bütçesine göre seçilmiştir. {@code null} → L1 yok, doğrudan Redis.
+     * Diğer node'lardaki L1 kopyaları {@link CacheInvalidationBus} ile düşürülür.
+     */
+    private static Map<String, TieredCacheManager.LocalTier> localTiers() {
+        Map<String, TieredCacheManager.LocalTier> tiers = new HashMap<>();
+
+        // Tier 0 / 0b — bilinçli olarak JVM heap'te tutulmaz
+        tiers.put("locations", null);
+        tiers.put("aiSummaries", null);
+
+        // Tier 1 — Statik lookup (24 saat)
+        TieredCacheManager.LocalTier lookup = new TieredCacheManager.LocalTier(500, Duration.ofHours(24));
+        tiers.put("brands", lookup);
+        tiers.put("vehicleTypes", lookup);
+        tiers.put("electronicTypes", lookup);
+        tiers.put("bookGenres", lookup);
+        tiers.put("clothingTypes", lookup);
+
+        // Tier 2 — Tamamlanmış işlemler (2 saat)
+        TieredCacheManager.LocalTier completed = new TieredCacheManager.LocalTier(5_000, Duration.ofHours(2));
+        tiers.put("completedOrder", completed);
+        tiers.put("paymentHistory", completed);
+        tiers.put("paymentStats", completed);
+        tiers.put("exchangeRates", completed);
+
+        // Tier 2b — Kullanıcı profili (15 dakika)
+        tiers.put("userProfile", new TieredCacheManager.LocalTier(10_000, Duration.ofMinutes(15)));
+
+        // Tier 3 — Aggregation (10 dakika)
+        TieredCacheManager.LocalTier aggregation = new TieredCacheManager.LocalTier(5_000, Duration.ofMinutes(10));
+        tiers.put("sellerViewStats", aggregation);
+        tiers.put("userListings", new TieredCacheManager.LocalTier(2_000, Duration.ofMinutes(10)));
+
+        // Tier 3b / 4 — Kısa süreli (5 dakika)
+        TieredCacheManager.LocalTier shortLived = new TieredCacheManager.LocalTier(10_000, Duration.ofMinutes(5));
+        tiers.put("pendingOrders", shortLived);
+        tiers.put("listingViewStats", shortLived);
+        tiers.put("activeShowcases", shortLived);
+        tiers.put("userBadges", shortLived);
+
+        return tiers;
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationBus(stringRedisTemplate);
+    }
+
+    /**
+     * Uygulamanın tek Redis pub/sub listener container'ı.
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       CacheInvalidationBus cacheInvalidationBus,
+                                                                       VerifiedTokenCache verifiedTokenCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        container.addMessageListener(verifiedTokenCache, new ChannelTopic(VerifiedTokenCache.CHANNEL));
+        return container;
+    }
+
+    /**
+     * Redis cache değerlerinin codec'i. {@code smile} (varsayılan): {@link BinaryCacheSerializer};
+     * {@code json}: EVERYTHING typing'li JSON. Binary codec, önek değişmeden önce yazılmış JSON
+     * kayıtlarını da okur; böylece geçişte cache boşaltmak gerekmez.
+     */
+    @Bean
+    public RedisSerializer<Object> cacheValueSerializer(MeterRegistry meterRegistry,
+                                                        @Value("${app.cache.codec.format:smile}") String format,
+                                                        @Value("${app.cache.codec.compression-threshold-bytes:4096}") int compressionThreshold) {
+        GenericJackson2JsonRedisSerializer jsonSerializer =
+                new GenericJackson2JsonRedisSerializer(buildCacheObjectMapper());
+        if ("json".equalsIgnoreCase(format)) {
+            return jsonSerializer;
+        }
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new BinaryCacheSerializer(configureCacheObjectMapper(new ObjectMapper(smileFactory)),
+                jsonSerializer, compressionThreshold, meterRegistry);
     }
 
     /**
      * Genel amaçlı {@link RedisTemplate}&lt;String, Object&gt; bean'i.
      * {@link com.serhat.secondhand.listing.application.common.LocationCatalogService} tarafından
      * Spring Cache proxy dışında (self-call) doğrudan Redis'e veri yazmak için kullanılır.
-     * CacheManager ile aynı JSON serializer'ı paylaşır → okunan tipler uyumludur.
+     * CacheManager ile aynı değer codec'ini paylaşır → okunan tipler uyumludur.
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory,
+                                                       RedisSerializer<Object> cacheValueSerializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(redisConnectionFactory);
-        GenericJackson2JsonRedisSerializer jsonSerializer =
-                new GenericJackson2JsonRedisSerializer(buildCacheObjectMapper());
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(jsonSerializer);
+        template.setValueSerializer(cacheValueSerializer);
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(jsonSerializer);
+        template.setHashValueSerializer(cacheValueSerializer);
         template.afterPropertiesSet();
         return template;
     }
@@ -167,9 +288,13 @@ public class CacheConfig {
      * {@code @class} yazar. Read tarafıyla simetriktir — her seviyede {@code @class}
      * bulunur ve doğru tipe deserialize edilir.
      */
-    @SuppressWarnings("deprecation") // Jackson 2.18+ DefaultTyping.EVERYTHING deprecated; gerekli (simetri için).
     private ObjectMapper buildCacheObjectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
+        return configureCacheObjectMapper(new ObjectMapper());
+    }
+
+    /** JSON ve Smile mapper'larına aynı görünürlük ve typing kuralları uygulanır. */
+    @SuppressWarnings("deprecation") // Jackson 2.18+ DefaultTyping.EVERYTHING deprecated; gerekli (simetri için).
+    private ObjectMapper configureCacheObjectMapper(ObjectMapper mapper) {
 
         // LocalDateTime / LocalDate ISO-8601 string olarak yazılsın.
         mapper.registerModule(new JavaTimeModule());
@@ -13,6 +13,7 @@ public class JwtConfig {
     private String secretKey;
     private AccessToken accessToken;
     private RefreshToken refreshToken;
+    private VerifiedCache verifiedCache = new VerifiedCache();
 
     @Getter
     @Setter
@@ -26,5 +27,14 @@ public class JwtConfig {
         private long expiration;
         private long rememberMeExpiration;
     }
-}
 
+    /**
+     * Doğrulanmış access token claim'lerinin node-içi cache'i (imza doğrulamasını token başına bire indirir).
+     */
+    @Getter
+    @Setter
+    public static class VerifiedCache {
+        private boolean enabled = true;
+        private long maximumSize = 50_000;
+    }
+}
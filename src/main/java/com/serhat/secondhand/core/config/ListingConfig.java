@@ -14,6 +14,9 @@ import java.math.BigDecimal;
 public class ListingConfig {
     private Creation creation;
     private Fee fee;
+    private Search search = new Search();
+    private Views views = new Views();
+    private Enrichment enrichment = new Enrichment();
 
     @Getter
     @Setter
@@ -26,5 +29,53 @@ public class ListingConfig {
     public static class Fee {
         private BigDecimal tax;
     }
-}
 
+    @Getter
+    @Setter
+    public static class Search {
+        /** {@code memory} (in-JVM inverted index) or {@code postgres} (full-text + trigram). */
+        private String engine = "memory";
+        private Index index = new Index();
+    }
+
+    @Getter
+    @Setter
+    public static class Index {
+        private int bootstrapBatchSize = 1000;
+        private long refreshFixedDelayMs = 30000L;
+        private long refreshOverlapSeconds = 5L;
+    }
+
+    /**
+     * İlan görüntüleme kaydı: istekler bellekteki kuyruğa yazılır, tekrar eden görüntülemeler
+     * (kullanıcı/oturum × ilan × saat) bellekte elenir ve kayıtlar toplu INSERT ile yazılır.
+     */
+    @Getter
+    @Setter
+    public static class Views {
+        /** Kuyruk dolduğunda yeni görüntülemeler düşürülür ve metrikte sayılır. */
+        private int queueCapacity = 50_000;
+        private int batchSize = 500;
+        private long flushIntervalMs = 1_000L;
+        private int dedupMaxEntries = 500_000;
+    }
+
+    /**
+     * İlan kartı zenginleştirme (favori, yorum, kampanya, Great Seller): aşamalar ayrı bir havuzda
+     * paralel çalışır; süre aşımında yetişmeyen aşamalar varsayılan değerlerle döner.
+     */
+    @Getter
+    @Setter
+    public static class Enrichment {
+        private boolean parallel = true;
+        /** İstek başına toplam bekleme süresi; 0 veya altı süresiz bekler. */
+        private long deadlineMs = 500L;
+        private int workerThreads = 8;
+        /**
+         * Bekleyen aşama sınırı; kuyruk dolduğunda aşama beklemeden "veri yok" ile döner. Varsayılan,
+         * her worker için tek isteğin dört aşaması kadardır: bundan uzun bir kuyruk, sırası gelene
+         * kadar süresi dolmuş işleri biriktirir.
+         */
+        private int queueCapacity = 32;
+    }
+}
@@ -17,6 +17,10 @@ public class RateLimitConfig {
     private Ai ai = new Ai();
     private int windowSizeSeconds = 60;
     private boolean trustForwardedHeaders = false;
+    /** {@code local}: per-JVM limiter; {@code redis}: limits shared by all replicas. */
+    private String mode = "local";
+    /** Upper bound of IP:category keys tracked in memory (local mode / redis fallback). */
+    private long maxTrackedKeys = 100_000;
 
     @Getter
     @Setter
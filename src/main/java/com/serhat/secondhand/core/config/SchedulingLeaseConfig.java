@@ -0,0 +1,21 @@
+package com.serhat.secondhand.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code @ClusterLeased} zamanlanmış işler için cluster lease ayarları.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.scheduling.lease")
+@Getter
+@Setter
+public class SchedulingLeaseConfig {
+    /** {@code false}: lease alınmaz, her node işi kendisi çalıştırır (tek replika / lokal geliştirme). */
+    private boolean enabled = true;
+    /** Lease sahibi olarak yazılan node kimliği; boşsa hostname + rastgele ek kullanılır. */
+    private String nodeId;
+    private int heartbeatThreads = 2;
+}
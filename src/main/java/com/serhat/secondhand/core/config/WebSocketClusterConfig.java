@@ -0,0 +1,26 @@
+package com.serhat.secondhand.core.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Çoklu node STOMP dağıtımı: uygulamanın broker'a gönderdiği mesajlar Redis pub/sub üzerinden
+ * diğer node'lara aktarılır, {@code /user/{id}/...} abonelikleri paylaşılan bir registry'de tutulur.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.websocket.cluster")
+@Getter
+@Setter
+public class WebSocketClusterConfig {
+    /** {@code false}: tek node, simple broker yalnızca yerel abonelere teslim eder. */
+    private boolean enabled = false;
+    /** Relay mesajlarının hedef node başına biriktirildiği süre. */
+    private long flushIntervalMs = 10;
+    /** Tek Redis publish'inde taşınan en fazla mesaj sayısı. */
+    private int maxBatchSize = 100;
+    /** Bir node'un user aboneliği, bu süre boyunca yenilenmezse registry'de geçersiz sayılır. */
+    private long registryTtlSeconds = 60;
+    private long registryRefreshMs = 20_000;
+}
@@ -2,6 +2,7 @@ package com.serhat.secondhand.core.config;
 
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import com.serhat.secondhand.core.websocket.ClusterBrokerRelay;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
@@ -27,6 +28,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private static final String ACCESS_TOKEN_COOKIE = "sh_at";
 
     private final CorsConfigProperties corsConfigProperties;
+    private final ClusterBrokerRelay clusterBrokerRelay;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -49,6 +51,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setApplicationDestinationPrefixes("/app");
         
         registry.setUserDestinationPrefix("/user");
+
+        // Broker'a giden mesajlar cluster modunda diğer node'lara da aktarılır (bkz. ClusterBrokerRelay).
+        registry.configureBrokerChannel().interceptors(clusterBrokerRelay);
     }
 
     /**
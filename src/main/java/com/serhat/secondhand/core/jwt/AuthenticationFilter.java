@@ -25,17 +25,15 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
-import com.serhat.secondhand.user.domain.entity.enums.MembershipPlan;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class AuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtils jwtUtils;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final CookieUtils cookieUtils;
     private final PublicEndpointRegistry publicEndpointRegistry;
 
@@ -73,56 +71,61 @@ public class AuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain) throws ServletException, IOException {
 
         try {
-            String jwt = null;
-            String userEmail = null;
+            String jwt;
 
             final String authHeader = request.getHeader("Authorization");
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 jwt = authHeader.substring(7);
-                userEmail = jwtUtils.extractUsername(jwt);
                 log.debug("Token extracted from Authorization header");
             } else {
                 jwt = cookieUtils.getAccessTokenFromCookies(request).orElse(null);
                 if (jwt != null) {
-                    userEmail = jwtUtils.extractUsername(jwt);
                     log.debug("Token extracted from cookie");
                 }
             }
 
-            if (jwt == null || userEmail == null) {
+            if (jwt == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            // Tek parse: imza yalnızca cache miss'te doğrulanır, claim'ler tek record'dan okunur.
+            VerifiedTokenCache.Verification verification = verifiedTokenCache.verify(jwt);
+            if (verification instanceof VerifiedTokenCache.Verification.Revoked) {
+                sendTokenError(response, request, TokenStatus.REVOKED);
+                return;
+            }
+            if (!(verification instanceof VerifiedTokenCache.Verification.Valid valid)) {
+                sendTokenError(response, request, TokenStatus.EXPIRED);
+                return;
+            }
+            VerifiedJwtClaims claims = valid.claims();
+
+            if (claims.email() == null) {
                 filterChain.doFilter(request, response);
                 return;
             }
 
             if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                Long userId = jwtUtils.extractUserId(jwt);
-                if (userId == null) {
-                    sendTokenError(response, request, TokenStatus.EXPIRED);
-                    return;
-                }
-                if (!jwtUtils.isTokenValid(jwt)) {
+                if (claims.userId() == null) {
                     sendTokenError(response, request, TokenStatus.EXPIRED);
                     return;
                 }
-                List<SimpleGrantedAuthority> authorities = jwtUtils.extractRoles(jwt).stream()
+                List<SimpleGrantedAuthority> authorities = claims.roles().stream()
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList());
-                String planStr = jwtUtils.extractClaim(jwt, claims -> claims.get("plan", String.class));
-                String planExpiryStr = jwtUtils.extractClaim(jwt, claims -> claims.get("planExpiry", String.class));
-                MembershipPlan plan = planStr != null ? MembershipPlan.valueOf(planStr) : MembershipPlan.FREE;
-                LocalDateTime planExpiry = planExpiryStr != null ? LocalDateTime.parse(planExpiryStr) : null;
 
                 User principal = User.builder()
-                        .id(userId)
-                        .email(userEmail)
+                        .id(claims.userId())
+                        .email(claims.email())
                         .name("")
                         .surname("")
                         .phoneNumber("")
                         .gender(Gender.PREFER_NOT_TO_SAY)
                         .accountStatus(AccountStatus.ACTIVE)
                         .accountVerified(true)
-                        .plan(plan)
-                        .expirationDate(planExpiry)
+                        .plan(claims.plan())
+                        .expirationDate(claims.planExpiry())
                         .build();
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         principal,
@@ -2,9 +2,11 @@ package com.serhat.secondhand.core.jwt;
 
 import com.serhat.secondhand.core.config.JwtConfig;
 import com.serhat.secondhand.user.domain.entity.User;
+import com.serhat.secondhand.user.domain.entity.enums.MembershipPlan;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.io.Decoders;
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -33,6 +36,9 @@ public class JwtUtils {
 
     private final JwtConfig jwtConfig;
 
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
     public long getAccessTokenExpiration() {
         return jwtConfig.getAccessToken().getExpiration();
     }
@@ -86,15 +92,42 @@ public class JwtUtils {
     }
 
     public Long extractUserId(String token) {
-        Object userId = extractClaim(token, claims -> claims.get("userId"));
+        return userIdOf(extractClaim(token, claims -> claims.get("userId")));
+    }
+
+    public List<String> extractRoles(String token) {
+        return rolesOf(extractClaim(token, claims -> claims.get("roles")));
+    }
+
+    /**
+     * Verifies the signature and expiry of {@code token} once and maps every claim the
+     * authentication filter needs into a {@link VerifiedJwtClaims}.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedJwtClaims parseVerified(String token) {
+        Claims claims = extractAllClaims(token);
+        String planStr = claims.get("plan", String.class);
+        String planExpiryStr = claims.get("planExpiry", String.class);
+        return new VerifiedJwtClaims(
+                claims.getId(),
+                claims.getSubject(),
+                userIdOf(claims.get("userId")),
+                rolesOf(claims.get("roles")),
+                planStr != null ? MembershipPlan.valueOf(planStr) : MembershipPlan.FREE,
+                planExpiryStr != null ? LocalDateTime.parse(planExpiryStr) : null,
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    private static Long userIdOf(Object userId) {
         if (userId == null) return null;
         if (userId instanceof Number n) return n.longValue();
         if (userId instanceof String s) return Long.parseLong(s);
         return null;
     }
 
-    public List<String> extractRoles(String token) {
-        Object roles = extractClaim(token, claims -> claims.get("roles"));
+    private static List<String> rolesOf(Object roles) {
         if (roles == null) return List.of("ROLE_USER");
         if (roles instanceof List<?> list) {
             return list.stream()
@@ -152,16 +185,31 @@ public class JwtUtils {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return getParser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
+    // Anahtar ve parser thread-safe ve değişmez; her istekte base64 decode + builder maliyetinden kaçınmak için bir kez kurulur.
     private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtConfig.getSecretKey());
-        return Keys.hmacShaKeyFor(keyBytes);
+        SecretKey key = signingKey;
+        if (key == null) {
+            byte[] keyBytes = Decoders.BASE64.decode(jwtConfig.getSecretKey());
+            key = Keys.hmacShaKeyFor(keyBytes);
+            signingKey = key;
+        }
+        return key;
+    }
+
+    private JwtParser getParser() {
+        JwtParser jwtParser = parser;
+        if (jwtParser == null) {
+            jwtParser = Jwts.parser()
+                    .verifyWith(getSigningKey())
+                    .build();
+            parser = jwtParser;
+        }
+        return jwtParser;
     }
 
     // OAuth completion akışı için kısa ömürlü, tek amaçlı imzalı token.
@@ -0,0 +1,31 @@
+package com.serhat.secondhand.core.jwt;
+
+import com.serhat.secondhand.user.domain.entity.enums.MembershipPlan;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Immutable view of an access token whose signature and expiry have already been verified.
+ * Produced once per token by {@link JwtUtils#parseVerified(String)} and shared through
+ * {@link VerifiedTokenCache}, so every field is read-only.
+ */
+public record VerifiedJwtClaims(
+        String tokenId,
+        String email,
+        Long userId,
+        List<String> roles,
+        MembershipPlan plan,
+        LocalDateTime planExpiry,
+        Instant issuedAt,
+        Instant expiresAt) {
+
+    public VerifiedJwtClaims {
+        roles = roles != null ? List.copyOf(roles) : List.of();
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,200 @@
+package com.serhat.secondhand.core.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.serhat.secondhand.core.config.JwtConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Per-node cache of verified access token claims, keyed by the SHA-256 of the raw token.
+ * <p>
+ * A hot session pays for HMAC verification once; later requests are served from memory until
+ * the token's own {@code exp}, which is also the entry's expiry. Revocation is enforced here:
+ * <ul>
+ *   <li>{@link #evict(String)} drops a single token.</li>
+ *   <li>{@link #revokeUser(Long)} drops every cached token of the user and records a watermark, so
+ *       access tokens issued before it are rejected even if they are re-presented or were never cached.</li>
+ * </ul>
+ * Both operations are broadcast over Redis pub/sub so every node applies them; messages published
+ * by this node are ignored on receipt.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache implements MessageListener {
+
+    public static final String CHANNEL = "auth:token:revocation";
+
+    private static final String SEPARATOR = "\u001F";
+    private static final String OP_TOKEN = "T";
+    private static final String OP_USER = "U";
+
+    /** Outcome of {@link #verify(String)}. */
+    public sealed interface Verification {
+        record Valid(VerifiedJwtClaims claims) implements Verification {
+        }
+
+        record Expired() implements Verification {
+        }
+
+        record Revoked() implements Verification {
+        }
+    }
+
+    private final JwtUtils jwtUtils;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache<String, VerifiedJwtClaims> claimsByTokenHash;
+    private final Cache<Long, Instant> revokedBeforeByUserId;
+
+    public VerifiedTokenCache(JwtUtils jwtUtils,
+                              JwtConfig jwtConfig,
+                              StringRedisTemplate redisTemplate,
+                              MeterRegistry meterRegistry) {
+        this.jwtUtils = jwtUtils;
+        this.redisTemplate = redisTemplate;
+        this.enabled = jwtConfig.getVerifiedCache().isEnabled();
+        this.claimsByTokenHash = Caffeine.newBuilder()
+                .maximumSize(jwtConfig.getVerifiedCache().getMaximumSize())
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        // Bir watermark, revoke anında geçerli olabilecek en uzun ömürlü access token kadar yaşar.
+        this.revokedBeforeByUserId = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(Math.max(jwtConfig.getAccessToken().getExpiration(), 1L)))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsByTokenHash, "jwtVerifiedClaims");
+    }
+
+    /**
+     * Returns the verified claims of {@code token}, verifying its signature only on a cache miss.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token cannot be verified
+     */
+    public Verification verify(String token) {
+        Instant now = Instant.now();
+        String hash = enabled ? hash(token) : null;
+        VerifiedJwtClaims claims = hash != null ? claimsByTokenHash.getIfPresent(hash) : null;
+        if (claims == null) {
+            claims = jwtUtils.parseVerified(token);
+            if (hash != null && !claims.isExpired(now) && !isRevoked(claims)) {
+                claimsByTokenHash.put(hash, claims);
+            }
+        }
+        if (claims.isExpired(now)) {
+            return new Verification.Expired();
+        }
+        if (isRevoked(claims)) {
+            if (hash != null) {
+                claimsByTokenHash.invalidate(hash);
+            }
+            return new Verification.Revoked();
+        }
+        return new Verification.Valid(claims);
+    }
+
+    public void evict(String token) {
+        if (token == null) {
+            return;
+        }
+        String hash = hash(token);
+        claimsByTokenHash.invalidate(hash);
+        publish(OP_TOKEN, hash);
+    }
+
+    public void revokeUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        revokeUserLocal(userId, Instant.now());
+        publish(OP_USER, userId.toString());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            if (OP_TOKEN.equals(parts[1])) {
+                claimsByTokenHash.invalidate(parts[2]);
+            } else if (OP_USER.equals(parts[1])) {
+                revokeUserLocal(Long.parseLong(parts[2]), Instant.now());
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed token revocation message: {}", e.getMessage());
+        }
+    }
+
+    private void revokeUserLocal(Long userId, Instant revokedAt) {
+        revokedBeforeByUserId.asMap().merge(userId, revokedAt, (previous, current) -> current.isAfter(previous) ? current : previous);
+        claimsByTokenHash.asMap().values().removeIf(claims -> userId.equals(claims.userId()));
+    }
+
+    // iat saniye hassasiyetinde olduğundan, revoke ile aynı saniyede üretilen token'lar (ör. şifre değişikliği sonrası login) geçerli kalır.
+    private boolean isRevoked(VerifiedJwtClaims claims) {
+        if (claims.userId() == null) {
+            return false;
+        }
+        Instant revokedBefore = revokedBeforeByUserId.getIfPresent(claims.userId());
+        if (revokedBefore == null) {
+            return false;
+        }
+        return claims.issuedAt() == null || claims.issuedAt().getEpochSecond() < revokedBefore.getEpochSecond();
+    }
+
+    private void publish(String op, String value) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + SEPARATOR + op + SEPARATOR + value);
+        } catch (RuntimeException e) {
+            log.warn("Token revocation publish failed | type={} message={}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedJwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedJwtClaims claims, long currentTime) {
+            if (claims.expiresAt() == null) {
+                return 0L;
+            }
+            long millis = claims.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            return Math.max(0L, Duration.ofMillis(millis).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedJwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedJwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
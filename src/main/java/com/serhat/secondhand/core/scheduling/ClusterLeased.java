@@ -0,0 +1,44 @@
+package com.serhat.secondhand.core.scheduling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a {@code @Scheduled} method on at most one node of the cluster at a time.
+ * <p>
+ * Before each invocation the node acquires the {@code scheduler_lease} row named {@link #name()}
+ * (or one row per shard); a node that cannot acquire it skips the run. The lease is renewed by a
+ * heartbeat while the method runs and is exposed to the method through {@link SchedulerLease#current()}.
+ * <p>
+ * The lease alone does not stop a node that lost it mid-run from committing: every write transaction
+ * of the job must call {@link SchedulerLeaseService#fenceCurrent()} before writing. Without
+ * {@link #lockAtLeastForMs()} a node whose schedule fires slightly later may run the job again in
+ * the same tick, so jobs must be idempotent (select by state, not by "not yet run").
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ClusterLeased {
+
+    /** Lease name, unique per job. */
+    String name();
+
+    /** Lease TTL; the heartbeat renews it every third of this period while the job runs. */
+    long leaseMs() default 60_000;
+
+    /**
+     * Minimum time the lease stays held after the job finishes, so that another node whose
+     * schedule fires slightly later does not repeat the same run.
+     */
+    long lockAtLeastForMs() default 0;
+
+    /**
+     * Number of shards. With more than one, each shard is a separate lease and the method is invoked
+     * once per shard this node wins; each invocation must restrict itself to the work of
+     * {@link SchedulerLease#shardIndex()} out of {@link SchedulerLease#shardCount()}.
+     */
+    int shards() default 1;
+}
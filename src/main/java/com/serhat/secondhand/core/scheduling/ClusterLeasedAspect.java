@@ -0,0 +1,168 @@
+package com.serhat.secondhand.core.scheduling;
+
+import com.serhat.secondhand.core.config.SchedulingLeaseConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Wraps {@link ClusterLeased} methods with lease acquisition, heartbeat renewal and release.
+ * <p>
+ * Runs outside (before) {@code @Transactional}, so lease rows are committed independently of the
+ * job's own transaction and a job rollback never extends or releases someone else's lease.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class ClusterLeasedAspect {
+
+    private static final long MIN_HEARTBEAT_MS = 1_000;
+
+    private final SchedulerLeaseService leaseService;
+    private final SchedulingLeaseConfig config;
+    private final MeterRegistry meterRegistry;
+    private final String owner;
+    private final ScheduledExecutorService heartbeats;
+
+    public ClusterLeasedAspect(SchedulerLeaseService leaseService,
+                               SchedulingLeaseConfig config,
+                               MeterRegistry meterRegistry) {
+        this.leaseService = leaseService;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.owner = resolveOwner(config.getNodeId());
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.heartbeats = Executors.newScheduledThreadPool(Math.max(1, config.getHeartbeatThreads()), r -> {
+            Thread thread = new Thread(r, "scheduler-lease-heartbeat-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+    }
+
+    @Around("@annotation(leased)")
+    public Object runLeased(ProceedingJoinPoint joinPoint, ClusterLeased leased) throws Throwable {
+        if (!config.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        int shards = Math.max(1, leased.shards());
+        // Shard'lar rastgele bir noktadan denenir; aynı anda tetiklenen node'lar farklı shard'ları kapar.
+        int start = shards == 1 ? 0 : ThreadLocalRandom.current().nextInt(shards);
+        Object result = null;
+        for (int i = 0; i < shards; i++) {
+            int shard = (start + i) % shards;
+            String leaseName = shards == 1 ? leased.name() : leased.name() + "#" + shard;
+            Long fencingToken = tryAcquire(leaseName, leased);
+            if (fencingToken == null) {
+                continue;
+            }
+            result = runHolding(joinPoint, leased, new SchedulerLease(leaseName, owner, fencingToken, shard, shards));
+        }
+        return result;
+    }
+
+    private Long tryAcquire(String leaseName, ClusterLeased leased) {
+        try {
+            Long fencingToken = leaseService.tryAcquire(leaseName, owner, leased.leaseMs());
+            acquisitionCounter(leased.name(), fencingToken != null ? "acquired" : "skipped").increment();
+            if (fencingToken == null) {
+                log.debug("Scheduler lease held by another node, skipping | lease={}", leaseName);
+            }
+            return fencingToken;
+        } catch (RuntimeException e) {
+            acquisitionCounter(leased.name(), "error").increment();
+            log.warn("Scheduler lease acquisition failed, skipping run | lease={} message={}", leaseName, e.getMessage());
+            return null;
+        }
+    }
+
+    private Object runHolding(ProceedingJoinPoint joinPoint, ClusterLeased leased, SchedulerLease lease) throws Throwable {
+        long heartbeatMs = Math.max(MIN_HEARTBEAT_MS, leased.leaseMs() / 3);
+        ScheduledFuture<?> heartbeat = heartbeats.scheduleWithFixedDelay(
+                () -> renew(lease, leased), heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        SchedulerLease.bind(lease);
+        try {
+            return joinPoint.proceed();
+        } catch (SchedulerLeaseLostException e) {
+            // Fence reddetti: yazma geri alındı, işi artık başka bir node yürütüyor.
+            Counter.builder("scheduler.lease.lost").tag("job", leased.name()).register(meterRegistry).increment();
+            log.warn("Scheduler job stopped, lease no longer current | lease={} token={}", lease.name(), lease.fencingToken());
+            return null;
+        } finally {
+            SchedulerLease.unbind();
+            heartbeat.cancel(false);
+            sample.stop(Timer.builder("scheduler.job.duration")
+                    .tag("job", leased.name())
+                    .register(meterRegistry));
+            release(lease, leased);
+        }
+    }
+
+    private void renew(SchedulerLease lease, ClusterLeased leased) {
+        if (!lease.stillHeld()) {
+            return;
+        }
+        try {
+            if (!leaseService.renew(lease.name(), owner, lease.fencingToken(), leased.leaseMs())) {
+                lease.markLost();
+                Counter.builder("scheduler.lease.lost").tag("job", leased.name()).register(meterRegistry).increment();
+                log.warn("Scheduler lease lost while job was running | lease={} token={}", lease.name(), lease.fencingToken());
+            }
+        } catch (RuntimeException e) {
+            // Geçici DB hatası: lease süresi dolmadıkça hâlâ bizde; sonraki heartbeat tekrar dener.
+            log.warn("Scheduler lease heartbeat failed | lease={} message={}", lease.name(), e.getMessage());
+        }
+    }
+
+    private void release(SchedulerLease lease, ClusterLeased leased) {
+        try {
+            leaseService.release(lease.name(), owner, lease.fencingToken(), leased.lockAtLeastForMs());
+        } catch (RuntimeException e) {
+            log.warn("Scheduler lease release failed, it will expire | lease={} message={}", lease.name(), e.getMessage());
+        }
+    }
+
+    private Counter acquisitionCounter(String job, String outcome) {
+        return Counter.builder("scheduler.lease.acquisitions")
+                .tag("job", job)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String resolveOwner(String configuredNodeId) {
+        if (configuredNodeId != null && !configuredNodeId.isBlank()) {
+            return configuredNodeId;
+        }
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,73 @@
+package com.serhat.secondhand.core.scheduling;
+
+/**
+ * Lease held by the current thread while a {@link ClusterLeased} job runs.
+ * <p>
+ * {@link #fencingToken()} increases on every change of ownership; writes are fenced with it through
+ * {@link SchedulerLeaseService#fenceCurrent()}. {@link #stillHeld()} turns {@code false} as soon as a
+ * heartbeat or a fence finds that the lease was lost, and long-running jobs should check it between
+ * units of work.
+ */
+public final class SchedulerLease {
+
+    private static final ThreadLocal<SchedulerLease> CURRENT = new ThreadLocal<>();
+
+    /** Lease of a job that runs without a cluster lease (disabled, or not annotated). */
+    private static final SchedulerLease UNLEASED = new SchedulerLease("unleased", "local", 0L, 0, 1);
+
+    private final String name;
+    private final String owner;
+    private final long fencingToken;
+    private final int shardIndex;
+    private final int shardCount;
+    private volatile boolean lost;
+
+    SchedulerLease(String name, String owner, long fencingToken, int shardIndex, int shardCount) {
+        this.name = name;
+        this.owner = owner;
+        this.fencingToken = fencingToken;
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+    }
+
+    public static SchedulerLease current() {
+        SchedulerLease lease = CURRENT.get();
+        return lease != null ? lease : UNLEASED;
+    }
+
+    static void bind(SchedulerLease lease) {
+        CURRENT.set(lease);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String owner() {
+        return owner;
+    }
+
+    public long fencingToken() {
+        return fencingToken;
+    }
+
+    public int shardIndex() {
+        return shardIndex;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public boolean stillHeld() {
+        return !lost;
+    }
+
+    void markLost() {
+        lost = true;
+    }
+}
@@ -0,0 +1,12 @@
+package com.serhat.secondhand.core.scheduling;
+
+/**
+ * Thrown by {@link SchedulerLeaseService#fenceCurrent()} when the job's lease expired or was taken
+ * over by another node; the surrounding transaction rolls back and the job run stops.
+ */
+public class SchedulerLeaseLostException extends RuntimeException {
+
+    public SchedulerLeaseLostException(SchedulerLease lease) {
+        super("Scheduler lease no longer held | lease=" + lease.name() + " token=" + lease.fencingToken());
+    }
+}
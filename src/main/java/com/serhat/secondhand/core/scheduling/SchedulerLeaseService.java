@@ -0,0 +1,114 @@
+package com.serhat.secondhand.core.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * {@code scheduler_lease} table access. All time comparisons use the database clock, so node
+ * clock skew cannot make two nodes believe they both hold a lease.
+ */
+@Service
+@RequiredArgsConstructor
+public class SchedulerLeaseService {
+
+    private static final String ACQUIRE_SQL = """
+            INSERT INTO scheduler_lease (name, owner, fencing_token, lease_until, acquired_at, heartbeat_at)
+            VALUES (?, ?, 1, now() + (? * INTERVAL '1 millisecond'), now(), now())
+            ON CONFLICT (name) DO UPDATE
+               SET owner         = EXCLUDED.owner,
+                   fencing_token = scheduler_lease.fencing_token + 1,
+                   lease_until   = EXCLUDED.lease_until,
+                   acquired_at   = EXCLUDED.acquired_at,
+                   heartbeat_at  = EXCLUDED.heartbeat_at
+             WHERE scheduler_lease.lease_until <= now()
+            RETURNING fencing_token
+            """;
+
+    private static final String RENEW_SQL = """
+            UPDATE scheduler_lease
+               SET lease_until = now() + (? * INTERVAL '1 millisecond'), heartbeat_at = now()
+             WHERE name = ? AND owner = ? AND fencing_token = ? AND lease_until > now()
+            """;
+
+    // lockAtLeastFor: kilit, alındığı andan itibaren en az bu süre tutulur.
+    private static final String RELEASE_SQL = """
+            UPDATE scheduler_lease
+               SET lease_until = GREATEST(now(), acquired_at + (? * INTERVAL '1 millisecond'))
+             WHERE name = ? AND owner = ? AND fencing_token = ?
+            """;
+
+    private static final String IS_CURRENT_SQL = """
+            SELECT COUNT(*) FROM scheduler_lease
+             WHERE name = ? AND owner = ? AND fencing_token = ? AND lease_until > now()
+            """;
+
+    // FOR SHARE: satır kilidi commit'e kadar tutulur, bu arada ACQUIRE (ve RENEW) bekler.
+    // now() transaction başlangıcını döndürdüğü için clock_timestamp() kullanılır.
+    private static final String FENCE_SQL = """
+            SELECT fencing_token FROM scheduler_lease
+             WHERE name = ? AND owner = ? AND fencing_token = ? AND lease_until > clock_timestamp()
+               FOR SHARE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Takes over the lease if it is free or expired.
+     *
+     * @return the new fencing token, or {@code null} if another node holds the lease
+     */
+    public Long tryAcquire(String name, String owner, long leaseMs) {
+        List<Long> tokens = jdbcTemplate.queryForList(ACQUIRE_SQL, Long.class, name, owner, leaseMs);
+        return tokens.isEmpty() ? null : tokens.get(0);
+    }
+
+    /**
+     * Extends a held lease; returns {@code false} if it expired or was taken over meanwhile.
+     */
+    public boolean renew(String name, String owner, long fencingToken, long leaseMs) {
+        return jdbcTemplate.update(RENEW_SQL, leaseMs, name, owner, fencingToken) == 1;
+    }
+
+    public void release(String name, String owner, long fencingToken, long lockAtLeastForMs) {
+        jdbcTemplate.update(RELEASE_SQL, lockAtLeastForMs, name, owner, fencingToken);
+    }
+
+    /**
+     * Fences the writes of the surrounding transaction with the lease bound to the current thread.
+     * <p>
+     * Must be called inside the job's write transaction, before its writes: the lease row stays
+     * share-locked until that transaction ends, so no other node can take the lease over between
+     * this check and the commit. Throws {@link SchedulerLeaseLostException} (rolling the transaction
+     * back) if the lease expired or changed hands. No-op outside a {@link ClusterLeased} job.
+     */
+    public void fenceCurrent() {
+        SchedulerLease lease = SchedulerLease.current();
+        if (lease.fencingToken() == 0L) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Scheduler lease fence requires an active transaction | lease=" + lease.name());
+        }
+        List<Long> tokens = jdbcTemplate.queryForList(FENCE_SQL, Long.class, lease.name(), lease.owner(), lease.fencingToken());
+        if (tokens.isEmpty()) {
+            lease.markLost();
+            throw new SchedulerLeaseLostException(lease);
+        }
+    }
+
+    /**
+     * Point-in-time fencing check for writes that cannot join a database transaction (e.g. Redis);
+     * prefer {@link #fenceCurrent()} for database writes.
+     */
+    public boolean isCurrent(SchedulerLease lease) {
+        if (lease.fencingToken() == 0L) {
+            return true;
+        }
+        Long count = jdbcTemplate.queryForObject(IS_CURRENT_SQL, Long.class, lease.name(), lease.owner(), lease.fencingToken());
+        return count != null && count > 0;
+    }
+}
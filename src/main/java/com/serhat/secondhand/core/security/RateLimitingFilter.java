@@ -1,8 +1,11 @@
 package com.serhat.secondhand.core.security;
 
 import com.serhat.secondhand.core.config.RateLimitConfig;
+import com.serhat.secondhand.core.security.ratelimit.RateLimitDecision;
+import com.serhat.secondhand.core.security.ratelimit.RateLimitRule;
+import com.serhat.secondhand.core.security.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
-import jakarta.annotation.PreDestroy;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,13 +20,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
@@ -32,41 +28,17 @@ import java.util.concurrent.TimeUnit;
 public class RateLimitingFilter extends OncePerRequestFilter {
 
     private final RateLimitConfig rateLimitConfig;
-
-    private final ConcurrentHashMap<String, RateLimitData> rateLimitMap = new ConcurrentHashMap<>();
-    private ScheduledExecutorService cleanupExecutor;
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
 
     @PostConstruct
     public void init() {
-        cleanupExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "rate-limit-cleanup");
-            t.setDaemon(true);
-            return t;
-        });
-        cleanupExecutor.scheduleAtFixedRate(this::cleanupOldEntries, 60, 60, TimeUnit.SECONDS);
-        
-        log.info("RateLimitingFilter initialized - Enabled: {}, Auth: {}/s, Payment: {}/s, General: {}/s, Window: {}s",
-                rateLimitConfig.isEnabled(), rateLimitConfig.getAuth().getRequestsPerSecond(), 
+        log.info("RateLimitingFilter initialized - Enabled: {}, Mode: {}, Auth: {}/s, Payment: {}/s, General: {}/s, Window: {}s",
+                rateLimitConfig.isEnabled(), rateLimiter.mode(), rateLimitConfig.getAuth().getRequestsPerSecond(),
                 rateLimitConfig.getPayment().getRequestsPerSecond(), rateLimitConfig.getGeneral().getRequestsPerSecond(),
                 rateLimitConfig.getWindowSizeSeconds());
     }
 
-    @PreDestroy
-    public void destroy() {
-        if (cleanupExecutor != null && !cleanupExecutor.isShutdown()) {
-            cleanupExecutor.shutdown();
-            try {
-                if (!cleanupExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
-                    cleanupExecutor.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                cleanupExecutor.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
-        }
-        log.info("RateLimitingFilter destroyed");
-    }
-
     @Override
     protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
         if (!rateLimitConfig.isEnabled()) {
@@ -100,16 +72,20 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         String requestURI = request.getRequestURI();
 
         int requestsPerSecond = determineRateLimit(requestURI);
-        int maxRequestsPerWindow = requestsPerSecond * rateLimitConfig.getWindowSizeSeconds();
+        String category = getRateLimitCategory(requestURI);
+        RateLimitRule rule = new RateLimitRule(category,
+                requestsPerSecond * rateLimitConfig.getWindowSizeSeconds(),
+                rateLimitConfig.getWindowSizeSeconds() * 1000L);
 
-        String rateLimitKey = clientIp + ":" + getRateLimitCategory(requestURI);
+        RateLimitDecision decision = rateLimiter.tryAcquire(clientIp + ":" + category, rule);
+        recordDecision(category, decision);
 
-        if (isRateLimited(rateLimitKey, maxRequestsPerWindow)) {
-            handleRateLimitExceeded(response, clientIp, requestURI, requestsPerSecond);
+        if (!decision.allowed()) {
+            handleRateLimitExceeded(response, clientIp, requestURI, requestsPerSecond, decision);
             return;
         }
 
-        addRateLimitHeaders(response, rateLimitKey, maxRequestsPerWindow, requestsPerSecond);
+        addRateLimitHeaders(response, decision);
         filterChain.doFilter(request, response);
     }
 
@@ -141,39 +117,18 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         }
     }
 
-    private boolean isRateLimited(String key, int maxRequestsPerWindow) {
-        LocalDateTime now = LocalDateTime.now();
-        
-        RateLimitData rateLimitData = rateLimitMap.computeIfAbsent(key, k -> new RateLimitData());
-
-        synchronized (rateLimitData) {
-            rateLimitData.requests.removeIf(timestamp ->
-                    ChronoUnit.SECONDS.between(timestamp, now) >= rateLimitConfig.getWindowSizeSeconds());
-
-            if (rateLimitData.requests.size() >= maxRequestsPerWindow) {
-                rateLimitData.lastRateLimitTime = now;
-                log.debug("Rate limit check - Key: {}, Requests: {}, Max: {}, BLOCKED", 
-                        key, rateLimitData.requests.size(), maxRequestsPerWindow);
-                return true;
-            }
-
-            rateLimitData.requests.add(now);
-            log.trace("Rate limit check - Key: {}, Requests: {}, Max: {}, ALLOWED", 
-                    key, rateLimitData.requests.size(), maxRequestsPerWindow);
-            return false;
-        }
-    }
-
     private void handleRateLimitExceeded(HttpServletResponse response, String clientIp,
-                                         String requestURI, int requestsPerSecond) throws IOException {
+                                         String requestURI, int requestsPerSecond,
+                                         RateLimitDecision decision) throws IOException {
         response.setStatus(429);
         response.setContentType("application/json;charset=UTF-8");
 
         int windowSize = rateLimitConfig.getWindowSizeSeconds();
-        response.setHeader("X-RateLimit-Limit", String.valueOf(requestsPerSecond * windowSize));
+        long retryAfterSeconds = Math.max(1, (decision.resetAfterMillis() + 999) / 1000);
+        response.setHeader("X-RateLimit-Limit", String.valueOf(decision.limit()));
         response.setHeader("X-RateLimit-Remaining", "0");
-        response.setHeader("X-RateLimit-Reset", String.valueOf(System.currentTimeMillis() + (windowSize * 1000L)));
-        response.setHeader("Retry-After", String.valueOf(windowSize));
+        response.setHeader("X-RateLimit-Reset", String.valueOf(System.currentTimeMillis() + decision.resetAfterMillis()));
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
 
         String errorResponse = String.format(
                 """
@@ -190,7 +145,7 @@ public class RateLimitingFilter extends OncePerRequestFilter {
                 requestsPerSecond * windowSize,
                 windowSize,
                 requestURI,
-                windowSize
+                retryAfterSeconds
         );
 
         response.getWriter().write(errorResponse);
@@ -198,19 +153,17 @@ public class RateLimitingFilter extends OncePerRequestFilter {
                 clientIp, requestURI, requestsPerSecond * windowSize, windowSize);
     }
 
-    private void addRateLimitHeaders(HttpServletResponse response, String key,
-                                     int maxRequestsPerWindow, int requestsPerSecond) {
-        RateLimitData rateLimitData = rateLimitMap.get(key);
-        if (rateLimitData != null) {
-            synchronized (rateLimitData) {
-                int remaining = Math.max(0, maxRequestsPerWindow - rateLimitData.requests.size());
-                long resetTime = System.currentTimeMillis() + (rateLimitConfig.getWindowSizeSeconds() * 1000L);
+    private void addRateLimitHeaders(HttpServletResponse response, RateLimitDecision decision) {
+        response.setHeader("X-RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("X-RateLimit-Reset", String.valueOf(System.currentTimeMillis() + decision.resetAfterMillis()));
+    }
 
-                response.setHeader("X-RateLimit-Limit", String.valueOf(maxRequestsPerWindow));
-                response.setHeader("X-RateLimit-Remaining", String.valueOf(remaining));
-                response.setHeader("X-RateLimit-Reset", String.valueOf(resetTime));
-            }
-        }
+    private void recordDecision(String category, RateLimitDecision decision) {
+        meterRegistry.counter("http.rate_limit.requests",
+                "category", category,
+                "mode", rateLimiter.mode(),
+                "outcome", decision.allowed() ? "allowed" : "blocked").increment();
     }
 
     private String getClientIpAddress(HttpServletRequest request) {
@@ -235,34 +188,4 @@ public class RateLimitingFilter extends OncePerRequestFilter {
 
         return request.getRemoteAddr();
     }
-
-    private void cleanupOldEntries() {
-        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(rateLimitConfig.getWindowSizeSeconds() * 2L);
-        int removedCount = 0;
-
-        var iterator = rateLimitMap.entrySet().iterator();
-        while (iterator.hasNext()) {
-            var entry = iterator.next();
-            RateLimitData data = entry.getValue();
-            synchronized (data) {
-                data.requests.removeIf(timestamp ->
-                        ChronoUnit.SECONDS.between(timestamp, LocalDateTime.now()) >= rateLimitConfig.getWindowSizeSeconds());
-                
-                if (data.requests.isEmpty() &&
-                        (data.lastRateLimitTime == null || data.lastRateLimitTime.isBefore(cutoff))) {
-                    iterator.remove();
-                    removedCount++;
-                }
-            }
-        }
-
-        if (removedCount > 0 || !rateLimitMap.isEmpty()) {
-            log.debug("Rate limit cleanup - Removed: {}, Active entries: {}", removedCount, rateLimitMap.size());
-        }
-    }
-
-    private static class RateLimitData {
-        final List<LocalDateTime> requests = new ArrayList<>();
-        LocalDateTime lastRateLimitTime;
-    }
 }
@@ -0,0 +1,62 @@
+package com.serhat.secondhand.core.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.serhat.secondhand.core.config.RateLimitConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free, per-JVM GCRA (generic cell rate algorithm) limiter.
+ * <p>
+ * The whole state of a key is one {@code long}: the theoretical arrival time (TAT) in
+ * {@link System#nanoTime()} units, updated with a CAS loop. Keys live in a size-bounded Caffeine
+ * map that also expires idle keys, so no sweeper thread is needed.
+ */
+@Component
+@ConditionalOnProperty(name = RateLimiter.MODE_PROPERTY, havingValue = "local", matchIfMissing = true)
+public class LocalGcraRateLimiter implements RateLimiter {
+
+    private final Cache<String, AtomicLong> arrivals;
+
+    public LocalGcraRateLimiter(RateLimitConfig rateLimitConfig) {
+        this.arrivals = Caffeine.newBuilder()
+                .maximumSize(rateLimitConfig.getMaxTrackedKeys())
+                .expireAfterAccess(Duration.ofSeconds(rateLimitConfig.getWindowSizeSeconds() * 2L))
+                .build();
+    }
+
+    @Override
+    public String mode() {
+        return "local";
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, RateLimitRule rule) {
+        long emission = rule.emissionIntervalNanos();
+        long window = rule.windowNanos();
+        AtomicLong tatHolder = arrivals.get(key, k -> new AtomicLong(System.nanoTime()));
+
+        while (true) {
+            long now = System.nanoTime();
+            long stored = tatHolder.get();
+            long tat = stored - now < 0 ? now : stored;
+            long newTat = tat + emission;
+            long allowAt = newTat - window;
+            if (allowAt - now > 0) {
+                return new RateLimitDecision(false, rule.limit(), 0, toMillis(allowAt - now));
+            }
+            if (tatHolder.compareAndSet(stored, newTat)) {
+                long remaining = (window - (newTat - now)) / emission;
+                return new RateLimitDecision(true, rule.limit(), remaining, toMillis(newTat - now));
+            }
+        }
+    }
+
+    private static long toMillis(long nanos) {
+        return Math.max(0, (nanos + 999_999L) / 1_000_000L);
+    }
+}
@@ -0,0 +1,13 @@
+package com.serhat.secondhand.core.security.ratelimit;
+
+/**
+ * Outcome of one rate-limit check.
+ *
+ * @param allowed          whether the request may proceed
+ * @param limit            maximum burst for the category
+ * @param remaining        requests still available right now
+ * @param resetAfterMillis time until the bucket is full again (allowed) or until the next request
+ *                         would be accepted (blocked)
+ */
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long resetAfterMillis) {
+}
@@ -0,0 +1,17 @@
+package com.serhat.secondhand.core.security.ratelimit;
+
+/**
+ * Limit applied to one category: at most {@code limit} requests per {@code windowMillis},
+ * refilled continuously at {@code limit / window}.
+ */
+public record RateLimitRule(String category, int limit, long windowMillis) {
+
+    /** Nanoseconds between two requests at the sustained rate (GCRA emission interval). */
+    public long emissionIntervalNanos() {
+        return windowMillis * 1_000_000L / Math.max(1, limit);
+    }
+
+    public long windowNanos() {
+        return windowMillis * 1_000_000L;
+    }
+}
@@ -0,0 +1,17 @@
+package com.serhat.secondhand.core.security.ratelimit;
+
+/**
+ * Rate-limit engine used by {@link com.serhat.secondhand.core.security.RateLimitingFilter}.
+ * <p>
+ * Selected with {@code app.rate-limit.mode}: {@code local} (per JVM, {@link LocalGcraRateLimiter})
+ * or {@code redis} (cluster-wide, {@link RedisGcraRateLimiter}).
+ */
+public interface RateLimiter {
+
+    String MODE_PROPERTY = "app.rate-limit.mode";
+
+    /** Mode name used as the {@code mode} metric tag. */
+    String mode();
+
+    RateLimitDecision tryAcquire(String key, RateLimitRule rule);
+}
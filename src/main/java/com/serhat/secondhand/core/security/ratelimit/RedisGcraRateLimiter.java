@@ -0,0 +1,85 @@
+package com.serhat.secondhand.core.security.ratelimit;
+
+import com.serhat.secondhand.core.config.RateLimitConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Cluster-wide GCRA limiter: the TAT of every key lives in Redis and is updated by one Lua script,
+ * so the configured limits hold across all replicas instead of per JVM.
+ * <p>
+ * The script reads the clock with {@code TIME} so node clock skew does not matter. If Redis is
+ * unavailable the request is checked against a local {@link LocalGcraRateLimiter} instead of
+ * failing open or closed.
+ */
+@Component
+@ConditionalOnProperty(name = RateLimiter.MODE_PROPERTY, havingValue = "redis")
+@Slf4j
+public class RedisGcraRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    /**
+     * KEYS[1] = bucket key, ARGV[1] = emission interval (µs), ARGV[2] = window (µs).
+     * Returns {allowed, remaining, resetAfterMicros}.
+     */
+    private static final RedisScript<List> GCRA_SCRIPT = new DefaultRedisScript<>("""
+            local emission = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000000 + tonumber(t[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]))
+            if not tat or tat < now then tat = now end
+            local newTat = tat + emission
+            local allowAt = newTat - window
+            if allowAt > now then
+              return {0, 0, allowAt - now}
+            end
+            redis.call('SET', KEYS[1], string.format('%.0f', newTat), 'PX', math.ceil((newTat - now) / 1000))
+            return {1, math.floor((window - (newTat - now)) / emission), newTat - now}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LocalGcraRateLimiter fallback;
+
+    public RedisGcraRateLimiter(StringRedisTemplate redisTemplate, RateLimitConfig rateLimitConfig) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = new LocalGcraRateLimiter(rateLimitConfig);
+    }
+
+    @Override
+    public String mode() {
+        return "redis";
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String key, RateLimitRule rule) {
+        long emissionMicros = Math.max(1, rule.emissionIntervalNanos() / 1_000L);
+        long windowMicros = rule.windowNanos() / 1_000L;
+        try {
+            List<?> result = redisTemplate.execute(GCRA_SCRIPT, List.of(KEY_PREFIX + key),
+                    String.valueOf(emissionMicros), String.valueOf(windowMicros));
+            if (result == null || result.size() < 3) {
+                return fallback.tryAcquire(key, rule);
+            }
+            boolean allowed = toLong(result.get(0)) == 1L;
+            long remaining = toLong(result.get(1));
+            long resetAfterMillis = (toLong(result.get(2)) + 999L) / 1_000L;
+            return new RateLimitDecision(allowed, rule.limit(), remaining, resetAfterMillis);
+        } catch (RuntimeException e) {
+            log.warn("Redis rate limiter unavailable, using local limiter | type={} message={}",
+                    e.getClass().getSimpleName(), e.getMessage());
+            return fallback.tryAcquire(key, rule);
+        }
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+}
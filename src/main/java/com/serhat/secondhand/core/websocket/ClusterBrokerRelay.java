@@ -0,0 +1,231 @@
+package com.serhat.secondhand.core.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.serhat.secondhand.core.config.WebSocketClusterConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Relays messages that this node sends to its simple broker to the other nodes over Redis pub/sub,
+ * so subscribers connected anywhere in the cluster receive them.
+ * <ul>
+ *   <li>{@code /user/{key}/...} frames go only to the nodes that {@link ClusterUserSessionRegistry}
+ *       lists for {@code key}, on their private channel {@code ws:relay:node:{nodeId}}.</li>
+ *   <li>Every other destination ({@code /topic/...}, {@code /queue/...}) is broadcast on
+ *       {@code ws:relay:broadcast}.</li>
+ * </ul>
+ * Outbound frames are queued and flushed every {@code flush-interval-ms}, one publish per target
+ * channel carrying up to {@code max-batch-size} frames. Received frames are re-injected into the
+ * local broker channel marked as relayed, which keeps them from being relayed again.
+ */
+@Component
+@Slf4j
+public class ClusterBrokerRelay implements ChannelInterceptor, MessageListener {
+
+    static final String BROADCAST_CHANNEL = "ws:relay:broadcast";
+    static final String NODE_CHANNEL_PREFIX = "ws:relay:node:";
+    static final String RELAYED_HEADER = "clusterRelayed";
+
+    private static final int MAX_PENDING_BATCHES = 100;
+
+    record RelayedFrame(String destination, String contentType, byte[] payload) {
+    }
+
+    record RelayEnvelope(String origin, List<RelayedFrame> frames) {
+    }
+
+    private record PendingFrame(String userKey, RelayedFrame frame) {
+    }
+
+    private final WebSocketClusterConfig config;
+    private final ClusterUserSessionRegistry sessionRegistry;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MessageChannel brokerChannel;
+
+    private final ConcurrentLinkedQueue<PendingFrame> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private ScheduledExecutorService flusher;
+
+    private final Counter framesOut;
+    private final Counter framesIn;
+    private final Counter framesDropped;
+    private final Counter batchesOut;
+
+    public ClusterBrokerRelay(WebSocketClusterConfig config,
+                              ClusterUserSessionRegistry sessionRegistry,
+                              StringRedisTemplate redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+        this.config = config;
+        this.sessionRegistry = sessionRegistry;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.brokerChannel = brokerChannel;
+        this.framesOut = Counter.builder("websocket.relay.frames").tag("direction", "out").register(meterRegistry);
+        this.framesIn = Counter.builder("websocket.relay.frames").tag("direction", "in").register(meterRegistry);
+        this.framesDropped = Counter.builder("websocket.relay.frames").tag("direction", "dropped").register(meterRegistry);
+        this.batchesOut = Counter.builder("websocket.relay.batches").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        listenerContainer.addMessageListener(this, List.of(
+                new ChannelTopic(BROADCAST_CHANNEL),
+                new ChannelTopic(NODE_CHANNEL_PREFIX + sessionRegistry.nodeId())));
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ws-relay-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushSafely, config.getFlushIntervalMs(), config.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+        log.info("WebSocket cluster relay started | node={}", sessionRegistry.nodeId());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher != null) {
+            flusher.shutdown();
+            flushSafely();
+        }
+    }
+
+    // ── Outbound: local broker channel → Redis ───────────────────────────────
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!config.isEnabled()) {
+            return message;
+        }
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || headers.containsKey(RELAYED_HEADER)
+                // user destination handler'ın oturuma çözdüğü kopyalar yalnızca bu node'da anlamlıdır;
+                // işaret mesaj header'ı değil native header olarak taşınır
+                || SimpMessageHeaderAccessor.getFirstNativeHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION, headers) != null
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null) {
+            return message;
+        }
+        if (pendingCount.incrementAndGet() > config.getMaxBatchSize() * MAX_PENDING_BATCHES) {
+            pendingCount.decrementAndGet();
+            framesDropped.increment();
+            return message;
+        }
+        MimeType contentType = headers.get(MessageHeaders.CONTENT_TYPE, MimeType.class);
+        pending.add(new PendingFrame(
+                ClusterUserSessionRegistry.userKeyOf(destination),
+                new RelayedFrame(destination, contentType != null ? contentType.toString() : null, payload)));
+        return message;
+    }
+
+    private void flushSafely() {
+        try {
+            while (!pending.isEmpty()) {
+                flush();
+            }
+        } catch (RuntimeException e) {
+            log.warn("WebSocket relay flush failed | type={} message={}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    private void flush() {
+        Map<String, List<RelayedFrame>> byChannel = new LinkedHashMap<>();
+        Map<String, Set<String>> nodesByUserKey = new HashMap<>();
+        int drained = 0;
+        PendingFrame next;
+        while (drained < config.getMaxBatchSize() && (next = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            drained++;
+            if (next.userKey() == null) {
+                byChannel.computeIfAbsent(BROADCAST_CHANNEL, k -> new ArrayList<>()).add(next.frame());
+                continue;
+            }
+            // Aynı kullanıcıya giden frame'ler için registry tek sefer sorgulanır.
+            Set<String> nodes = nodesByUserKey.computeIfAbsent(next.userKey(), sessionRegistry::remoteNodesFor);
+            for (String node : nodes) {
+                byChannel.computeIfAbsent(NODE_CHANNEL_PREFIX + node, k -> new ArrayList<>()).add(next.frame());
+            }
+        }
+        byChannel.forEach(this::publish);
+    }
+
+    private void publish(String channel, List<RelayedFrame> frames) {
+        try {
+            String body = objectMapper.writeValueAsString(new RelayEnvelope(sessionRegistry.nodeId(), frames));
+            redisTemplate.convertAndSend(channel, body);
+            batchesOut.increment();
+            framesOut.increment(frames.size());
+        } catch (IOException | RuntimeException e) {
+            framesDropped.increment(frames.size());
+            log.warn("WebSocket relay publish failed | channel={} frames={} message={}", channel, frames.size(), e.getMessage());
+        }
+    }
+
+    // ── Inbound: Redis → local broker channel ────────────────────────────────
+
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        RelayEnvelope envelope;
+        try {
+            envelope = objectMapper.readValue(message.getBody(), RelayEnvelope.class);
+        } catch (IOException e) {
+            log.warn("Ignoring malformed WebSocket relay message: {}", e.getMessage());
+            return;
+        }
+        if (envelope.frames() == null || sessionRegistry.nodeId().equals(envelope.origin())) {
+            return;
+        }
+        for (RelayedFrame frame : envelope.frames()) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(frame.destination());
+            if (frame.contentType() != null) {
+                accessor.setContentType(MimeType.valueOf(frame.contentType()));
+            }
+            accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+            brokerChannel.send(MessageBuilder.createMessage(frame.payload(), accessor.getMessageHeaders()));
+            framesIn.increment();
+        }
+    }
+}
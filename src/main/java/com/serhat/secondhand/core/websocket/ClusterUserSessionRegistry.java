@@ -0,0 +1,171 @@
+package com.serhat.secondhand.core.websocket;
+
+import com.serhat.secondhand.core.config.WebSocketClusterConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cluster-wide registry of which nodes hold subscriptions to {@code /user/{key}/...} destinations.
+ * <p>
+ * Each node keeps its own subscription counts in memory and mirrors "this node serves {@code key}"
+ * into a Redis sorted set ({@code ws:user-nodes:{key}}, member = node id, score = last refresh in
+ * epoch seconds). Entries are refreshed periodically, so members of a crashed node age out after
+ * {@code registry-ttl-seconds} without any explicit cleanup.
+ */
+@Component
+@Slf4j
+public class ClusterUserSessionRegistry {
+
+    static final String KEY_PREFIX = "ws:user-nodes:";
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+
+    private final StringRedisTemplate redisTemplate;
+    private final WebSocketClusterConfig config;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /** sessionId → (subscriptionId → userKey) */
+    private final ConcurrentMap<String, ConcurrentMap<String, String>> subscriptionsBySession = new ConcurrentHashMap<>();
+    /** userKey → number of local subscriptions */
+    private final ConcurrentMap<String, Integer> localSubscriptionCounts = new ConcurrentHashMap<>();
+
+    public ClusterUserSessionRegistry(StringRedisTemplate redisTemplate, WebSocketClusterConfig config) {
+        this.redisTemplate = redisTemplate;
+        this.config = config;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Extracts {@code key} from {@code /user/{key}/...}, or {@code null} for any other destination.
+     */
+    public static String userKeyOf(String destination) {
+        if (destination == null || !destination.startsWith(USER_DESTINATION_PREFIX)) {
+            return null;
+        }
+        int end = destination.indexOf('/', USER_DESTINATION_PREFIX.length());
+        if (end <= USER_DESTINATION_PREFIX.length()) {
+            return null;
+        }
+        return destination.substring(USER_DESTINATION_PREFIX.length(), end);
+    }
+
+    /**
+     * Other live nodes that currently hold at least one subscription for {@code userKey}.
+     */
+    public Set<String> remoteNodesFor(String userKey) {
+        long minScore = epochSeconds() - config.getRegistryTtlSeconds();
+        Set<String> nodes = redisTemplate.opsForZSet().rangeByScore(KEY_PREFIX + userKey, minScore, Double.POSITIVE_INFINITY);
+        if (nodes == null || nodes.isEmpty()) {
+            return Set.of();
+        }
+        nodes.remove(nodeId);
+        return nodes;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String userKey = userKeyOf(accessor.getDestination());
+        if (userKey == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        subscriptionsBySession
+                .computeIfAbsent(accessor.getSessionId(), k -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), userKey);
+        if (localSubscriptionCounts.merge(userKey, 1, Integer::sum) == 1) {
+            announce(List.of(userKey));
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = accessor.getSessionId() != null
+                ? subscriptionsBySession.get(accessor.getSessionId())
+                : null;
+        if (subscriptions != null && accessor.getSubscriptionId() != null) {
+            release(subscriptions.remove(accessor.getSubscriptionId()));
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        Map<String, String> subscriptions = subscriptionsBySession.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.websocket.cluster.registry-refresh-ms:20000}")
+    public void refresh() {
+        if (!config.isEnabled() || localSubscriptionCounts.isEmpty()) {
+            return;
+        }
+        announce(new ArrayList<>(localSubscriptionCounts.keySet()));
+    }
+
+    private void release(String userKey) {
+        if (userKey == null) {
+            return;
+        }
+        Integer remaining = localSubscriptionCounts.computeIfPresent(userKey, (k, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            try {
+                redisTemplate.opsForZSet().remove(KEY_PREFIX + userKey, nodeId);
+            } catch (RuntimeException e) {
+                log.warn("WebSocket registry remove failed | key={} message={}", userKey, e.getMessage());
+            }
+        }
+    }
+
+    private void announce(List<String> userKeys) {
+        double now = epochSeconds();
+        long keyTtlSeconds = Duration.ofSeconds(config.getRegistryTtlSeconds()).multipliedBy(2).toSeconds();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (String userKey : userKeys) {
+                    stringConnection.zAdd(KEY_PREFIX + userKey, now, nodeId);
+                    stringConnection.expire(KEY_PREFIX + userKey, keyTtlSeconds);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // Bir sonraki refresh tekrar dener; yerel teslimat bundan etkilenmez.
+            log.warn("WebSocket registry announce failed | keys={} message={}", userKeys.size(), e.getMessage());
+        }
+    }
+
+    private static long epochSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
@@ -1,6 +1,7 @@
 package com.serhat.secondhand.dashboard.application.adapter;
 
 import com.serhat.secondhand.dashboard.application.port.FavoriteStatisticsPort;
+import com.serhat.secondhand.dashboard.application.rollup.DashboardRollupQueries;
 import com.serhat.secondhand.favorite.application.FavoriteStatsService;
 import com.serhat.secondhand.favorite.domain.dto.FavoriteStatsDto;
 import com.serhat.secondhand.favorite.domain.repository.FavoriteRepository;
@@ -16,10 +17,23 @@ import java.util.UUID;
 public class FavoriteStatisticsAdapter implements FavoriteStatisticsPort {
     private final FavoriteRepository favoriteRepository;
     private final FavoriteStatsService favoriteStatsService;
+    private final DashboardRollupQueries rollups;
 
+    /**
+     * Read from the per-seller rollup counter; a seller without a row is counted once and seeded.
+     */
     @Override
     public long countByListingSellerId(Long sellerId) {
-        return favoriteRepository.countByListingSellerId(sellerId);
+        if (!rollups.isEnabled()) {
+            return favoriteRepository.countByListingSellerId(sellerId);
+        }
+        Long cached = rollups.sellerFavoriteCount(sellerId);
+        if (cached != null) {
+            return cached;
+        }
+        long count = favoriteRepository.countByListingSellerId(sellerId);
+        rollups.seedSellerFavoriteCount(sellerId, count);
+        return count;
     }
 
     @Override
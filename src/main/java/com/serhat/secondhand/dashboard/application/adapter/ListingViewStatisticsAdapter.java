@@ -1,22 +1,34 @@
 package com.serhat.secondhand.dashboard.application.adapter;
 
 import com.serhat.secondhand.dashboard.application.port.ListingViewStatisticsPort;
+import com.serhat.secondhand.dashboard.application.rollup.DashboardRollupQueries;
 import com.serhat.secondhand.listing.application.common.ListingViewService;
 import com.serhat.secondhand.listing.domain.dto.response.listing.ListingViewStatsDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 
 @Component
 @RequiredArgsConstructor
 public class ListingViewStatisticsAdapter implements ListingViewStatisticsPort {
 
     private final ListingViewService listingViewService;
+    private final DashboardRollupQueries rollups;
 
     @Override
     public ListingViewStatsDto getAggregatedViewStatisticsForSeller(Long sellerId, LocalDateTime startDate, LocalDateTime endDate) {
-        return listingViewService.getAggregatedViewStatisticsForSeller(sellerId, startDate, endDate);
+        if (!rollups.isReady()) {
+            return listingViewService.getAggregatedViewStatisticsForSeller(sellerId, startDate, endDate);
+        }
+        DashboardRollupQueries.ViewTotals totals = rollups.sellerViews(sellerId, startDate, endDate);
+        return ListingViewStatsDto.builder()
+                .totalViews(totals.views())
+                .uniqueViews(totals.uniqueViews())
+                .periodDays((int) ChronoUnit.DAYS.between(startDate, endDate) + 1)
+                .viewsByDate(new HashMap<>())
+                .build();
     }
 }
-
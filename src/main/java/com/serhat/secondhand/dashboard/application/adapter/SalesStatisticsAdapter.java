@@ -1,6 +1,7 @@
 package com.serhat.secondhand.dashboard.application.adapter;
 
 import com.serhat.secondhand.dashboard.application.port.SalesStatisticsPort;
+import com.serhat.secondhand.dashboard.application.rollup.DashboardRollupQueries;
 import com.serhat.secondhand.order.repository.OrderItemRepository;
 import com.serhat.secondhand.order.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
@@ -10,75 +11,118 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * Answers from the daily rollup tables once they are ready, otherwise from the raw order queries.
+ */
 @Component
 @RequiredArgsConstructor
 public class SalesStatisticsAdapter implements SalesStatisticsPort {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final DashboardRollupQueries rollups;
 
     @Override
     public BigDecimal sumRevenueBySellerAndDateRange(Long sellerId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (rollups.isReady()) {
+            return rollups.sumSellerRevenue(sellerId, startDate, endDate);
+        }
         return orderItemRepository.sumRevenueBySellerAndDateRange(sellerId, startDate, endDate);
     }
 
     @Override
     public List<Object[]> countOrdersBySellerAndCategory(Long sellerId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (rollups.isReady()) {
+            return rollups.sellerOrdersByCategory(sellerId, startDate, endDate);
+        }
         return orderItemRepository.countOrdersBySellerAndCategory(sellerId, startDate, endDate);
     }
 
     @Override
     public List<Object[]> getDailyRevenueTrend(Long sellerId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (rollups.isReady()) {
+            return rollups.sellerRevenueTrend(sellerId, startDate, endDate);
+        }
         return orderItemRepository.getDailyRevenueTrend(sellerId, startDate, endDate);
     }
 
     @Override
     public List<Object[]> countDistinctOrdersBySellerAndStatusGrouped(Long sellerId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (rollups.isReady()) {
+            return rollups.sellerOrdersByStatus(sellerId, startDate, endDate);
+        }
         return orderItemRepository.countDistinctOrdersBySellerAndStatusGrouped(sellerId, startDate, endDate);
     }
 
     @Override
     public long countDistinctListingsSoldBySellerAndDateRange(Long sellerId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (rollups.isReady()) {
+            return rollups.countSellerListingsSold(sellerId, startDate, endDate);
+        }
         return orderItemRepository.countDistinctListingsSoldBySellerAndDateRange(sellerId, startDate, endDate);
     }
 
     @Override
     public BigDecimal sumTotalAmountByUserIdAndDateRange(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (rollups.isReady()) {
+            return rollups.sumBuyerSpending(userId, startDate, endDate);
+        }
         return orderRepository.sumTotalAmountByUserIdAndDateRange(userId, startDate, endDate);
     }
 
     @Override
     public long countOrdersByUserIdAndCreatedAtBetween(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (rollups.isReady()) {
+            return rollups.countBuyerOrders(userId, startDate, endDate);
+        }
         return orderRepository.countByUserIdAndCreatedAtBetween(userId, startDate, endDate);
     }
 
     @Override
     public List<Object[]> countOrdersByUserIdAndStatusGrouped(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (rollups.isReady()) {
+            return rollups.buyerOrdersByStatus(userId, startDate, endDate);
+        }
         return orderRepository.countByUserIdAndStatusGrouped(userId, startDate, endDate);
     }
 
     @Override
     public List<Object[]> getDailySpendingTrend(Long buyerId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (rollups.isReady()) {
+            return rollups.buyerSpendingTrend(buyerId, startDate, endDate);
+        }
         return orderItemRepository.getDailySpendingTrend(buyerId, startDate, endDate);
     }
 
     @Override
     public List<Object[]> sumRevenueBySellerAndCategory(Long sellerId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (rollups.isReady()) {
+            return rollups.sellerRevenueByCategory(sellerId, startDate, endDate);
+        }
         return orderItemRepository.sumRevenueBySellerAndCategory(sellerId, startDate, endDate);
     }
 
     @Override
     public List<Object[]> sumSpendingByBuyerAndCategory(Long buyerId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (rollups.isReady()) {
+            return rollups.buyerSpendingByCategory(buyerId, startDate, endDate);
+        }
         return orderItemRepository.sumSpendingByBuyerAndCategory(buyerId, startDate, endDate);
     }
 
     @Override
     public List<Object[]> countOrdersByBuyerAndCategory(Long buyerId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (rollups.isReady()) {
+            return rollups.buyerOrdersByCategory(buyerId, startDate, endDate);
+        }
         return orderItemRepository.countOrdersByBuyerAndCategory(buyerId, startDate, endDate);
     }
 
     @Override
     public List<Object[]> findTopListingsByRevenue(Long sellerId, LocalDateTime startDate, LocalDateTime endDate) {
+        if (rollups.isReady()) {
+            return rollups.sellerTopListings(sellerId, startDate, endDate);
+        }
         return orderItemRepository.findTopListingsByRevenue(sellerId, startDate, endDate);
     }
 }
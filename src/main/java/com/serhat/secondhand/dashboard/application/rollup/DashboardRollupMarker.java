@@ -0,0 +1,139 @@
+package com.serhat.secondhand.dashboard.application.rollup;
+
+import com.serhat.secondhand.dashboard.config.DashboardRollupConfig;
+import com.serhat.secondhand.favorite.application.event.FavoriteChangedEvent;
+import com.serhat.secondhand.listing.domain.entity.events.ListingViewsRecordedEvent;
+import com.serhat.secondhand.order.application.event.OrderCancelledEvent;
+import com.serhat.secondhand.order.application.event.OrderCompletedEvent;
+import com.serhat.secondhand.order.application.event.OrderCreatedEvent;
+import com.serhat.secondhand.order.application.event.OrderRefundedEvent;
+import com.serhat.secondhand.order.application.event.OrderStatusChangedEvent;
+import com.serhat.secondhand.order.entity.Order;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Turns order, view and favorite events into rollup work.
+ * <p>
+ * Orders and views only mark the affected (owner, day) slices dirty; {@link DashboardRollupRefresher}
+ * recomputes them later, so the events carry no aggregate values and a lost or repeated event
+ * cannot skew the totals. Seller favorite totals are the exception: they are a single counter per
+ * seller and are adjusted in place.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardRollupMarker {
+
+    static final String MARK_SQL = """
+            INSERT INTO dashboard_rollup_dirty (scope, owner_key, day, marked_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (scope, owner_key, day) DO UPDATE SET marked_at = EXCLUDED.marked_at
+            """;
+
+    // Sellers come from the items, so a multi-seller order marks every seller involved.
+    private static final String MARK_ORDER_SQL = """
+            INSERT INTO dashboard_rollup_dirty (scope, owner_key, day, marked_at)
+            SELECT DISTINCT 'SELLER', CAST(oi.seller_id AS VARCHAR), CAST(o.created_at AS DATE), CAST(? AS TIMESTAMP)
+            FROM orders o
+            JOIN order_items oi ON oi.order_id = o.id
+            WHERE o.id = ?
+            UNION
+            SELECT 'BUYER', CAST(o.user_id AS VARCHAR), CAST(o.created_at AS DATE), CAST(? AS TIMESTAMP)
+            FROM orders o
+            WHERE o.id = ?
+            ON CONFLICT (scope, owner_key, day) DO UPDATE SET marked_at = EXCLUDED.marked_at
+            """;
+
+    private static final String FAVORITE_DELTA_SQL = """
+            UPDATE dashboard_seller_favorites f
+            SET favorite_count = GREATEST(f.favorite_count + ?, 0)
+            FROM listings l
+            WHERE l.id = ? AND f.seller_id = l.seller_id
+            """;
+
+    private final DashboardRollupConfig config;
+    private final JdbcTemplate jdbcTemplate;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        markOrder(event.order());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        markOrder(event.order());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderCompleted(OrderCompletedEvent event) {
+        markOrder(event.order());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        markOrder(event.order());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderRefunded(OrderRefundedEvent event) {
+        markOrder(event.order());
+    }
+
+    @EventListener
+    public void onListingViewsRecorded(ListingViewsRecordedEvent event) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        event.getDaysByListing().forEach((listingId, days) -> {
+            for (LocalDate day : days) {
+                rows.add(new Object[]{DashboardRollupScope.LISTING_VIEWS.name(), listingId.toString(), Date.valueOf(day), now});
+            }
+        });
+        try {
+            jdbcTemplate.batchUpdate(MARK_SQL, rows);
+        } catch (RuntimeException e) {
+            log.warn("Dashboard rollup view marking failed | slices={} message={}", rows.size(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            // Satırı olmayan satıcı ilk okumada tam sayımla oluşturulur; burada yalnızca mevcut satır güncellenir.
+            jdbcTemplate.update(FAVORITE_DELTA_SQL, event.added() ? 1 : -1, event.listingId());
+        } catch (RuntimeException e) {
+            log.warn("Dashboard favorite rollup update failed | listingId={} message={}", event.listingId(), e.getMessage());
+        }
+    }
+
+    private void markOrder(Order order) {
+        if (!config.isEnabled() || order == null || order.getId() == null) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.update(MARK_ORDER_SQL, now, order.getId(), now, order.getId());
+        } catch (RuntimeException e) {
+            // Gece mutabakatı son günleri yeniden hesapladığı için kayıp işaret kalıcı değildir.
+            log.warn("Dashboard rollup order marking failed | orderId={} message={}", order.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.serhat.secondhand.dashboard.application.rollup;
+
+import com.serhat.secondhand.dashboard.config.DashboardRollupConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Range queries over the daily rollup tables, shaped like the raw dashboard queries they replace
+ * (same {@code Object[]} row layouts) so the dashboard adapters can switch between the two.
+ * <p>
+ * Rollups have day granularity: a range covers every day it touches, except that an end exactly at
+ * midnight excludes that day (the previous-period comparison ends where the current period starts).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardRollupQueries {
+
+    static final String BACKFILL_STATE = "history-backfill";
+
+    private static final long READY_CHECK_INTERVAL_MS = 30_000;
+
+    private static final RowMapper<Object[]> KEY_COUNT = (rs, i) -> new Object[]{rs.getString(1), rs.getLong(2)};
+    private static final RowMapper<Object[]> KEY_AMOUNT = (rs, i) -> new Object[]{rs.getString(1), rs.getBigDecimal(2)};
+    private static final RowMapper<Object[]> DAY_AMOUNT = (rs, i) -> new Object[]{rs.getDate(1), rs.getBigDecimal(2)};
+
+    public record ViewTotals(long views, long uniqueViews) {
+    }
+
+    private record DayRange(Date first, Date last) {
+        static DayRange of(LocalDateTime start, LocalDateTime end) {
+            LocalDate last = end.toLocalTime().equals(LocalTime.MIDNIGHT) && end.isAfter(start)
+                    ? end.toLocalDate().minusDays(1)
+                    : end.toLocalDate();
+            return new DayRange(Date.valueOf(start.toLocalDate()), Date.valueOf(last));
+        }
+    }
+
+    private final DashboardRollupConfig config;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean ready;
+    private volatile long readyCheckedAt;
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * {@code true} once the history backfill has been fully refreshed; until then callers should
+     * answer from the raw tables. The state is re-read at most every 30 seconds.
+     */
+    public boolean isReady() {
+        if (!config.isEnabled()) {
+            return false;
+        }
+        if (ready) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        if (now - readyCheckedAt < READY_CHECK_INTERVAL_MS) {
+            return false;
+        }
+        readyCheckedAt = now;
+        try {
+            Integer completed = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM dashboard_rollup_state WHERE name = ? AND completed_at IS NOT NULL",
+                    Integer.class, BACKFILL_STATE);
+            ready = completed != null && completed > 0;
+        } catch (RuntimeException e) {
+            log.warn("Dashboard rollup state check failed: {}", e.getMessage());
+        }
+        return ready;
+    }
+
+    // ── Seller ───────────────────────────────────────────────────────────────
+
+    public BigDecimal sumSellerRevenue(Long sellerId, LocalDateTime start, LocalDateTime end) {
+        DayRange range = DayRange.of(start, end);
+        return jdbcTemplate.queryForObject(
+                "SELECT SUM(revenue) FROM dashboard_seller_daily_sales WHERE seller_id = ? AND day BETWEEN ? AND ?",
+                BigDecimal.class, sellerId, range.first(), range.last());
+    }
+
+    public List<Object[]> sellerRevenueTrend(Long sellerId, LocalDateTime start, LocalDateTime end) {
+        DayRange range = DayRange.of(start, end);
+        return jdbcTemplate.query("""
+                SELECT day, SUM(revenue) FROM dashboard_seller_daily_sales
+                WHERE seller_id = ? AND day BETWEEN ? AND ?
+                GROUP BY day ORDER BY day
+                """, DAY_AMOUNT, sellerId, range.first(), range.last());
+    }
+
+    public List<Object[]> sellerRevenueByCategory(Long sellerId, LocalDateTime start, LocalDateTime end) {
+        DayRange range = DayRange.of(start, end);
+        return jdbcTemplate.query("""
+                SELECT listing_type, SUM(revenue) FROM dashboard_seller_daily_sales
+                WHERE seller_id = ? AND day BETWEEN ? AND ? AND listing_type IS NOT NULL
+                GROUP BY listing_type
+                """, KEY_AMOUNT, sellerId, range.first(), range.last());
+    }
+
+    /** Rows of {@code [listingId, revenue, orderCount]}, highest revenue first. */
+    public List<Object[]> sellerTopListings(Long sellerId, LocalDateTime start, LocalDateTime end) {
+        DayRange range = DayRange.of(start, end);
+        return jdbcTemplate.query("""
+                SELECT listing_id, SUM(revenue) AS revenue, SUM(order_count) FROM dashboard_seller_daily_sales
+                WHERE seller_id = ? AND day BETWEEN ? AND ?
+                GROUP BY listing_id ORDER BY revenue DESC
+                """, (rs, i) -> new Object[]{rs.getObject(1, UUID.class), rs.getBigDecimal(2), rs.getLong(3)},
+                sellerId, range.first(), range.last());
+    }
+
+    public long countSellerListingsSold(Long sellerId, LocalDateTime start, LocalDateTime end) {
+        DayRange range = DayRange.of(start, end);
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT listing_id) FROM dashboard_seller_daily_sales WHERE seller_id = ? AND day BETWEEN ? AND ?",
+                Long.class, sellerId, range.first(), range.last());
+        return count != null ? count : 0L;
+    }
+
+    public List<Object[]> sellerOrdersByStatus(Long sellerId, LocalDateTime start, LocalDateTime end) {
+        DayRange range = DayRange.of(start, end);
+        return jdbcTemplate.query("""
+                SELECT status, SUM(order_count) FROM dashboard_seller_daily_orders
+                WHERE seller_id = ? AND day BETWEEN ? AND ?
+                GROUP BY status
+                """, KEY_COUNT, sellerId, range.first(), range.last());
+    }
+
+    public List<Object[]> sellerOrdersByCategory(Long sellerId, LocalDateTime start, LocalDateTime end) {
+        DayRange range = DayRange.of(start, end);
+        return jdbcTemplate.query("""
+                SELECT listing_type, SUM(order_count) FROM dashboard_seller_daily_category_orders
+                WHERE seller_id = ? AND day BETWEEN ? AND ?
+                GROUP BY listing_type
+                """, KEY_COUNT, sellerId, range.first(), range.last());
+    }
+
+    /**
+     * Unique viewers are summed per listing and day, so a visitor who viewed several listings, or
+     * came back on another day, is counted once for each.
+     */
+    public ViewTotals sellerViews(Long sellerId, LocalDateTime start, LocalDateTime end) {
+        DayRange range = DayRange.of(start, end);
+        return jdbcTemplate.queryForObject("""
+                SELECT COALESCE(SUM(views), 0), COALESCE(SUM(unique_viewers), 0) FROM dashboard_listing_daily_views
+                WHERE seller_id = ? AND day BETWEEN ? AND ?
+                """, (rs, i) -> new ViewTotals(rs.getLong(1), rs.getLong(2)), sellerId, range.first(), range.last());
+    }
+
+    /** {@code null} when the seller has no row yet. */
+    public Long sellerFavoriteCount(Long sellerId) {
+        List<Long> counts = jdbcTemplate.queryForList(
+                "SELECT favorite_count FROM dashboard_seller_favorites WHERE seller_id = ?", Long.class, sellerId);
+        return counts.isEmpty() ? null : counts.get(0);
+    }
+
+    public void seedSellerFavoriteCount(Long sellerId, long count) {
+        jdbcTemplate.update("""
+                INSERT INTO dashboard_seller_favorites (seller_id, favorite_count) VALUES (?, ?)
+                ON CONFLICT (seller_id) DO NOTHING
+                """, sellerId, count);
+    }
+
+    // ── Buyer ────────────────────────────────────────────────────────────────
+
+    public BigDecimal sumBuyerSpending(Long buyerId, LocalDateTime start, LocalDateTime end) {
+        DayRange range = DayRange.of(start, end);
+        return jdbcTemplate.queryForObject(
+                "SELECT SUM(spent_amount) FROM dashboard_buyer_daily_orders WHERE user_id = ? AND day BETWEEN ? AND ?",
+                BigDecimal.class, buyerId, range.first(), range.last());
+    }
+
+    public long countBuyerOrders(Long buyerId, LocalDateTime start, LocalDateTime end) {
+        DayRange range = DayRange.of(start, end);
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(order_count), 0) FROM dashboard_buyer_daily_orders WHERE user_id = ? AND day BETWEEN ? AND ?",
+                Long.class, buyerId, range.first(), range.last());
+        return count != null ? count : 0L;
+    }
+
+    public List<Object[]> buyerOrdersByStatus(Long buyerId, LocalDateTime start, LocalDateTime end) {
+        DayRange range = DayRange.of(start, end);
+        return jdbcTemplate.query("""
+                SELECT status, SUM(order_count) FROM dashboard_buyer_daily_orders
+                WHERE user_id = ? AND day BETWEEN ? AND ?
+                GROUP BY status
+                """, KEY_COUNT, buyerId, range.first(), range.last());
+    }
+
+    public List<Object[]> buyerSpendingTrend(Long buyerId, LocalDateTime start, LocalDateTime end) {
+        DayRange range = DayRange.of(start, end);
+        return jdbcTemplate.query("""
+                SELECT day, SUM(spent_amount) FROM dashboard_buyer_daily_category
+                WHERE user_id = ? AND day BETWEEN ? AND ?
+                GROUP BY day HAVING SUM(spent_amount) > 0 ORDER BY day
+                """, DAY_AMOUNT, buyerId, range.first(), range.last());
+    }
+
+    public List<Object[]> buyerSpendingByCategory(Long buyerId, LocalDateTime start, LocalDateTime end) {
+        DayRange range = DayRange.of(start, end);
+        return jdbcTemplate.query("""
+                SELECT listing_type, SUM(spent_amount) FROM dashboard_buyer_daily_category
+                WHERE user_id = ? AND day BETWEEN ? AND ?
+                GROUP BY listing_type HAVING SUM(spent_amount) > 0
+                """, KEY_AMOUNT, buyerId, range.first(), range.last());
+    }
+
+    public List<Object[]> buyerOrdersByCategory(Long buyerId, LocalDateTime start, LocalDateTime end) {
+        DayRange range = DayRange.of(start, end);
+        return jdbcTemplate.query("""
+                SELECT listing_type, SUM(order_count) FROM dashboard_buyer_daily_category
+                WHERE user_id = ? AND day BETWEEN ? AND ?
+                GROUP BY listing_type
+                """, KEY_COUNT, buyerId, range.first(), range.last());
+    }
+}
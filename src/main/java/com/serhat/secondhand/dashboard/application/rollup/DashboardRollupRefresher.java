@@ -0,0 +1,229 @@
+package com.serhat.secondhand.dashboard.application.rollup;
+
+import com.serhat.secondhand.core.scheduling.ClusterLeased;
+import com.serhat.secondhand.core.scheduling.SchedulerLease;
+import com.serhat.secondhand.core.scheduling.SchedulerLeaseLostException;
+import com.serhat.secondhand.dashboard.config.DashboardRollupConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the dashboard rollups current.
+ * <ul>
+ *   <li>Every {@code refresh-ms}, dirty slices are taken oldest first and recomputed one by one by
+ *       {@link DashboardRollupSliceWriter}; a slice that fails is re-marked and moves to the back.</li>
+ *   <li>On the first run, every (owner, day) slice with history is marked dirty once; the rollups
+ *       are served from when all of those have been refreshed.</li>
+ *   <li>Nightly, the last {@code reconcile-days} days are marked again and seller favorite totals
+ *       are recounted, which repairs changes that published no event.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class DashboardRollupRefresher {
+
+    private static final LocalDateTime HISTORY_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String SELECT_DIRTY_SQL = """
+            SELECT scope, owner_key, day, marked_at FROM dashboard_rollup_dirty
+            ORDER BY marked_at
+            LIMIT ?
+            """;
+
+    private static final String MARK_SELLER_DAYS_SQL = """
+            INSERT INTO dashboard_rollup_dirty (scope, owner_key, day, marked_at)
+            SELECT DISTINCT 'SELLER', CAST(oi.seller_id AS VARCHAR), CAST(o.created_at AS DATE), CAST(? AS TIMESTAMP)
+            FROM order_items oi
+            JOIN orders o ON o.id = oi.order_id
+            WHERE o.created_at >= ?
+            ON CONFLICT (scope, owner_key, day) DO UPDATE SET marked_at = EXCLUDED.marked_at
+            """;
+
+    private static final String MARK_BUYER_DAYS_SQL = """
+            INSERT INTO dashboard_rollup_dirty (scope, owner_key, day, marked_at)
+            SELECT DISTINCT 'BUYER', CAST(o.user_id AS VARCHAR), CAST(o.created_at AS DATE), CAST(? AS TIMESTAMP)
+            FROM orders o
+            WHERE o.created_at >= ?
+            ON CONFLICT (scope, owner_key, day) DO UPDATE SET marked_at = EXCLUDED.marked_at
+            """;
+
+    private static final String MARK_VIEW_DAYS_SQL = """
+            INSERT INTO dashboard_rollup_dirty (scope, owner_key, day, marked_at)
+            SELECT DISTINCT 'LISTING_VIEWS', CAST(v.listing_id AS VARCHAR), CAST(v.viewed_at AS DATE), CAST(? AS TIMESTAMP)
+            FROM listing_views v
+            WHERE v.viewed_at >= ?
+            ON CONFLICT (scope, owner_key, day) DO UPDATE SET marked_at = EXCLUDED.marked_at
+            """;
+
+    private static final String RECOUNT_FAVORITES_SQL = """
+            INSERT INTO dashboard_seller_favorites (seller_id, favorite_count)
+            SELECT l.seller_id, COUNT(*)
+            FROM favorites f
+            JOIN listings l ON l.id = f.listing_id
+            GROUP BY l.seller_id
+            ON CONFLICT (seller_id) DO UPDATE SET favorite_count = EXCLUDED.favorite_count
+            """;
+
+    private static final String ZERO_FAVORITES_SQL = """
+            UPDATE dashboard_seller_favorites sf SET favorite_count = 0
+            WHERE sf.favorite_count <> 0
+              AND NOT EXISTS (SELECT 1 FROM favorites f JOIN listings l ON l.id = f.listing_id
+                              WHERE l.seller_id = sf.seller_id)
+            """;
+
+    private static final String COMPLETE_BACKFILL_SQL = """
+            UPDATE dashboard_rollup_state s SET completed_at = ?
+            WHERE s.name = ? AND s.completed_at IS NULL
+              AND NOT EXISTS (SELECT 1 FROM dashboard_rollup_dirty d WHERE d.marked_at <= s.requested_at)
+            """;
+
+    private record DirtySlice(DashboardRollupScope scope, String ownerKey, LocalDate day, LocalDateTime markedAt) {
+    }
+
+    private final DashboardRollupConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final DashboardRollupSliceWriter sliceWriter;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong backlog = new AtomicLong();
+    private final Timer runTimer;
+
+    public DashboardRollupRefresher(DashboardRollupConfig config,
+                                    JdbcTemplate jdbcTemplate,
+                                    DashboardRollupSliceWriter sliceWriter,
+                                    MeterRegistry meterRegistry) {
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+        this.sliceWriter = sliceWriter;
+        this.meterRegistry = meterRegistry;
+        this.runTimer = Timer.builder("dashboard.rollup.refresh.duration").register(meterRegistry);
+        Gauge.builder("dashboard.rollup.dirty", backlog, AtomicLong::get)
+                .description("Rollup slices waiting to be recomputed, as seen by the last refresh on this node")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.dashboard.rollup.refresh-ms:30000}",
+            fixedDelayString = "${app.dashboard.rollup.refresh-ms:30000}")
+    @ClusterLeased(name = "dashboard-rollup-refresh", leaseMs = 5 * 60 * 1000L)
+    public void refreshDirtySlices() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        runTimer.record(() -> {
+            requestBackfillIfNeeded();
+            int refreshed = drain(SchedulerLease.current());
+            jdbcTemplate.update(COMPLETE_BACKFILL_SQL, Timestamp.valueOf(LocalDateTime.now()),
+                    DashboardRollupQueries.BACKFILL_STATE);
+            Long remaining = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dashboard_rollup_dirty", Long.class);
+            backlog.set(remaining != null ? remaining : 0L);
+            if (refreshed > 0) {
+                log.debug("Dashboard rollup refresh | refreshed={} remaining={}", refreshed, backlog.get());
+            }
+        });
+    }
+
+    @Scheduled(cron = "${app.dashboard.rollup.reconcile-cron:0 30 3 * * *}")
+    @ClusterLeased(name = "dashboard-rollup-reconcile", leaseMs = 10 * 60 * 1000L, lockAtLeastForMs = 5 * 60 * 1000L)
+    public void reconcileRecentDays() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        LocalDateTime since = LocalDate.now().minusDays(config.getReconcileDays()).atStartOfDay();
+        int marked = markDays(since);
+        recountSellerFavorites();
+        log.info("Dashboard rollup reconcile queued | since={} slices={}", since.toLocalDate(), marked);
+    }
+
+    private int drain(SchedulerLease lease) {
+        int batchSize = config.getBatchSize();
+        int processed = 0;
+        while (processed < config.getMaxSlicesPerRun() && lease.stillHeld()) {
+            List<DirtySlice> batch = jdbcTemplate.query(SELECT_DIRTY_SQL, (rs, i) -> new DirtySlice(
+                    DashboardRollupScope.valueOf(rs.getString("scope")),
+                    rs.getString("owner_key"),
+                    rs.getDate("day").toLocalDate(),
+                    rs.getTimestamp("marked_at").toLocalDateTime()), batchSize);
+            for (DirtySlice slice : batch) {
+                refresh(slice);
+                processed++;
+            }
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    private void refresh(DirtySlice slice) {
+        String outcome = "refreshed";
+        try {
+            sliceWriter.refresh(slice.scope(), slice.ownerKey(), slice.day(), slice.markedAt());
+        } catch (SchedulerLeaseLostException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = "failed";
+            log.warn("Dashboard rollup slice refresh failed | scope={} owner={} day={} message={}",
+                    slice.scope(), slice.ownerKey(), slice.day(), e.getMessage());
+            requeue(slice);
+        }
+        Counter.builder("dashboard.rollup.slices")
+                .tag("scope", slice.scope().name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void requeue(DirtySlice slice) {
+        try {
+            jdbcTemplate.update(DashboardRollupMarker.MARK_SQL, slice.scope().name(), slice.ownerKey(),
+                    Date.valueOf(slice.day()), Timestamp.valueOf(LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("Dashboard rollup requeue failed | scope={} owner={} message={}", slice.scope(), slice.ownerKey(), e.getMessage());
+        }
+    }
+
+    /**
+     * Queues the whole history once. The state row is written after the marks, with a timestamp
+     * later than all of them, so completion can be detected as "no mark at or before it remains".
+     */
+    private void requestBackfillIfNeeded() {
+        Integer requested = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM dashboard_rollup_state WHERE name = ?",
+                Integer.class, DashboardRollupQueries.BACKFILL_STATE);
+        if (requested != null && requested > 0) {
+            return;
+        }
+        int marked = markDays(HISTORY_START);
+        recountSellerFavorites();
+        jdbcTemplate.update("""
+                INSERT INTO dashboard_rollup_state (name, requested_at) VALUES (?, ?)
+                ON CONFLICT (name) DO NOTHING
+                """, DashboardRollupQueries.BACKFILL_STATE, Timestamp.valueOf(LocalDateTime.now()));
+        log.info("Dashboard rollup history backfill queued | slices={}", marked);
+    }
+
+    private int markDays(LocalDateTime since) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp from = Timestamp.valueOf(since);
+        return jdbcTemplate.update(MARK_SELLER_DAYS_SQL, now, from)
+                + jdbcTemplate.update(MARK_BUYER_DAYS_SQL, now, from)
+                + jdbcTemplate.update(MARK_VIEW_DAYS_SQL, now, from);
+    }
+
+    private void recountSellerFavorites() {
+        jdbcTemplate.update(RECOUNT_FAVORITES_SQL);
+        jdbcTemplate.update(ZERO_FAVORITES_SQL);
+    }
+}
@@ -0,0 +1,13 @@
+package com.serhat.secondhand.dashboard.application.rollup;
+
+/**
+ * Kind of rollup slice; a slice is one owner (seller, buyer or listing) on one day.
+ */
+public enum DashboardRollupScope {
+    /** Seller sales, status and category order counts; owner key is the seller id. */
+    SELLER,
+    /** Buyer orders and spending; owner key is the buyer id. */
+    BUYER,
+    /** Listing views; owner key is the listing id. */
+    LISTING_VIEWS
+}
@@ -0,0 +1,122 @@
+package com.serhat.secondhand.dashboard.application.rollup;
+
+import com.serhat.secondhand.core.scheduling.SchedulerLeaseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Recomputes one rollup slice from the raw tables in one transaction: the slice's rows are deleted
+ * and re-inserted from a grouped query, then its dirty entry is removed unless it was marked again
+ * after {@code markedAt}. The filters mirror the raw dashboard queries in {@code OrderItemRepository},
+ * {@code OrderRepository} and {@code ListingViewRepository}.
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardRollupSliceWriter {
+
+    private static final String QUALIFYING_ORDER =
+            "o.payment_status = 'COMPLETED' AND o.status NOT IN ('CANCELLED', 'REFUNDED')";
+
+    private static final String SELLER_SALES_SQL = """
+            INSERT INTO dashboard_seller_daily_sales (seller_id, day, listing_id, listing_type, revenue, order_count)
+            SELECT oi.seller_id, ?, oi.listing_id, MAX(oi.listing_type), SUM(oi.total_price), COUNT(DISTINCT o.id)
+            FROM order_items oi
+            JOIN orders o ON o.id = oi.order_id
+            WHERE oi.seller_id = ? AND o.created_at >= ? AND o.created_at < ? AND %s
+            GROUP BY oi.seller_id, oi.listing_id
+            """.formatted(QUALIFYING_ORDER);
+
+    private static final String SELLER_ORDERS_SQL = """
+            INSERT INTO dashboard_seller_daily_orders (seller_id, day, status, order_count)
+            SELECT oi.seller_id, ?, o.status, COUNT(DISTINCT o.id)
+            FROM order_items oi
+            JOIN orders o ON o.id = oi.order_id
+            WHERE oi.seller_id = ? AND o.created_at >= ? AND o.created_at < ?
+            GROUP BY oi.seller_id, o.status
+            """;
+
+    private static final String SELLER_CATEGORY_ORDERS_SQL = """
+            INSERT INTO dashboard_seller_daily_category_orders (seller_id, day, listing_type, order_count)
+            SELECT oi.seller_id, ?, l.listing_type, COUNT(DISTINCT o.id)
+            FROM order_items oi
+            JOIN orders o ON o.id = oi.order_id
+            JOIN listings l ON l.id = oi.listing_id
+            WHERE oi.seller_id = ? AND o.created_at >= ? AND o.created_at < ?
+            GROUP BY oi.seller_id, l.listing_type
+            """;
+
+    private static final String BUYER_ORDERS_SQL = """
+            INSERT INTO dashboard_buyer_daily_orders (user_id, day, status, order_count, spent_amount)
+            SELECT o.user_id, ?, o.status, COUNT(*),
+                   COALESCE(SUM(o.total_amount) FILTER (WHERE %s), 0)
+            FROM orders o
+            WHERE o.user_id = ? AND o.created_at >= ? AND o.created_at < ?
+            GROUP BY o.user_id, o.status
+            """.formatted(QUALIFYING_ORDER);
+
+    private static final String BUYER_CATEGORY_SQL = """
+            INSERT INTO dashboard_buyer_daily_category (user_id, day, listing_type, order_count, spent_amount)
+            SELECT o.user_id, ?, l.listing_type, COUNT(DISTINCT o.id),
+                   COALESCE(SUM(oi.total_price) FILTER (WHERE %s), 0)
+            FROM order_items oi
+            JOIN orders o ON o.id = oi.order_id
+            JOIN listings l ON l.id = oi.listing_id
+            WHERE o.user_id = ? AND o.created_at >= ? AND o.created_at < ?
+            GROUP BY o.user_id, l.listing_type
+            """.formatted(QUALIFYING_ORDER);
+
+    private static final String LISTING_VIEWS_SQL = """
+            INSERT INTO dashboard_listing_daily_views (listing_id, day, seller_id, views, unique_viewers)
+            SELECT v.listing_id, ?, l.seller_id, COUNT(v.id), COUNT(DISTINCT COALESCE(v.user_id::text, v.session_id))
+            FROM listing_views v
+            JOIN listings l ON l.id = v.listing_id
+            WHERE v.listing_id = ? AND v.viewed_at >= ? AND v.viewed_at < ?
+            GROUP BY v.listing_id, l.seller_id
+            """;
+
+    private static final String CLEAR_DIRTY_SQL = """
+            DELETE FROM dashboard_rollup_dirty
+            WHERE scope = ? AND owner_key = ? AND day = ? AND marked_at <= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    @Transactional
+    public void refresh(DashboardRollupScope scope, String ownerKey, LocalDate day, LocalDateTime markedAt) {
+        schedulerLeaseService.fenceCurrent();
+        Date sqlDay = Date.valueOf(day);
+        Timestamp from = Timestamp.valueOf(day.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(day.plusDays(1).atStartOfDay());
+        switch (scope) {
+            case SELLER -> {
+                long sellerId = Long.parseLong(ownerKey);
+                replace("dashboard_seller_daily_sales", "seller_id", sellerId, sqlDay, SELLER_SALES_SQL, from, to);
+                replace("dashboard_seller_daily_orders", "seller_id", sellerId, sqlDay, SELLER_ORDERS_SQL, from, to);
+                replace("dashboard_seller_daily_category_orders", "seller_id", sellerId, sqlDay, SELLER_CATEGORY_ORDERS_SQL, from, to);
+            }
+            case BUYER -> {
+                long buyerId = Long.parseLong(ownerKey);
+                replace("dashboard_buyer_daily_orders", "user_id", buyerId, sqlDay, BUYER_ORDERS_SQL, from, to);
+                replace("dashboard_buyer_daily_category", "user_id", buyerId, sqlDay, BUYER_CATEGORY_SQL, from, to);
+            }
+            case LISTING_VIEWS -> replace("dashboard_listing_daily_views", "listing_id", UUID.fromString(ownerKey),
+                    sqlDay, LISTING_VIEWS_SQL, from, to);
+        }
+        jdbcTemplate.update(CLEAR_DIRTY_SQL, scope.name(), ownerKey, sqlDay, Timestamp.valueOf(markedAt));
+    }
+
+    private void replace(String table, String ownerColumn, Object owner, Date day, String insertSql,
+                         Timestamp from, Timestamp to) {
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE " + ownerColumn + " = ? AND day = ?", owner, day);
+        jdbcTemplate.update(insertSql, day, owner, from, to);
+    }
+}
@@ -0,0 +1,29 @@
+package com.serhat.secondhand.dashboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Dashboard için günlük özet (rollup) tabloları. Sipariş, görüntülenme ve favori olayları ilgili
+ * (sahip, gün) dilimini kirli olarak işaretler; zamanlanmış görev kirli dilimleri ham tablolardan
+ * yeniden hesaplar. Geçmiş veri ilk çalıştırmada bir kez kuyruğa alınır, tamamlanana kadar
+ * dashboard sorguları ham tablolardan cevaplanır.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.dashboard.rollup")
+@Getter
+@Setter
+public class DashboardRollupConfig {
+    /** {@code false}: olaylar işlenmez, dashboard her zaman ham tablolardan sorgulanır. */
+    private boolean enabled = true;
+    private long refreshMs = 30_000;
+    /** Tek sorguda kuyruktan alınan kirli dilim sayısı. */
+    private int batchSize = 200;
+    /** Bir çalıştırmada yeniden hesaplanan en fazla dilim; geri kalanı bir sonraki çalıştırmaya kalır. */
+    private int maxSlicesPerRun = 5_000;
+    /** Gece mutabakatında yeniden hesaplanan son gün sayısı (olay yayınlamayan değişiklikler için). */
+    private int reconcileDays = 7;
+    private String reconcileCron = "0 30 3 * * *";
+}
@@ -0,0 +1,75 @@
+package com.serhat.secondhand.email.application;
+
+import com.serhat.secondhand.email.domain.entity.enums.EmailType;
+import org.unbescape.html.HtmlEscape;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A template rendered once for a whole fan-out, with per-recipient slots left as markers and split into
+ * literal segments. {@link #render} only concatenates the segments with the HTML-escaped slot values,
+ * which is what Thymeleaf's {@code th:text} would have produced for them.
+ * <p>
+ * Slots must therefore be plain text outputs ({@code th:text} or a message argument), never used in
+ * conditions or as raw HTML. If a slot marker does not survive rendering, the template falls back to a
+ * full render per recipient.
+ */
+public final class BulkEmailTemplate {
+
+    private final EmailType type;
+    private final List<String> slots;
+    private final String[] literals;
+    private final int[] slotAt;
+    private final int literalLength;
+    private final Function<Map<String, Object>, String> fallback;
+    private final EmailMetrics metrics;
+
+    BulkEmailTemplate(EmailType type, List<String> slots, String[] literals, int[] slotAt,
+                      Function<Map<String, Object>, String> fallback, EmailMetrics metrics) {
+        this.type = type;
+        this.slots = slots;
+        this.literals = literals;
+        this.slotAt = slotAt;
+        this.fallback = fallback;
+        this.metrics = metrics;
+        int length = 0;
+        if (literals != null) {
+            for (String literal : literals) {
+                length += literal.length();
+            }
+        }
+        this.literalLength = length;
+    }
+
+    /** {@code true} when rendering is plain slot substitution. */
+    public boolean isPrecomputed() {
+        return literals != null;
+    }
+
+    public String render(Map<String, String> slotValues) {
+        if (literals == null) {
+            return fallback.apply(new HashMap<>(slotValues));
+        }
+        long startedAt = System.nanoTime();
+        String[] escaped = new String[slots.size()];
+        int length = literalLength;
+        for (int i = 0; i < escaped.length; i++) {
+            String value = slotValues.get(slots.get(i));
+            escaped[i] = value == null ? "" : HtmlEscape.escapeHtml4Xml(value);
+        }
+        for (int index : slotAt) {
+            length += escaped[index].length();
+        }
+        StringBuilder out = new StringBuilder(length);
+        out.append(literals[0]);
+        for (int i = 0; i < slotAt.length; i++) {
+            out.append(escaped[slotAt[i]]).append(literals[i + 1]);
+        }
+        String html = out.toString();
+        metrics.recordRender(type, "bulk", System.nanoTime() - startedAt, html.length());
+        return html;
+    }
+}
@@ -3,11 +3,13 @@ package com.serhat.secondhand.email.application;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.serhat.secondhand.email.application.event.EmailEvent;
+import com.serhat.secondhand.email.domain.entity.enums.EmailType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Component
@@ -19,17 +21,31 @@ public class EmailContentBuilder {
     private final ObjectMapper objectMapper;
 
     public <T> String buildContent(EmailEvent<T> event) {
-        String templatePath = event.getTemplatePath();
+        return templateService.render(event.getTemplatePath(), toVariables(event.getTemplatePath(), event.getData()), event.getType());
+    }
+
+    /**
+     * Render-once variant for fan-outs: {@code sharedData} is rendered a single time and each recipient
+     * only fills {@code slots} (e.g. {@code userName}).
+     */
+    public BulkEmailTemplate prepareBulk(String templatePath, Object sharedData, EmailType type, String... slots) {
+        Map<String, Object> shared = toVariables(templatePath, sharedData);
+        for (String slot : slots) {
+            shared.remove(slot);
+        }
+        return templateService.prepareBulk(templatePath, shared, List.of(slots), type);
+    }
+
+    private Map<String, Object> toVariables(String templatePath, Object data) {
         Map<String, Object> variables = new HashMap<>();
 
-        if (event.getData() != null) {
+        if (data != null) {
             try {
-                variables = objectMapper.convertValue(event.getData(), new TypeReference<Map<String, Object>>() {});
+                variables = objectMapper.convertValue(data, new TypeReference<Map<String, Object>>() {});
             } catch (Exception e) {
-                log.error("Failed to map event data to template variables for event: {}", event.getClass().getSimpleName(), e);
+                log.error("Failed to map email data to template variables for template: {}", templatePath, e);
             }
         }
-
-        return templateService.render(templatePath, variables);
+        return variables;
     }
 }
@@ -1,15 +1,27 @@
 package com.serhat.secondhand.email.application;
 
+import com.serhat.secondhand.email.config.EmailConfig;
 import com.serhat.secondhand.email.domain.entity.enums.EmailType;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 @Component
 @RequiredArgsConstructor
 public class EmailMetrics {
 
+    private static final String OTHER_DOMAIN = "other";
+
     private final MeterRegistry meterRegistry;
+    private final EmailConfig emailConfig;
+    private final Set<String> trackedDomains = ConcurrentHashMap.newKeySet();
 
     public void recordSuccess(EmailType type) {
         meterRegistry.counter("email.sent", "type", type.name()).increment();
@@ -18,4 +30,53 @@ public class EmailMetrics {
     public void recordFailure(EmailType type, String error) {
         meterRegistry.counter("email.failed", "type", type.name(), "error", error != null ? error : "unknown").increment();
     }
+
+    /**
+     * One template render; {@code mode} is {@code full} (Thymeleaf) or {@code bulk} (slot substitution
+     * on a {@link BulkEmailTemplate}).
+     */
+    public void recordRender(EmailType type, String mode, long nanos, int chars) {
+        Timer.builder("email.template.render.duration")
+                .tag("type", type.name())
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("email.template.render.size")
+                .baseUnit("chars")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .record(chars);
+    }
+
+    /** SMTP round-trip of one message. */
+    public void recordSendLatency(EmailType type, long nanos) {
+        Timer.builder("email.delivery.send.duration")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** Time from enqueue to successful send. */
+    public void recordDeliveryLatency(EmailType type, Duration latency) {
+        Timer.builder("email.delivery.latency")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .record(latency);
+    }
+
+    /** Per recipient domain outcome ({@code sent}, {@code failed}, {@code throttled}); rate() gives the send rate. */
+    public void recordDomain(String domain, String outcome) {
+        meterRegistry.counter("email.delivery.domain", "domain", domainTag(domain), "outcome", outcome).increment();
+    }
+
+    // Alan adı etiketi sınırsız büyümesin: ilk N alan adı ayrı, gerisi "other".
+    private String domainTag(String domain) {
+        if (trackedDomains.contains(domain)) {
+            return domain;
+        }
+        if (trackedDomains.size() < emailConfig.getDelivery().getMaxTrackedDomains() && trackedDomains.add(domain)) {
+            return domain;
+        }
+        return OTHER_DOMAIN;
+    }
 }
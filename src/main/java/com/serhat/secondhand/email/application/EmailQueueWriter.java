@@ -0,0 +1,82 @@
+package com.serhat.secondhand.email.application;
+
+import com.serhat.secondhand.email.application.delivery.EmailDeliveryWorker;
+import com.serhat.secondhand.email.config.EmailConfig;
+import com.serhat.secondhand.email.domain.entity.enums.EmailPriority;
+import com.serhat.secondhand.email.domain.entity.enums.EmailStatus;
+import com.serhat.secondhand.email.domain.entity.enums.EmailType;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk email intake: rows are written as {@link EmailStatus#QUEUED} with one JDBC batch in the
+ * caller's transaction and delivered later by {@code EmailDeliveryWorker}. Used by fan-outs that
+ * must not create one event, one transaction and one send per recipient.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailQueueWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO emails (id, user_id, recipient_email, sender_email, subject, content, email_type,
+                                status, retry_count, priority, created_at, next_attempt_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?)
+            """;
+
+    public record QueuedEmail(
+            Long userId,
+            String recipientEmail,
+            String subject,
+            String content,
+            EmailType type,
+            EmailPriority priority
+    ) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmailConfig emailConfig;
+    private final MeterRegistry meterRegistry;
+    private final EmailDeliveryWorker deliveryWorker;
+
+    public int enqueue(List<QueuedEmail> emails) {
+        if (emails.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, emails, emails.size(), (ps, email) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setLong(2, email.userId());
+            ps.setString(3, email.recipientEmail());
+            ps.setString(4, emailConfig.getSender());
+            ps.setString(5, email.subject());
+            ps.setString(6, email.content());
+            ps.setString(7, email.type().name());
+            ps.setString(8, EmailStatus.QUEUED.name());
+            ps.setString(9, email.priority().name());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+        emails.forEach(email -> meterRegistry.counter("email.queue.enqueued", "type", email.type().name()).increment());
+        // Çağıranın transaction'ı varsa poller commit sonrasında uyandırılır.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliveryWorker.wakeUp();
+                }
+            });
+        } else {
+            deliveryWorker.wakeUp();
+        }
+        return emails.size();
+    }
+}
@@ -1,86 +1,89 @@
 package com.serhat.secondhand.email.application;
 
-import com.serhat.secondhand.email.domain.entity.Email;
-import com.serhat.secondhand.email.domain.entity.enums.EmailStatus;
-import com.serhat.secondhand.email.domain.repository.EmailRepository;
+import com.serhat.secondhand.email.application.delivery.OutboundEmail;
+import com.serhat.secondhand.email.application.delivery.SmtpTransportPool;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * SMTP transmission only: no transaction, no repository. A batch goes over one pooled connection; the
+ * caller records the per-message results.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class EmailSender {
 
-    private final EmailRepository emailRepository;
-    private final RateLimitedEmailSender rateLimitedEmailSender;
-    private final EmailMetrics emailMetrics;
+    /** Outcome of one message; {@code error} is {@code null} on success. */
+    public record Result(OutboundEmail email, Exception error, long durationNanos) {
+    }
 
-    @Autowired(required = false)
-    private JavaMailSender mailSender;
+    private final SmtpTransportPool transportPool;
 
     @Value("${app.email.mock:true}")
     private boolean mockMode;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void sendEmail(Email email) {
-        log.info("Preparing to send outbound email to {}, type: {}", email.getRecipientEmail(), email.getEmailType());
-
-        // 1. Rate Limiting check
-        rateLimitedEmailSender.acquire();
-
-        try {
-            if (mockMode || mailSender == null) {
+    public List<Result> send(List<OutboundEmail> batch) {
+        List<Result> results = new ArrayList<>(batch.size());
+        if (mockMode || !transportPool.isAvailable()) {
+            for (OutboundEmail email : batch) {
+                long startedAt = System.nanoTime();
                 log.info("\n=== [MOCK EMAIL TRANSMISSION] ===\n" +
                          "To: {}\n" +
                          "From: {}\n" +
                          "Subject: {}\n" +
                          "Type: {}\n" +
-                         "=================================", 
-                         email.getRecipientEmail(), email.getSenderEmail(), email.getSubject(), email.getEmailType());
-            } else {
-                MimeMessage message = mailSender.createMimeMessage();
-                MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-                helper.setFrom(email.getSenderEmail());
-                helper.setTo(email.getRecipientEmail());
-                helper.setSubject(email.getSubject());
-                helper.setText(email.getContent(), true); // Send as HTML
-
-                mailSender.send(message);
-                log.info("Email transmitted successfully via SMTP to: {}", email.getRecipientEmail());
+                         "=================================",
+                         email.recipientEmail(), email.senderEmail(), email.subject(), email.type());
+                results.add(new Result(email, null, System.nanoTime() - startedAt));
             }
+            return results;
+        }
 
-            // Update entity to SENT
-            email.setStatus(EmailStatus.SENT);
-            email.setSentAt(LocalDateTime.now());
-            email.setErrorMessage(null);
-            emailRepository.save(email);
-
-            // Record metrics
-            emailMetrics.recordSuccess(email.getEmailType());
-
-        } catch (Exception e) {
-            log.error("Failed to transmit email to {}: {}", email.getRecipientEmail(), e.getMessage());
-
-            // Update entity to FAILED
-            email.setStatus(EmailStatus.FAILED);
-            email.setRetryCount(email.getRetryCount() + 1);
-            email.setErrorMessage(e.getMessage());
-            emailRepository.save(email);
-
-            // Record metrics
-            emailMetrics.recordFailure(email.getEmailType(), e.getClass().getSimpleName());
-
-            throw new RuntimeException("Email transmission failed: " + e.getMessage(), e);
+        SmtpTransportPool.PooledTransport transport = null;
+        try {
+            for (OutboundEmail email : batch) {
+                long startedAt = System.nanoTime();
+                try {
+                    if (transport == null) {
+                        transport = transportPool.borrow();
+                    }
+                    transport.send(toMimeMessage(email));
+                    results.add(new Result(email, null, System.nanoTime() - startedAt));
+                } catch (Exception e) {
+                    log.error("Failed to transmit email to {}: {}", email.recipientEmail(), e.getMessage());
+                    results.add(new Result(email, e, System.nanoTime() - startedAt));
+                    // Alıcı reddi bağlantıyı bozmaz; diğer hatalarda bağlantı kapatılıp yenisi açılır.
+                    if (transport != null && !(e instanceof SendFailedException)) {
+                        transportPool.release(transport, false);
+                        transport = null;
+                    }
+                }
+            }
+        } finally {
+            if (transport != null) {
+                transportPool.release(transport, true);
+            }
         }
+        return results;
+    }
+
+    private MimeMessage toMimeMessage(OutboundEmail email) throws MessagingException {
+        MimeMessage message = transportPool.createMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(email.senderEmail());
+        helper.setTo(email.recipientEmail());
+        helper.setSubject(email.subject());
+        helper.setText(email.content(), true); // Send as HTML
+        return message;
     }
 }
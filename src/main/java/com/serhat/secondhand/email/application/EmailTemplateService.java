@@ -1,23 +1,135 @@
 package com.serhat.secondhand.email.application;
 
+import com.serhat.secondhand.email.domain.entity.enums.EmailType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * Renders email templates under {@code templates/emails}. All templates are parsed once at startup so
+ * the first email of each type does not pay for parsing (Thymeleaf keeps parsed templates in its
+ * template cache). {@link #prepareBulk} renders a template once for a fan-out and leaves per-recipient
+ * slots to {@link BulkEmailTemplate}. Render time and output size are recorded per {@link EmailType}.
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class EmailTemplateService {
 
+    private static final String TEMPLATE_ROOT = "emails/";
+    private static final String TEMPLATE_PATTERN = "classpath*:templates/emails/**/*.html";
+
     private final TemplateEngine templateEngine;
+    private final EmailMetrics emailMetrics;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void precompileTemplates() {
+        Resource[] resources;
+        try {
+            resources = new PathMatchingResourcePatternResolver().getResources(TEMPLATE_PATTERN);
+        } catch (IOException e) {
+            log.warn("Email templates could not be listed for precompilation: {}", e.getMessage());
+            return;
+        }
+        int parsed = 0;
+        for (Resource resource : resources) {
+            String templatePath = relativePath(resource);
+            if (templatePath == null) {
+                continue;
+            }
+            try {
+                templateEngine.process(TEMPLATE_ROOT + templatePath, new Context());
+                parsed++;
+            } catch (RuntimeException e) {
+                // Boş context ile işlenemese de şablon ayrıştırılıp önbelleğe alınmış olur.
+                parsed++;
+                log.debug("Email template {} parsed, empty render failed: {}", templatePath, e.getMessage());
+            }
+        }
+        log.info("Precompiled {} email templates", parsed);
+    }
 
     public String render(String templatePath, Map<String, Object> variables) {
+        return render(templatePath, variables, null);
+    }
+
+    public String render(String templatePath, Map<String, Object> variables, EmailType type) {
+        long startedAt = System.nanoTime();
         Context context = new Context();
         if (variables != null) {
             context.setVariables(variables);
         }
-        return templateEngine.process("emails/" + templatePath, context);
+        String html = templateEngine.process(TEMPLATE_ROOT + templatePath, context);
+        if (type != null) {
+            emailMetrics.recordRender(type, "full", System.nanoTime() - startedAt, html.length());
+        }
+        return html;
+    }
+
+    /**
+     * Renders {@code templatePath} once with {@code shared} variables and a unique marker for each of
+     * {@code slots}, then splits the output at the markers.
+     */
+    public BulkEmailTemplate prepareBulk(String templatePath, Map<String, Object> shared, List<String> slots, EmailType type) {
+        String nonce = UUID.randomUUID().toString().replace("-", "");
+        Map<String, Object> variables = new HashMap<>(shared);
+        for (int i = 0; i < slots.size(); i++) {
+            variables.put(slots.get(i), "SLOT" + i + "X" + nonce);
+        }
+        String html = render(templatePath, variables, type);
+
+        Matcher matcher = Pattern.compile("SLOT(\\d+)X" + nonce).matcher(html);
+        List<String> literals = new ArrayList<>();
+        List<Integer> slotAt = new ArrayList<>();
+        boolean[] seen = new boolean[slots.size()];
+        int from = 0;
+        while (matcher.find()) {
+            int index = Integer.parseInt(matcher.group(1));
+            literals.add(html.substring(from, matcher.start()));
+            slotAt.add(index);
+            seen[index] = true;
+            from = matcher.end();
+        }
+        literals.add(html.substring(from));
+
+        Function<Map<String, Object>, String> fallback = slotValues -> {
+            Map<String, Object> merged = new HashMap<>(shared);
+            merged.putAll(slotValues);
+            return render(templatePath, merged, type);
+        };
+        for (boolean present : seen) {
+            if (!present) {
+                log.warn("Email template {} does not output every slot of {}; rendering per recipient", templatePath, slots);
+                return new BulkEmailTemplate(type, slots, null, null, fallback, emailMetrics);
+            }
+        }
+        return new BulkEmailTemplate(type, List.copyOf(slots), literals.toArray(String[]::new),
+                slotAt.stream().mapToInt(Integer::intValue).toArray(), fallback, emailMetrics);
+    }
+
+    private static String relativePath(Resource resource) {
+        try {
+            String url = resource.getURL().toString();
+            int index = url.lastIndexOf("/templates/" + TEMPLATE_ROOT);
+            return index < 0 ? null : url.substring(index + "/templates/".length() + TEMPLATE_ROOT.length());
+        } catch (IOException e) {
+            return null;
+        }
     }
 }
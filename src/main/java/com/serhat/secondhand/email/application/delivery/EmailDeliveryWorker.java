@@ -0,0 +1,324 @@
+package com.serhat.secondhand.email.application.delivery;
+
+import com.serhat.secondhand.email.application.EmailMetrics;
+import com.serhat.secondhand.email.application.EmailSender;
+import com.serhat.secondhand.email.config.EmailConfig;
+import com.serhat.secondhand.email.domain.entity.enums.EmailType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Email delivery engine over the {@code emails} table.
+ * <ul>
+ *   <li>A poller thread claims due {@code QUEUED} rows (priority first) with one auto-committed
+ *       {@code FOR UPDATE SKIP LOCKED} statement that leases them as {@code PENDING} and returns the
+ *       message itself, so no connection is held afterwards. It never holds more than
+ *       {@code batch-size} messages in memory.</li>
+ *   <li>Each message takes a permit from {@link EmailRateLimiter} (node-wide and per recipient domain).
+ *       A throttled message is re-offered after the returned wait on a timer, or put back in the queue
+ *       if that wait is longer than half the lease; no thread sleeps.</li>
+ *   <li>{@code worker-threads} send threads drain the ready queue in groups over pooled SMTP
+ *       connections ({@link SmtpTransportPool}).</li>
+ *   <li>Outcomes go to {@link EmailStatusWriter}, which batches the status updates. Failures are
+ *       retried at {@code next_attempt_at} with exponential backoff until {@code max-attempts}.</li>
+ * </ul>
+ * Enqueues on this node call {@link #wakeUp()}; otherwise empty polls back off from
+ * {@code min-poll-delay-ms} to {@code max-poll-delay-ms}.
+ */
+@Component
+@Slf4j
+public class EmailDeliveryWorker {
+
+    private static final int MESSAGES_PER_SEND = 20;
+
+    private static final String CLAIM_SQL = """
+            UPDATE emails e
+               SET status = 'PENDING', locked_by = ?, locked_until = ?
+             WHERE e.id IN (
+                   SELECT q.id FROM emails q
+                    WHERE q.status = 'QUEUED' AND q.deleted_at IS NULL AND q.next_attempt_at <= ?
+                    ORDER BY (CASE q.priority WHEN 'CRITICAL' THEN 1 WHEN 'HIGH' THEN 2 WHEN 'NORMAL' THEN 3 ELSE 4 END),
+                             q.next_attempt_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED)
+            RETURNING e.id, e.recipient_email, e.sender_email, e.subject, e.content, e.email_type, e.retry_count, e.created_at
+            """;
+
+    private static final String RELEASE_EXPIRED_SQL = """
+            UPDATE emails
+               SET status = 'QUEUED', next_attempt_at = ?, locked_by = NULL, locked_until = NULL
+             WHERE status = 'PENDING' AND locked_until < ?
+            """;
+
+    private static final String QUEUE_DEPTH_SQL = """
+            SELECT COUNT(*) FROM emails
+             WHERE status = 'QUEUED' AND deleted_at IS NULL AND next_attempt_at <= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmailSender emailSender;
+    private final EmailRateLimiter rateLimiter;
+    private final EmailStatusWriter statusWriter;
+    private final SmtpTransportPool transportPool;
+    private final EmailMetrics emailMetrics;
+    private final EmailConfig.Delivery config;
+    private final MeterRegistry meterRegistry;
+
+    private final String owner = UUID.randomUUID().toString();
+    private final Semaphore wakeUps = new Semaphore(0);
+    private final BlockingQueue<OutboundEmail> ready = new LinkedBlockingQueue<>();
+    private final AtomicInteger inMemory = new AtomicInteger();
+    private final AtomicLong queueDepth = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread poller;
+    private ExecutorService senders;
+    private ScheduledExecutorService throttleTimer;
+
+    public EmailDeliveryWorker(JdbcTemplate jdbcTemplate,
+                               EmailSender emailSender,
+                               EmailRateLimiter rateLimiter,
+                               EmailStatusWriter statusWriter,
+                               SmtpTransportPool transportPool,
+                               EmailMetrics emailMetrics,
+                               EmailConfig emailConfig,
+                               MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.emailSender = emailSender;
+        this.rateLimiter = rateLimiter;
+        this.statusWriter = statusWriter;
+        this.transportPool = transportPool;
+        this.emailMetrics = emailMetrics;
+        this.config = emailConfig.getDelivery();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void start() {
+        Gauge.builder("email.delivery.queue.depth", queueDepth, AtomicLong::get)
+                .description("Emails due for delivery")
+                .register(meterRegistry);
+        Gauge.builder("email.delivery.in.memory", inMemory, AtomicInteger::get)
+                .description("Claimed emails not yet sent")
+                .register(meterRegistry);
+        if (!config.isEnabled()) {
+            return;
+        }
+        running = true;
+        AtomicInteger senderIndex = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(Math.max(1, config.getWorkerThreads()), r -> {
+            Thread thread = new Thread(r, "email-delivery-" + senderIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < Math.max(1, config.getWorkerThreads()); i++) {
+            senders.execute(this::sendLoop);
+        }
+        throttleTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "email-delivery-throttle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller = new Thread(this::pollLoop, "email-delivery-poller");
+        poller.setDaemon(true);
+        poller.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+        }
+        if (throttleTimer != null) {
+            throttleTimer.shutdownNow();
+        }
+        if (senders != null) {
+            senders.shutdown();
+            try {
+                senders.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Gönderilmemiş mesajlar PENDING kalır; lease dolunca tekrar kuyruğa döner.
+    }
+
+    /** Cuts the current poll delay short; called after an email is enqueued on this node. */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    // ── Polling ──────────────────────────────────────────────────────────────
+
+    private void pollLoop() {
+        long minDelay = Math.max(1, config.getMinPollDelayMs());
+        long maxDelay = Math.max(minDelay, config.getMaxPollDelayMs());
+        long delay = minDelay;
+        while (running) {
+            int claimed;
+            try {
+                claimed = claimBatch();
+            } catch (RuntimeException e) {
+                log.warn("Email delivery poll failed | type={} message={}", e.getClass().getSimpleName(), e.getMessage());
+                claimed = -1;
+            }
+            if (claimed < 0) {
+                delay = maxDelay;
+            } else {
+                delay = claimed > 0 ? minDelay : Math.min(delay * 2, maxDelay);
+            }
+            try {
+                wakeUps.tryAcquire(delay, TimeUnit.MILLISECONDS);
+                wakeUps.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private int claimBatch() {
+        int capacity = Math.max(1, config.getBatchSize()) - inMemory.get();
+        if (capacity <= 0) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+        Timestamp leaseUntil = Timestamp.valueOf(now.plus(Duration.ofMillis(config.getLeaseMs())));
+        List<OutboundEmail> claimed = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new OutboundEmail(
+                rs.getObject("id", UUID.class),
+                rs.getString("recipient_email"),
+                rs.getString("sender_email"),
+                rs.getString("subject"),
+                rs.getString("content"),
+                EmailType.valueOf(rs.getString("email_type")),
+                rs.getInt("retry_count"),
+                toLocalDateTime(rs.getTimestamp("created_at"))), owner, leaseUntil, nowTs, capacity);
+        inMemory.addAndGet(claimed.size());
+        claimed.forEach(this::route);
+        return claimed.size();
+    }
+
+    private void route(OutboundEmail email) {
+        long waitNanos = rateLimiter.tryAcquire(email.domain());
+        if (waitNanos == 0) {
+            ready.add(email);
+            return;
+        }
+        emailMetrics.recordDomain(email.domain(), "throttled");
+        if (running && waitNanos < TimeUnit.MILLISECONDS.toNanos(config.getLeaseMs()) / 2) {
+            throttleTimer.schedule(() -> route(email), waitNanos, TimeUnit.NANOSECONDS);
+        } else {
+            statusWriter.deferred(email.id(), LocalDateTime.now().plusNanos(waitNanos));
+            inMemory.decrementAndGet();
+        }
+    }
+
+    // ── Sending ──────────────────────────────────────────────────────────────
+
+    private void sendLoop() {
+        List<OutboundEmail> batch = new ArrayList<>(MESSAGES_PER_SEND);
+        while (running || !ready.isEmpty()) {
+            try {
+                OutboundEmail first = ready.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                ready.drainTo(batch, MESSAGES_PER_SEND - 1);
+                for (EmailSender.Result result : emailSender.send(batch)) {
+                    record(result);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // Sonuçları yazılamayan mesajlar PENDING kalır; lease dolunca yeniden gönderilir.
+                log.error("Email send batch failed | size={} message={}", batch.size(), e.getMessage(), e);
+            } finally {
+                inMemory.addAndGet(-batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void record(EmailSender.Result result) {
+        OutboundEmail email = result.email();
+        LocalDateTime now = LocalDateTime.now();
+        emailMetrics.recordSendLatency(email.type(), result.durationNanos());
+        if (result.error() == null) {
+            statusWriter.sent(email.id(), now);
+            emailMetrics.recordSuccess(email.type());
+            emailMetrics.recordDomain(email.domain(), "sent");
+            if (email.createdAt() != null) {
+                emailMetrics.recordDeliveryLatency(email.type(), Duration.between(email.createdAt(), now));
+            }
+            return;
+        }
+        int attempt = email.retryCount() + 1;
+        boolean terminal = attempt >= config.getMaxAttempts();
+        long backoffMs = Math.min(config.getMaxRetryDelayMs(), config.getRetryBaseDelayMs() << Math.min(20, attempt - 1));
+        statusWriter.failed(email.id(), terminal, result.error().getMessage(), now.plus(Duration.ofMillis(backoffMs)));
+        emailMetrics.recordFailure(email.type(), result.error().getClass().getSimpleName());
+        emailMetrics.recordDomain(email.domain(), "failed");
+        if (terminal) {
+            log.warn("Email {} to {} failed permanently after {} attempts", email.id(), email.recipientEmail(), attempt);
+        }
+    }
+
+    // ── Maintenance ──────────────────────────────────────────────────────────
+
+    /**
+     * Requeues emails whose lease expired (their node died before recording an outcome), samples the
+     * queue depth and closes idle connections and rate buckets.
+     */
+    @Scheduled(fixedDelayString = "${app.email.delivery.metrics-refresh-ms:15000}")
+    public void maintain() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            int released = jdbcTemplate.update(RELEASE_EXPIRED_SQL, now, now);
+            if (released > 0) {
+                log.warn("Requeued {} emails with expired delivery leases", released);
+                wakeUp();
+            }
+            Long depth = jdbcTemplate.queryForObject(QUEUE_DEPTH_SQL, Long.class, now);
+            queueDepth.set(depth != null ? depth : 0);
+        } catch (RuntimeException e) {
+            log.warn("Email delivery maintenance failed | message={}", e.getMessage());
+        }
+        transportPool.evictIdle();
+        rateLimiter.evictIdle();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.serhat.secondhand.email.application.delivery;
+
+import com.serhat.secondhand.email.config.EmailConfig;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-wide and per-recipient-domain send limits, both non-blocking {@link TokenBucket}s. A message is
+ * sent only when both buckets grant a permit; otherwise the caller defers it by the returned wait.
+ */
+@Component
+public class EmailRateLimiter {
+
+    private final EmailConfig.Delivery config;
+    private final TokenBucket global;
+    private final Map<String, TokenBucket> domains = new ConcurrentHashMap<>();
+
+    public EmailRateLimiter(EmailConfig emailConfig) {
+        this.config = emailConfig.getDelivery();
+        this.global = new TokenBucket(config.getRatePerSecond(), config.getBurst());
+    }
+
+    /** Returns {@code 0} when the message may be sent now, otherwise the nanoseconds to wait. */
+    public long tryAcquire(String domain) {
+        long now = System.nanoTime();
+        TokenBucket domainBucket = domains.computeIfAbsent(domain,
+                d -> new TokenBucket(config.getPerDomainRatePerSecond(), config.getPerDomainBurst()));
+        long domainWait = domainBucket.tryAcquire(now);
+        if (domainWait > 0) {
+            return domainWait;
+        }
+        long globalWait = global.tryAcquire(now);
+        if (globalWait > 0) {
+            domainBucket.release();
+        }
+        return globalWait;
+    }
+
+    /** Drops buckets of domains that have been quiet long enough to be full again. */
+    public void evictIdle() {
+        long now = System.nanoTime();
+        domains.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    public static String domainOf(String recipient) {
+        int at = recipient == null ? -1 : recipient.lastIndexOf('@');
+        return at < 0 ? "unknown" : recipient.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
+}
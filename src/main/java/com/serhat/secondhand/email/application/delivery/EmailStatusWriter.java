@@ -0,0 +1,118 @@
+package com.serhat.secondhand.email.application.delivery;
+
+import com.serhat.secondhand.email.config.EmailConfig;
+import com.serhat.secondhand.email.domain.entity.enums.EmailStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Collects delivery outcomes from the send threads and writes them in JDBC batches every
+ * {@code status-flush-ms}, so no send thread waits on, or holds, a database connection. Updates only
+ * touch rows still {@code PENDING}; if a node dies before flushing, the lease expires and the email
+ * is sent again (at-least-once).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailStatusWriter {
+
+    private static final String SENT_SQL = """
+            UPDATE emails
+               SET status = 'SENT', sent_at = ?, error_message = NULL, locked_by = NULL, locked_until = NULL
+             WHERE id = ? AND status = 'PENDING'
+            """;
+
+    private static final String RESCHEDULE_SQL = """
+            UPDATE emails
+               SET status = ?, retry_count = retry_count + ?, error_message = COALESCE(?, error_message),
+                   next_attempt_at = ?, locked_by = NULL, locked_until = NULL
+             WHERE id = ? AND status = 'PENDING'
+            """;
+
+    private record Update(UUID id, EmailStatus status, int retryIncrement, String error, LocalDateTime at) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmailConfig emailConfig;
+    private final Queue<Update> updates = new ConcurrentLinkedQueue<>();
+
+    public void sent(UUID id, LocalDateTime sentAt) {
+        updates.add(new Update(id, EmailStatus.SENT, 0, null, sentAt));
+    }
+
+    /** A failed attempt: back to {@code QUEUED} until {@code nextAttemptAt}, or {@code FAILED} for good. */
+    public void failed(UUID id, boolean terminal, String error, LocalDateTime nextAttemptAt) {
+        updates.add(new Update(id, terminal ? EmailStatus.FAILED : EmailStatus.QUEUED, 1, truncate(error), nextAttemptAt));
+    }
+
+    /** Throttled for longer than the lease allows to wait in memory; no attempt is counted. */
+    public void deferred(UUID id, LocalDateTime nextAttemptAt) {
+        updates.add(new Update(id, EmailStatus.QUEUED, 0, null, nextAttemptAt));
+    }
+
+    @Scheduled(fixedDelayString = "${app.email.delivery.status-flush-ms:500}")
+    public void flush() {
+        int batchSize = Math.max(1, emailConfig.getDelivery().getStatusBatchSize());
+        List<Update> sent = new ArrayList<>();
+        List<Update> rescheduled = new ArrayList<>();
+        Update update;
+        while ((update = updates.poll()) != null) {
+            (update.status() == EmailStatus.SENT ? sent : rescheduled).add(update);
+        }
+        if (sent.isEmpty() && rescheduled.isEmpty()) {
+            return;
+        }
+        try {
+            if (!sent.isEmpty()) {
+                jdbcTemplate.batchUpdate(SENT_SQL, sent, batchSize, (ps, u) -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(u.at()));
+                    ps.setObject(2, u.id());
+                });
+            }
+            if (!rescheduled.isEmpty()) {
+                jdbcTemplate.batchUpdate(RESCHEDULE_SQL, rescheduled, batchSize, (ps, u) -> {
+                    ps.setString(1, u.status().name());
+                    ps.setInt(2, u.retryIncrement());
+                    if (u.error() != null) {
+                        ps.setString(3, u.error());
+                    } else {
+                        ps.setNull(3, Types.VARCHAR);
+                    }
+                    ps.setTimestamp(4, Timestamp.valueOf(u.at()));
+                    ps.setObject(5, u.id());
+                });
+            }
+        } catch (RuntimeException e) {
+            // Bir sonraki flush'ta tekrar denenir; güncellemeler idempotent.
+            log.warn("Email status flush failed, retrying | sent={} rescheduled={} message={}",
+                    sent.size(), rescheduled.size(), e.getMessage());
+            updates.addAll(sent);
+            updates.addAll(rescheduled);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 2000 ? error.substring(0, 2000) : error;
+    }
+}
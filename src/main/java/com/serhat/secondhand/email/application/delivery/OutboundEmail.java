@@ -0,0 +1,23 @@
+package com.serhat.secondhand.email.application.delivery;
+
+import com.serhat.secondhand.email.domain.entity.enums.EmailType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** A claimed email row, detached from JPA so that sending never touches the persistence context. */
+public record OutboundEmail(
+        UUID id,
+        String recipientEmail,
+        String senderEmail,
+        String subject,
+        String content,
+        EmailType type,
+        int retryCount,
+        LocalDateTime createdAt
+) {
+
+    public String domain() {
+        return EmailRateLimiter.domainOf(recipientEmail);
+    }
+}
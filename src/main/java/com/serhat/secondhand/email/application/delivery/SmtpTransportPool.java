@@ -0,0 +1,160 @@
+package com.serhat.secondhand.email.application.delivery;
+
+import com.serhat.secondhand.email.config.EmailConfig;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of connected SMTP {@link Transport}s. {@code JavaMailSender.send} opens and closes a connection
+ * (TCP + EHLO + optional STARTTLS/AUTH) for every message; a pooled transport sends up to
+ * {@code messages-per-connection} messages before it is recycled, and idle transports are closed after
+ * {@code connection-idle-ms}. At most {@code transport-pool-size} connections are open at once.
+ */
+@Component
+@Slf4j
+public class SmtpTransportPool {
+
+    private final JavaMailSenderImpl mailSender;
+    private final EmailConfig.Delivery config;
+    private final Semaphore permits;
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+
+    public SmtpTransportPool(ObjectProvider<JavaMailSender> mailSenderProvider, EmailConfig emailConfig) {
+        JavaMailSender sender = mailSenderProvider.getIfAvailable();
+        this.mailSender = sender instanceof JavaMailSenderImpl impl ? impl : null;
+        this.config = emailConfig.getDelivery();
+        this.permits = new Semaphore(Math.max(1, config.getTransportPoolSize()));
+    }
+
+    public boolean isAvailable() {
+        return mailSender != null;
+    }
+
+    public MimeMessage createMessage() {
+        return mailSender.createMimeMessage();
+    }
+
+    /** Waits for a free connection slot; reuses an idle transport or connects a new one. */
+    public PooledTransport borrow() throws MessagingException {
+        if (mailSender == null) {
+            throw new IllegalStateException("No JavaMailSenderImpl configured");
+        }
+        try {
+            if (!permits.tryAcquire(config.getLeaseMs(), TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("Timed out waiting for an SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for an SMTP connection", e);
+        }
+        try {
+            PooledTransport pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                if (pooled.isReusable(config)) {
+                    return pooled;
+                }
+                pooled.close();
+            }
+            Transport transport = mailSender.getSession().getTransport(protocol());
+            transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+            return new PooledTransport(transport);
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /** Same fallback as {@code JavaMailSenderImpl}: explicit protocol, then the session property, then smtp. */
+    private String protocol() {
+        String protocol = mailSender.getProtocol();
+        if (protocol == null) {
+            protocol = mailSender.getSession().getProperty("mail.transport.protocol");
+        }
+        return protocol != null ? protocol : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+    }
+
+    /** Returns a transport; broken ones ({@code healthy == false}) are closed instead of pooled. */
+    public void release(PooledTransport transport, boolean healthy) {
+        try {
+            if (healthy && transport.isReusable(config)) {
+                idle.offerFirst(transport);
+            } else {
+                transport.close();
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    public void evictIdle() {
+        int size = idle.size();
+        for (int i = 0; i < size; i++) {
+            PooledTransport pooled = idle.pollLast();
+            if (pooled == null) {
+                return;
+            }
+            if (pooled.isReusable(config)) {
+                idle.offerLast(pooled);
+            } else {
+                pooled.close();
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            pooled.close();
+        }
+    }
+
+    public static final class PooledTransport {
+
+        private final Transport transport;
+        private int sent;
+        private long lastUsedNanos = System.nanoTime();
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        public void send(MimeMessage message) throws MessagingException {
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+            sent++;
+            lastUsedNanos = System.nanoTime();
+        }
+
+        private boolean isReusable(EmailConfig.Delivery config) {
+            // isConnected() bir NOOP gönderir; ucuz kontroller önce.
+            return sent < config.getMessagesPerConnection()
+                    && System.nanoTime() - lastUsedNanos < TimeUnit.MILLISECONDS.toNanos(config.getConnectionIdleMs())
+                    && transport.isConnected();
+        }
+
+        private void close() {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Closing SMTP transport failed: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.serhat.secondhand.email.application.delivery;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket in its GCRA form: the state is the theoretical arrival time of the next token,
+ * advanced with CAS. {@link #tryAcquire} never blocks; a caller that is refused gets the wait time back
+ * and reschedules the work instead of sleeping on a monitor.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(double permitsPerSecond, int burst) {
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(0.001, permitsPerSecond)));
+        this.toleranceNanos = intervalNanos * Math.max(0, burst - 1);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    /** Returns {@code 0} when a permit was taken, otherwise the nanoseconds until one is available. */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long start = Math.max(tat, nowNanos);
+            long wait = start - nowNanos - toleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(tat, start + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /** Gives back a permit taken by {@link #tryAcquire} that ended up unused. */
+    void release() {
+        theoreticalArrival.addAndGet(-intervalNanos);
+    }
+
+    /** True when the bucket is full again, i.e. it can be dropped without losing state. */
+    boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
@@ -1,7 +1,7 @@
 package com.serhat.secondhand.email.application.event;
 
 import com.serhat.secondhand.email.application.EmailContentBuilder;
-import com.serhat.secondhand.email.application.EmailSender;
+import com.serhat.secondhand.email.application.delivery.EmailDeliveryWorker;
 import com.serhat.secondhand.email.config.EmailConfig;
 import com.serhat.secondhand.email.domain.entity.Email;
 import com.serhat.secondhand.email.domain.entity.enums.EmailStatus;
@@ -22,7 +22,7 @@ public class EmailEventListener {
 
     private final EmailRepository emailRepository;
     private final EmailContentBuilder contentBuilder;
-    private final EmailSender emailSender;
+    private final EmailDeliveryWorker deliveryWorker;
     private final EmailConfig emailConfig;
 
     @Async("emailExecutor")
@@ -36,10 +36,12 @@ public class EmailEventListener {
         log.info("Processing EmailEvent asynchronously for user: {}, type: {}", event.getRecipient().getEmail(), event.getType());
 
         try {
+            LocalDateTime now = LocalDateTime.now();
+
             // 1. Build template/content
             String content = contentBuilder.buildContent(event);
 
-            // 2. Persist initial PENDING inbox/outbox record
+            // 2. Persist the QUEUED inbox/outbox record; EmailDeliveryWorker sends it
             Email email = Email.builder()
                     .user(event.getRecipient())
                     .recipientEmail(event.getRecipient().getEmail())
@@ -47,17 +49,18 @@ public class EmailEventListener {
                     .subject(event.getSubject())
                     .content(content)
                     .emailType(event.getType())
-                    .status(EmailStatus.PENDING)
+                    .status(EmailStatus.QUEUED)
                     .retryCount(0)
                     .priority(event.getPriority())
-                    .createdAt(LocalDateTime.now())
+                    .createdAt(now)
+                    .nextAttemptAt(now)
                     .build();
 
             email = emailRepository.save(email);
             log.info("Saved initial email record with ID: {} for user: {}", email.getId(), event.getRecipient().getEmail());
 
-            // 3. Delegate to EmailSender (running in separate transaction)
-            emailSender.sendEmail(email);
+            // 3. Wake the delivery poller instead of sending on this thread
+            deliveryWorker.wakeUp();
 
         } catch (Exception e) {
             log.error("Failed to process email event: {}", e.getMessage(), e);
@@ -7,12 +7,15 @@ import com.serhat.secondhand.email.domain.entity.enums.EmailType;
 import com.serhat.secondhand.user.domain.entity.User;
 
 public class NewListingEmailEvent extends EmailEvent<NewListingEmailData> {
+
+    public static final String TEMPLATE_PATH = "notifications/new-listing.html";
+
     public NewListingEmailEvent(User recipient, String subject, NewListingEmailData data) {
         super(recipient, subject, EmailType.NEW_LISTING_NOTIFICATION, EmailPriority.NORMAL, data);
     }
 
     @Override
     public String getTemplatePath() {
-        return "notifications/new-listing.html";
+        return TEMPLATE_PATH;
     }
 }
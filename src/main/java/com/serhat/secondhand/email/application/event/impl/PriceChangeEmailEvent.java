@@ -7,12 +7,15 @@ import com.serhat.secondhand.email.domain.entity.enums.EmailType;
 import com.serhat.secondhand.user.domain.entity.User;
 
 public class PriceChangeEmailEvent extends EmailEvent<GenericEmailData> {
+
+    public static final String TEMPLATE_PATH = "notifications/price-change.html";
+
     public PriceChangeEmailEvent(User recipient, String subject, GenericEmailData data) {
         super(recipient, subject, EmailType.NOTIFICATION, EmailPriority.NORMAL, data);
     }
 
     @Override
     public String getTemplatePath() {
-        return "notifications/price-change.html";
+        return TEMPLATE_PATH;
     }
 }
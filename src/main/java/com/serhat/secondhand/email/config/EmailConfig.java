@@ -29,6 +29,7 @@ public class EmailConfig {
     private Order order = new Order();
     private Offer offer = new Offer();
     private Follow follow = new Follow();
+    private Delivery delivery = new Delivery();
 
     @Getter
     @Setter
@@ -60,4 +61,44 @@ public class EmailConfig {
     public static class Follow {
         private String newListingSubjectFormat = "%s %s yeni bir ilan ekledi!";
     }
+
+    /**
+     * Gönderim motoru: kalıcı kuyruk (emails.status = QUEUED), token bucket ile hız sınırı ve
+     * havuzlanmış SMTP bağlantıları.
+     */
+    @Getter
+    @Setter
+    public static class Delivery {
+        private boolean enabled = true;
+        /** SMTP gönderen thread sayısı; her thread bir havuz bağlantısı kullanır. */
+        private int workerThreads = 4;
+        /** Bir poll'da sahiplenilen en fazla e-posta. */
+        private int batchSize = 100;
+        private long minPollDelayMs = 100;
+        private long maxPollDelayMs = 2_000;
+        /** Sahiplenilen e-postanın kilit süresi; dolarsa başka node tekrar alır. */
+        private long leaseMs = 120_000;
+        private int maxAttempts = 3;
+        /** Yeniden deneme gecikmesi: retryBaseDelayMs * 2^(deneme - 1), en fazla maxRetryDelayMs. */
+        private long retryBaseDelayMs = 300_000;
+        private long maxRetryDelayMs = 3_600_000;
+        /** Tüm node genelinde değil, node başına saniyedeki gönderim sınırı. */
+        private double ratePerSecond = 10;
+        private int burst = 10;
+        /** Alıcı alan adı (gmail.com vb.) başına saniyedeki gönderim sınırı. */
+        private double perDomainRatePerSecond = 5;
+        private int perDomainBurst = 5;
+        /** Alan adı etiketli metriklerde tutulacak en fazla farklı alan adı; fazlası "other". */
+        private int maxTrackedDomains = 50;
+        /** Havuzdaki en fazla açık SMTP bağlantısı. */
+        private int transportPoolSize = 4;
+        /** Bir bağlantı bu kadar mesajdan sonra kapatılıp yenilenir. */
+        private int messagesPerConnection = 100;
+        /** Bu süre boyunca kullanılmayan bağlantı kapatılır. */
+        private long connectionIdleMs = 30_000;
+        /** Durum güncellemeleri (SENT / retry) bu aralıkla toplu yazılır. */
+        private long statusFlushMs = 500;
+        private int statusBatchSize = 200;
+        private long metricsRefreshMs = 15_000;
+    }
 }
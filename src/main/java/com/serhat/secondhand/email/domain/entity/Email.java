@@ -75,6 +75,9 @@ public class Email {
     @Column(name = "read_at")
     private LocalDateTime readAt;
 
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     @Column(name = "error_message")
     private String errorMessage;
 
@@ -1,4 +1,4 @@
 package com.serhat.secondhand.email.domain.entity.enums;
 
 public enum EmailStatus {
-    PENDING,        SENT,           FAILED,         DELIVERED,      BOUNCED,        CANCELLED   }
\ No newline at end of file
+    PENDING,        SENT,           FAILED,         DELIVERED,      BOUNCED,        CANCELLED,      QUEUED   }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.serhat.secondhand.favorite.application;
 
 import com.serhat.secondhand.core.result.Result;
+import com.serhat.secondhand.favorite.application.event.FavoriteChangedEvent;
 import com.serhat.secondhand.favorite.domain.dto.FavoriteDto;
 import com.serhat.secondhand.favorite.domain.dto.FavoriteStatsDto;
 import com.serhat.secondhand.favorite.domain.entity.Favorite;
@@ -19,7 +20,7 @@ import com.serhat.secondhand.user.application.IUserService;
 import com.serhat.secondhand.user.domain.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -52,10 +53,10 @@ public class FavoriteService {
     private final NotificationEventPublisher notificationEventPublisher;
     private final com.serhat.secondhand.chat.application.ChatService chatService;
     private final com.serhat.secondhand.offer.application.IOfferService offerService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional
-    @CacheEvict(value = "favoriteStatsBatch", allEntries = true)
     public Result<FavoriteDto> addToFavorites(Long userId, UUID listingId) {
         log.info("Adding listing {} to favorites for userId {}", listingId, userId);
         Result<User> userResult = resolveUser(userId);
@@ -94,6 +95,7 @@ public class FavoriteService {
         } catch (DataIntegrityViolationException e) {
             return Result.error(FavoriteErrorCodes.ALREADY_FAVORITED);
         }
+        eventPublisher.publishEvent(new FavoriteChangedEvent(user.getId(), listing.getId(), true));
 
         try {
             Long sellerId = listing.getSeller() != null ? listing.getSeller().getId() : null;
@@ -130,7 +132,6 @@ public class FavoriteService {
 
 
     @Transactional
-    @CacheEvict(value = "favoriteStatsBatch", allEntries = true)
     public Result<Void> removeFromFavorites(Long userId, UUID listingId) {
         log.info("Removing listing {} from favorites for userId {}", listingId, userId);
         Result<User> userResult = resolveUser(userId);
@@ -145,6 +146,7 @@ public class FavoriteService {
         if (deletedRows == 0) {
             return Result.error(FavoriteErrorCodes.NOT_FAVORITED);
         }
+        eventPublisher.publishEvent(new FavoriteChangedEvent(user.getId(), listingId, false));
 
         log.info("Successfully removed listing {} from favorites for user {}", listingId, user.getEmail());
         return Result.success();
@@ -152,7 +154,6 @@ public class FavoriteService {
 
 
     @Transactional
-    @CacheEvict(value = "favoriteStatsBatch", allEntries = true)
     public Result<FavoriteStatsDto> toggleFavorite(Long userId, UUID listingId) {
         log.info("Toggling favorite status for listing {} and userId {}", listingId, userId);
 
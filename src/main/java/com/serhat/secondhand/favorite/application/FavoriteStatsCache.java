@@ -0,0 +1,201 @@
+package com.serhat.secondhand.favorite.application;
+
+import com.serhat.secondhand.favorite.application.event.FavoriteChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Redis-side favorite statistics, stored per listing and per user so that an entry cached for one
+ * page is reused by every other page, search or page size.
+ * <ul>
+ *   <li>{@code stats:fav:count:{listingId}}: favorite count, read with MGET; misses are loaded with
+ *       one grouped query and written back.</li>
+ *   <li>{@code stats:fav:user:{userId}}: set of the user's favorited listing ids, loaded in full on
+ *       first use and probed with pipelined SISMEMBER.</li>
+ * </ul>
+ * Committed favorite changes adjust both keys in place (INCRBY / SADD / SREM, only if the key is
+ * already cached) instead of evicting anything. Entries expire after {@link #TTL}, which also bounds
+ * the drift from a change that commits while the same entry is being backfilled.
+ * Every read returns {@code null} when Redis is unavailable, and callers fall back to the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FavoriteStatsCache {
+
+    private static final String COUNT_PREFIX = "stats:fav:count:";
+    private static final String USER_PREFIX = "stats:fav:user:";
+    /** Keeps the per-user set present (and therefore distinguishable from "not cached") when empty. */
+    private static final String USER_SET_SENTINEL = "-";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private static final RedisScript<Long> INCR_IF_PRESENT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              return redis.call('INCRBY', KEYS[1], ARGV[1])
+            end
+            return -1
+            """, Long.class);
+
+    /** ARGV[1] = SADD | SREM, ARGV[2] = member. */
+    private static final RedisScript<Long> SET_OP_IF_PRESENT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              return redis.call(ARGV[1], KEYS[1], ARGV[2])
+            end
+            return -1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Favorite counts for {@code listingIds}; listings missing from Redis are resolved through
+     * {@code loader} in a single call and cached.
+     */
+    public Map<UUID, Long> getCounts(List<UUID> listingIds, Function<List<UUID>, Map<UUID, Long>> loader) {
+        List<String> cached;
+        try {
+            cached = redisTemplate.opsForValue().multiGet(listingIds.stream().map(FavoriteStatsCache::countKey).toList());
+        } catch (RuntimeException e) {
+            log.warn("Favorite count cache read failed | message={}", e.getMessage());
+            return null;
+        }
+        Map<UUID, Long> counts = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        for (int i = 0; i < listingIds.size(); i++) {
+            String value = cached != null ? cached.get(i) : null;
+            if (value != null) {
+                counts.put(listingIds.get(i), Long.parseLong(value));
+            } else {
+                misses.add(listingIds.get(i));
+            }
+        }
+        if (!misses.isEmpty()) {
+            Map<UUID, Long> loaded = loader.apply(misses);
+            Map<UUID, Long> backfill = new HashMap<>();
+            for (UUID listingId : misses) {
+                long count = loaded.getOrDefault(listingId, 0L);
+                counts.put(listingId, count);
+                backfill.put(listingId, count);
+            }
+            writeCounts(backfill);
+        }
+        return counts;
+    }
+
+    /**
+     * The subset of {@code listingIds} favorited by {@code userId}. If the user's set is not cached,
+     * it is rebuilt from {@code allFavorites}.
+     */
+    public Set<UUID> favoritedAmong(Long userId, List<UUID> listingIds, Supplier<Collection<UUID>> allFavorites) {
+        String key = USER_PREFIX + userId;
+        List<Object> replies;
+        try {
+            replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.exists(key);
+                for (UUID listingId : listingIds) {
+                    stringConnection.sIsMember(key, listingId.toString());
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Favorite user set read failed | userId={} message={}", userId, e.getMessage());
+            return null;
+        }
+        if (Boolean.TRUE.equals(replies.get(0))) {
+            Set<UUID> favorited = new HashSet<>();
+            for (int i = 0; i < listingIds.size(); i++) {
+                if (Boolean.TRUE.equals(replies.get(i + 1))) {
+                    favorited.add(listingIds.get(i));
+                }
+            }
+            return favorited;
+        }
+
+        Collection<UUID> all = allFavorites.get();
+        writeUserSet(key, all);
+        Set<UUID> favorited = new HashSet<>(listingIds);
+        favorited.retainAll(new HashSet<>(all));
+        return favorited;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        try {
+            redisTemplate.execute(INCR_IF_PRESENT, List.of(countKey(event.listingId())),
+                    event.added() ? "1" : "-1");
+            if (event.userId() != null) {
+                redisTemplate.execute(SET_OP_IF_PRESENT, List.of(USER_PREFIX + event.userId()),
+                        event.added() ? "SADD" : "SREM", event.listingId().toString());
+            }
+        } catch (RuntimeException e) {
+            // Sayaç güncellenemezse bayat kalmaması için silinir; bir sonraki okuma veritabanından doldurur.
+            log.warn("Favorite stats update failed, evicting | listingId={} message={}", event.listingId(), e.getMessage());
+            evictQuietly(event);
+        }
+    }
+
+    private void writeCounts(Map<UUID, Long> counts) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                counts.forEach((listingId, count) -> stringConnection.set(countKey(listingId), String.valueOf(count),
+                        Expiration.from(TTL), RedisStringCommands.SetOption.SET_IF_ABSENT));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Favorite count backfill failed | listings={} message={}", counts.size(), e.getMessage());
+        }
+    }
+
+    private void writeUserSet(String key, Collection<UUID> listingIds) {
+        String[] members = new String[listingIds.size() + 1];
+        members[0] = USER_SET_SENTINEL;
+        int i = 1;
+        for (UUID listingId : listingIds) {
+            members[i++] = listingId.toString();
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.sAdd(key, members);
+                stringConnection.expire(key, TTL.toSeconds());
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Favorite user set backfill failed | key={} message={}", key, e.getMessage());
+        }
+    }
+
+    private void evictQuietly(FavoriteChangedEvent event) {
+        try {
+            redisTemplate.delete(List.of(countKey(event.listingId()), USER_PREFIX + event.userId()));
+        } catch (RuntimeException ignored) {
+        }
+    }
+
+    private static String countKey(UUID listingId) {
+        return COUNT_PREFIX + listingId;
+    }
+}
@@ -4,7 +4,6 @@ import com.serhat.secondhand.favorite.domain.dto.FavoriteStatsDto;
 import com.serhat.secondhand.favorite.domain.repository.FavoriteRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,26 +17,13 @@ import java.util.stream.Collectors;
 public class FavoriteStatsService {
     
     private final FavoriteRepository favoriteRepository;
+    private final FavoriteStatsCache favoriteStatsCache;
     
     public FavoriteStatsDto getFavoriteStats(UUID listingId, Long userId) {
-        long favoriteCount = favoriteRepository.countByListingId(listingId);
-        boolean isFavorited = userId != null && favoriteRepository.existsByUserIdAndListingId(userId, listingId);
-
-        return FavoriteStatsDto.builder()
-            .listingId(listingId)
-            .favoriteCount(favoriteCount)
-            .isFavorited(isFavorited)
-            .build();
+        return getFavoriteStatsForListings(List.of(listingId), userId).get(listingId);
     }
 
-    @Cacheable(
-            value = "favoriteStatsBatch",
-            key = "T(java.util.Objects).hash(#listingIds) + '_' + #userId",
-            unless = "#result == null || #result.isEmpty()"
-    )
     public Map<UUID, FavoriteStatsDto> getFavoriteStatsForListings(List<UUID> listingIds, Long userId) {
-        log.info("FavoriteStatsService#getFavoriteStatsForListings CACHE MISS for {} listings, userId={}", listingIds.size(), userId);
-
         if (listingIds == null || listingIds.isEmpty()) {
             return Map.of();
         }
@@ -50,26 +36,41 @@ public class FavoriteStatsService {
             return Map.of();
         }
 
-        List<Object[]> countResults = favoriteRepository.countByListingIds(uniqueListingIds);
-        Map<UUID, Long> favoriteCounts = countResults.stream()
-            .collect(Collectors.toMap(
-                result -> (UUID) result[0],
-                result -> (Long) result[1],
-                Long::sum
-            ));
+        Map<UUID, Long> favoriteCounts = favoriteStatsCache.getCounts(uniqueListingIds, this::loadFavoriteCounts);
+        if (favoriteCounts == null) {
+            favoriteCounts = loadFavoriteCounts(uniqueListingIds);
+        }
 
-        Set<UUID> userFavoriteSet = userId != null
-                ? new HashSet<>(favoriteRepository.findListingIdsByUserIdAndListingIdIn(userId, uniqueListingIds))
-                : Set.of();
+        Set<UUID> userFavoriteSet = userId != null ? loadUserFavorites(userId, uniqueListingIds) : Set.of();
 
+        Map<UUID, Long> counts = favoriteCounts;
         return uniqueListingIds.stream()
                 .collect(Collectors.toMap(
                         listingId -> listingId,
                         listingId -> FavoriteStatsDto.builder()
                                 .listingId(listingId)
-                                .favoriteCount(favoriteCounts.getOrDefault(listingId, 0L))
+                                .favoriteCount(counts.getOrDefault(listingId, 0L))
                                 .isFavorited(userFavoriteSet.contains(listingId))
                                 .build()
                 ));
     }
+
+    private Set<UUID> loadUserFavorites(Long userId, List<UUID> listingIds) {
+        Set<UUID> favorited = favoriteStatsCache.favoritedAmong(userId, listingIds,
+                () -> favoriteRepository.findListingIdsByUserId(userId));
+        if (favorited != null) {
+            return favorited;
+        }
+        return new HashSet<>(favoriteRepository.findListingIdsByUserIdAndListingIdIn(userId, listingIds));
+    }
+
+    private Map<UUID, Long> loadFavoriteCounts(List<UUID> listingIds) {
+        log.debug("Loading favorite counts from database for {} listings", listingIds.size());
+        return favoriteRepository.countByListingIds(listingIds).stream()
+                .collect(Collectors.toMap(
+                        result -> (UUID) result[0],
+                        result -> (Long) result[1],
+                        Long::sum
+                ));
+    }
 }
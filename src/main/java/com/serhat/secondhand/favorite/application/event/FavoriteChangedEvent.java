@@ -0,0 +1,7 @@
+package com.serhat.secondhand.favorite.application.event;
+
+import java.util.UUID;
+
+/** Favori eklendi ({@code added=true}) veya kaldırıldı; istatistik sayaçları commit sonrası güncellenir. */
+public record FavoriteChangedEvent(Long userId, UUID listingId, boolean added) {
+}
@@ -70,5 +70,8 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     @Query("SELECT DISTINCT f.user FROM Favorite f WHERE f.listing.id = :listingId")
     List<User> findUsersByListingId(@Param("listingId") UUID listingId);
 
+    @Query("SELECT DISTINCT f.user.id FROM Favorite f WHERE f.listing.id = :listingId")
+    List<Long> findUserIdsByListingId(@Param("listingId") UUID listingId);
+
     Long countByUserId(Long buyerId);
 }
\ No newline at end of file
@@ -1,27 +1,39 @@
 package com.serhat.secondhand.follow.application;
 
+import com.serhat.secondhand.follow.application.fanout.FollowerFanOutPlanner;
+import com.serhat.secondhand.follow.config.FollowerFanOutConfig;
 import com.serhat.secondhand.listing.domain.entity.Listing;
 import com.serhat.secondhand.listing.domain.entity.events.NewListingCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * Plans the follower fan-out once the listing is committed; delivery itself runs on
+ * {@link com.serhat.secondhand.follow.application.fanout.FollowerFanOutWorker}.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class NewListingNotificationListener {
 
-    private final SellerFollowService sellerFollowService;
+    private final FollowerFanOutPlanner fanOutPlanner;
+    private final FollowerFanOutConfig fanOutConfig;
 
-    @EventListener
-    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleNewListingCreated(NewListingCreatedEvent event) {
+        if (!fanOutConfig.isEnabled()) {
+            return;
+        }
         Listing listing = event.getListing();
-        log.info("Handling NewListingCreatedEvent for listing: {} by seller: {}", 
+        log.info("Handling NewListingCreatedEvent for listing: {} by seller: {}",
             listing.getId(), listing.getSeller().getId());
-        
-        sellerFollowService.notifyFollowersOfNewListing(listing);
+        try {
+            fanOutPlanner.plan(listing);
+        } catch (RuntimeException e) {
+            log.error("Failed to plan follower fan-out for listing {}: {}", listing.getId(), e.getMessage(), e);
+        }
     }
 }
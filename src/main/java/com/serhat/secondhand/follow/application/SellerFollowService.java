@@ -1,31 +1,22 @@
 package com.serhat.secondhand.follow.application;
 
 import com.serhat.secondhand.core.result.Result;
-import com.serhat.secondhand.email.application.event.EmailEventPublisher;
-import com.serhat.secondhand.email.application.event.impl.NewListingEmailEvent;
-import com.serhat.secondhand.email.application.event.model.NewListingEmailData;
-import com.serhat.secondhand.email.config.EmailConfig;
 import com.serhat.secondhand.follow.dto.FollowStatsDto;
-import com.serhat.secondhand.notification.application.NotificationEventPublisher;
-import com.serhat.secondhand.notification.template.NotificationTemplateCatalog;
 import com.serhat.secondhand.follow.dto.SellerFollowDto;
 import com.serhat.secondhand.follow.entity.SellerFollow;
 import com.serhat.secondhand.follow.mapper.SellerFollowMapper;
 import com.serhat.secondhand.follow.repository.SellerFollowRepository;
 import com.serhat.secondhand.follow.util.FollowErrorCodes;
-import com.serhat.secondhand.listing.domain.entity.Listing;
 import com.serhat.secondhand.user.domain.entity.User;
 import com.serhat.secondhand.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -36,10 +27,6 @@ public class SellerFollowService {
     private final SellerFollowRepository sellerFollowRepository;
     private final UserRepository userRepository;
     private final SellerFollowMapper sellerFollowMapper;
-    private final EmailEventPublisher emailEventPublisher;
-    private final EmailConfig emailConfig;
-    private final NotificationEventPublisher notificationEventPublisher;
-    private final NotificationTemplateCatalog notificationTemplateCatalog;
 
     public Result<SellerFollowDto> follow(User currentUser, Long userIdToFollow) {
         if (currentUser.getId().equals(userIdToFollow)) {
@@ -182,59 +169,4 @@ public class SellerFollowService {
         }
         return sellerFollowRepository.isFollowing(currentUser.getId(), userId);
     }
-
-    @Async("notificationExecutor")
-    public void notifyFollowersOfNewListing(Listing listing) {
-        User seller = listing.getSeller();
-        List<SellerFollow> followers = sellerFollowRepository.findByFollowedAndNotifyOnNewListingTrue(seller);
-
-        if (followers.isEmpty()) {
-            log.debug("No followers to notify for new listing by user {}", seller.getId());
-            return;
-        }
-
-        log.info("Notifying {} followers about new listing {} by user {}", 
-            followers.size(), listing.getId(), seller.getId());
-
-        String subject = String.format(
-                emailConfig.getFollow().getNewListingSubjectFormat(),
-                seller.getName(),
-                seller.getSurname()
-        );
-        
-        for (SellerFollow follow : followers) {
-            try {
-                var data = NewListingEmailData.builder()
-                        .userName(follow.getFollower().getName())
-                        .headerTitle("Yeni Bir İlan Eklendi!")
-                        .introText("Takip ettiğiniz satıcı " + seller.getName() + " " + seller.getSurname() + " yeni bir ilan ekledi:")
-                        .listingTitle(listing.getTitle())
-                        .listingPrice(listing.getPrice() + " " + listing.getCurrency())
-                        .listingCity(listing.getCity())
-                        .listingUrl("/listings/" + listing.getId())
-                        .manageNotificationText("Bu bildirimleri kapatmak için satıcı profilinden bildirim ayarlarınızı güncelleyebilirsiniz.")
-                        .listingImage(listing.getImageUrl())
-                        .build();
-
-                emailEventPublisher.publish(new NewListingEmailEvent(follow.getFollower(), subject, data));
-                log.debug("Sent new listing notification to user {}", follow.getFollower().getId());
-                
-                var request = notificationTemplateCatalog.listingNewFromFollowed(
-                        follow.getFollower().getId(),
-                        listing.getId(),
-                        seller.getId(),
-                        listing.getTitle()
-                );
-                notificationEventPublisher.publishDispatch(
-                        request,
-                        "follow",
-                        "follow-new-listing:" + follow.getFollower().getId() + ":" + listing.getId() + ":" + seller.getId()
-                );
-            } catch (Exception e) {
-                log.error("Failed to send new listing notification to user {}: {}", 
-                    follow.getFollower().getId(), e.getMessage());
-            }
-        }
-    }
-
 }
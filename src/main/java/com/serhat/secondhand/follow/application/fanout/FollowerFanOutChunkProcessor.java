@@ -0,0 +1,266 @@
+package com.serhat.secondhand.follow.application.fanout;
+
+import com.serhat.secondhand.email.application.BulkEmailTemplate;
+import com.serhat.secondhand.email.application.EmailContentBuilder;
+import com.serhat.secondhand.email.application.EmailQueueWriter;
+import com.serhat.secondhand.email.application.event.impl.NewListingEmailEvent;
+import com.serhat.secondhand.email.application.event.model.NewListingEmailData;
+import com.serhat.secondhand.email.domain.entity.enums.EmailPriority;
+import com.serhat.secondhand.email.domain.entity.enums.EmailType;
+import com.serhat.secondhand.follow.config.FollowerFanOutConfig;
+import com.serhat.secondhand.notification.application.NotificationFanOutWriter;
+import com.serhat.secondhand.notification.dto.NotificationRequest;
+import com.serhat.secondhand.notification.template.NotificationTemplateCatalog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Works through one claimed chunk in batches of {@code batch-size} followers. Each batch commits its
+ * notifications, its queued emails and the advanced {@code cursor_follower_id} in one transaction, so
+ * after a crash the chunk resumes at the first follower that was not delivered. The checkpoint update
+ * also extends the lease and is guarded by {@code locked_by}: a worker that lost its lease rolls the
+ * batch back instead of racing the new owner.
+ */
+@Component
+@Slf4j
+public class FollowerFanOutChunkProcessor {
+
+    private static final String NOTIFICATION_JOB = "follower-new-listing";
+    private static final String USER_NAME_SLOT = "userName";
+
+    private static final String LOAD_SQL = """
+            SELECT c.range_end, c.cursor_follower_id,
+                   j.id AS job_id, j.listing_id, j.seller_id, j.seller_name, j.email_subject,
+                   j.listing_title, j.listing_price, j.listing_city, j.listing_image_url
+              FROM follower_fanout_chunks c
+              JOIN follower_fanout_jobs j ON j.id = c.job_id
+             WHERE c.id = ? AND c.locked_by = ? AND c.status = 'PROCESSING'
+            """;
+
+    private static final String FOLLOWERS_SQL = """
+            SELECT sf.follower_id, u.email, u.name
+              FROM seller_follows sf
+              JOIN users u ON u.id = sf.follower_id
+             WHERE sf.followed_id = ? AND sf.notify_on_new_listing AND sf.deleted_at IS NULL
+               AND sf.follower_id > ? AND sf.follower_id <= ?
+             ORDER BY sf.follower_id
+             LIMIT ?
+            """;
+
+    private static final String CHECKPOINT_SQL = """
+            UPDATE follower_fanout_chunks
+               SET cursor_follower_id = ?, delivered = delivered + ?, status = ?, locked_until = ?, updated_at = ?,
+                   locked_by = CASE WHEN ? = 'DONE' THEN NULL ELSE locked_by END
+             WHERE id = ? AND locked_by = ? AND status = 'PROCESSING'
+            """;
+
+    private static final String COMPLETE_JOB_SQL = """
+            UPDATE follower_fanout_jobs j
+               SET status = 'COMPLETED', completed_at = ?
+             WHERE j.id = ? AND j.status = 'RUNNING'
+               AND NOT EXISTS (SELECT 1 FROM follower_fanout_chunks c WHERE c.job_id = j.id AND c.status <> 'DONE')
+            """;
+
+    private static final String FAIL_SQL = """
+            UPDATE follower_fanout_chunks
+               SET attempts = attempts + 1,
+                   status = CASE WHEN attempts + 1 >= ? THEN 'FAILED' ELSE 'PENDING' END,
+                   next_attempt_at = ?, locked_by = NULL, locked_until = NULL, last_error = ?, updated_at = ?
+             WHERE id = ? AND locked_by = ?
+            RETURNING status, job_id
+            """;
+
+    private static final String FAIL_JOB_SQL = "UPDATE follower_fanout_jobs SET status = 'FAILED' WHERE id = ? AND status = 'RUNNING'";
+
+    private record ChunkContext(long rangeEnd, long cursor, long jobId, UUID listingId, long sellerId, String sellerName,
+                                String subject, String listingTitle, String listingPrice, String listingCity,
+                                String listingImageUrl) {
+    }
+
+    private record Follower(long id, String email, String name) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationFanOutWriter notificationWriter;
+    private final NotificationTemplateCatalog notificationTemplateCatalog;
+    private final EmailQueueWriter emailQueueWriter;
+    private final EmailContentBuilder emailContentBuilder;
+    private final FollowerFanOutConfig config;
+    private final Counter delivered;
+    private final Timer batchTimer;
+
+    public FollowerFanOutChunkProcessor(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        NotificationFanOutWriter notificationWriter,
+                                        NotificationTemplateCatalog notificationTemplateCatalog,
+                                        EmailQueueWriter emailQueueWriter,
+                                        EmailContentBuilder emailContentBuilder,
+                                        FollowerFanOutConfig config,
+                                        MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.notificationWriter = notificationWriter;
+        this.notificationTemplateCatalog = notificationTemplateCatalog;
+        this.emailQueueWriter = emailQueueWriter;
+        this.emailContentBuilder = emailContentBuilder;
+        this.config = config;
+        this.delivered = Counter.builder("follow.fanout.delivered").register(meterRegistry);
+        this.batchTimer = Timer.builder("follow.fanout.batch.duration").register(meterRegistry);
+    }
+
+    /** Returns {@code true} when the chunk is finished, {@code false} if the lease was lost. */
+    public boolean process(long chunkId, String owner) {
+        List<ChunkContext> loaded = jdbcTemplate.query(LOAD_SQL, (rs, rowNum) -> new ChunkContext(
+                rs.getLong("range_end"),
+                rs.getLong("cursor_follower_id"),
+                rs.getLong("job_id"),
+                rs.getObject("listing_id", UUID.class),
+                rs.getLong("seller_id"),
+                rs.getString("seller_name"),
+                rs.getString("email_subject"),
+                rs.getString("listing_title"),
+                rs.getString("listing_price"),
+                rs.getString("listing_city"),
+                rs.getString("listing_image_url")), chunkId, owner);
+        if (loaded.isEmpty()) {
+            return false;
+        }
+        ChunkContext chunk = loaded.get(0);
+        // Şablon parça başına bir kez işlenir; takipçi başına yalnızca isim yerleştirilir.
+        BulkEmailTemplate emailTemplate = config.isSendEmails()
+                ? emailContentBuilder.prepareBulk(NewListingEmailEvent.TEMPLATE_PATH, emailData(chunk),
+                        EmailType.NEW_LISTING_NOTIFICATION, USER_NAME_SLOT)
+                : null;
+        long cursor = chunk.cursor();
+        int batchSize = Math.max(1, config.getBatchSize());
+        while (true) {
+            long startedAt = System.nanoTime();
+            long from = cursor;
+            Long next;
+            try {
+                next = batchTimer.record(() -> transactionTemplate.execute(status -> processBatch(chunkId, owner, chunk, emailTemplate, from, batchSize)));
+            } catch (LeaseLostException e) {
+                return false;
+            }
+            if (next < 0) {
+                jdbcTemplate.update(COMPLETE_JOB_SQL, Timestamp.valueOf(LocalDateTime.now()), chunk.jobId());
+                return true;
+            }
+            cursor = next;
+            pace(batchSize, startedAt);
+        }
+    }
+
+    /** Records a failed attempt; after {@code max-attempts} the chunk and its job are marked FAILED. */
+    public void fail(long chunkId, String owner, Exception error) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp retryAt = Timestamp.valueOf(now.plusNanos(TimeUnit.MILLISECONDS.toNanos(config.getRetryDelayMs())));
+        String message = error.getMessage() == null ? error.getClass().getSimpleName() : error.getMessage();
+        if (message.length() > 1000) {
+            message = message.substring(0, 1000);
+        }
+        jdbcTemplate.query(FAIL_SQL, rs -> {
+            if (rs.next() && "FAILED".equals(rs.getString("status"))) {
+                long jobId = rs.getLong("job_id");
+                jdbcTemplate.update(FAIL_JOB_SQL, jobId);
+                log.error("Follower fan-out chunk {} of job {} failed permanently", chunkId, jobId);
+            }
+            return null;
+        }, config.getMaxAttempts(), retryAt, message, Timestamp.valueOf(now), chunkId, owner);
+    }
+
+    /**
+     * One checkpointed batch. Returns the new cursor or {@code -1} when the chunk is done; a lost lease
+     * throws so the batch rolls back.
+     */
+    private Long processBatch(long chunkId, String owner, ChunkContext chunk, BulkEmailTemplate emailTemplate,
+                              long cursor, int batchSize) {
+        List<Follower> followers = jdbcTemplate.query(FOLLOWERS_SQL,
+                (rs, rowNum) -> new Follower(rs.getLong("follower_id"), rs.getString("email"), rs.getString("name")),
+                chunk.sellerId(), cursor, chunk.rangeEnd(), batchSize);
+
+        if (!followers.isEmpty()) {
+            List<NotificationRequest> notifications = followers.stream()
+                    .map(f -> notificationTemplateCatalog.listingNewFromFollowed(f.id(), chunk.listingId(), chunk.sellerId(), chunk.listingTitle()))
+                    .toList();
+            notificationWriter.insertBatch(NOTIFICATION_JOB, notifications);
+            if (emailTemplate != null) {
+                emailQueueWriter.enqueue(followers.stream()
+                        .map(f -> new EmailQueueWriter.QueuedEmail(f.id(), f.email(), chunk.subject(),
+                                emailTemplate.render(Map.of(USER_NAME_SLOT, f.name() == null ? "" : f.name())),
+                                EmailType.NEW_LISTING_NOTIFICATION, EmailPriority.NORMAL))
+                        .toList());
+            }
+        }
+
+        boolean done = followers.size() < batchSize;
+        long newCursor = followers.isEmpty() ? cursor : followers.get(followers.size() - 1).id();
+        String status = done ? "DONE" : "PROCESSING";
+        LocalDateTime now = LocalDateTime.now();
+        int updated = jdbcTemplate.update(CHECKPOINT_SQL,
+                newCursor,
+                followers.size(),
+                status,
+                Timestamp.valueOf(now.plusNanos(TimeUnit.MILLISECONDS.toNanos(config.getLeaseMs()))),
+                Timestamp.valueOf(now),
+                status,
+                chunkId,
+                owner);
+        if (updated == 0) {
+            log.warn("Lost lease on follower fan-out chunk {}; rolling back batch after follower {}", chunkId, cursor);
+            throw new LeaseLostException(chunkId);
+        }
+        delivered.increment(followers.size());
+        return done ? -1L : newCursor;
+    }
+
+    private NewListingEmailData emailData(ChunkContext chunk) {
+        return NewListingEmailData.builder()
+                .headerTitle("Yeni Bir İlan Eklendi!")
+                .introText("Takip ettiğiniz satıcı " + chunk.sellerName() + " yeni bir ilan ekledi:")
+                .listingTitle(chunk.listingTitle())
+                .listingPrice(chunk.listingPrice())
+                .listingCity(chunk.listingCity())
+                .listingUrl("/listings/" + chunk.listingId())
+                .manageNotificationText("Bu bildirimleri kapatmak için satıcı profilinden bildirim ayarlarınızı güncelleyebilirsiniz.")
+                .listingImage(chunk.listingImageUrl())
+                .build();
+    }
+
+    /** Keeps a worker under {@code max-followers-per-second}; the worker threads are dedicated to fan-out. */
+    private void pace(int batchSize, long startedAt) {
+        int limit = config.getMaxFollowersPerSecond();
+        if (limit <= 0) {
+            return;
+        }
+        long minimumNanos = TimeUnit.SECONDS.toNanos(batchSize) / limit;
+        long remaining = minimumNanos - (System.nanoTime() - startedAt);
+        if (remaining > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    static final class LeaseLostException extends RuntimeException {
+        LeaseLostException(long chunkId) {
+            super("Lease lost for follower fan-out chunk " + chunkId);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.serhat.secondhand.follow.application.fanout;
+
+import com.serhat.secondhand.email.config.EmailConfig;
+import com.serhat.secondhand.follow.config.FollowerFanOutConfig;
+import com.serhat.secondhand.listing.domain.entity.Listing;
+import com.serhat.secondhand.user.domain.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Turns a new listing into a durable follower fan-out job. The seller's notifiable followers are
+ * split by follower id into ranges of {@code chunk-size} (one window query computes the boundaries);
+ * the job and its chunks are committed together, and {@link FollowerFanOutWorker} picks the chunks up.
+ * A listing gets at most one job.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FollowerFanOutPlanner {
+
+    private static final String BOUNDARIES_SQL = """
+            SELECT t.follower_id FROM (
+                SELECT sf.follower_id,
+                       row_number() OVER (ORDER BY sf.follower_id) AS rn,
+                       count(*) OVER () AS total
+                  FROM seller_follows sf
+                 WHERE sf.followed_id = ? AND sf.notify_on_new_listing AND sf.deleted_at IS NULL
+            ) t
+            WHERE t.rn % ? = 0 OR t.rn = t.total
+            ORDER BY t.follower_id
+            """;
+
+    private static final String INSERT_JOB_SQL = """
+            INSERT INTO follower_fanout_jobs (listing_id, seller_id, seller_name, email_subject, listing_title,
+                                              listing_price, listing_city, listing_image_url, status, total_chunks, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'RUNNING', ?, ?)
+            ON CONFLICT (listing_id) DO NOTHING
+            RETURNING id
+            """;
+
+    private static final String INSERT_CHUNK_SQL = """
+            INSERT INTO follower_fanout_chunks (job_id, range_start, range_end, cursor_follower_id, status,
+                                                next_attempt_at, updated_at)
+            VALUES (?, ?, ?, ?, 'PENDING', ?, ?)
+            """;
+
+    private record Range(long start, long end) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FollowerFanOutConfig config;
+    private final EmailConfig emailConfig;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<Long> plan(Listing listing) {
+        User seller = listing.getSeller();
+        List<Long> boundaries = jdbcTemplate.queryForList(BOUNDARIES_SQL, Long.class, seller.getId(), Math.max(1, config.getChunkSize()));
+        if (boundaries.isEmpty()) {
+            log.debug("No followers to notify for new listing by user {}", seller.getId());
+            return Optional.empty();
+        }
+
+        // Aralıklar (start, end]: ilk parça 0'dan başlar, her parça bir öncekinin bittiği yerden devam eder.
+        List<Range> ranges = new ArrayList<>(boundaries.size());
+        long start = 0;
+        for (Long end : boundaries) {
+            ranges.add(new Range(start, end));
+            start = end;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String subject = String.format(emailConfig.getFollow().getNewListingSubjectFormat(), seller.getName(), seller.getSurname());
+        List<Long> jobIds = jdbcTemplate.query(INSERT_JOB_SQL, (rs, rowNum) -> rs.getLong(1),
+                listing.getId(),
+                seller.getId(),
+                seller.getName() + " " + seller.getSurname(),
+                subject,
+                listing.getTitle(),
+                listing.getPrice() + " " + listing.getCurrency(),
+                listing.getCity(),
+                listing.getImageUrl(),
+                ranges.size(),
+                now);
+        if (jobIds.isEmpty()) {
+            log.info("Follower fan-out job already exists for listing {}", listing.getId());
+            return Optional.empty();
+        }
+
+        long jobId = jobIds.get(0);
+        jdbcTemplate.batchUpdate(INSERT_CHUNK_SQL, ranges, ranges.size(), (ps, range) -> {
+            ps.setLong(1, jobId);
+            ps.setLong(2, range.start());
+            ps.setLong(3, range.end());
+            ps.setLong(4, range.start());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+        log.info("Planned follower fan-out job {} for listing {} by user {}: {} chunks",
+                jobId, listing.getId(), seller.getId(), ranges.size());
+        return Optional.of(jobId);
+    }
+}
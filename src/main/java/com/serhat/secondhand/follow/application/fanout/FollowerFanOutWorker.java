@@ -0,0 +1,137 @@
+package com.serhat.secondhand.follow.application.fanout;
+
+import com.serhat.secondhand.follow.config.FollowerFanOutConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs follower fan-out chunks on a dedicated pool of {@code worker-threads}. Each poll claims at most
+ * as many chunks as there are idle workers, so claimed chunks never wait in a queue while their lease
+ * runs down. Chunks are claimed with {@code FOR UPDATE SKIP LOCKED}; a chunk whose owner died is
+ * picked up again once its lease expires and resumes from its cursor.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FollowerFanOutWorker {
+
+    private static final String CLAIM_SQL = """
+            UPDATE follower_fanout_chunks c
+               SET status = 'PROCESSING', locked_by = ?, locked_until = ?, updated_at = ?
+             WHERE c.id IN (
+                   SELECT p.id FROM follower_fanout_chunks p
+                    WHERE (p.status = 'PENDING' AND p.next_attempt_at <= ?)
+                       OR (p.status = 'PROCESSING' AND (p.locked_until IS NULL OR p.locked_until < ?))
+                    ORDER BY p.next_attempt_at, p.id
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED)
+            RETURNING c.id
+            """;
+
+    private static final String BACKLOG_SQL = "SELECT COUNT(*) FROM follower_fanout_chunks WHERE status IN ('PENDING', 'PROCESSING')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FollowerFanOutChunkProcessor processor;
+    private final FollowerFanOutConfig config;
+    private final MeterRegistry meterRegistry;
+
+    private final String owner = UUID.randomUUID().toString();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong backlog = new AtomicLong();
+    private ExecutorService workers;
+
+    @PostConstruct
+    void start() {
+        Gauge.builder("follow.fanout.backlog", backlog, AtomicLong::get)
+                .description("Follower fan-out chunks waiting or running")
+                .register(meterRegistry);
+        if (!config.isEnabled()) {
+            return;
+        }
+        AtomicInteger workerIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(Math.max(1, config.getWorkerThreads()), r -> {
+            Thread thread = new Thread(r, "follow-fanout-worker-" + workerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        if (workers != null) {
+            workers.shutdown();
+            try {
+                workers.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.follow.fan-out.poll-ms:2000}")
+    public void poll() {
+        if (workers == null || workers.isShutdown()) {
+            return;
+        }
+        try {
+            backlog.set(jdbcTemplate.queryForObject(BACKLOG_SQL, Long.class));
+            int free = Math.max(1, config.getWorkerThreads()) - inFlight.get();
+            if (free <= 0) {
+                return;
+            }
+            for (Long chunkId : claim(free)) {
+                inFlight.incrementAndGet();
+                workers.execute(() -> run(chunkId));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Follower fan-out poll failed | type={} message={}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    private List<Long> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+        Timestamp leaseUntil = Timestamp.valueOf(now.plusNanos(TimeUnit.MILLISECONDS.toNanos(config.getLeaseMs())));
+        return jdbcTemplate.queryForList(CLAIM_SQL, Long.class, owner, leaseUntil, nowTs, nowTs, nowTs, limit);
+    }
+
+    private void run(long chunkId) {
+        String result;
+        try {
+            result = processor.process(chunkId, owner) ? "done" : "lost";
+        } catch (Exception e) {
+            log.error("Follower fan-out chunk {} failed", chunkId, e);
+            result = "failed";
+            try {
+                processor.fail(chunkId, owner, e);
+            } catch (RuntimeException ex) {
+                // Parça PROCESSING kalır; lease dolunca tekrar sahiplenilir.
+                log.warn("Could not record fan-out failure for chunk {} | message={}", chunkId, ex.getMessage());
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        Counter.builder("follow.fanout.chunks")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
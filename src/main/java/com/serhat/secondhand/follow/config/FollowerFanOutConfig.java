@@ -0,0 +1,31 @@
+package com.serhat.secondhand.follow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Yeni ilan takipçi bildirimleri: kalıcı iş + takipçi id aralığı parçaları. Parçalar
+ * {@code FOR UPDATE SKIP LOCKED} ile sahiplenildiği için birden fazla node birlikte çalışabilir.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.follow.fan-out")
+@Getter
+@Setter
+public class FollowerFanOutConfig {
+    private boolean enabled = true;
+    /** Bir parçadaki takipçi sayısı (planlama anında). */
+    private int chunkSize = 5_000;
+    /** Tek transaction'da yazılan bildirim + e-posta sayısı; checkpoint aralığı. */
+    private int batchSize = 500;
+    private int workerThreads = 2;
+    private long pollMs = 2_000;
+    /** Sahiplenilen parçanın kilit süresi; her batch commit'inde uzatılır. */
+    private long leaseMs = 120_000;
+    private int maxAttempts = 5;
+    private long retryDelayMs = 60_000;
+    /** Worker başına saniyedeki takipçi üst sınırı; 0 = sınırsız. */
+    private int maxFollowersPerSecond = 0;
+    private boolean sendEmails = true;
+}
@@ -0,0 +1,43 @@
+package com.serhat.secondhand.inventory.api;
+
+import com.serhat.secondhand.core.result.Result;
+import com.serhat.secondhand.core.result.ResultResponses;
+import com.serhat.secondhand.inventory.application.HotStockCounter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/admin/inventory/hot-listings")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Admin — Hot Stock", description = "Flash-sale listings gated by the Redis stock counter (ADMIN only)")
+public class AdminHotStockController {
+
+    private final HotStockCounter hotStockCounter;
+
+    @GetMapping
+    @Operation(summary = "List hot listings")
+    public ResponseEntity<?> list() {
+        return ResultResponses.ok(Result.success(hotStockCounter.hotListings()));
+    }
+
+    @PutMapping("/{listingId}")
+    @Operation(summary = "Gate a listing's reservations behind the hot stock counter")
+    public ResponseEntity<?> markHot(@PathVariable UUID listingId) {
+        hotStockCounter.markHot(listingId);
+        return ResultResponses.ok(Result.success());
+    }
+
+    @DeleteMapping("/{listingId}")
+    @Operation(summary = "Return a listing to database-only reservations")
+    public ResponseEntity<?> unmarkHot(@PathVariable UUID listingId) {
+        hotStockCounter.unmarkHot(listingId);
+        return ResultResponses.ok(Result.success());
+    }
+}
@@ -0,0 +1,210 @@
+package com.serhat.secondhand.inventory.application;
+
+import com.serhat.secondhand.core.scheduling.ClusterLeased;
+import com.serhat.secondhand.core.scheduling.SchedulerLease;
+import com.serhat.secondhand.core.scheduling.SchedulerLeaseService;
+import com.serhat.secondhand.inventory.config.InventoryConfig;
+import com.serhat.secondhand.inventory.domain.entity.Inventory;
+import com.serhat.secondhand.inventory.domain.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Redis admission counters for flash-sale listings.
+ * <p>
+ * Listings named in the {@code inventory:hot:listings} set get a counter {@code inventory:hot:stock:{id}}
+ * seeded from Postgres. A reservation first decrements the counter atomically; when it cannot,
+ * the buyer is turned away without touching the inventory row, so a sold-out hot listing no longer
+ * queues every checkout behind its row lock. Postgres stays authoritative: an admitted reservation
+ * still goes through the conditional UPDATE, and counters are periodically reset from the table
+ * to absorb drift from rolled-back checkouts or stock edits.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HotStockCounter {
+
+    static final String HOT_SET_KEY = "inventory:hot:listings";
+    private static final String COUNTER_PREFIX = "inventory:hot:stock:";
+
+    public enum Admission {
+        /** Not a hot listing, or Redis unavailable: the database decides alone. */
+        NOT_GATED,
+        ADMITTED,
+        REJECTED
+    }
+
+    /**
+     * KEYS[1] = counter, ARGV[1] = quantity. Returns the remaining stock, -1 if insufficient,
+     * -2 if the counter is not seeded yet.
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if not current then return -2 end
+            local quantity = tonumber(ARGV[1])
+            if tonumber(current) < quantity then return -1 end
+            return redis.call('DECRBY', KEYS[1], quantity)
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final InventoryRepository inventoryRepository;
+    private final InventoryConfig inventoryConfig;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    private volatile Set<UUID> hotListings = Set.of();
+
+    public boolean isHot(UUID listingId) {
+        return inventoryConfig.getHotStock().isEnabled() && hotListings.contains(listingId);
+    }
+
+    public Admission tryAcquire(UUID listingId, int quantity) {
+        if (!isHot(listingId)) {
+            return Admission.NOT_GATED;
+        }
+        try {
+            Long result = acquire(listingId, quantity);
+            if (result != null && result == -2L) {
+                if (!seed(listingId)) {
+                    return Admission.NOT_GATED;
+                }
+                result = acquire(listingId, quantity);
+            }
+            if (result == null || result == -2L) {
+                return Admission.NOT_GATED;
+            }
+            return result >= 0 ? Admission.ADMITTED : Admission.REJECTED;
+        } catch (RuntimeException e) {
+            log.warn("Hot stock counter unavailable, falling back to database | listingId={} message={}", listingId, e.getMessage());
+            return Admission.NOT_GATED;
+        }
+    }
+
+    /** Gives back stock taken by {@link #tryAcquire}; a missing counter is left to be re-seeded. */
+    public void release(UUID listingId, int quantity) {
+        if (!isHot(listingId)) {
+            return;
+        }
+        try {
+            String key = counterKey(listingId);
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                redisTemplate.opsForValue().increment(key, quantity);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Hot stock counter release failed | listingId={} message={}", listingId, e.getMessage());
+        }
+    }
+
+    /** Drops the counter after a stock edit so that the next reservation re-seeds it from Postgres. */
+    public void invalidate(UUID listingId) {
+        if (!isHot(listingId)) {
+            return;
+        }
+        try {
+            redisTemplate.delete(counterKey(listingId));
+        } catch (RuntimeException e) {
+            log.warn("Hot stock counter invalidation failed | listingId={} message={}", listingId, e.getMessage());
+        }
+    }
+
+    /**
+     * Puts a listing behind the counter. This node gates it at once; the others pick it up on their
+     * next {@link #refreshHotListings()}. The counter itself is seeded lazily by the first reservation.
+     */
+    public void markHot(UUID listingId) {
+        redisTemplate.opsForSet().add(HOT_SET_KEY, listingId.toString());
+        refreshHotListings();
+    }
+
+    public void unmarkHot(UUID listingId) {
+        redisTemplate.opsForSet().remove(HOT_SET_KEY, listingId.toString());
+        redisTemplate.delete(counterKey(listingId));
+        refreshHotListings();
+    }
+
+    /** Hot listings as last loaded on this node. */
+    public Set<UUID> hotListings() {
+        return hotListings;
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.hot-stock.refresh-ms:5000}")
+    public void refreshHotListings() {
+        if (!inventoryConfig.getHotStock().isEnabled()) {
+            return;
+        }
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(HOT_SET_KEY);
+            hotListings = members == null ? Set.of() : members.stream()
+                    .map(HotStockCounter::parseId)
+                    .filter(id -> id != null)
+                    .collect(Collectors.toUnmodifiableSet());
+        } catch (RuntimeException e) {
+            // Son bilinen liste korunur; Redis dönünce bir sonraki yenilemede güncellenir.
+            log.warn("Hot listing refresh failed | message={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.hot-stock.reconcile-ms:30000}")
+    @ClusterLeased(name = "inventory-hot-stock-reconcile")
+    public void reconcile() {
+        Set<UUID> listings = hotListings;
+        if (!inventoryConfig.getHotStock().isEnabled() || listings.isEmpty()) {
+            return;
+        }
+        List<Inventory> inventories = inventoryRepository.findByListingIdIn(listings);
+        // Redis yazımları DB transaction'ına katılamaz; yazmadan hemen önce token kontrol edilir.
+        if (!schedulerLeaseService.isCurrent(SchedulerLease.current())) {
+            log.warn("Hot stock reconcile skipped, scheduler lease no longer current");
+            return;
+        }
+        Duration ttl = Duration.ofSeconds(inventoryConfig.getHotStock().getCounterTtlSeconds());
+        for (Inventory inventory : inventories) {
+            String key = counterKey(inventory.getListingId());
+            if (inventory.getAvailableQuantity() == null) {
+                redisTemplate.delete(key);
+                continue;
+            }
+            redisTemplate.opsForValue().set(key, String.valueOf(inventory.getAvailableQuantity()), ttl);
+        }
+        log.debug("Reconciled {} hot stock counters", inventories.size());
+    }
+
+    private Long acquire(UUID listingId, int quantity) {
+        return redisTemplate.execute(ACQUIRE_SCRIPT, List.of(counterKey(listingId)), String.valueOf(quantity));
+    }
+
+    /** Seeds the counter from Postgres; unlimited or missing stock is not gated. */
+    private boolean seed(UUID listingId) {
+        Integer available = inventoryRepository.findByListingId(listingId)
+                .map(Inventory::getAvailableQuantity)
+                .orElse(null);
+        if (available == null) {
+            return false;
+        }
+        Duration ttl = Duration.ofSeconds(inventoryConfig.getHotStock().getCounterTtlSeconds());
+        redisTemplate.opsForValue().setIfAbsent(counterKey(listingId), String.valueOf(available), ttl);
+        return true;
+    }
+
+    private static String counterKey(UUID listingId) {
+        return COUNTER_PREFIX + listingId;
+    }
+
+    private static UUID parseId(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package com.serhat.secondhand.inventory.application;
 
+import com.serhat.secondhand.core.exception.BusinessException;
 import com.serhat.secondhand.inventory.domain.entity.Inventory;
 import com.serhat.secondhand.inventory.domain.repository.InventoryRepository;
+import com.serhat.secondhand.inventory.util.InventoryErrorCodes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Slf4j
@@ -15,6 +20,8 @@ import java.util.UUID;
 public class InventoryService {
 
     private final InventoryRepository inventoryRepository;
+    private final HotStockCounter hotStockCounter;
+    private final MeterRegistry meterRegistry;
 
     @Transactional
     public void createInventory(UUID listingId, Integer initialQuantity) {
@@ -39,20 +46,54 @@ public class InventoryService {
                 .orElse(1); // Default to 1 if no inventory record exists yet
     }
 
+    /**
+     * Reserves stock with a single conditional UPDATE instead of load-modify-save: concurrent
+     * buyers can never drive the quantity below zero, and for hot listings the Redis counter
+     * turns most sold-out attempts away before they reach the row.
+     */
     @Transactional
     public void reserveQuantity(UUID listingId, int quantity) {
-        Inventory inventory = getOrCreateInventory(listingId, 1);
-        inventory.reserveQuantity(quantity);
-        inventoryRepository.save(inventory);
-        log.info("Reserved {} items for listing {}. Remaining: {}", quantity, listingId, inventory.getAvailableQuantity());
+        if (quantity < 1) {
+            throw new BusinessException(InventoryErrorCodes.INVALID_QUANTITY);
+        }
+        HotStockCounter.Admission admission = hotStockCounter.tryAcquire(listingId, quantity);
+        String path = admission == HotStockCounter.Admission.NOT_GATED ? "db" : "hot";
+        if (admission == HotStockCounter.Admission.REJECTED) {
+            recordReservation(path, "insufficient");
+            throw new BusinessException(InventoryErrorCodes.INSUFFICIENT_STOCK);
+        }
+        boolean reserved;
+        try {
+            reserved = tryReserve(listingId, quantity);
+        } catch (RuntimeException e) {
+            if (admission == HotStockCounter.Admission.ADMITTED) {
+                hotStockCounter.release(listingId, quantity);
+            }
+            throw e;
+        }
+        if (!reserved) {
+            if (admission == HotStockCounter.Admission.ADMITTED) {
+                hotStockCounter.release(listingId, quantity);
+            }
+            recordReservation(path, "insufficient");
+            throw new BusinessException(InventoryErrorCodes.INSUFFICIENT_STOCK);
+        }
+        recordReservation(path, "reserved");
+        log.info("Reserved {} items for listing {}", quantity, listingId);
     }
 
     @Transactional
     public void restoreQuantity(UUID listingId, int quantity) {
-        Inventory inventory = getOrCreateInventory(listingId, 1);
-        inventory.restoreQuantity(quantity);
-        inventoryRepository.save(inventory);
-        log.info("Restored {} items for listing {}. New total: {}", quantity, listingId, inventory.getAvailableQuantity());
+        if (quantity < 1) {
+            throw new BusinessException(InventoryErrorCodes.INVALID_QUANTITY);
+        }
+        if (inventoryRepository.restore(listingId, quantity, LocalDateTime.now()) == 0) {
+            Inventory inventory = getOrCreateInventory(listingId, 1);
+            inventory.restoreQuantity(quantity);
+            inventoryRepository.save(inventory);
+        }
+        hotStockCounter.release(listingId, quantity);
+        log.info("Restored {} items for listing {}", quantity, listingId);
     }
 
     @Transactional
@@ -60,6 +101,7 @@ public class InventoryService {
         Inventory inventory = getOrCreateInventory(listingId, 1);
         inventory.incrementQuantity(delta);
         inventoryRepository.save(inventory);
+        hotStockCounter.invalidate(listingId);
     }
 
     @Transactional
@@ -67,6 +109,27 @@ public class InventoryService {
         Inventory inventory = getOrCreateInventory(listingId, newQuantity != null ? newQuantity : 1);
         inventory.updateQuantity(newQuantity);
         inventoryRepository.save(inventory);
+        hotStockCounter.invalidate(listingId);
+    }
+
+    private boolean tryReserve(UUID listingId, int quantity) {
+        if (inventoryRepository.tryReserve(listingId, quantity, LocalDateTime.now()) == 1) {
+            return true;
+        }
+        if (inventoryRepository.findByListingId(listingId).isPresent()) {
+            return false;
+        }
+        // Kaydı olmayan ilanlar eskiden olduğu gibi varsayılan stokla oluşturulur.
+        getOrCreateInventory(listingId, 1);
+        return inventoryRepository.tryReserve(listingId, quantity, LocalDateTime.now()) == 1;
+    }
+
+    private void recordReservation(String path, String outcome) {
+        Counter.builder("inventory.reservations")
+                .tag("path", path)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
     }
 
     private Inventory getOrCreateInventory(UUID listingId, Integer defaultQuantity) {
@@ -0,0 +1,30 @@
+package com.serhat.secondhand.inventory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.inventory")
+@Getter
+@Setter
+public class InventoryConfig {
+    private HotStock hotStock = new HotStock();
+
+    /**
+     * Flash-sale ilanları için Redis stok sayaçları. Sayaç yalnızca bir ön kapıdır: yetersiz stok
+     * Postgres satırına hiç dokunulmadan reddedilir, kabul edilen rezervasyon yine veritabanındaki
+     * koşullu UPDATE ile kesinleşir. Sıcak ilanlar {@code inventory:hot:listings} set'inde tutulur.
+     */
+    @Getter
+    @Setter
+    public static class HotStock {
+        private boolean enabled = false;
+        /** Sıcak ilan listesinin her node'da yerel olarak yenilenme aralığı. */
+        private long refreshMs = 5_000;
+        /** Sayaçların Postgres'teki stokla yeniden eşitlenme aralığı. */
+        private long reconcileMs = 30_000;
+        private long counterTtlSeconds = 24 * 60 * 60;
+    }
+}
@@ -2,12 +2,41 @@ package com.serhat.secondhand.inventory.domain.repository;
 
 import com.serhat.secondhand.inventory.domain.entity.Inventory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface InventoryRepository extends JpaRepository<Inventory, UUID> {
     Optional<Inventory> findByListingId(UUID listingId);
+
+    List<Inventory> findByListingIdIn(Collection<UUID> listingIds);
+
+    /**
+     * Decrements stock only if enough is available; a {@code null} quantity means unlimited stock
+     * and is left as is. Returns 0 when the record is missing or the stock is insufficient.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.availableQuantity = i.availableQuantity - :quantity, " +
+            "i.version = i.version + 1, i.updatedAt = :now " +
+            "WHERE i.listingId = :listingId " +
+            "AND (i.availableQuantity IS NULL OR i.availableQuantity >= :quantity)")
+    int tryReserve(@Param("listingId") UUID listingId,
+                   @Param("quantity") int quantity,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.availableQuantity = i.availableQuantity + :quantity, " +
+            "i.version = i.version + 1, i.updatedAt = :now " +
+            "WHERE i.listingId = :listingId")
+    int restore(@Param("listingId") UUID listingId,
+                @Param("quantity") int quantity,
+                @Param("now") LocalDateTime now);
 }
@@ -13,7 +13,6 @@ import com.serhat.secondhand.user.domain.entity.User;
 import com.serhat.secondhand.inventory.application.InventoryService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.cache.annotation.CacheEvict;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -41,7 +40,6 @@ public abstract class AbstractListingService<T extends Listing, C> {
     }
 
     @Transactional
-    @CacheEvict(value = "userListings", allEntries = true)
     public Result<UUID> createListing(C request, Long sellerId) {
         log.info("Creating {} listing for sellerId: {}", getListingType(), sellerId);
 
@@ -137,7 +135,6 @@ public abstract class AbstractListingService<T extends Listing, C> {
     }
     
     @Transactional
-    @CacheEvict(value = "userListings", allEntries = true)
     protected <U, R> Result<Void> performUpdate(
             UUID id,
             U request,
@@ -201,7 +198,6 @@ public abstract class AbstractListingService<T extends Listing, C> {
      * @param validator     runs spec validators and returns a Result
      */
     @Transactional
-    @CacheEvict(value = "userListings", allEntries = true)
     protected <U> Result<Void> standardUpdate(
             UUID id,
             U request,
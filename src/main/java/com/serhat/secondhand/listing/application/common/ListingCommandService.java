@@ -8,6 +8,7 @@ import com.serhat.secondhand.listing.domain.entity.Listing;
 import com.serhat.secondhand.listing.domain.entity.enums.base.ListingStatus;
 import com.serhat.secondhand.listing.domain.entity.events.NewListingCreatedEvent;
 import com.serhat.secondhand.listing.domain.entity.events.PriceDroppedEvent;
+import com.serhat.secondhand.listing.domain.entity.events.SellerListingsChangedEvent;
 import com.serhat.secondhand.listing.domain.repository.listing.ListingRepository;
 import com.serhat.secondhand.listing.util.ListingBusinessConstants;
 import com.serhat.secondhand.listing.util.ListingBusinessConstants;
@@ -144,6 +145,7 @@ public class ListingCommandService {
         Listing listing = listingValidationService.findAndValidateOwner(listingId, userId);
         try {
             inventoryService.updateQuantity(listing.getId(), quantity);
+            eventPublisher.publishEvent(new SellerListingsChangedEvent(this, userId));
             log.info("Listing {} quantity updated to {}", listingId, quantity);
             return Result.success();
         } catch (BusinessException e) {
@@ -168,6 +170,7 @@ public class ListingCommandService {
         for (UUID lId : listingIds) {
             inventoryService.updateQuantity(lId, quantity);
         }
+        eventPublisher.publishEvent(new SellerListingsChangedEvent(this, userId));
         int updated = listingIds.size();
         log.info("Batch quantity updated to {} for {} listings", quantity, updated);
         return Result.success();
@@ -210,6 +213,8 @@ public class ListingCommandService {
         if (updated != listingIds.size()) {
             return Result.error(ListingErrorCodes.INVALID_LISTING_STATUS);
         }
+        // Toplu JPQL güncellemesi entity callback'lerini tetiklemez.
+        eventPublisher.publishEvent(new SellerListingsChangedEvent(this, userId));
         for (Listing l : ownedBefore) {
             if (priceChanged(l.getPrice(), price)) {
                 priceHistoryService.recordPriceChange(
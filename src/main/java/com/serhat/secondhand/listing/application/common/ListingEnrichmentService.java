@@ -1,39 +1,239 @@
 package com.serhat.secondhand.listing.application.common;
 
+import com.serhat.secondhand.core.config.ListingConfig;
 import com.serhat.secondhand.listing.domain.dto.response.listing.ListingDto;
 import com.serhat.secondhand.listing.util.ListingCampaignPricingUtil;
 import com.serhat.secondhand.listing.util.ListingFavoriteStatsUtil;
 import com.serhat.secondhand.listing.util.ListingGreatSellerUtil;
 import com.serhat.secondhand.listing.util.ListingReviewStatsUtil;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+/**
+ * Adds favorite stats, review stats, campaign pricing and the Great Seller flag to listing DTOs.
+ * <p>
+ * The listing and seller ID sets are collected once; the four lookups are independent, so they run
+ * concurrently on a small dedicated pool while the caller waits up to {@code app.listing.enrichment.deadline-ms}.
+ * Results are merged into the DTOs on the caller thread. A stage that fails or misses the deadline
+ * leaves its fields at their "no data" defaults instead of failing the page. The pool's queue is kept
+ * short and a full queue degrades the stage rather than running it on the caller; a stage still
+ * queued when its request gives up is cancelled, and one dequeued past its deadline is skipped.
+ */
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class ListingEnrichmentService {
+
     private final ListingFavoriteStatsUtil favoriteStatsUtil;
     private final ListingReviewStatsUtil reviewStatsUtil;
     private final ListingCampaignPricingUtil campaignPricingUtil;
     private final ListingGreatSellerUtil greatSellerUtil;
+    private final ListingConfig.Enrichment config;
+    private final MeterRegistry meterRegistry;
+    private final Timer enrichTimer;
+    private ThreadPoolExecutor workers;
+
+    public ListingEnrichmentService(ListingFavoriteStatsUtil favoriteStatsUtil,
+                                    ListingReviewStatsUtil reviewStatsUtil,
+                                    ListingCampaignPricingUtil campaignPricingUtil,
+                                    ListingGreatSellerUtil greatSellerUtil,
+                                    ListingConfig listingConfig,
+                                    MeterRegistry meterRegistry) {
+        this.favoriteStatsUtil = favoriteStatsUtil;
+        this.reviewStatsUtil = reviewStatsUtil;
+        this.campaignPricingUtil = campaignPricingUtil;
+        this.greatSellerUtil = greatSellerUtil;
+        this.config = listingConfig.getEnrichment();
+        this.meterRegistry = meterRegistry;
+        this.enrichTimer = Timer.builder("listing.enrichment.duration").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!config.isParallel()) {
+            return;
+        }
+        int threads = Math.max(1, config.getWorkerThreads());
+        AtomicInteger sequence = new AtomicInteger();
+        workers = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getQueueCapacity())),
+                r -> {
+                    Thread thread = new Thread(r, "listing-enrich-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        workers.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
 
     public List<ListingDto> enrich(List<ListingDto> dtos, Long userId) {
         if (dtos == null || dtos.isEmpty()) return dtos;
-        favoriteStatsUtil.enrichWithFavoriteStats(dtos, userId);
-        reviewStatsUtil.enrichWithReviewStats(dtos);
-        campaignPricingUtil.enrichWithCampaignPricing(dtos);
-        greatSellerUtil.enrichWithGreatSeller(dtos);
+        List<ListingDto> targets = dtos.stream().filter(Objects::nonNull).toList();
+        if (targets.isEmpty()) return dtos;
+
+        List<UUID> listingIds = targets.stream()
+                .map(ListingDto::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Set<Long> sellerIds = targets.stream()
+                .map(ListingDto::getSellerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        enrichTimer.record(() -> run(List.of(
+                new Stage<>("favorites", () -> favoriteStatsUtil.load(listingIds, userId),
+                        stats -> favoriteStatsUtil.apply(targets, stats)),
+                new Stage<>("reviews", () -> reviewStatsUtil.load(listingIds),
+                        stats -> reviewStatsUtil.apply(targets, stats)),
+                new Stage<>("campaigns", () -> campaignPricingUtil.load(sellerIds),
+                        campaigns -> campaignPricingUtil.apply(targets, campaigns)),
+                new Stage<>("great-seller", () -> greatSellerUtil.load(sellerIds),
+                        flags -> greatSellerUtil.apply(targets, flags)))));
         return dtos;
     }
 
     public ListingDto enrichInPlace(ListingDto dto, Long userId) {
         if (dto == null) return null;
-        favoriteStatsUtil.enrichWithFavoriteStats(dto, userId);
-        reviewStatsUtil.enrichWithReviewStats(dto);
-        campaignPricingUtil.enrichWithCampaignPricing(dto);
-        greatSellerUtil.enrichWithGreatSeller(dto);
+        enrich(List.of(dto), userId);
         return dto;
     }
 
+    private void run(List<Stage<?, ?>> stages) {
+        ThreadPoolExecutor pool = workers;
+        if (pool == null) {
+            stages.forEach(Stage::runInline);
+            return;
+        }
+        long deadlineMs = config.getDeadlineMs();
+        long deadline = deadlineMs > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs) : Long.MAX_VALUE;
+        stages.forEach(stage -> stage.submit(pool, deadline));
+        for (Stage<?, ?> stage : stages) {
+            stage.awaitAndApply(deadline);
+        }
+    }
+
+    /**
+     * One independent lookup: loaded off-thread, applied on the caller thread. When the lookup is
+     * unavailable the applier receives an empty map, which every enricher treats as "no data".
+     */
+    private final class Stage<K, V> {
+        private final String name;
+        private final Supplier<Map<K, V>> loader;
+        private final Consumer<Map<K, V>> applier;
+        private CompletableFuture<Map<K, V>> future;
+
+        Stage(String name, Supplier<Map<K, V>> loader, Consumer<Map<K, V>> applier) {
+            this.name = name;
+            this.loader = loader;
+            this.applier = applier;
+        }
+
+        void runInline() {
+            Map<K, V> result;
+            try {
+                result = load();
+            } catch (RuntimeException e) {
+                degrade("failure", e);
+                result = Map.of();
+            }
+            applier.accept(result);
+        }
+
+        void submit(ThreadPoolExecutor pool, long deadlineNanos) {
+            try {
+                future = CompletableFuture.supplyAsync(() -> loadBefore(deadlineNanos), pool);
+            } catch (RejectedExecutionException e) {
+                degrade("rejected", null);
+                future = CompletableFuture.completedFuture(Map.of());
+            }
+        }
+
+        void awaitAndApply(long deadlineNanos) {
+            Map<K, V> result = Map.of();
+            try {
+                long remaining = deadlineNanos == Long.MAX_VALUE ? Long.MAX_VALUE : deadlineNanos - System.nanoTime();
+                result = remaining == Long.MAX_VALUE
+                        ? future.get()
+                        : future.get(Math.max(0L, remaining), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // Henüz başlamamışsa kuyruktan çıktığında çalışmaz; başlamışsa sonucu yok sayılır.
+                future.cancel(false);
+                degrade("timeout", null);
+            } catch (ExecutionException e) {
+                degrade("failure", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                degrade("interrupted", null);
+            }
+            applier.accept(result);
+        }
+
+        /** Skips the lookup when the stage waited in the queue past its request's deadline. */
+        private Map<K, V> loadBefore(long deadlineNanos) {
+            if (deadlineNanos != Long.MAX_VALUE && System.nanoTime() - deadlineNanos >= 0) {
+                return Map.of();
+            }
+            return load();
+        }
+
+        private Map<K, V> load() {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "success";
+            try {
+                Map<K, V> result = loader.get();
+                return result != null ? result : Map.of();
+            } catch (RuntimeException e) {
+                outcome = "failure";
+                throw e;
+            } finally {
+                sample.stop(Timer.builder("listing.enrichment.stage.duration")
+                        .tag("stage", name)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
+        }
+
+        private void degrade(String reason, Throwable cause) {
+            Counter.builder("listing.enrichment.degraded")
+                    .tag("stage", name)
+                    .tag("reason", reason)
+                    .register(meterRegistry)
+                    .increment();
+            if (cause != null) {
+                log.warn("Listing enrichment stage degraded | stage={} reason={} message={}", name, reason, cause.getMessage());
+            } else {
+                log.debug("Listing enrichment stage degraded | stage={} reason={}", name, reason);
+            }
+        }
+    }
 }
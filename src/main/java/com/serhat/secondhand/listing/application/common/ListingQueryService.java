@@ -39,6 +39,7 @@ public class ListingQueryService {
     private final ListingViewService listingViewService;
     private final IReviewService reviewService;
     private final Executor taskExecutor;
+    private final UserListingsCacheGenerations userListingsGenerations;
     private final ListingQueryService self;
 
     public ListingQueryService(ListingRepository listingRepository,
@@ -47,6 +48,7 @@ public class ListingQueryService {
                                ListingViewService listingViewService,
                                IReviewService reviewService,
                                @Qualifier("taskExecutor") Executor taskExecutor,
+                               UserListingsCacheGenerations userListingsGenerations,
                                @Lazy ListingQueryService self) {
         this.listingRepository = listingRepository;
         this.listingMapper = listingMapper;
@@ -54,6 +56,7 @@ public class ListingQueryService {
         this.listingViewService = listingViewService;
         this.reviewService = reviewService;
         this.taskExecutor = taskExecutor;
+        this.userListingsGenerations = userListingsGenerations;
         this.self = self;
     }
 
@@ -86,19 +89,19 @@ public class ListingQueryService {
         UUID id = listing.getId();
         ListingDto dto = listingMapper.toDynamicDto(listing);
 
-        CompletableFuture<Void> enrichTask = CompletableFuture.runAsync(() ->
-                enrichmentService.enrichInPlace(dto, userId), taskExecutor);
-
+        CompletableFuture<ListingViewStatsDto> statsTask = null;
         if (currentUserId != null && listing.isOwnedBy(currentUserId)) {
-            CompletableFuture<ListingViewStatsDto> statsTask = CompletableFuture.supplyAsync(() ->
+            statsTask = CompletableFuture.supplyAsync(() ->
                     listingViewService.getViewStatistics(id,
                             LocalDateTime.now().minusDays(ListingBusinessConstants.DEFAULT_VIEW_STATS_WINDOW_DAYS),
                             LocalDateTime.now()), taskExecutor);
+        }
+
+        // Zenginleştirme kendi aşamalarını paralel çalıştırır; bu thread yalnızca sonuçları birleştirir.
+        enrichmentService.enrichInPlace(dto, userId);
 
-            CompletableFuture.allOf(enrichTask, statsTask).join();
+        if (statsTask != null) {
             dto.setViewStats(statsTask.join());
-        } else {
-            enrichTask.join();
         }
 
         if (dto.getType() != null
@@ -129,7 +132,12 @@ public class ListingQueryService {
     }
 
     public Page<ListingDto> getMyListings(Long userId, int page, int size) {
-        return self.getCachedUserListings(userId, page, size).toPage();
+        Long generation = userListingsGenerations.current(userId);
+        userListingsGenerations.recordRequest(generation);
+        if (generation == null) {
+            return loadUserListings(userId, page, size).toPage();
+        }
+        return self.getCachedUserListings(userId, generation, page, size).toPage();
     }
 
     public Page<ListingDto> getMyListings(Long userId, int page, int size, ListingStatus status, ListingType listingType, String title) {
@@ -146,9 +154,18 @@ public class ListingQueryService {
         return getMyListings(userId, page, size, null, null, title);
     }
 
-    @Cacheable(value = "userListings", key = "'listings:' + #userId + ':' + #page + ':' + #size")
-    public CachedPage<ListingDto> getCachedUserListings(Long userId, int page, int size) {
-        log.info("[CACHE MISS] userListings::{} page={}", userId, page);
+    /**
+     * {@code generation} comes from {@link UserListingsCacheGenerations}; a write by the seller bumps it,
+     * so pages cached under the previous generation are no longer addressed and expire by TTL.
+     */
+    @Cacheable(value = "userListings", key = "'listings:' + #userId + ':g' + #generation + ':' + #page + ':' + #size")
+    public CachedPage<ListingDto> getCachedUserListings(Long userId, long generation, int page, int size) {
+        log.info("[CACHE MISS] userListings::{} generation={} page={}", userId, generation, page);
+        userListingsGenerations.recordMiss(generation);
+        return loadUserListings(userId, page, size);
+    }
+
+    private CachedPage<ListingDto> loadUserListings(Long userId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size,
                 Sort.by(Sort.Direction.DESC, ListingBusinessConstants.LISTING_SORT_PROPERTY_CREATED_AT));
         Page<Listing> listingsPage = listingRepository.findBySellerId(userId, pageable);
@@ -0,0 +1,242 @@
+package com.serhat.secondhand.listing.application.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.serhat.secondhand.core.config.ListingConfig;
+import com.serhat.secondhand.listing.domain.entity.events.ListingViewsRecordedEvent;
+import com.serhat.secondhand.listing.util.ListingBusinessConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Write-behind ingestion of listing views.
+ * <p>
+ * The request thread only deduplicates and enqueues: a view is dropped if the same user (or, for
+ * anonymous visitors, session) already viewed the listing in the current clock hour, tracked in a
+ * bounded in-memory set instead of an {@code exists} query. Accepted views wait in a lock-free
+ * bounded queue, and a single flusher thread writes them every {@code flush-interval-ms} with JDBC
+ * batch inserts, after resolving listing owners for the whole batch in one query (views by the
+ * owner and views of unknown listings are discarded there). When the queue is full, new views are
+ * rejected and counted rather than blocking the request. Each written batch is announced with a
+ * {@link ListingViewsRecordedEvent}.
+ */
+@Component
+@Slf4j
+public class ListingViewIngestionPipeline {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO listing_views (id, listing_id, user_id, session_id, ip_hash, user_agent, viewed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String OWNER_SQL = "SELECT id, seller_id FROM listings WHERE id IN (:ids)";
+
+    record PendingView(UUID listingId, Long userId, String sessionId, String ipHash, String userAgent,
+                       LocalDateTime viewedAt) {
+    }
+
+    private final ListingConfig.Views config;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ConcurrentLinkedQueue<PendingView> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Cache<String, Boolean> recentViews;
+    private ScheduledExecutorService flusher;
+
+    private final Counter accepted;
+    private final Counter duplicates;
+    private final Counter rejected;
+    private final Counter discarded;
+    private final Counter written;
+    private final Counter writeFailures;
+    private final Timer flushTimer;
+
+    public ListingViewIngestionPipeline(ListingConfig listingConfig,
+                                        JdbcTemplate jdbcTemplate,
+                                        NamedParameterJdbcTemplate namedJdbcTemplate,
+                                        MeterRegistry meterRegistry,
+                                        ApplicationEventPublisher eventPublisher) {
+        this.config = listingConfig.getViews();
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+        this.recentViews = Caffeine.newBuilder()
+                .maximumSize(config.getDedupMaxEntries())
+                .expireAfterWrite(Duration.ofHours(ListingBusinessConstants.VIEW_DUPLICATE_WINDOW_HOURS + 1L))
+                .build();
+        this.accepted = viewCounter("accepted");
+        this.duplicates = viewCounter("duplicate");
+        this.rejected = viewCounter("rejected");
+        this.discarded = viewCounter("discarded");
+        this.written = Counter.builder("listing.views.written").register(meterRegistry);
+        this.writeFailures = Counter.builder("listing.views.write.failures").register(meterRegistry);
+        this.flushTimer = Timer.builder("listing.views.flush.duration").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        Gauge.builder("listing.views.queue.size", pendingCount, AtomicInteger::get)
+                .description("Listing views waiting to be written")
+                .register(meterRegistry);
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "listing-view-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushSafely, config.getFlushIntervalMs(), config.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flushSafely();
+        }
+    }
+
+    /**
+     * Records a view without touching the database. Returns {@code false} if the view was a
+     * duplicate or could not be queued.
+     */
+    public boolean submit(UUID listingId, Long userId, String sessionId, String ipHash, String userAgent) {
+        LocalDateTime now = LocalDateTime.now();
+        String viewerKey = userId != null ? "u:" + userId : sessionId != null ? "s:" + sessionId : null;
+        String dedupKey = null;
+        if (viewerKey != null) {
+            long hourBucket = now.toEpochSecond(ZoneOffset.UTC) / 3600 / ListingBusinessConstants.VIEW_DUPLICATE_WINDOW_HOURS;
+            dedupKey = listingId + "|" + viewerKey + "|" + hourBucket;
+            if (recentViews.asMap().putIfAbsent(dedupKey, Boolean.TRUE) != null) {
+                duplicates.increment();
+                return false;
+            }
+        }
+        if (pendingCount.incrementAndGet() > config.getQueueCapacity()) {
+            pendingCount.decrementAndGet();
+            if (dedupKey != null) {
+                recentViews.invalidate(dedupKey);
+            }
+            rejected.increment();
+            return false;
+        }
+        pending.add(new PendingView(listingId, userId, sessionId, ipHash, userAgent, now));
+        accepted.increment();
+        return true;
+    }
+
+    private void flushSafely() {
+        try {
+            while (!pending.isEmpty()) {
+                flushTimer.record(this::flushBatch);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Listing view flush failed | type={} message={}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    private void flushBatch() {
+        List<PendingView> batch = new ArrayList<>(config.getBatchSize());
+        PendingView next;
+        while (batch.size() < config.getBatchSize() && (next = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, Long> owners = findOwners(batch);
+        List<PendingView> rows = new ArrayList<>(batch.size());
+        for (PendingView view : batch) {
+            Long sellerId = owners.get(view.listingId());
+            boolean knownListing = owners.containsKey(view.listingId());
+            if (!knownListing || (view.userId() != null && view.userId().equals(sellerId))) {
+                continue;
+            }
+            rows.add(view);
+        }
+        discarded.increment(batch.size() - rows.size());
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, view) -> {
+                ps.setObject(1, UUID.randomUUID());
+                ps.setObject(2, view.listingId());
+                if (view.userId() != null) {
+                    ps.setLong(3, view.userId());
+                } else {
+                    ps.setNull(3, Types.BIGINT);
+                }
+                ps.setString(4, view.sessionId());
+                ps.setString(5, view.ipHash());
+                ps.setString(6, view.userAgent());
+                ps.setTimestamp(7, Timestamp.valueOf(view.viewedAt()));
+            });
+            written.increment(rows.size());
+        } catch (RuntimeException e) {
+            writeFailures.increment(rows.size());
+            log.error("Failed to write {} listing views: {}", rows.size(), e.getMessage());
+            return;
+        }
+        Map<UUID, Set<LocalDate>> daysByListing = new HashMap<>();
+        for (PendingView view : rows) {
+            daysByListing.computeIfAbsent(view.listingId(), k -> new HashSet<>()).add(view.viewedAt().toLocalDate());
+        }
+        eventPublisher.publishEvent(new ListingViewsRecordedEvent(this, daysByListing));
+    }
+
+    private Map<UUID, Long> findOwners(List<PendingView> batch) {
+        Set<UUID> listingIds = new HashSet<>();
+        batch.forEach(view -> listingIds.add(view.listingId()));
+        Map<UUID, Long> owners = new HashMap<>();
+        namedJdbcTemplate.query(OWNER_SQL, Map.of("ids", listingIds), (RowCallbackHandler) rs -> {
+            long sellerId = rs.getLong("seller_id");
+            owners.put(rs.getObject("id", UUID.class), rs.wasNull() ? null : sellerId);
+        });
+        return owners;
+    }
+
+    private Counter viewCounter(String outcome) {
+        return Counter.builder("listing.views.ingested")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
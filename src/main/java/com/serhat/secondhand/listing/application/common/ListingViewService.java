@@ -1,17 +1,12 @@
 package com.serhat.secondhand.listing.application.common;
 
 import com.serhat.secondhand.listing.domain.dto.response.listing.ListingViewStatsDto;
-import com.serhat.secondhand.listing.domain.entity.Listing;
-import com.serhat.secondhand.listing.domain.entity.ListingView;
 import com.serhat.secondhand.listing.domain.repository.listing.ListingRepository;
 import com.serhat.secondhand.listing.domain.repository.listing.ListingViewRepository;
 import com.serhat.secondhand.listing.util.ListingBusinessConstants;
-import com.serhat.secondhand.user.application.IUserService;
-import com.serhat.secondhand.user.domain.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,52 +24,17 @@ public class ListingViewService {
 
     private final ListingViewRepository listingViewRepository;
     private final ListingRepository listingRepository;
-    private final IUserService userService;
+    private final ListingViewIngestionPipeline ingestionPipeline;
 
-    @Async("viewTrackingExecutor")
+    /**
+     * Queues a view for {@link ListingViewIngestionPipeline}; no database access happens on the
+     * calling thread. Owner views and unknown listings are filtered when the batch is written.
+     */
     public void trackView(UUID listingId, Long userId, String sessionId, String ipAddress, String userAgent) {
-        try {
-            Listing listing = listingRepository.findById(listingId)
-                    .orElseThrow(() -> new IllegalArgumentException("Listing not found: " + listingId));
-
-            User user = null;
-            if (userId != null) {
-                user = userService.findById(userId).getData();
-            }
-
-            if (user != null && listing.getSeller().getId().equals(userId)) {
-                log.debug("Skipping view tracking for listing {} - user is the owner", listingId);
-                return;
-            }
-
-            String ipHash = hashIpAddress(ipAddress);
-            LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(ListingBusinessConstants.VIEW_DUPLICATE_WINDOW_HOURS);
-            boolean isDuplicate = false;
-
-            if (userId != null) {
-                isDuplicate = listingViewRepository.existsByListingIdAndUserIdAndViewedAtAfter(listingId, userId, oneHourAgo);
-            } else if (sessionId != null) {
-                isDuplicate = listingViewRepository.existsByListingIdAndSessionIdAndViewedAtAfter(listingId, sessionId, oneHourAgo);
-            }
-
-            if (isDuplicate) return;
-
-            ListingView view = ListingView.builder()
-                    .listing(listing)
-                    .user(user)
-                    .sessionId(sessionId)
-                    .ipHash(ipHash)
-                    .userAgent(truncateUserAgent(userAgent))
-                    .viewedAt(LocalDateTime.now())
-                    .build();
-
-            listingViewRepository.save(view);
-
-        } catch (org.springframework.dao.DataAccessException e) {
-            log.error("Database error tracking view for listing {}: {}", listingId, e.getMessage());
-        } catch (Exception e) {
-            log.error("Unexpected error tracking view for listing {}: {}", listingId, e.getMessage());
+        if (listingId == null) {
+            return;
         }
+        ingestionPipeline.submit(listingId, userId, sessionId, hashIpAddress(ipAddress), truncateUserAgent(userAgent));
     }
 
     @Transactional(readOnly = true)
@@ -5,7 +5,6 @@ import com.serhat.secondhand.listing.domain.entity.events.PriceDroppedEvent;
 import com.serhat.secondhand.notification.application.INotificationService;
 import com.serhat.secondhand.notification.dto.NotificationRequest;
 import com.serhat.secondhand.notification.entity.enums.NotificationType;
-import com.serhat.secondhand.user.domain.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -27,9 +26,9 @@ public class PriceDropNotificationListener {
     public void handlePriceDroppedEvent(PriceDroppedEvent event) {
         log.info("Handling PriceDroppedEvent for listing: {}", event.getListingId());
 
-        List<User> favoritedUsers = favoriteRepository.findUsersByListingId(event.getListingId());
+        List<Long> favoritedUserIds = favoriteRepository.findUserIdsByListingId(event.getListingId());
         
-        if (favoritedUsers.isEmpty()) {
+        if (favoritedUserIds.isEmpty()) {
             log.info("No users have favorited listing {}, skipping notifications", event.getListingId());
             return;
         }
@@ -42,20 +41,17 @@ public class PriceDropNotificationListener {
                 event.getNewPrice().toString(),
                 event.getCurrency());
 
-        List<NotificationRequest> requests = new java.util.ArrayList<>();
-        for (User user : favoritedUsers) {
-            NotificationRequest request = new NotificationRequest();
-            request.setUserId(user.getId());
-            request.setType(NotificationType.LISTING_PRICE_DROPPED);
-            request.setTitle(title);
-            request.setMessage(message);
-            request.setMetadata(String.format("{\"listingId\": \"%s\"}", event.getListingId()));
-            requests.add(request);
-        }
+        NotificationRequest template = NotificationRequest.of(
+                null,
+                NotificationType.LISTING_PRICE_DROPPED,
+                title,
+                message,
+                null,
+                String.format("{\"listingId\": \"%s\"}", event.getListingId()));
 
         try {
-            notificationService.createAndSendBulk(requests);
-            log.info("Successfully sent {} price drop notifications in bulk", requests.size());
+            int sent = notificationService.fanOut("price-drop", favoritedUserIds, template);
+            log.info("Successfully sent {} price drop notifications in bulk", sent);
         } catch (Exception e) {
             log.error("Failed to send bulk price drop notifications: {}", e.getMessage(), e);
         }
@@ -73,14 +73,11 @@ public class PriceHistoryService {
 
             if (newPrice.compareTo(oldPrice) < 0) {
                 List<User> users = favoriteRepository.findUsersByListingId(listingId);
-
-                for (User user : users) {
-                    userNotificationService.sendPriceChangeNotification(user,
-                            listingTitle,
-                            oldPrice.toPlainString(),
-                            newPrice.toPlainString(),
-                            listingId);
-                }
+                userNotificationService.sendPriceChangeNotifications(users,
+                        listingTitle,
+                        oldPrice.toPlainString(),
+                        newPrice.toPlainString(),
+                        listingId);
             }
             log.info("Price change recorded for listing: {}, from: {} to: {}", 
                     listingId, oldPrice, newPrice);
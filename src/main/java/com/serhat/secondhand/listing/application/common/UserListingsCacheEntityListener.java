@@ -0,0 +1,28 @@
+package com.serhat.secondhand.listing.application.common;
+
+import com.serhat.secondhand.listing.domain.entity.Listing;
+import com.serhat.secondhand.listing.domain.entity.events.SellerListingsChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA callback that marks the seller's cached "my listings" pages stale on every listing insert/update,
+ * including status transitions done outside the category services.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserListingsCacheEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onListingWritten(Listing listing) {
+        if (listing.getSeller() != null && listing.getSeller().getId() != null) {
+            eventPublisher.publishEvent(new SellerListingsChangedEvent(this, listing.getSeller().getId()));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.serhat.secondhand.listing.application.common;
+
+import com.serhat.secondhand.listing.domain.entity.events.SellerListingsChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Per-seller generation counter for the {@code userListings} cache.
+ * <p>
+ * The generation is part of the cache key, so invalidating one seller is a single Redis {@code INCR}
+ * after commit: new reads use a new key and the old pages age out through the cache TTL. Other
+ * sellers' pages are untouched. The counter key lives much longer than the cached pages, so when
+ * it expires after a quiet period no page of an older generation can still be cached.
+ * <p>
+ * The generation also serves as the seller's write-churn cohort for hit-ratio metrics.
+ */
+@Component
+@Slf4j
+public class UserListingsCacheGenerations {
+
+    private static final String KEY_PREFIX = "listing:user-listings:gen:";
+    private static final Duration KEY_TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Counter bumps;
+    private final Counter bumpFailures;
+
+    public UserListingsCacheGenerations(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.bumps = Counter.builder("listing.user_listings.generation.bumps").register(meterRegistry);
+        this.bumpFailures = Counter.builder("listing.user_listings.generation.bump.failures").register(meterRegistry);
+    }
+
+    /** Current generation, or {@code null} when Redis cannot be read and the cache must be bypassed. */
+    public Long current(Long sellerId) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + sellerId);
+            return value == null ? 0L : Long.parseLong(value);
+        } catch (RuntimeException e) {
+            log.warn("userListings generation read failed | sellerId={} message={}", sellerId, e.getMessage());
+            return null;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSellerListingsChanged(SellerListingsChangedEvent event) {
+        if (event.getSellerId() == null) {
+            return;
+        }
+        String key = KEY_PREFIX + event.getSellerId();
+        try {
+            redisTemplate.opsForValue().increment(key);
+            redisTemplate.expire(key, KEY_TTL);
+            bumps.increment();
+        } catch (RuntimeException e) {
+            // Sayfalar en geç cache TTL'i (10 dk) sonunda tazelenir.
+            bumpFailures.increment();
+            log.warn("userListings generation bump failed | sellerId={} message={}", event.getSellerId(), e.getMessage());
+        }
+    }
+
+    public void recordRequest(Long generation) {
+        Counter.builder("listing.user_listings.cache.requests")
+                .tag("cohort", cohort(generation))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordMiss(long generation) {
+        Counter.builder("listing.user_listings.cache.misses")
+                .tag("cohort", cohort(generation))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /** Write churn since the counter was (re)created: 0, 1-9, 10-99, 100+ writes. */
+    private static String cohort(Long generation) {
+        if (generation == null) {
+            return "bypass";
+        }
+        if (generation == 0) {
+            return "static";
+        }
+        if (generation < 10) {
+            return "low";
+        }
+        return generation < 100 ? "medium" : "high";
+    }
+}
@@ -5,6 +5,9 @@ import com.serhat.secondhand.listing.application.clothing.ClothingListingService
 import com.serhat.secondhand.listing.application.common.ListingEnrichmentService;
 import com.serhat.secondhand.listing.application.electronics.ElectronicListingService;
 import com.serhat.secondhand.listing.application.realestate.RealEstateListingService;
+import com.serhat.secondhand.listing.application.search.ListingSearchHits;
+import com.serhat.secondhand.listing.application.search.ListingSearchEngine;
+import com.serhat.secondhand.listing.application.search.ListingTextTokenizer;
 import com.serhat.secondhand.listing.application.sports.SportsListingService;
 import com.serhat.secondhand.listing.application.vehicle.VehicleListingService;
 import com.serhat.secondhand.listing.domain.dto.response.listing.*;
@@ -12,7 +15,8 @@ import com.serhat.secondhand.listing.domain.entity.Listing;
 import com.serhat.secondhand.listing.domain.entity.enums.base.ListingStatus;
 import com.serhat.secondhand.listing.domain.mapper.ListingMapper;
 import com.serhat.secondhand.listing.domain.repository.listing.ListingRepository;
-import com.serhat.secondhand.listing.util.ListingBusinessConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -35,6 +40,8 @@ public class ListingSearchService {
     private final ListingRepository listingRepository;
     private final ListingMapper listingMapper;
     private final ListingEnrichmentService enrichmentService;
+    private final ListingSearchEngine listingSearchEngine;
+    private final MeterRegistry meterRegistry;
 
     @Lazy
     private final BooksListingService booksListingService;
@@ -50,9 +57,14 @@ public class ListingSearchService {
     private final VehicleListingService vehicleListingService;
 
     private Map<Class<?>, Function<ListingFilterDto, Page<ListingDto>>> filterStrategyMap;
+    private Timer searchTimer;
 
     @PostConstruct
-    void initFilterStrategyMap() {
+    void init() {
+        this.searchTimer = Timer.builder("listing.search.global")
+                .tag("engine", listingSearchEngine.name())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
         this.filterStrategyMap = Map.of(
                 VehicleListingFilterDto.class, f -> vehicleListingService.filterVehicles((VehicleListingFilterDto) f),
                 ElectronicListingFilterDto.class, f -> electronicListingService.filterElectronics((ElectronicListingFilterDto) f),
@@ -74,61 +86,34 @@ public class ListingSearchService {
         log.info("ListingSearchService.globalSearch query='{}', page={}, size={}", query, page, size);
         if (query == null || query.trim().isEmpty()) return Page.empty();
 
-        String searchTerm = query.trim().toLowerCase(java.util.Locale.ROOT);
-        
-        // Clean and tokenize the search term
-        String cleaned = searchTerm.replaceAll("[.,;:!?\"'()\\-]", " ");
-        String[] queryTokens = cleaned.split("\\s+");
-        List<String> stopWords = List.of(
-            "var", "mi", "mı", "mu", "mü", "arıyorum", "istiyorum", "bul", "göster", 
-            "öner", "lütfen", "bir", "ve", "veya", "en", "en son", "son", "yeni"
-        );
-        List<String> activeTokens = java.util.Arrays.stream(queryTokens)
-                .map(String::trim)
-                .filter(t -> t.length() >= 2 && !stopWords.contains(t))
-                .map(t -> {
-                    if (t.endsWith("sı") || t.endsWith("si") || t.endsWith("su") || t.endsWith("sü")) return t.substring(0, t.length() - 2);
-                    if (t.endsWith("lar") || t.endsWith("ler")) return t.substring(0, t.length() - 3);
-                    if (t.endsWith("ı") || t.endsWith("i") || t.endsWith("u") || t.endsWith("ü")) return t.substring(0, t.length() - 1);
-                    return t;
-                })
-                .filter(t -> !t.isEmpty())
-                .toList();
-
+        List<String> activeTokens = ListingTextTokenizer.queryTokens(query);
         log.info("ListingSearchService active search tokens: {}", activeTokens);
         if (activeTokens.isEmpty()) {
             return Page.empty();
         }
 
-        // Fetch all active listings to perform token-based matching in Java
-        List<Listing> allActive = listingRepository.findByStatus(ListingStatus.ACTIVE);
-        
-        List<Listing> matchedListings = allActive.stream()
-                .filter(listing -> {
-                    String title = (listing.getTitle() == null ? "" : listing.getTitle()).toLowerCase(java.util.Locale.ROOT);
-                    String desc = (listing.getDescription() == null ? "" : listing.getDescription()).toLowerCase(java.util.Locale.ROOT);
-                    String listingNo = (listing.getListingNo() == null ? "" : listing.getListingNo()).toLowerCase(java.util.Locale.ROOT);
-                    
-                    // The listing must contain ALL active search tokens in any order
-                    return activeTokens.stream().allMatch(token -> 
-                        title.contains(token) || desc.contains(token) || listingNo.contains(token)
-                    );
-                })
-                .collect(Collectors.toList());
-
-        log.info("ListingSearchService token-based search found {} matches out of {} active listings", matchedListings.size(), allActive.size());
+        ListingSearchHits hits = searchTimer.record(() -> listingSearchEngine.search(activeTokens, page, size));
+        log.info("ListingSearchService {} engine found {} matches", listingSearchEngine.name(), hits.totalMatches());
 
-        // Paginate results
-        int start = Math.min(page * size, matchedListings.size());
-        int end = Math.min(start + size, matchedListings.size());
-        List<Listing> paginated = matchedListings.subList(start, end);
+        Pageable pageable = PageRequest.of(page, size);
+        if (hits.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.totalMatches());
+        }
+        return new PageImpl<>(enrichmentService.enrich(loadPage(hits.listingIds()), userId), pageable, hits.totalMatches());
+    }
 
-        List<ListingDto> dtos = paginated.stream()
+    /**
+     * Loads only the listings of the requested page and keeps the index ranking order.
+     * Listings that stopped being ACTIVE since the index last saw them are skipped.
+     */
+    private List<ListingDto> loadPage(List<UUID> rankedIds) {
+        Map<UUID, Listing> byId = listingRepository.findAllByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(Listing::getId, Function.identity()));
+        return rankedIds.stream()
+                .map(byId::get)
+                .filter(listing -> listing != null && listing.getStatus() == ListingStatus.ACTIVE)
                 .map(listingMapper::toDynamicDto)
                 .collect(Collectors.toList());
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, ListingBusinessConstants.LISTING_SORT_PROPERTY_CREATED_AT));
-        return new PageImpl<>(enrichmentService.enrich(dtos, userId), pageable, matchedListings.size());
     }
 
     private Page<ListingDto> enrichPage(Page<ListingDto> page, Long userId) {
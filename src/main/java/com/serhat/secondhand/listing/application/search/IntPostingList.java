@@ -0,0 +1,53 @@
+package com.serhat.secondhand.listing.application.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted, duplicate-free list of primitive document ids backing one index term.
+ * Not thread-safe; {@link ListingTextIndex} guards every access with its lock.
+ */
+final class IntPostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] docIds = new int[INITIAL_CAPACITY];
+    private int size;
+
+    void add(int docId) {
+        int pos = Arrays.binarySearch(docIds, 0, size, docId);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        if (size == docIds.length) {
+            docIds = Arrays.copyOf(docIds, size + (size >> 1) + 1);
+        }
+        System.arraycopy(docIds, insertAt, docIds, insertAt + 1, size - insertAt);
+        docIds[insertAt] = docId;
+        size++;
+    }
+
+    void remove(int docId) {
+        int pos = Arrays.binarySearch(docIds, 0, size, docId);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(docIds, pos + 1, docIds, pos, size - pos - 1);
+        size--;
+        if (size > INITIAL_CAPACITY && size < docIds.length >> 2) {
+            docIds = Arrays.copyOf(docIds, docIds.length >> 1);
+        }
+    }
+
+    int get(int index) {
+        return docIds[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.serhat.secondhand.listing.application.search;
+
+import com.serhat.secondhand.listing.domain.entity.Listing;
+import com.serhat.secondhand.listing.domain.entity.enums.base.ListingStatus;
+import com.serhat.secondhand.listing.domain.repository.listing.ListingSearchDocumentProjection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the listing fields that participate in global text search.
+ */
+public record ListingSearchDocument(
+        UUID id,
+        String title,
+        String description,
+        String listingNo,
+        ListingStatus status,
+        LocalDateTime createdAt) {
+
+    public static ListingSearchDocument from(Listing listing) {
+        return new ListingSearchDocument(
+                listing.getId(),
+                listing.getTitle(),
+                listing.getDescription(),
+                listing.getListingNo(),
+                listing.getStatus(),
+                listing.getCreatedAt());
+    }
+
+    public static ListingSearchDocument from(ListingSearchDocumentProjection projection) {
+        return new ListingSearchDocument(
+                projection.getId(),
+                projection.getTitle(),
+                projection.getDescription(),
+                projection.getListingNo(),
+                projection.getStatus(),
+                projection.getCreatedAt());
+    }
+
+    public boolean isSearchable() {
+        return status == ListingStatus.ACTIVE;
+    }
+}
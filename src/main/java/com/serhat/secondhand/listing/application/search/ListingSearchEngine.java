@@ -0,0 +1,22 @@
+package com.serhat.secondhand.listing.application.search;
+
+import java.util.List;
+
+/**
+ * Matching and ranking backend behind {@code ListingSearchService.globalSearch}.
+ * <p>
+ * Selected with {@code app.listing.search.engine}: {@code memory} (default, {@link ListingTextIndex})
+ * or {@code postgres} ({@link PostgresListingSearchEngine}).
+ */
+public interface ListingSearchEngine {
+
+    String ENGINE_PROPERTY = "app.listing.search.engine";
+
+    /** Engine name used as the {@code engine} metric tag. */
+    String name();
+
+    /**
+     * Returns one ranked page of ACTIVE listing IDs matching all (already tokenised) query tokens.
+     */
+    ListingSearchHits search(List<String> tokens, int page, int size);
+}
@@ -0,0 +1,18 @@
+package com.serhat.secondhand.listing.application.search;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One ranked page of listing IDs plus the total number of matches for the query.
+ */
+public record ListingSearchHits(List<UUID> listingIds, long totalMatches) {
+
+    public static ListingSearchHits empty() {
+        return new ListingSearchHits(List.of(), 0);
+    }
+
+    public boolean isEmpty() {
+        return listingIds.isEmpty();
+    }
+}
@@ -0,0 +1,29 @@
+package com.serhat.secondhand.listing.application.search;
+
+import com.serhat.secondhand.listing.domain.entity.Listing;
+import com.serhat.secondhand.listing.domain.entity.events.ListingSearchDocumentChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA callback that turns every listing insert/update into a {@link ListingSearchDocumentChangedEvent}.
+ * <p>
+ * Hooking the entity instead of individual services covers all category create/update pipelines
+ * and every status transition without threading a publisher through each of them. The event is
+ * applied to the index only after commit by {@link ListingTextIndexSynchronizer}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ListingSearchIndexEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onListingWritten(Listing listing) {
+        eventPublisher.publishEvent(new ListingSearchDocumentChangedEvent(this, ListingSearchDocument.from(listing)));
+    }
+}
@@ -0,0 +1,436 @@
+package com.serhat.secondhand.listing.application.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over the title, description and listing number of ACTIVE listings.
+ * <p>
+ * Every indexed listing gets a dense {@code int} document id; each term keeps a sorted primitive
+ * posting list of those ids. Ids of removed listings are recycled, so the document table stays
+ * bounded by the peak number of live listings rather than by total churn. A query token matches every term that contains it, which keeps the
+ * substring semantics of the previous full-scan search: candidate terms come from a trigram index
+ * over the term dictionary and are then verified, so a lookup never walks the whole vocabulary.
+ * Tokens shorter than a trigram match by prefix through the sorted dictionary.
+ * Results are ranked by field weight (title / listing number above description, exact stem above
+ * partial match) and then by recency, and only the requested page of IDs is returned.
+ */
+@Component
+@ConditionalOnProperty(name = ListingSearchEngine.ENGINE_PROPERTY, havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class ListingTextIndex implements ListingSearchEngine {
+
+    enum Field {
+        TITLE(3),
+        LISTING_NO(3),
+        DESCRIPTION(1);
+
+        private final int weight;
+
+        Field(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final int EXACT_MATCH_MULTIPLIER = 2;
+    private static final long SCORE_MASK = 0xFFFFFFFFL;
+    private static final int GRAM_LENGTH = 3;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Field, FieldIndex> dictionaries = new EnumMap<>(Field.class);
+    private final Map<UUID, Integer> docIdsByListingId = new HashMap<>();
+    private IndexedDocument[] documents = new IndexedDocument[1024];
+    private int nextDocId;
+    private int[] freeDocIds = new int[64];
+    private int freeCount;
+
+    public ListingTextIndex(MeterRegistry meterRegistry) {
+        for (Field field : Field.values()) {
+            dictionaries.put(field, new FieldIndex());
+        }
+        Gauge.builder("listing.search.index.documents", this, ListingTextIndex::size)
+                .register(meterRegistry);
+        Gauge.builder("listing.search.index.terms", this, ListingTextIndex::termCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Indexes an ACTIVE listing or removes it from the index for any other status.
+     */
+    public void apply(ListingSearchDocument document) {
+        if (document == null || document.id() == null) {
+            return;
+        }
+        if (document.isSearchable()) {
+            upsert(document);
+        } else {
+            remove(document.id());
+        }
+    }
+
+    public void applyAll(Collection<ListingSearchDocument> batch) {
+        lock.writeLock().lock();
+        try {
+            for (ListingSearchDocument document : batch) {
+                apply(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID listingId) {
+        lock.writeLock().lock();
+        try {
+            Integer docId = docIdsByListingId.remove(listingId);
+            if (docId != null) {
+                unindex(docId);
+                documents[docId] = null;
+                releaseDocId(docId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            dictionaries.values().forEach(FieldIndex::clear);
+            docIdsByListingId.clear();
+            documents = new IndexedDocument[1024];
+            nextDocId = 0;
+            freeDocIds = new int[64];
+            freeCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdsByListingId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public ListingSearchHits search(List<String> tokens, int page, int size) {
+        if (tokens == null || tokens.isEmpty() || size <= 0 || page < 0) {
+            return ListingSearchHits.empty();
+        }
+        lock.readLock().lock();
+        try {
+            long[] matches = null;
+            for (String token : tokens) {
+                long[] hits = collectHits(token);
+                matches = matches == null ? hits : intersect(matches, hits);
+                if (matches.length == 0) {
+                    return ListingSearchHits.empty();
+                }
+            }
+            return rankPage(matches, page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ── Indexing ─────────────────────────────────────────────────────────────
+
+    private void upsert(ListingSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = docIdsByListingId.get(document.id());
+            int docId;
+            if (existing != null) {
+                docId = existing;
+                unindex(docId);
+            } else {
+                docId = allocateDocId();
+                docIdsByListingId.put(document.id(), docId);
+            }
+            IndexedDocument indexed = new IndexedDocument(
+                    document.id(),
+                    document.createdAt() != null ? document.createdAt().toInstant(ZoneOffset.UTC).toEpochMilli() : 0L,
+                    index(Field.TITLE, docId, ListingTextTokenizer.documentTerms(document.title())),
+                    index(Field.LISTING_NO, docId, ListingTextTokenizer.documentTerms(document.listingNo())),
+                    index(Field.DESCRIPTION, docId, ListingTextTokenizer.documentTerms(document.description())));
+            documents[docId] = indexed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Reuses a released id when there is one; posting lists stay sorted on out-of-order inserts. */
+    private int allocateDocId() {
+        if (freeCount > 0) {
+            return freeDocIds[--freeCount];
+        }
+        int docId = nextDocId++;
+        if (docId == documents.length) {
+            documents = Arrays.copyOf(documents, documents.length << 1);
+        }
+        return docId;
+    }
+
+    private void releaseDocId(int docId) {
+        if (freeCount == freeDocIds.length) {
+            freeDocIds = Arrays.copyOf(freeDocIds, freeCount << 1);
+        }
+        freeDocIds[freeCount++] = docId;
+    }
+
+    private String[] index(Field field, int docId, Set<String> terms) {
+        FieldIndex dictionary = dictionaries.get(field);
+        for (String term : terms) {
+            dictionary.postings(term).add(docId);
+        }
+        return terms.toArray(String[]::new);
+    }
+
+    private void unindex(int docId) {
+        IndexedDocument document = documents[docId];
+        if (document == null) {
+            return;
+        }
+        unindex(Field.TITLE, docId, document.titleTerms());
+        unindex(Field.LISTING_NO, docId, document.listingNoTerms());
+        unindex(Field.DESCRIPTION, docId, document.descriptionTerms());
+    }
+
+    private void unindex(Field field, int docId, String[] terms) {
+        FieldIndex dictionary = dictionaries.get(field);
+        for (String term : terms) {
+            IntPostingList postings = dictionary.terms.get(term);
+            if (postings == null) {
+                continue;
+            }
+            postings.remove(docId);
+            if (postings.isEmpty()) {
+                dictionary.removeTerm(term);
+            }
+        }
+    }
+
+    private int termCount() {
+        lock.readLock().lock();
+        try {
+            return dictionaries.values().stream().mapToInt(index -> index.terms.size()).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ── Query evaluation ─────────────────────────────────────────────────────
+
+    /**
+     * Collects {@code docId << 32 | score} entries for one token, sorted by docId and unique.
+     */
+    private long[] collectHits(String token) {
+        LongBuffer buffer = new LongBuffer();
+        for (Field field : Field.values()) {
+            FieldIndex dictionary = dictionaries.get(field);
+            for (String term : dictionary.matchingTerms(token)) {
+                boolean exact = term.equals(token) || ListingTextTokenizer.stem(term).equals(token);
+                long score = (long) field.weight * (exact ? EXACT_MATCH_MULTIPLIER : 1);
+                IntPostingList postings = dictionary.terms.get(term);
+                for (int i = 0; i < postings.size(); i++) {
+                    buffer.add(((long) postings.get(i) << 32) | score);
+                }
+            }
+        }
+        long[] raw = buffer.toArray();
+        Arrays.sort(raw);
+        // Entries of the same doc are adjacent and ordered by score; keep the last (highest) one.
+        int unique = 0;
+        for (int i = 0; i < raw.length; i++) {
+            if (i + 1 < raw.length && docId(raw[i]) == docId(raw[i + 1])) {
+                continue;
+            }
+            raw[unique++] = raw[i];
+        }
+        return Arrays.copyOf(raw, unique);
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] out = new long[Math.min(left.length, right.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < left.length && j < right.length) {
+            int a = docId(left[i]);
+            int b = docId(right[j]);
+            if (a < b) {
+                i++;
+            } else if (a > b) {
+                j++;
+            } else {
+                out[n++] = ((long) a << 32) | (score(left[i]) + score(right[j]));
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private ListingSearchHits rankPage(long[] matches, int page, int size) {
+        long offset = (long) page * size;
+        if (offset >= matches.length) {
+            return new ListingSearchHits(List.of(), matches.length);
+        }
+        int topK = (int) Math.min(matches.length, offset + size);
+
+        Comparator<Long> relevance = Comparator
+                .<Long>comparingLong(ListingTextIndex::score)
+                .thenComparingLong(entry -> documents[docId(entry)].createdAtMillis())
+                .thenComparingInt(ListingTextIndex::docId);
+
+        // Bounded min-heap: only the best (page + 1) * size candidates are ever boxed.
+        PriorityQueue<Long> best = new PriorityQueue<>(topK, relevance);
+        for (long entry : matches) {
+            if (best.size() < topK) {
+                best.offer(entry);
+            } else if (relevance.compare(entry, best.peek()) > 0) {
+                best.poll();
+                best.offer(entry);
+            }
+        }
+
+        List<Long> ranked = new ArrayList<>(best);
+        ranked.sort(relevance.reversed());
+        List<UUID> ids = ranked.subList((int) offset, ranked.size()).stream()
+                .map(entry -> documents[docId(entry)].listingId())
+                .toList();
+        return new ListingSearchHits(ids, matches.length);
+    }
+
+    private static int docId(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    private static long score(long entry) {
+        return entry & SCORE_MASK;
+    }
+
+    /**
+     * Term dictionary of one field: sorted for prefix lookups, plus trigram → terms for substring
+     * lookups. Only terms are gram-indexed, so the gram index grows with the vocabulary, not the corpus.
+     */
+    private static final class FieldIndex {
+        private final NavigableMap<String, IntPostingList> terms = new TreeMap<>();
+        private final Map<String, Set<String>> termsByGram = new HashMap<>();
+
+        IntPostingList postings(String term) {
+            IntPostingList postings = terms.get(term);
+            if (postings == null) {
+                postings = new IntPostingList();
+                terms.put(term, postings);
+                for (String gram : grams(term)) {
+                    termsByGram.computeIfAbsent(gram, k -> new HashSet<>()).add(term);
+                }
+            }
+            return postings;
+        }
+
+        void removeTerm(String term) {
+            terms.remove(term);
+            for (String gram : grams(term)) {
+                Set<String> gramTerms = termsByGram.get(gram);
+                if (gramTerms != null && gramTerms.remove(term) && gramTerms.isEmpty()) {
+                    termsByGram.remove(gram);
+                }
+            }
+        }
+
+        Collection<String> matchingTerms(String token) {
+            if (token.length() < GRAM_LENGTH) {
+                return terms.subMap(token, true, token + Character.MAX_VALUE, false).keySet();
+            }
+            // En seçici trigram'ın terimleri aday; substring kontrolüyle doğrulanır.
+            Set<String> candidates = null;
+            for (String gram : grams(token)) {
+                Set<String> gramTerms = termsByGram.get(gram);
+                if (gramTerms == null) {
+                    return List.of();
+                }
+                if (candidates == null || gramTerms.size() < candidates.size()) {
+                    candidates = gramTerms;
+                }
+            }
+            List<String> matches = new ArrayList<>();
+            for (String term : candidates) {
+                if (term.contains(token)) {
+                    matches.add(term);
+                }
+            }
+            return matches;
+        }
+
+        void clear() {
+            terms.clear();
+            termsByGram.clear();
+        }
+
+        private static Set<String> grams(String term) {
+            if (term.length() < GRAM_LENGTH) {
+                return Set.of();
+            }
+            Set<String> grams = new HashSet<>();
+            for (int i = 0; i + GRAM_LENGTH <= term.length(); i++) {
+                grams.add(term.substring(i, i + GRAM_LENGTH));
+            }
+            return grams;
+        }
+    }
+
+    private record IndexedDocument(
+            UUID listingId,
+            long createdAtMillis,
+            String[] titleTerms,
+            String[] listingNoTerms,
+            String[] descriptionTerms) {
+    }
+
+    private static final class LongBuffer {
+        private long[] values = new long[64];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.serhat.secondhand.listing.application.search;
+
+import com.serhat.secondhand.core.config.ListingConfig;
+import com.serhat.secondhand.listing.domain.entity.enums.base.ListingStatus;
+import com.serhat.secondhand.listing.domain.entity.events.ListingSearchDocumentChangedEvent;
+import com.serhat.secondhand.listing.domain.repository.listing.ListingRepository;
+import com.serhat.secondhand.listing.domain.repository.listing.ListingSearchDocumentProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps {@link ListingTextIndex} in sync with the {@code listings} table.
+ * <ul>
+ *   <li>Bootstrap: keyset-pages all ACTIVE listings on {@link ApplicationReadyEvent}.</li>
+ *   <li>Incremental: applies {@link ListingSearchDocumentChangedEvent} after the writing transaction commits.</li>
+ *   <li>Catch-up: periodically re-reads rows whose {@code updatedAt} moved, which covers writes made by
+ *       other nodes and bulk JPQL updates that bypass entity callbacks.</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = ListingSearchEngine.ENGINE_PROPERTY, havingValue = "memory", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ListingTextIndexSynchronizer {
+
+    private static final UUID KEYSET_START = new UUID(0L, 0L);
+
+    private final ListingTextIndex index;
+    private final ListingRepository listingRepository;
+    private final ListingConfig listingConfig;
+
+    private volatile LocalDateTime watermark;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        int batchSize = listingConfig.getSearch().getIndex().getBootstrapBatchSize();
+        index.clear();
+
+        UUID after = KEYSET_START;
+        int loaded = 0;
+        List<ListingSearchDocumentProjection> batch;
+        do {
+            batch = listingRepository.findSearchDocumentsByStatusAfter(
+                    ListingStatus.ACTIVE, after, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            index.applyAll(batch.stream().map(ListingSearchDocument::from).toList());
+            after = batch.get(batch.size() - 1).getId();
+            loaded += batch.size();
+        } while (batch.size() == batchSize);
+
+        this.watermark = startedAt;
+        log.info("ListingTextIndex built with {} active listings", loaded);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onListingChanged(ListingSearchDocumentChangedEvent event) {
+        index.apply(event.getDocument());
+    }
+
+    @Scheduled(fixedDelayString = "${app.listing.search.index.refresh-fixed-delay-ms:30000}")
+    public void catchUp() {
+        LocalDateTime since = watermark;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<ListingSearchDocumentProjection> changed = listingRepository.findSearchDocumentsUpdatedSince(
+                since.minusSeconds(listingConfig.getSearch().getIndex().getRefreshOverlapSeconds()));
+        if (!changed.isEmpty()) {
+            index.applyAll(changed.stream().map(ListingSearchDocument::from).toList());
+            log.debug("ListingTextIndex caught up {} changed listings", changed.size());
+        }
+        this.watermark = now;
+    }
+}
@@ -0,0 +1,74 @@
+package com.serhat.secondhand.listing.application.search;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Shared tokenisation rules for listing global search.
+ * <p>
+ * Query tokens are lower-cased, stripped of punctuation and stop-words and reduced with a light
+ * Turkish suffix stripper. Document terms keep the raw lower-cased word: every stem is a prefix of
+ * its word, so a query token contained in the stem is always contained in the indexed word.
+ */
+public final class ListingTextTokenizer {
+
+    private ListingTextTokenizer() {
+    }
+
+    public static final int MIN_TOKEN_LENGTH = 2;
+
+    private static final Pattern PUNCTUATION = Pattern.compile("[.,;:!?\"'()\\-]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "var", "mi", "mı", "mu", "mü", "arıyorum", "istiyorum", "bul", "göster",
+            "öner", "lütfen", "bir", "ve", "veya", "en", "son", "yeni"
+    );
+
+    public static List<String> queryTokens(String query) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(split(query))
+                .filter(t -> t.length() >= MIN_TOKEN_LENGTH && !STOP_WORDS.contains(t))
+                .map(ListingTextTokenizer::stem)
+                .filter(t -> !t.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    public static Set<String> documentTerms(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : split(text)) {
+            if (!word.isEmpty()) {
+                terms.add(word);
+            }
+        }
+        return terms;
+    }
+
+    public static String stem(String token) {
+        if (token.endsWith("sı") || token.endsWith("si") || token.endsWith("su") || token.endsWith("sü")) {
+            return token.substring(0, token.length() - 2);
+        }
+        if (token.endsWith("lar") || token.endsWith("ler")) {
+            return token.substring(0, token.length() - 3);
+        }
+        if (token.endsWith("ı") || token.endsWith("i") || token.endsWith("u") || token.endsWith("ü")) {
+            return token.substring(0, token.length() - 1);
+        }
+        return token;
+    }
+
+    private static String[] split(String text) {
+        String cleaned = PUNCTUATION.matcher(text.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+        return WHITESPACE.split(cleaned.trim());
+    }
+}
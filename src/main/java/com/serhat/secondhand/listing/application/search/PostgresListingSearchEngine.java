@@ -0,0 +1,55 @@
+package com.serhat.secondhand.listing.application.search;
+
+import com.serhat.secondhand.listing.domain.repository.listing.ListingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Runs matching, ranking ({@code ts_rank} + trigram word similarity) and LIMIT/OFFSET inside
+ * PostgreSQL using the {@code search_vector} column and GIN indexes from the V15 migration.
+ */
+@Component
+@ConditionalOnProperty(name = ListingSearchEngine.ENGINE_PROPERTY, havingValue = "postgres")
+@RequiredArgsConstructor
+public class PostgresListingSearchEngine implements ListingSearchEngine {
+
+    /** Characters that carry meaning in tsquery syntax are dropped from tokens. */
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]");
+
+    private final ListingRepository listingRepository;
+
+    @Override
+    public String name() {
+        return "postgres";
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ListingSearchHits search(List<String> tokens, int page, int size) {
+        List<String> terms = tokens.stream()
+                .map(token -> NON_WORD.matcher(token).replaceAll(""))
+                .filter(token -> !token.isEmpty())
+                .toList();
+        if (terms.isEmpty() || size <= 0 || page < 0) {
+            return ListingSearchHits.empty();
+        }
+
+        String tsQuery = terms.stream().map(term -> term + ":*").collect(Collectors.joining(" & "));
+        String text = String.join(" ", terms);
+
+        long total = listingRepository.countActiveFullText(tsQuery, text);
+        long offset = (long) page * size;
+        if (total == 0 || offset >= total) {
+            return new ListingSearchHits(List.of(), total);
+        }
+        List<UUID> ids = listingRepository.searchActiveIdsFullText(tsQuery, text, size, offset);
+        return new ListingSearchHits(ids, total);
+    }
+}
@@ -1,6 +1,8 @@
 package com.serhat.secondhand.listing.domain.entity;
 
 import com.serhat.secondhand.core.exception.BusinessException;
+import com.serhat.secondhand.listing.application.common.UserListingsCacheEntityListener;
+import com.serhat.secondhand.listing.application.search.ListingSearchIndexEntityListener;
 import com.serhat.secondhand.listing.domain.entity.enums.base.Currency;
 import com.serhat.secondhand.listing.domain.entity.enums.base.ListingStatus;
 import com.serhat.secondhand.listing.domain.entity.enums.base.ListingType;
@@ -28,6 +30,7 @@ import java.util.UUID;
     @Index(name = "idx_listing_created", columnList = "createdAt")
 })
 @Inheritance(strategy = InheritanceType.JOINED)
+@EntityListeners({ListingSearchIndexEntityListener.class, UserListingsCacheEntityListener.class})
 @org.hibernate.annotations.BatchSize(size = 20)
 public class Listing {
 
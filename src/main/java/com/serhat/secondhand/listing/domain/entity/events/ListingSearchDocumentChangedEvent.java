@@ -0,0 +1,16 @@
+package com.serhat.secondhand.listing.domain.entity.events;
+
+import com.serhat.secondhand.listing.application.search.ListingSearchDocument;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class ListingSearchDocumentChangedEvent extends ApplicationEvent {
+
+    private final ListingSearchDocument document;
+
+    public ListingSearchDocumentChangedEvent(Object source, ListingSearchDocument document) {
+        super(source);
+        this.document = document;
+    }
+}
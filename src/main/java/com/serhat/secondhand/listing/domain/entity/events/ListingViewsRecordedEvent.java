@@ -0,0 +1,24 @@
+package com.serhat.secondhand.listing.domain.entity.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published by the view ingestion pipeline after a batch of views was written: the days on which
+ * each listing received new views.
+ */
+@Getter
+public class ListingViewsRecordedEvent extends ApplicationEvent {
+
+    private final Map<UUID, Set<LocalDate>> daysByListing;
+
+    public ListingViewsRecordedEvent(Object source, Map<UUID, Set<LocalDate>> daysByListing) {
+        super(source);
+        this.daysByListing = daysByListing;
+    }
+}
@@ -0,0 +1,18 @@
+package com.serhat.secondhand.listing.domain.entity.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * One of the seller's listings was created or changed; cached "my listings" pages of that seller
+ * are stale once the writing transaction commits.
+ */
+@Getter
+public class SellerListingsChangedEvent extends ApplicationEvent {
+    private final Long sellerId;
+
+    public SellerListingsChangedEvent(Object source, Long sellerId) {
+        super(source);
+        this.sellerId = sellerId;
+    }
+}
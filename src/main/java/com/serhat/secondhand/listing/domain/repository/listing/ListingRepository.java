@@ -13,6 +13,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -150,4 +151,40 @@ public interface ListingRepository extends JpaRepository<Listing, UUID> {
 
     @EntityGraph(attributePaths = {"seller"})
     List<Listing> findByStatus(ListingStatus status);
+
+    @Query("SELECT l.id AS id, l.title AS title, l.description AS description, l.listingNo AS listingNo, " +
+            "l.status AS status, l.createdAt AS createdAt, l.updatedAt AS updatedAt " +
+            "FROM Listing l WHERE l.status = :status AND l.id > :after ORDER BY l.id")
+    List<ListingSearchDocumentProjection> findSearchDocumentsByStatusAfter(@Param("status") ListingStatus status,
+                                                                           @Param("after") UUID after,
+                                                                           Pageable pageable);
+
+    @Query("SELECT l.id AS id, l.title AS title, l.description AS description, l.listingNo AS listingNo, " +
+            "l.status AS status, l.createdAt AS createdAt, l.updatedAt AS updatedAt " +
+            "FROM Listing l WHERE l.updatedAt > :since ORDER BY l.updatedAt")
+    List<ListingSearchDocumentProjection> findSearchDocumentsUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Database-side global search (V15 migration): prefix full-text match on {@code search_vector}
+     * with trigram word-similarity on the title for typo tolerance, ranked and paged in PostgreSQL.
+     */
+    @Query(value = "SELECT l.id FROM listings l " +
+            "WHERE l.status = 'ACTIVE' " +
+            "AND (l.search_vector @@ to_tsquery('simple', :tsQuery) " +
+            "OR :text <% lower(l.title) " +
+            "OR lower(l.listing_no) LIKE concat('%', :text, '%')) " +
+            "ORDER BY ts_rank(l.search_vector, to_tsquery('simple', :tsQuery)) " +
+            "+ word_similarity(:text, lower(l.title)) DESC, l.created_at DESC " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<UUID> searchActiveIdsFullText(@Param("tsQuery") String tsQuery,
+                                       @Param("text") String text,
+                                       @Param("limit") int limit,
+                                       @Param("offset") long offset);
+
+    @Query(value = "SELECT COUNT(*) FROM listings l " +
+            "WHERE l.status = 'ACTIVE' " +
+            "AND (l.search_vector @@ to_tsquery('simple', :tsQuery) " +
+            "OR :text <% lower(l.title) " +
+            "OR lower(l.listing_no) LIKE concat('%', :text, '%'))", nativeQuery = true)
+    long countActiveFullText(@Param("tsQuery") String tsQuery, @Param("text") String text);
 }
@@ -0,0 +1,16 @@
+package com.serhat.secondhand.listing.domain.repository.listing;
+
+import com.serhat.secondhand.listing.domain.entity.enums.base.ListingStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ListingSearchDocumentProjection {
+    UUID getId();
+    String getTitle();
+    String getDescription();
+    String getListingNo();
+    ListingStatus getStatus();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
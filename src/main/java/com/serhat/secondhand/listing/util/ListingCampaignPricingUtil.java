@@ -1,8 +1,9 @@
 package com.serhat.secondhand.listing.util;
 
+import com.serhat.secondhand.campaign.application.index.CampaignPricingIndex;
+import com.serhat.secondhand.campaign.application.index.CompiledCampaign;
+import com.serhat.secondhand.campaign.application.index.SellerCampaigns;
 import com.serhat.secondhand.campaign.entity.Campaign;
-import com.serhat.secondhand.campaign.entity.CampaignDiscountKind;
-import com.serhat.secondhand.campaign.application.ICampaignService;
 import com.serhat.secondhand.listing.domain.dto.response.listing.ListingDto;
 import com.serhat.secondhand.listing.domain.entity.enums.base.ListingType;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Component
@@ -17,12 +19,10 @@ import java.util.*;
 public class ListingCampaignPricingUtil {
 
     private static final BigDecimal ZERO = BigDecimal.ZERO;
-    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
     private static final int SCALE = 2;
-    private static final int PRECISION = 6;
     private static final Set<ListingType> NON_CAMPAIGNABLE_TYPES = EnumSet.of(ListingType.REAL_ESTATE, ListingType.VEHICLE);
 
-    private final ICampaignService campaignService;
+    private final CampaignPricingIndex campaignPricingIndex;
 
     public List<ListingDto> enrichWithCampaignPricing(List<ListingDto> dtos) {
         if (dtos == null || dtos.isEmpty()) {
@@ -38,92 +38,61 @@ public class ListingCampaignPricingUtil {
             return dtos;
         }
 
-        List<Campaign> campaigns = campaignService.loadActiveCampaignsForSellers(sellerIds);
-        Map<Long, List<Campaign>> campaignsBySeller = groupBySeller(campaigns);
+        apply(dtos, load(sellerIds));
+        return dtos;
+    }
 
-        dtos.forEach(dto -> enrichOne(dto, campaignsBySeller.getOrDefault(dto.getSellerId(), List.of())));
+    public Map<Long, SellerCampaigns> load(Collection<Long> sellerIds) {
+        return campaignPricingIndex.forSellers(sellerIds);
+    }
 
-        return dtos;
+    /** Sellers missing from {@code campaignsBySeller} are priced without a campaign. */
+    public void apply(List<ListingDto> dtos, Map<Long, SellerCampaigns> campaignsBySeller) {
+        LocalDateTime now = LocalDateTime.now();
+        dtos.forEach(dto -> enrichOne(dto, dto == null ? null : campaignsBySeller.get(dto.getSellerId()), now));
     }
 
     public ListingDto enrichWithCampaignPricing(ListingDto dto) {
         if (dto == null || dto.getSellerId() == null) {
             return dto;
         }
-        List<Campaign> campaigns = campaignService.loadActiveCampaignsForSellers(List.of(dto.getSellerId()));
-        enrichOne(dto, campaigns);
+        enrichOne(dto, campaignPricingIndex.forSeller(dto.getSellerId()), LocalDateTime.now());
         return dto;
     }
 
-    private Map<Long, List<Campaign>> groupBySeller(List<Campaign> campaigns) {
-        Map<Long, List<Campaign>> map = new HashMap<>();
-        for (Campaign c : campaigns) {
-            if (c.getSeller() != null) {
-                map.computeIfAbsent(c.getSeller().getId(), k -> new ArrayList<>()).add(c);
-            }
-        }
-        return map;
-    }
-
-    private void enrichOne(ListingDto dto, List<Campaign> campaigns) {
+    private void enrichOne(ListingDto dto, SellerCampaigns campaigns, LocalDateTime now) {
         if (dto == null) {
             return;
         }
 
-        if (isNonCampaignableType(dto.getType())) {
+        if (isNonCampaignableType(dto.getType()) || campaigns == null || campaigns.isEmpty()) {
             setNoCampaignData(dto);
             return;
         }
 
         BigDecimal unitPrice = scale(dto.getPrice());
-        Campaign bestCampaign = findBestCampaign(campaigns, dto.getId(), dto.getType(), unitPrice);
+        // Bundle campaigns are skipped during static enrichment (listing cards)
+        SellerCampaigns.CardOffer offer = campaigns.bestCardOffer(dto.getId(), dto.getType(), unitPrice, now);
 
-        if (bestCampaign == null) {
+        if (offer == null) {
             setNoCampaignData(dto);
             return;
         }
 
-        applyCampaign(dto, bestCampaign, unitPrice);
+        applyCampaign(dto, offer.campaign(), unitPrice, offer.discount());
     }
 
     private boolean isNonCampaignableType(ListingType type) {
         return NON_CAMPAIGNABLE_TYPES.contains(type);
     }
 
-    private Campaign findBestCampaign(List<Campaign> campaigns, UUID listingId, ListingType type, BigDecimal unitPrice) {
-        Campaign bestCampaign = null;
-        BigDecimal bestDiscount = ZERO;
-
-        for (Campaign campaign : campaigns) {
-            // Skip bundle campaigns during static enrichment (listing cards)
-            if (campaign.getMinQuantity() != null && campaign.getMinQuantity() > 1) {
-                continue;
-            }
-
-            if (!isApplicable(campaign, listingId, type)) {
-                continue;
-            }
-
-            BigDecimal discount = computeDiscount(campaign, unitPrice);
-            if (discount.compareTo(bestDiscount) > 0) {
-                bestDiscount = discount;
-                bestCampaign = campaign;
-            }
-        }
-
-        return bestDiscount.compareTo(ZERO) > 0 ? bestCampaign : null;
-    }
-
-    private void applyCampaign(ListingDto dto, Campaign campaign, BigDecimal unitPrice) {
-        BigDecimal discount = computeDiscount(campaign, unitPrice);
-        BigDecimal campaignPrice = calculateCampaignPrice(unitPrice, discount);
-
-        dto.setCampaignPrice(campaignPrice);
+    private void applyCampaign(ListingDto dto, CompiledCampaign campaign, BigDecimal unitPrice, BigDecimal discount) {
+        dto.setCampaignPrice(calculateCampaignPrice(unitPrice, discount));
         dto.setCampaignDiscountAmount(discount);
-        dto.setCampaignDiscountKind(campaign.getDiscountKind());
-        dto.setCampaignValue(campaign.getValue());
-        dto.setCampaignId(campaign.getId());
-        dto.setCampaignName(campaign.getName());
+        dto.setCampaignDiscountKind(campaign.discountKind());
+        dto.setCampaignValue(campaign.value());
+        dto.setCampaignId(campaign.id());
+        dto.setCampaignName(campaign.name());
     }
 
     private void setNoCampaignData(ListingDto dto) {
@@ -144,48 +113,8 @@ public class ListingCampaignPricingUtil {
         if (campaign == null || !campaign.isActive() || isNonCampaignableType(type)) {
             return false;
         }
-
-        java.time.LocalDateTime now = java.time.LocalDateTime.now();
-        if (campaign.getStartsAt() != null && now.isBefore(campaign.getStartsAt())) {
-            return false;
-        }
-        if (campaign.getEndsAt() != null && now.isAfter(campaign.getEndsAt())) {
-            return false;
-        }
-
-        boolean hasListingFilter = hasFilter(campaign.getEligibleListingIds());
-        boolean hasTypeFilter = hasFilter(campaign.getEligibleTypes());
-
-        if (campaign.isApplyToFutureListings()) {
-            return !hasTypeFilter || campaign.getEligibleTypes().contains(type);
-        }
-
-        if (hasListingFilter && campaign.getEligibleListingIds().contains(listingId)) {
-            return true;
-        }
-        if (hasTypeFilter && campaign.getEligibleTypes().contains(type)) {
-            return true;
-        }
-
-        return !hasListingFilter && !hasTypeFilter;
-    }
-
-    private boolean hasFilter(Collection<?> collection) {
-        return collection != null && !collection.isEmpty();
-    }
-
-    private BigDecimal computeDiscount(Campaign campaign, BigDecimal unitPrice) {
-        BigDecimal discount;
-        if (campaign.getDiscountKind() == CampaignDiscountKind.PERCENT) {
-            BigDecimal percentage = campaign.getValue().divide(HUNDRED, PRECISION, RoundingMode.HALF_UP);
-            discount = scale(unitPrice.multiply(percentage));
-        } else {
-            discount = scale(campaign.getValue());
-        }
-        if (discount.compareTo(unitPrice) > 0) {
-            discount = unitPrice;
-        }
-        return discount;
+        CompiledCampaign compiled = CompiledCampaign.from(campaign);
+        return compiled.isLiveAt(LocalDateTime.now()) && compiled.appliesTo(listingId, type);
     }
 
     private BigDecimal scale(BigDecimal value) {
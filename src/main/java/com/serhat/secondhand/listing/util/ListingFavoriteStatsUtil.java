@@ -41,16 +41,21 @@ public class ListingFavoriteStatsUtil {
             return dtos;
         }
 
-        Map<UUID, FavoriteStatsDto> statsMap = favoriteStatsService
-                .getFavoriteStatsForListings(listingIds, userId);
+        apply(dtos, load(listingIds, userId));
+        return dtos;
+    }
+
+    public Map<UUID, FavoriteStatsDto> load(List<UUID> listingIds, Long userId) {
+        return favoriteStatsService.getFavoriteStatsForListings(listingIds, userId);
+    }
 
+    /** Listings missing from {@code statsMap} get empty stats. */
+    public void apply(List<ListingDto> dtos, Map<UUID, FavoriteStatsDto> statsMap) {
         dtos.forEach(dto ->
                 dto.setFavoriteStats(
                         statsMap.getOrDefault(dto.getId(), createEmptyStats(dto.getId()))
                 )
         );
-
-        return dtos;
     }
 
     private FavoriteStatsDto createEmptyStats(UUID listingId) {
@@ -5,6 +5,7 @@ import com.serhat.secondhand.user.application.GreatSellerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,7 +31,15 @@ public class ListingGreatSellerUtil {
         if (sellerIds.isEmpty()) {
             return;
         }
-        Map<Long, Boolean> flags = greatSellerService.eligibleFlagsBySellerIds(sellerIds);
+        apply(dtos, load(sellerIds));
+    }
+
+    public Map<Long, Boolean> load(Collection<Long> sellerIds) {
+        return greatSellerService.eligibleFlagsBySellerIds(sellerIds);
+    }
+
+    /** Sellers missing from {@code flags} are shown without the badge. */
+    public void apply(List<ListingDto> dtos, Map<Long, Boolean> flags) {
         for (ListingDto dto : dtos) {
             if (dto == null || dto.getSellerId() == null) {
                 continue;
@@ -44,12 +44,18 @@ public class ListingReviewStatsUtil {
             return dtos;
         }
 
-        Map<UUID, ReviewStatsDto> statsMap = reviewService.getListingReviewStatsDto(listingIds);
+        apply(dtos, load(listingIds));
+        return dtos;
+    }
+
+    public Map<UUID, ReviewStatsDto> load(List<UUID> listingIds) {
+        return reviewService.getListingReviewStatsDto(listingIds);
+    }
 
+    /** Listings missing from {@code statsMap} get empty stats. */
+    public void apply(List<ListingDto> dtos, Map<UUID, ReviewStatsDto> statsMap) {
         dtos.forEach(dto ->
                 dto.setReviewStats(statsMap.getOrDefault(dto.getId(), ReviewStatsDto.empty()))
         );
-
-        return dtos;
     }
 }
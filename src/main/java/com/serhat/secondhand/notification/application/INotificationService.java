@@ -13,6 +13,12 @@ public interface INotificationService {
     Result<NotificationDto> createAndSend(NotificationRequest request);
 
     java.util.List<NotificationDto> createAndSendBulk(java.util.List<NotificationRequest> requests);
+
+    /**
+     * Sends the same notification to every user in {@code userIds} in chunked, separately committed
+     * batches; {@code job} tags the fan-out metrics. Returns the number of notifications written.
+     */
+    int fanOut(String job, java.util.Collection<Long> userIds, NotificationRequest template);
     
     Result<NotificationDto> createBroadcast(NotificationRequest request);
     
@@ -0,0 +1,199 @@
+package com.serhat.secondhand.notification.application;
+
+import com.serhat.secondhand.notification.application.event.NotificationUnreadChangedEvent;
+import com.serhat.secondhand.notification.dto.NotificationDto;
+import com.serhat.secondhand.notification.dto.NotificationRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes personal notifications for many users without the JPA persistence context.
+ * <p>
+ * Requests are split into chunks of {@code app.notification.fan-out.chunk-size}; each chunk is one JDBC
+ * batch insert (rewritten into multi-row inserts by the driver's {@code reWriteBatchedInserts}) in its
+ * own transaction. WebSocket pushes and badge counter updates for a chunk happen after that chunk
+ * commits, so a large fan-out neither holds one long transaction nor pushes rows that may roll back.
+ * {@link #insertBatch} does the same inside a transaction owned by the caller.
+ * A failed chunk is logged and counted; the remaining chunks still run.
+ */
+@Component
+@Slf4j
+public class NotificationFanOutWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications (id, user_id, type, title, message, action_url, metadata, is_read, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, CAST(? AS jsonb), FALSE, ?)
+            """;
+
+    private static final String EXISTING_USERS_SQL = "SELECT id FROM users WHERE id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationWebSocketService webSocketService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+
+    public NotificationFanOutWriter(JdbcTemplate jdbcTemplate,
+                                    NamedParameterJdbcTemplate namedJdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    NotificationWebSocketService webSocketService,
+                                    ApplicationEventPublisher eventPublisher,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.notification.fan-out.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.webSocketService = webSocketService;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /** Same notification for every user in {@code userIds}; {@code template.userId} is ignored. */
+    public int fanOut(String job, Collection<Long> userIds, NotificationRequest template) {
+        List<Long> ids = userIds.stream().distinct().toList();
+        return run(job, ids, chunk -> chunk.stream()
+                .map(userId -> NotificationRequest.of(userId, template.getType(), template.getTitle(),
+                        template.getMessage(), template.getActionUrl(), template.getMetadata()))
+                .toList()).size();
+    }
+
+    public List<NotificationDto> write(String job, List<NotificationRequest> requests) {
+        return run(job, requests, Function.identity());
+    }
+
+    private <T> List<NotificationDto> run(String job, List<T> items, Function<List<T>, List<NotificationRequest>> toRequests) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        Timer chunkTimer = Timer.builder("notification.fanout.chunk.duration").tag("job", job).register(meterRegistry);
+        long startedAt = System.nanoTime();
+        List<NotificationDto> written = new ArrayList<>();
+        int failedChunks = 0;
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            List<NotificationRequest> chunk = toRequests.apply(items.subList(from, Math.min(items.size(), from + chunkSize)));
+            try {
+                written.addAll(chunkTimer.record(() -> writeChunk(job, chunk)));
+            } catch (RuntimeException e) {
+                failedChunks++;
+                count("notification.fanout.failed", job, chunk.size());
+                log.error("Notification fan-out chunk failed | job={} size={} message={}", job, chunk.size(), e.getMessage(), e);
+            }
+        }
+        long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        log.info("Notification fan-out finished | job={} requested={} written={} failedChunks={} elapsedMs={} perSecond={}",
+                job, items.size(), written.size(), failedChunks, elapsedMs, written.size() * 1000L / elapsedMs);
+        return written;
+    }
+
+    private List<NotificationDto> writeChunk(String job, List<NotificationRequest> chunk) {
+        List<NotificationDto> rows = transactionTemplate.execute(status -> insertBatch(job, chunk));
+        return rows == null ? List.of() : rows;
+    }
+
+    /**
+     * Inserts one batch in the caller's transaction, for callers that commit notifications together with
+     * their own bookkeeping. WebSocket pushes and metrics run after that transaction commits.
+     */
+    public List<NotificationDto> insertBatch(String job, List<NotificationRequest> requests) {
+        Set<Long> existing = existingUsers(requests);
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationDto> dtos = new ArrayList<>(requests.size());
+        for (NotificationRequest request : requests) {
+            if (!existing.contains(request.getUserId())) {
+                continue;
+            }
+            dtos.add(NotificationDto.builder()
+                    .id(UUID.randomUUID())
+                    .userId(request.getUserId())
+                    .type(request.getType())
+                    .title(request.getTitle())
+                    .message(request.getMessage())
+                    .actionUrl(request.getActionUrl())
+                    .metadata(request.getMetadata())
+                    .isRead(false)
+                    .createdAt(now)
+                    .build());
+        }
+        if (!dtos.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, dtos, dtos.size(), (ps, dto) -> {
+                ps.setObject(1, dto.getId());
+                ps.setLong(2, dto.getUserId());
+                ps.setString(3, dto.getType().name());
+                ps.setString(4, dto.getTitle());
+                ps.setString(5, dto.getMessage());
+                ps.setString(6, dto.getActionUrl());
+                if (dto.getMetadata() != null) {
+                    ps.setString(7, dto.getMetadata());
+                } else {
+                    ps.setNull(7, Types.VARCHAR);
+                }
+                ps.setTimestamp(8, Timestamp.valueOf(dto.getCreatedAt()));
+            });
+            // Sayaç güncellemeleri commit sonrasında uygulanır.
+            dtos.stream()
+                    .filter(dto -> NotificationUnreadCounter.isCounted(dto.getType()))
+                    .collect(Collectors.groupingBy(NotificationDto::getUserId, Collectors.counting()))
+                    .forEach((userId, count) -> eventPublisher.publishEvent(NotificationUnreadChangedEvent.personalCreated(userId, count)));
+        }
+        Runnable afterCommit = () -> {
+            count("notification.fanout.written", job, dtos.size());
+            count("notification.fanout.skipped", job, requests.size() - dtos.size());
+            dtos.forEach(dto -> webSocketService.sendNotificationToUser(dto.getUserId(), dto));
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    afterCommit.run();
+                }
+            });
+        } else {
+            afterCommit.run();
+        }
+        return dtos;
+    }
+
+    private Set<Long> existingUsers(List<NotificationRequest> chunk) {
+        Set<Long> ids = chunk.stream().map(NotificationRequest::getUserId).collect(Collectors.toSet());
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList(EXISTING_USERS_SQL, Map.of("ids", ids), Long.class));
+    }
+
+    private void count(String name, String job, long amount) {
+        if (amount <= 0) {
+            return;
+        }
+        Counter.builder(name).tag("job", job).register(meterRegistry).increment(amount);
+    }
+}
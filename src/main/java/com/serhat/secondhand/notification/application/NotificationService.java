@@ -1,17 +1,19 @@
 package com.serhat.secondhand.notification.application;
 
 import com.serhat.secondhand.core.result.Result;
+import com.serhat.secondhand.notification.application.event.NotificationBroadcastCreatedEvent;
+import com.serhat.secondhand.notification.application.event.NotificationUnreadChangedEvent;
 import com.serhat.secondhand.notification.dto.NotificationDto;
 import com.serhat.secondhand.notification.util.NotificationErrorCodes;
 import com.serhat.secondhand.notification.dto.NotificationRequest;
 import com.serhat.secondhand.notification.entity.Notification;
-import com.serhat.secondhand.notification.entity.enums.NotificationType;
 import com.serhat.secondhand.notification.entity.NotificationEvent;
 import com.serhat.secondhand.notification.entity.NotificationEventRead;
 import com.serhat.secondhand.notification.mapper.NotificationMapper;
 import com.serhat.secondhand.notification.repository.NotificationEventReadRepository;
 import com.serhat.secondhand.notification.repository.NotificationEventRepository;
 import com.serhat.secondhand.notification.repository.NotificationFeedRepository;
+import com.serhat.secondhand.notification.repository.NotificationReadWatermarkRepository;
 import com.serhat.secondhand.notification.repository.NotificationRepository;
 import com.serhat.secondhand.notification.repository.projection.NotificationFeedRow;
 import com.serhat.secondhand.user.domain.entity.User;
@@ -19,11 +21,16 @@ import com.serhat.secondhand.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -39,10 +46,17 @@ public class NotificationService implements INotificationService {
     private final NotificationFeedRepository notificationFeedRepository;
     private final NotificationEventRepository notificationEventRepository;
     private final NotificationEventReadRepository notificationEventReadRepository;
+    private final NotificationReadWatermarkRepository readWatermarkRepository;
+    private final NotificationUnreadCounter unreadCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationFanOutWriter fanOutWriter;
     private final UserRepository userRepository;
     private final NotificationMapper notificationMapper;
     private final NotificationWebSocketService webSocketService;
 
+    @Value("${app.notification.read-watermark.lag-ms:10000}")
+    private long readWatermarkLagMs;
+
     public Result<NotificationDto> createAndSend(NotificationRequest request) {
         log.info("Creating notification for user: {}, type: {}", request.getUserId(), request.getType());
 
@@ -65,6 +79,9 @@ public class NotificationService implements INotificationService {
 
         Notification saved = notificationRepository.save(notification);
         log.info("Notification created with id: {}", saved.getId());
+        if (NotificationUnreadCounter.isCounted(saved.getType())) {
+            eventPublisher.publishEvent(NotificationUnreadChangedEvent.personalCreated(user.getId(), 1));
+        }
 
         NotificationDto dto = notificationMapper.toDto(saved);
         webSocketService.sendNotificationToUser(user.getId(), dto);
@@ -81,6 +98,9 @@ public class NotificationService implements INotificationService {
                 .metadata(request.getMetadata())
                 .build();
         NotificationEvent saved = notificationEventRepository.save(event);
+        if (NotificationUnreadCounter.isCounted(saved.getType())) {
+            eventPublisher.publishEvent(new NotificationBroadcastCreatedEvent(saved.getId(), saved.getSeq()));
+        }
         NotificationDto dto = NotificationDto.builder()
                 .id(saved.getId())
                 .userId(null)
@@ -100,18 +120,13 @@ public class NotificationService implements INotificationService {
     @Transactional(readOnly = true)
     public Page<NotificationDto> getUserNotifications(Long userId, Pageable pageable) {
         log.info("Fetching notifications for user: {}, page: {}, size: {}", userId, pageable.getPageNumber(), pageable.getPageSize());
-        Page<NotificationFeedRow> page = notificationFeedRepository.findFeed(userId, pageable);
-        return page.map(this::toDto);
+        List<NotificationFeedRow> rows = notificationFeedRepository.findFeed(userId, pageable.getPageSize(), pageable.getOffset());
+        return new PageImpl<>(rows, pageable, unreadCounter.feedTotal(userId)).map(this::toDto);
     }
 
     @Transactional(readOnly = true)
-
     public Long getUnreadCount(Long userId) {
-        long personal = notificationRepository.countByUser_IdAndIsReadFalseAndTypeNot(userId, NotificationType.AGREEMENT_UPDATED);
-        long totalEvents = notificationEventRepository.countByTypeNot(NotificationType.AGREEMENT_UPDATED);
-        long reads = notificationEventReadRepository.countByUserIdForEventsWithTypeNot(userId, NotificationType.AGREEMENT_UPDATED);
-        long broadcastUnread = Math.max(0, totalEvents - reads);
-        return personal + broadcastUnread;
+        return unreadCounter.unreadCount(userId);
     }
 
 
@@ -131,6 +146,9 @@ public class NotificationService implements INotificationService {
                 notification.setIsRead(true);
                 notification.setReadAt(LocalDateTime.now());
                 notificationRepository.save(notification);
+                if (NotificationUnreadCounter.isCounted(notification.getType())) {
+                    eventPublisher.publishEvent(NotificationUnreadChangedEvent.personalRead(userId));
+                }
                 log.info("Notification {} marked as read", notificationId);
             }
             return Result.success();
@@ -141,6 +159,12 @@ public class NotificationService implements INotificationService {
             return Result.error(NotificationErrorCodes.NOTIFICATION_NOT_FOUND);
         }
 
+        long watermark = readWatermarkRepository.findById(userId)
+                .map(w -> w.getEventSeq())
+                .orElse(0L);
+        if (event.getSeq() != null && event.getSeq() <= watermark) {
+            return Result.success();
+        }
         boolean exists = notificationEventReadRepository.existsByEventIdAndUserId(notificationId, userId);
         if (!exists) {
             notificationEventReadRepository.save(NotificationEventRead.builder()
@@ -148,6 +172,9 @@ public class NotificationService implements INotificationService {
                     .userId(userId)
                     .readAt(LocalDateTime.now())
                     .build());
+            if (NotificationUnreadCounter.isCounted(event.getType())) {
+                eventPublisher.publishEvent(NotificationUnreadChangedEvent.broadcastRead(userId));
+            }
         }
         return Result.success();
     }
@@ -157,25 +184,24 @@ public class NotificationService implements INotificationService {
     public void markAllAsRead(Long userId) {
         log.info("Marking all notifications as read for user: {}", userId);
 
-        notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId)
-                .forEach(notification -> {
-                    notification.setIsRead(true);
-                    notification.setReadAt(LocalDateTime.now());
-                });
-
-        notificationRepository.flush();
-
-        List<UUID> unreadEventIds = notificationEventRepository.findUnreadEventIdsForUser(userId);
-        if (!unreadEventIds.isEmpty()) {
-            List<NotificationEventRead> eventReads = unreadEventIds.stream()
-                    .map(eventId -> NotificationEventRead.builder()
-                            .eventId(eventId)
-                            .userId(userId)
-                            .readAt(LocalDateTime.now())
-                            .build())
-                    .toList();
-            notificationEventReadRepository.saveAll(eventReads);
+        LocalDateTime requestedAt = LocalDateTime.now();
+        int personal = notificationRepository.markAllAsReadByUserId(userId, requestedAt);
+        log.debug("Marked {} personal notifications as read for user: {}", personal, userId);
+
+        // Yayın bildirimleri için olay başına satır yerine tek bir okundu sınırı (watermark) tutulur.
+        // seq insert anında verilir, commit sırası farklı olabilir: MAX(seq) alınırsa henüz commit
+        // edilmemiş daha küçük seq'li bir yayın sınırın altında kalıp hiç görülmeden okunmuş sayılır.
+        // Bu yüzden sınır yalnızca lag kadar eski olaylara kadar ilerler; daha yeni ve commit edilmiş
+        // olaylar tek tek okundu işaretlenir. Kalan boşluk: lag'den uzun açık kalan bir yayın
+        // transaction'ı yine sınırın altına düşebilir.
+        long watermark = notificationEventRepository.findMaxSeqCreatedAtOrBefore(
+                requestedAt.minus(Duration.ofMillis(readWatermarkLagMs)));
+        if (watermark > 0) {
+            readWatermarkRepository.advance(userId, watermark);
+            notificationEventReadRepository.deleteCoveredByWatermark(userId, watermark);
         }
+        notificationEventReadRepository.markReadAboveWatermark(userId, watermark, requestedAt);
+        eventPublisher.publishEvent(NotificationUnreadChangedEvent.recount(userId));
 
         log.info("All notifications marked as read for user: {}", userId);
     }
@@ -200,50 +226,17 @@ public class NotificationService implements INotificationService {
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public java.util.List<NotificationDto> createAndSendBulk(java.util.List<NotificationRequest> requests) {
         log.info("Creating bulk notifications, size: {}", requests.size());
-        if (requests.isEmpty()) {
-            return java.util.List.of();
-        }
-
-        java.util.List<Long> userIds = requests.stream()
-                .map(NotificationRequest::getUserId)
-                .distinct()
-                .toList();
-
-        java.util.Map<Long, User> userMap = userRepository.findAllById(userIds).stream()
-                .collect(java.util.stream.Collectors.toMap(User::getId, java.util.function.Function.identity()));
-
-        java.util.List<Notification> notificationsToSave = new java.util.ArrayList<>();
-        for (NotificationRequest req : requests) {
-            User user = userMap.get(req.getUserId());
-            if (user == null) {
-                log.warn("User {} not found for bulk notification, skipping", req.getUserId());
-                continue;
-            }
-            Notification notification = Notification.builder()
-                    .user(user)
-                    .type(req.getType())
-                    .title(req.getTitle())
-                    .message(req.getMessage())
-                    .actionUrl(req.getActionUrl())
-                    .metadata(req.getMetadata())
-                    .isRead(false)
-                    .build();
-            notificationsToSave.add(notification);
-        }
-
-        java.util.List<Notification> savedList = notificationRepository.saveAll(notificationsToSave);
-        log.info("Bulk notifications saved successfully, count: {}", savedList.size());
+        return fanOutWriter.write("bulk", requests);
+    }
 
-        return savedList.stream()
-                .map(n -> {
-                    NotificationDto dto = notificationMapper.toDto(n);
-                    webSocketService.sendNotificationToUser(n.getUser().getId(), dto);
-                    return dto;
-                })
-                .toList();
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int fanOut(String job, java.util.Collection<Long> userIds, NotificationRequest template) {
+        log.info("Fanning out notification, job: {}, recipients: {}", job, userIds.size());
+        return fanOutWriter.fanOut(job, userIds, template);
     }
 }
 
@@ -0,0 +1,230 @@
+package com.serhat.secondhand.notification.application;
+
+import com.serhat.secondhand.notification.application.event.NotificationBroadcastCreatedEvent;
+import com.serhat.secondhand.notification.application.event.NotificationUnreadChangedEvent;
+import com.serhat.secondhand.notification.entity.enums.NotificationType;
+import com.serhat.secondhand.notification.repository.NotificationEventRepository;
+import com.serhat.secondhand.notification.repository.NotificationFeedRepository;
+import com.serhat.secondhand.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Materialised notification badge.
+ * <ul>
+ *   <li>{@code notification:badge:user:{id}} hash: {@code unread} / {@code total} personal notifications and
+ *       {@code broadcastRead}, the number of broadcast events the user has read.</li>
+ *   <li>{@code notification:badge:broadcast-head}: number of broadcast events.</li>
+ * </ul>
+ * Broadcast unread is {@code head - broadcastRead}, so the badge is two Redis reads instead of three
+ * COUNT queries. Counters are seeded from Postgres on a miss, adjusted after commit, and expire after
+ * {@code app.notification.unread-counter.ttl-seconds} to absorb drift. {@code AGREEMENT_UPDATED} is not
+ * counted, matching the feed. When Redis is unavailable the counts come from the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationUnreadCounter {
+
+    private static final String USER_KEY_PREFIX = "notification:badge:user:";
+    private static final String HEAD_KEY = "notification:badge:broadcast-head";
+    private static final List<Object> FIELDS = List.of("unread", "total", "broadcastRead");
+
+    /** KEYS[1] = user hash, ARGV = unread, total, broadcastRead, ttl seconds. No-op if already seeded. */
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            redis.call('HSET', KEYS[1], 'unread', ARGV[1], 'total', ARGV[2], 'broadcastRead', ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """, Long.class);
+
+    /** KEYS[1] = user hash, ARGV = deltas. A missing hash is left to be seeded with the committed state. */
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            redis.call('HINCRBY', KEYS[1], 'unread', ARGV[1])
+            redis.call('HINCRBY', KEYS[1], 'total', ARGV[2])
+            redis.call('HINCRBY', KEYS[1], 'broadcastRead', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> HEAD_INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            return redis.call('INCR', KEYS[1])
+            """, Long.class);
+
+    private record Snapshot(long unread, long total, long broadcastRead, long head) {
+        long badge() {
+            return Math.max(0, unread) + Math.max(0, head - broadcastRead);
+        }
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final NotificationEventRepository notificationEventRepository;
+    private final NotificationFeedRepository notificationFeedRepository;
+    private final NotificationWebSocketService webSocketService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.notification.unread-counter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.notification.unread-counter.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    public static boolean isCounted(NotificationType type) {
+        return type != NotificationType.AGREEMENT_UPDATED;
+    }
+
+    public long unreadCount(Long userId) {
+        Snapshot snapshot = snapshot(userId);
+        if (snapshot != null) {
+            return snapshot.badge();
+        }
+        long personal = notificationRepository.countByUser_IdAndIsReadFalseAndTypeNot(userId, NotificationType.AGREEMENT_UPDATED);
+        long broadcastUnread = notificationEventRepository.countByTypeNot(NotificationType.AGREEMENT_UPDATED)
+                - notificationEventRepository.countReadByUser(userId);
+        return personal + Math.max(0, broadcastUnread);
+    }
+
+    /** Size of the notification feed (personal + broadcast), used as the page total. */
+    public long feedTotal(Long userId) {
+        Snapshot snapshot = snapshot(userId);
+        if (snapshot != null) {
+            return Math.max(0, snapshot.total()) + snapshot.head();
+        }
+        return notificationFeedRepository.countFeed(userId);
+    }
+
+    /**
+     * Pushes the new badge only to users whose counters are live (seeded by a recent badge read); others
+     * are most likely offline and get an exact count on their next read. This keeps large fan-outs from
+     * seeding counters for every recipient.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUnreadChanged(NotificationUnreadChangedEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+        boolean push = event.recount();
+        if (enabled) {
+            String key = userKey(event.userId());
+            try {
+                if (event.recount()) {
+                    redisTemplate.delete(key);
+                } else {
+                    Long applied = redisTemplate.execute(APPLY_SCRIPT, List.of(key),
+                            String.valueOf(event.unreadDelta()),
+                            String.valueOf(event.totalDelta()),
+                            String.valueOf(event.broadcastReadDelta()));
+                    push = applied != null && applied == 1L;
+                }
+            } catch (RuntimeException e) {
+                // Sayaç bozulmuş olabilir; silinirse bir sonraki okumada veritabanından yeniden doldurulur.
+                record("apply_failed");
+                log.warn("Notification badge update failed | userId={} message={}", event.userId(), e.getMessage());
+                dropQuietly(key);
+            }
+        }
+        if (push) {
+            webSocketService.sendUnreadCount(event.userId(), unreadCount(event.userId()));
+        }
+    }
+
+    /**
+     * Broadcasts are not pushed per user: clients already receive the event on {@code /topic/notifications}
+     * and bump their badge locally.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBroadcastCreated(NotificationBroadcastCreatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(HEAD_INCREMENT_SCRIPT, List.of(HEAD_KEY));
+        } catch (RuntimeException e) {
+            record("apply_failed");
+            log.warn("Notification broadcast head update failed | eventId={} message={}", event.eventId(), e.getMessage());
+            dropQuietly(HEAD_KEY);
+        }
+    }
+
+    private Snapshot snapshot(Long userId) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            Long head = head();
+            String key = userKey(userId);
+            List<Object> values = redisTemplate.opsForHash().multiGet(key, FIELDS);
+            if (values.stream().anyMatch(value -> value == null)) {
+                seed(userId, key);
+                values = redisTemplate.opsForHash().multiGet(key, FIELDS);
+                if (values.stream().anyMatch(value -> value == null)) {
+                    record("fallback");
+                    return null;
+                }
+            } else {
+                record("hit");
+            }
+            return new Snapshot(asLong(values.get(0)), asLong(values.get(1)), asLong(values.get(2)), head);
+        } catch (RuntimeException e) {
+            record("fallback");
+            log.warn("Notification badge counters unavailable, counting in database | userId={} message={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private long head() {
+        String value = redisTemplate.opsForValue().get(HEAD_KEY);
+        if (value == null) {
+            long count = notificationEventRepository.countByTypeNot(NotificationType.AGREEMENT_UPDATED);
+            redisTemplate.opsForValue().setIfAbsent(HEAD_KEY, String.valueOf(count), Duration.ofSeconds(ttlSeconds));
+            value = redisTemplate.opsForValue().get(HEAD_KEY);
+        }
+        return value == null ? 0 : Long.parseLong(value);
+    }
+
+    private void seed(Long userId, String key) {
+        record("seed");
+        long unread = notificationRepository.countByUser_IdAndIsReadFalseAndTypeNot(userId, NotificationType.AGREEMENT_UPDATED);
+        long total = notificationRepository.countByUser_IdAndTypeNot(userId, NotificationType.AGREEMENT_UPDATED);
+        long broadcastRead = notificationEventRepository.countReadByUser(userId);
+        redisTemplate.execute(SEED_SCRIPT, List.of(key),
+                String.valueOf(unread), String.valueOf(total), String.valueOf(broadcastRead), String.valueOf(ttlSeconds));
+    }
+
+    private void dropQuietly(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (RuntimeException ignored) {
+            // TTL sonunda kendiliğinden düşer.
+        }
+    }
+
+    private void record(String result) {
+        Counter.builder("notification.unread.counter")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static long asLong(Object value) {
+        return Long.parseLong(String.valueOf(value));
+    }
+
+    private static String userKey(Long userId) {
+        return USER_KEY_PREFIX + userId;
+    }
+}
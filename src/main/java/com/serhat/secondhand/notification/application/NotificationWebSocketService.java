@@ -6,6 +6,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -23,6 +25,16 @@ public class NotificationWebSocketService {
         }
     }
 
+    public void sendUnreadCount(Long userId, long unreadCount) {
+        try {
+            String destination = "/user/" + userId + "/notifications/unread-count";
+            messagingTemplate.convertAndSend(destination, Map.of("unreadCount", unreadCount));
+            log.debug("Unread count sent via WebSocket to user: {}, count: {}", userId, unreadCount);
+        } catch (Exception e) {
+            log.error("Failed to send unread count via WebSocket to user: {}", userId, e);
+        }
+    }
+
     public void sendBroadcast(NotificationDto notification) {
         try {
             String destination = "/topic/notifications";
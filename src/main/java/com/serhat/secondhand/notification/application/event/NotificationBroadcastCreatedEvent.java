@@ -0,0 +1,9 @@
+package com.serhat.secondhand.notification.application.event;
+
+import java.util.UUID;
+
+public record NotificationBroadcastCreatedEvent(
+        UUID eventId,
+        Long seq
+) {
+}
@@ -0,0 +1,30 @@
+package com.serhat.secondhand.notification.application.event;
+
+/**
+ * Change to a user's badge counters, applied by {@code NotificationUnreadCounter} after commit.
+ * {@code recount} drops the counters so that they are seeded again from the database.
+ */
+public record NotificationUnreadChangedEvent(
+        Long userId,
+        long unreadDelta,
+        long totalDelta,
+        long broadcastReadDelta,
+        boolean recount
+) {
+
+    public static NotificationUnreadChangedEvent personalCreated(Long userId, long count) {
+        return new NotificationUnreadChangedEvent(userId, count, count, 0, false);
+    }
+
+    public static NotificationUnreadChangedEvent personalRead(Long userId) {
+        return new NotificationUnreadChangedEvent(userId, -1, 0, 0, false);
+    }
+
+    public static NotificationUnreadChangedEvent broadcastRead(Long userId) {
+        return new NotificationUnreadChangedEvent(userId, 0, 0, 1, false);
+    }
+
+    public static NotificationUnreadChangedEvent recount(Long userId) {
+        return new NotificationUnreadChangedEvent(userId, 0, 0, 0, true);
+    }
+}
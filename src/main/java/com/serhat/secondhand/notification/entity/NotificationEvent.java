@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Generated;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -26,6 +27,11 @@ public class NotificationEvent {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    /** Assigned by {@code notification_event_seq}; compared against {@link NotificationReadWatermark}. */
+    @Generated
+    @Column(name = "seq", insertable = false, updatable = false)
+    private Long seq;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "type", nullable = false, length = 50)
     private NotificationType type;
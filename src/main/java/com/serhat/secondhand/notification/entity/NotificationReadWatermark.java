@@ -0,0 +1,31 @@
+package com.serhat.secondhand.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Broadcast events with {@code seq <= eventSeq} are read for this user; set by "mark all as read".
+ */
+@Entity
+@Table(name = "notification_read_watermarks")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationReadWatermark {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "event_seq", nullable = false)
+    private Long eventSeq;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
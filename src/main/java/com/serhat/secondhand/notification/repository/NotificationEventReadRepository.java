@@ -1,13 +1,13 @@
 package com.serhat.secondhand.notification.repository;
 
 import com.serhat.secondhand.notification.entity.NotificationEventRead;
-import com.serhat.secondhand.notification.entity.NotificationEvent;
-import com.serhat.secondhand.notification.entity.enums.NotificationType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Repository
@@ -15,7 +15,25 @@ public interface NotificationEventReadRepository extends JpaRepository<Notificat
     boolean existsByEventIdAndUserId(UUID eventId, Long userId);
     long countByUserId(Long userId);
 
-    @Query("SELECT COUNT(r) FROM NotificationEventRead r, NotificationEvent e WHERE r.eventId = e.id AND r.userId = :userId AND e.type <> :excluded")
-    long countByUserIdForEventsWithTypeNot(@Param("userId") Long userId, @Param("excluded") NotificationType excluded);
+    /** Per-event read rows at or below the user's watermark are redundant once it has moved. */
+    @Modifying
+    @Query(value = """
+            delete from notification_event_reads r
+            using notification_events e
+            where r.event_id = e.id and r.user_id = :userId and e.seq <= :eventSeq
+            """, nativeQuery = true)
+    int deleteCoveredByWatermark(@Param("userId") Long userId, @Param("eventSeq") long eventSeq);
+
+    /** Marks one by one the committed events above the watermark that existed when "mark all" was requested. */
+    @Modifying
+    @Query(value = """
+            insert into notification_event_reads (id, event_id, user_id, read_at)
+            select gen_random_uuid(), e.id, :userId, now()
+            from notification_events e
+            where e.seq > :eventSeq and e.created_at <= :requestedAt
+            on conflict (event_id, user_id) do nothing
+            """, nativeQuery = true)
+    int markReadAboveWatermark(@Param("userId") Long userId, @Param("eventSeq") long eventSeq,
+                               @Param("requestedAt") LocalDateTime requestedAt);
 }
 
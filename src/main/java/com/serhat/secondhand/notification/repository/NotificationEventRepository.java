@@ -4,9 +4,10 @@ import com.serhat.secondhand.notification.entity.NotificationEvent;
 import com.serhat.secondhand.notification.entity.enums.NotificationType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Repository
@@ -14,7 +15,17 @@ public interface NotificationEventRepository extends JpaRepository<NotificationE
 
     long countByTypeNot(NotificationType excludedType);
 
-    @Query("SELECT e.id FROM NotificationEvent e WHERE e.id NOT IN (SELECT r.eventId FROM NotificationEventRead r WHERE r.userId = :userId)")
-    List<UUID> findUnreadEventIdsForUser(@org.springframework.data.repository.query.Param("userId") Long userId);
+    /** Highest sequence among events created at or before {@code cutoff}; the "mark all" watermark. */
+    @Query("SELECT COALESCE(MAX(e.seq), 0) FROM NotificationEvent e WHERE e.createdAt <= :cutoff")
+    long findMaxSeqCreatedAtOrBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /** Countable broadcast events the user has read: under the watermark or marked one by one above it. */
+    @Query(value = """
+            select count(*) from notification_events e
+            where e.type <> 'AGREEMENT_UPDATED'
+              and (e.seq <= coalesce((select w.event_seq from notification_read_watermarks w where w.user_id = :userId), 0)
+                   or exists (select 1 from notification_event_reads r where r.event_id = e.id and r.user_id = :userId))
+            """, nativeQuery = true)
+    long countReadByUser(@Param("userId") Long userId);
 }
 
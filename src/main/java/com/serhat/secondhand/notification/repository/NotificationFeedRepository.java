@@ -1,14 +1,17 @@
 package com.serhat.secondhand.notification.repository;
 
 import com.serhat.secondhand.notification.repository.projection.NotificationFeedRow;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * The feed total is taken from the unread counters ({@code NotificationUnreadCounter}); {@link #countFeed}
+ * is only used when they are unavailable.
+ */
 @org.springframework.stereotype.Repository
 public interface NotificationFeedRepository extends Repository<com.serhat.secondhand.notification.entity.Notification, UUID> {
 
@@ -39,23 +42,32 @@ public interface NotificationFeedRepository extends Repository<com.serhat.second
                       e.message as message,
                       e.action_url as actionUrl,
                       e.metadata as metadata,
-                      case when r.user_id is null then false else true end as isRead,
-                      r.read_at as readAt,
+                      case when r.user_id is not null or e.seq <= coalesce(w.event_seq, 0) then true else false end as isRead,
+                      case when r.user_id is not null then r.read_at when e.seq <= coalesce(w.event_seq, 0) then w.updated_at end as readAt,
                       e.created_at as createdAt
                     from notification_events e
                     left join notification_event_reads r
                       on r.event_id = e.id and r.user_id = :userId
+                    left join notification_read_watermarks w
+                      on w.user_id = :userId
                     where e.type <> 'AGREEMENT_UPDATED'
                     
                     order by createdAt desc
+                    limit :limit offset :offset
                     """,
-            countQuery = """
+            nativeQuery = true
+    )
+    List<NotificationFeedRow> findFeed(@Param("userId") Long userId,
+                                       @Param("limit") int limit,
+                                       @Param("offset") long offset);
+
+    @Query(
+            value = """
                     select
                       (select count(*) from notifications n where n.user_id = :userId and n.type <> 'AGREEMENT_UPDATED') +
                       (select count(*) from notification_events e where e.type <> 'AGREEMENT_UPDATED')
                     """,
             nativeQuery = true
     )
-    Page<NotificationFeedRow> findFeed(@Param("userId") Long userId, Pageable pageable);
+    long countFeed(@Param("userId") Long userId);
 }
-
@@ -0,0 +1,23 @@
+package com.serhat.secondhand.notification.repository;
+
+import com.serhat.secondhand.notification.entity.NotificationReadWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationReadWatermarkRepository extends JpaRepository<NotificationReadWatermark, Long> {
+
+    /** Watermark never moves backwards, so concurrent "mark all" requests cannot un-read events. */
+    @Modifying
+    @Query(value = """
+            insert into notification_read_watermarks (user_id, event_seq, updated_at)
+            values (:userId, :eventSeq, now())
+            on conflict (user_id) do update
+              set event_seq = greatest(notification_read_watermarks.event_seq, excluded.event_seq),
+                  updated_at = excluded.updated_at
+            """, nativeQuery = true)
+    int advance(@Param("userId") Long userId, @Param("eventSeq") long eventSeq);
+}
@@ -4,6 +4,7 @@ import com.serhat.secondhand.notification.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -25,8 +26,16 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     Long countByUser_IdAndIsReadFalseAndTypeNot(
             Long userId,
             com.serhat.secondhand.notification.entity.enums.NotificationType excludedType);
+
+    long countByUser_IdAndTypeNot(
+            Long userId,
+            com.serhat.secondhand.notification.entity.enums.NotificationType excludedType);
     
     List<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(Long userId);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId, @Param("readAt") java.time.LocalDateTime readAt);
     
     boolean existsByIdAndUserId(UUID id, Long userId);
 
@@ -1,5 +1,7 @@
 package com.serhat.secondhand.offer.scheduler;
 
+import com.serhat.secondhand.core.scheduling.ClusterLeased;
+import com.serhat.secondhand.core.scheduling.SchedulerLeaseService;
 import com.serhat.secondhand.offer.email.OfferEmailNotificationService;
 import com.serhat.secondhand.offer.entity.Offer;
 import com.serhat.secondhand.offer.entity.OfferStatus;
@@ -20,10 +22,13 @@ public class OfferScheduler {
 
     private final OfferRepository offerRepository;
     private final OfferEmailNotificationService notificationService;
+    private final SchedulerLeaseService schedulerLeaseService;
 
     @Scheduled(cron = "${app.offer.scheduler-cron:0 * * * * *}")
+    @ClusterLeased(name = "offer-expiry", lockAtLeastForMs = 30_000)
     @Transactional
     public void checkExpiredOffers() {
+        schedulerLeaseService.fenceCurrent();
         log.debug("Checking for expired offers...");
 
         List<Offer> expiredOffers = offerRepository.findAllByStatusAndExpiresAtBefore(
@@ -0,0 +1,53 @@
+package com.serhat.secondhand.order.application;
+
+import com.serhat.secondhand.order.entity.enums.OrderStatus;
+import com.serhat.secondhand.order.util.OrderBusinessConstants;
+
+import java.time.Duration;
+
+/**
+ * Time-based transitions applied by {@link OrderCompletionScheduler}.
+ * <p>
+ * {@link #minimumDelay()} is the shortest delay any order can have for the transition (the premium
+ * interval for the simulated shipping steps); it bounds the due-time query, and the exact per-order
+ * deadline is re-checked inside the order's own transaction.
+ */
+public enum OrderAutoTransition {
+
+    TO_PROCESSING(OrderStatus.CONFIRMED, OrderStatus.PROCESSING, premiumStatusInterval()),
+    TO_SHIPPED(OrderStatus.PROCESSING, OrderStatus.SHIPPED, premiumStatusInterval()),
+    TO_DELIVERED(OrderStatus.SHIPPED, OrderStatus.DELIVERED, premiumStatusInterval()),
+    COMPLETE_DELIVERED(OrderStatus.DELIVERED, OrderStatus.COMPLETED, Duration.ofHours(OrderBusinessConstants.AUTO_COMPLETION_HOURS)),
+    COMPLETE_MEETUP(OrderStatus.HANDOVER_CONFIRMED, OrderStatus.COMPLETED, Duration.ofHours(24)),
+    EXPIRE_MEETUP(OrderStatus.MEETUP_PENDING, OrderStatus.CANCELLED, Duration.ofDays(7));
+
+    private final OrderStatus from;
+    private final OrderStatus to;
+    private final Duration minimumDelay;
+
+    OrderAutoTransition(OrderStatus from, OrderStatus to, Duration minimumDelay) {
+        this.from = from;
+        this.to = to;
+        this.minimumDelay = minimumDelay;
+    }
+
+    public OrderStatus from() {
+        return from;
+    }
+
+    public OrderStatus to() {
+        return to;
+    }
+
+    public Duration minimumDelay() {
+        return minimumDelay;
+    }
+
+    public String metricTag() {
+        return name().toLowerCase();
+    }
+
+    private static Duration premiumStatusInterval() {
+        return Duration.ofMinutes(OrderBusinessConstants.STATUS_UPDATE_INTERVAL_MINUTES / 2);
+    }
+}
@@ -0,0 +1,196 @@
+package com.serhat.secondhand.order.application;
+
+import com.serhat.secondhand.core.scheduling.SchedulerLeaseService;
+import com.serhat.secondhand.escrow.application.EscrowService;
+import com.serhat.secondhand.order.application.event.OrderCompletedEvent;
+import com.serhat.secondhand.order.application.event.OrderStatusChangedEvent;
+import com.serhat.secondhand.order.entity.Order;
+import com.serhat.secondhand.order.entity.enums.DeliveryMethod;
+import com.serhat.secondhand.order.entity.enums.OrderStatus;
+import com.serhat.secondhand.order.repository.OrderRepository;
+import com.serhat.secondhand.order.util.OrderBusinessConstants;
+import com.serhat.secondhand.payment.entity.PaymentStatus;
+import com.serhat.secondhand.shipping.entity.Shipping;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Applies one {@link OrderAutoTransition} to one order in its own transaction.
+ * <p>
+ * The order is reloaded and its status and deadline re-checked, so a candidate picked by the
+ * due-time query that was changed meanwhile (manually or by another node) is skipped.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderAutoTransitionService {
+
+    public enum Outcome {
+        APPLIED,
+        NOT_DUE,
+        /** Escrow step failed; the order stays as is and is retried on the next run. */
+        DEFERRED
+    }
+
+    public record TransitionResult(Outcome outcome, LocalDateTime dueAt) {
+        static TransitionResult notDue() {
+            return new TransitionResult(Outcome.NOT_DUE, null);
+        }
+    }
+
+    private final OrderRepository orderRepository;
+    private final EscrowService escrowService;
+    private final OrderLogService orderLog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    @Transactional
+    public TransitionResult apply(OrderAutoTransition transition, Long orderId, LocalDateTime now) {
+        schedulerLeaseService.fenceCurrent();
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null || order.getStatus() != transition.from()) {
+            return TransitionResult.notDue();
+        }
+        LocalDateTime dueAt = dueAt(transition, order);
+        if (dueAt == null || dueAt.isAfter(now)) {
+            return TransitionResult.notDue();
+        }
+        boolean applied = switch (transition) {
+            case TO_PROCESSING -> markProcessing(order);
+            case TO_SHIPPED -> markShipped(order);
+            case TO_DELIVERED -> markDelivered(order);
+            case COMPLETE_DELIVERED -> complete(order, null);
+            case COMPLETE_MEETUP -> complete(order, now);
+            case EXPIRE_MEETUP -> expireMeetup(order);
+        };
+        return new TransitionResult(applied ? Outcome.APPLIED : Outcome.DEFERRED, dueAt);
+    }
+
+    // ── Deadlines ────────────────────────────────────────────────────────────
+
+    private LocalDateTime dueAt(OrderAutoTransition transition, Order order) {
+        return switch (transition) {
+            case TO_PROCESSING -> {
+                LocalDateTime since = order.getUpdatedAt() != null ? order.getUpdatedAt() : order.getCreatedAt();
+                if (since == null) {
+                    orderLog.logDataWarning("Order {} has null createdAt and updatedAt", order.getOrderNumber());
+                    yield null;
+                }
+                yield since.plusMinutes(getEffectiveInterval(order));
+            }
+            case TO_SHIPPED -> {
+                if (order.getUpdatedAt() == null) {
+                    orderLog.logDataWarning("Order {} has null updatedAt, cannot update to SHIPPED", order.getOrderNumber());
+                    yield null;
+                }
+                yield order.getUpdatedAt().plusMinutes(getEffectiveInterval(order));
+            }
+            case TO_DELIVERED -> {
+                Shipping shipping = order.getShipping();
+                LocalDateTime since = shipping != null && shipping.getInTransitAt() != null
+                        ? shipping.getInTransitAt()
+                        : order.getUpdatedAt();
+                yield since != null ? since.plusMinutes(getEffectiveInterval(order)) : null;
+            }
+            case COMPLETE_DELIVERED -> {
+                Shipping shipping = order.getShipping();
+                yield shipping != null && shipping.getDeliveredAt() != null
+                        ? shipping.getDeliveredAt().plus(transition.minimumDelay())
+                        : null;
+            }
+            case COMPLETE_MEETUP -> order.getDeliveryMethod() == DeliveryMethod.SAFE_MEETUP && order.getMeetupVerifiedAt() != null
+                    ? order.getMeetupVerifiedAt().plus(transition.minimumDelay())
+                    : null;
+            case EXPIRE_MEETUP -> order.getDeliveryMethod() == DeliveryMethod.SAFE_MEETUP && order.getCreatedAt() != null
+                    ? order.getCreatedAt().plus(transition.minimumDelay())
+                    : null;
+        };
+    }
+
+    private int getEffectiveInterval(Order order) {
+        int baseInterval = OrderBusinessConstants.STATUS_UPDATE_INTERVAL_MINUTES;
+        if (order.getUser() != null && order.getUser().isPremium()) {
+            return baseInterval / 2;
+        }
+        return baseInterval;
+    }
+
+    // ── Transitions ──────────────────────────────────────────────────────────
+
+    private boolean markProcessing(Order order) {
+        OrderStatus oldStatus = order.getStatus();
+        order.markAsProcessing();
+        orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(order, oldStatus.name(), OrderStatus.PROCESSING.name()));
+        orderLog.logStatusChanged(order.getOrderNumber(), oldStatus.name(), "PROCESSING");
+        return true;
+    }
+
+    private boolean markShipped(Order order) {
+        OrderStatus oldStatus = order.getStatus();
+        // Simulation: Use ARAS carrier and a random tracking number
+        String trackingNumber = "TRK" + System.currentTimeMillis();
+        order.markAsShipped("ARAS", trackingNumber, null, "SIM-" + trackingNumber, null, BigDecimal.ZERO);
+        orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(order, oldStatus.name(), OrderStatus.SHIPPED.name()));
+        orderLog.logStatusChanged(order.getOrderNumber(), oldStatus.name(), "SHIPPED (Tracking: " + trackingNumber + ")");
+        return true;
+    }
+
+    private boolean markDelivered(Order order) {
+        OrderStatus oldStatus = order.getStatus();
+        order.markAsDelivered();
+        orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(order, oldStatus.name(), OrderStatus.DELIVERED.name()));
+        orderLog.logStatusChanged(order.getOrderNumber(), oldStatus.name(), "DELIVERED");
+        return true;
+    }
+
+    /**
+     * Releases escrow and completes the order; {@code completedAt} is set for meetup hand-overs,
+     * which are completed by the system rather than by a user.
+     */
+    private boolean complete(Order order, LocalDateTime completedAt) {
+        OrderStatus oldStatus = order.getStatus();
+
+        // Release escrows first; only mark COMPLETED if release succeeds.
+        var orchestratorResult = escrowService.release(order);
+        if (orchestratorResult.isError()) {
+            return false;
+        }
+
+        order.applyCompletion();
+        if (completedAt != null) {
+            order.setCompletedByUser(null);
+            order.setCompletedAt(completedAt);
+        }
+        Order savedOrder = orderRepository.save(order);
+
+        eventPublisher.publishEvent(new OrderCompletedEvent(savedOrder, savedOrder.getUser(), true));
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(savedOrder, oldStatus.name(), OrderStatus.COMPLETED.name()));
+        orderLog.logOrderCompleted(savedOrder.getOrderNumber(), true);
+        return true;
+    }
+
+    private boolean expireMeetup(Order order) {
+        OrderStatus oldStatus = order.getStatus();
+
+        // Release/Refund escrow back to the buyer
+        var orchestratorResult = escrowService.cancel(order, order.getOrderItems());
+        if (orchestratorResult.isError()) {
+            return false;
+        }
+
+        order.setStatus(OrderStatus.CANCELLED);
+        order.setPaymentStatus(PaymentStatus.REFUNDED);
+        Order savedOrder = orderRepository.save(order);
+
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(savedOrder, oldStatus.name(), OrderStatus.CANCELLED.name()));
+        orderLog.logOrderCancelled(savedOrder.getOrderNumber(), false, "SYSTEM");
+        return true;
+    }
+}
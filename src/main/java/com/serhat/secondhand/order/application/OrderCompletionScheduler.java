@@ -1,212 +1,133 @@
 package com.serhat.secondhand.order.application;
 
-import com.serhat.secondhand.escrow.application.EscrowService;
-import com.serhat.secondhand.order.application.event.OrderCompletedEvent;
-import com.serhat.secondhand.order.application.event.OrderStatusChangedEvent;
-import com.serhat.secondhand.order.entity.Order;
-import com.serhat.secondhand.order.entity.enums.OrderStatus;
+import com.serhat.secondhand.core.scheduling.ClusterLeased;
+import com.serhat.secondhand.core.scheduling.SchedulerLease;
+import com.serhat.secondhand.core.scheduling.SchedulerLeaseLostException;
+import com.serhat.secondhand.order.entity.enums.DeliveryMethod;
 import com.serhat.secondhand.order.repository.OrderRepository;
 import com.serhat.secondhand.order.util.OrderBusinessConstants;
-import com.serhat.secondhand.shipping.entity.Shipping;
-import com.serhat.secondhand.shipping.repository.ShippingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * Drives the time-based order transitions ({@link OrderAutoTransition}).
+ * <p>
+ * For each transition only orders whose deadline has passed are selected, as IDs, in keyset
+ * batches of {@link #BATCH_SIZE}; every order is then applied in its own short transaction by
+ * {@link OrderAutoTransitionService}, so one failure never rolls back the rest of the run.
+ * Work is split across nodes by order id through the scheduler lease's shards.
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class OrderCompletionScheduler {
 
+    private static final int BATCH_SIZE = 200;
+
     private final OrderRepository orderRepository;
-    private final ShippingRepository shippingRepository;
-    private final EscrowService escrowService;
+    private final OrderAutoTransitionService transitionService;
     private final OrderLogService orderLog;
-    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
     @Scheduled(fixedRate = OrderBusinessConstants.STATUS_UPDATE_INTERVAL_MINUTES * 60 * 1000L)
-    @Transactional
+    @ClusterLeased(name = "order-completion", leaseMs = 5 * 60 * 1000L, shards = 4)
     public void autoUpdateOrderStatus() {
         orderLog.logSchedulerStarted();
 
+        SchedulerLease lease = SchedulerLease.current();
         LocalDateTime now = LocalDateTime.now();
         int updatedCount = 0;
-
-        List<Order> confirmedOrders = orderRepository.findByStatusWithShipping(OrderStatus.CONFIRMED);
-        for (Order order : confirmedOrders) {
-            if (shouldUpdateToProcessing(order, now)) {
-                OrderStatus oldStatus = order.getStatus();
-                order.markAsProcessing();
-                orderRepository.save(order);
-                eventPublisher.publishEvent(new OrderStatusChangedEvent(order, oldStatus.name(), OrderStatus.PROCESSING.name()));
-                updatedCount++;
-                orderLog.logStatusChanged(order.getOrderNumber(), oldStatus.name(), "PROCESSING");
-            }
-        }
-
-        List<Order> processingOrders = orderRepository.findByStatusWithShipping(OrderStatus.PROCESSING);
-        for (Order order : processingOrders) {
-            if (shouldUpdateToShipped(order, now)) {
-                OrderStatus oldStatus = order.getStatus();
-                // Simulation: Use ARAS carrier and a random tracking number
-                String trackingNumber = "TRK" + System.currentTimeMillis();
-                order.markAsShipped("ARAS", trackingNumber, null, "SIM-" + trackingNumber, null, java.math.BigDecimal.ZERO);
-                orderRepository.save(order);
-                eventPublisher.publishEvent(new OrderStatusChangedEvent(order, oldStatus.name(), OrderStatus.SHIPPED.name()));
-                updatedCount++;
-                orderLog.logStatusChanged(order.getOrderNumber(), oldStatus.name(), "SHIPPED (Tracking: " + trackingNumber + ")");
-            }
-        }
-
-        List<Order> shippedOrders = orderRepository.findByStatusWithShipping(OrderStatus.SHIPPED);
-        for (Order order : shippedOrders) {
-            if (shouldUpdateToDelivered(order, now)) {
-                OrderStatus oldStatus = order.getStatus();
-                order.markAsDelivered();
-                orderRepository.save(order);
-                eventPublisher.publishEvent(new OrderStatusChangedEvent(order, oldStatus.name(), OrderStatus.DELIVERED.name()));
-                updatedCount++;
-                orderLog.logStatusChanged(order.getOrderNumber(), oldStatus.name(), "DELIVERED");
-            }
-        }
-
-        List<Order> deliveredOrders = orderRepository.findByStatusWithShipping(OrderStatus.DELIVERED);
-        for (Order order : deliveredOrders) {
-            Shipping shipping = order.getShipping();
-            if (shipping == null || shipping.getDeliveredAt() == null) {
-                continue;
-            }
-            if (shouldAutoCompleteOrder(shipping, now)) {
-                OrderStatus oldStatus = order.getStatus();
-
-                // Release escrows first; only mark COMPLETED if release succeeds.
-                var orchestratorResult = escrowService.release(order);
-                if (orchestratorResult.isError()) {
-                    continue; // skip completing this order; will retry on next scheduler run
-                }
-
-                order.applyCompletion();
-                Order savedOrder = orderRepository.save(order);
-
-                eventPublisher.publishEvent(new OrderCompletedEvent(savedOrder, savedOrder.getUser(), true));
-                eventPublisher.publishEvent(new OrderStatusChangedEvent(savedOrder, oldStatus.name(), OrderStatus.COMPLETED.name()));
-                updatedCount++;
-                orderLog.logOrderCompleted(savedOrder.getOrderNumber(), true);
-            }
-        }
-
-        List<Order> handoverConfirmedOrders = orderRepository.findByStatusWithShipping(OrderStatus.HANDOVER_CONFIRMED);
-        for (Order order : handoverConfirmedOrders) {
-            if (order.getDeliveryMethod() == com.serhat.secondhand.order.entity.enums.DeliveryMethod.SAFE_MEETUP && order.getMeetupVerifiedAt() != null) {
-                Duration duration = Duration.between(order.getMeetupVerifiedAt(), now);
-                if (duration.toHours() >= 24) {
-                    OrderStatus oldStatus = order.getStatus();
-
-                    // Release escrows first
-                    var orchestratorResult = escrowService.release(order);
-                    if (orchestratorResult.isError()) {
-                        continue;
-                    }
-
-                    order.applyCompletion();
-                    order.setCompletedByUser(null);
-                    order.setCompletedAt(now);
-                    Order savedOrder = orderRepository.save(order);
-
-                    eventPublisher.publishEvent(new OrderCompletedEvent(savedOrder, savedOrder.getUser(), true));
-                    eventPublisher.publishEvent(new OrderStatusChangedEvent(savedOrder, oldStatus.name(), OrderStatus.COMPLETED.name()));
-                    updatedCount++;
-                    orderLog.logOrderCompleted(savedOrder.getOrderNumber(), true);
-                }
-            }
-        }
-
-        List<Order> pendingMeetupOrders = orderRepository.findByStatusWithShipping(OrderStatus.MEETUP_PENDING);
-        for (Order order : pendingMeetupOrders) {
-            if (order.getDeliveryMethod() == com.serhat.secondhand.order.entity.enums.DeliveryMethod.SAFE_MEETUP) {
-                Duration duration = Duration.between(order.getCreatedAt(), now);
-                if (duration.toDays() >= 7) {
-                    OrderStatus oldStatus = order.getStatus();
-
-                    // Release/Refund escrow back to the buyer
-                    var orchestratorResult = escrowService.cancel(order, order.getOrderItems());
-                    if (orchestratorResult.isError()) {
-                        continue;
-                    }
-
-                    order.setStatus(OrderStatus.CANCELLED);
-                    order.setPaymentStatus(com.serhat.secondhand.payment.entity.PaymentStatus.REFUNDED);
-                    Order savedOrder = orderRepository.save(order);
-
-                    eventPublisher.publishEvent(new OrderStatusChangedEvent(savedOrder, oldStatus.name(), OrderStatus.CANCELLED.name()));
-                    updatedCount++;
-                    orderLog.logOrderCancelled(savedOrder.getOrderNumber(), false, "SYSTEM");
-                }
+        for (OrderAutoTransition transition : OrderAutoTransition.values()) {
+            if (!lease.stillHeld()) {
+                log.warn("Order scheduler lease lost, stopping run | lease={}", lease.name());
+                break;
             }
+            updatedCount += runTransition(transition, now, lease);
         }
 
         orderLog.logSchedulerCompleted(updatedCount);
     }
 
-    private boolean shouldUpdateToProcessing(Order order, LocalDateTime now) {
-        int interval = getEffectiveInterval(order);
-        if (order.getUpdatedAt() == null) {
-            if (order.getCreatedAt() == null) {
-                orderLog.logDataWarning("Order {} has null createdAt and updatedAt", order.getOrderNumber());
-                return false;
+    private int runTransition(OrderAutoTransition transition, LocalDateTime now, SchedulerLease lease) {
+        LocalDateTime dueBefore = now.minus(transition.minimumDelay());
+        Pageable batch = PageRequest.of(0, BATCH_SIZE);
+        long afterId = 0L;
+        int applied = 0;
+        while (lease.stillHeld()) {
+            List<Long> orderIds = findDueIds(transition, dueBefore, afterId, lease, batch);
+            for (Long orderId : orderIds) {
+                if (apply(transition, orderId, now)) {
+                    applied++;
+                }
             }
-            Duration duration = Duration.between(order.getCreatedAt(), now);
-            return duration.toMinutes() >= interval;
-        }
-        Duration duration = Duration.between(order.getUpdatedAt(), now);
-        return duration.toMinutes() >= interval;
-    }
-
-    private boolean shouldUpdateToShipped(Order order, LocalDateTime now) {
-        if (order.getUpdatedAt() == null) {
-            orderLog.logDataWarning("Order {} has null updatedAt, cannot update to SHIPPED", order.getOrderNumber());
-            return false;
-        }
-        int interval = getEffectiveInterval(order);
-        Duration duration = Duration.between(order.getUpdatedAt(), now);
-        return duration.toMinutes() >= interval;
-    }
-
-    private boolean shouldUpdateToDelivered(Order order, LocalDateTime now) {
-        Shipping shipping = order.getShipping();
-        int interval = getEffectiveInterval(order);
-        if (shipping == null || shipping.getInTransitAt() == null) {
-            if (order.getUpdatedAt() == null) {
-                return false;
+            if (orderIds.size() < BATCH_SIZE) {
+                break;
             }
-            Duration duration = Duration.between(order.getUpdatedAt(), now);
-            return duration.toMinutes() >= interval;
+            afterId = orderIds.get(orderIds.size() - 1);
         }
-        Duration duration = Duration.between(shipping.getInTransitAt(), now);
-        return duration.toMinutes() >= interval;
+        return applied;
     }
 
-    private int getEffectiveInterval(Order order) {
-        int baseInterval = OrderBusinessConstants.STATUS_UPDATE_INTERVAL_MINUTES;
-        if (order.getUser() != null && order.getUser().isPremium()) {
-            return baseInterval / 2;
+    private boolean apply(OrderAutoTransition transition, Long orderId, LocalDateTime now) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome;
+        boolean applied = false;
+        try {
+            OrderAutoTransitionService.TransitionResult result = transitionService.apply(transition, orderId, now);
+            outcome = result.outcome().name().toLowerCase();
+            if (result.outcome() == OrderAutoTransitionService.Outcome.APPLIED) {
+                applied = true;
+                Timer.builder("order.auto_transition.lag")
+                        .description("Time between an order's transition deadline and the run that applied it")
+                        .tag("transition", transition.metricTag())
+                        .register(meterRegistry)
+                        .record(Duration.between(result.dueAt(), LocalDateTime.now()));
+            }
+        } catch (SchedulerLeaseLostException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = "failed";
+            log.error("Automatic order transition failed | transition={} orderId={}", transition, orderId, e);
         }
-        return baseInterval;
+        sample.stop(Timer.builder("order.auto_transition.duration")
+                .tag("transition", transition.metricTag())
+                .register(meterRegistry));
+        Counter.builder("order.auto_transition.processed")
+                .tag("transition", transition.metricTag())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+        return applied;
     }
 
-    private boolean shouldAutoCompleteOrder(Shipping shipping, LocalDateTime now) {
-        LocalDateTime deliveredAt = shipping.getDeliveredAt();
-        if (deliveredAt == null) {
-            return false;
-        }
-        Duration duration = Duration.between(deliveredAt, now);
-        return duration.toHours() >= OrderBusinessConstants.AUTO_COMPLETION_HOURS;
+    private List<Long> findDueIds(OrderAutoTransition transition, LocalDateTime dueBefore, long afterId,
+                                  SchedulerLease lease, Pageable batch) {
+        int shard = lease.shardIndex();
+        int shards = lease.shardCount();
+        return switch (transition) {
+            case TO_PROCESSING -> orderRepository.findDueIdsByLastActivity(
+                    transition.from(), dueBefore, afterId, shard, shards, batch);
+            case TO_SHIPPED -> orderRepository.findDueIdsByUpdatedAt(
+                    transition.from(), dueBefore, afterId, shard, shards, batch);
+            case TO_DELIVERED -> orderRepository.findDueIdsByInTransitAt(
+                    transition.from(), dueBefore, afterId, shard, shards, batch);
+            case COMPLETE_DELIVERED -> orderRepository.findDueIdsByDeliveredAt(
+                    transition.from(), dueBefore, afterId, shard, shards, batch);
+            case COMPLETE_MEETUP -> orderRepository.findDueIdsByMeetupVerifiedAt(
+                    transition.from(), DeliveryMethod.SAFE_MEETUP, dueBefore, afterId, shard, shards, batch);
+            case EXPIRE_MEETUP -> orderRepository.findDueIdsByCreatedAt(
+                    transition.from(), DeliveryMethod.SAFE_MEETUP, dueBefore, afterId, shard, shards, batch);
+        };
     }
-
 }
-
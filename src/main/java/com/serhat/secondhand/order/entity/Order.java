@@ -32,6 +32,8 @@ import java.util.UUID;
 @Table(name = "orders", indexes = {
     @Index(name = "idx_order_user", columnList = "user_id"),
     @Index(name = "idx_order_status", columnList = "status"),
+    @Index(name = "idx_orders_status_id", columnList = "status, id"),
+    @Index(name = "idx_orders_status_updated_at", columnList = "status, updated_at"),
     @Index(name = "idx_order_payment_status", columnList = "payment_status"),
     @Index(name = "idx_order_created", columnList = "created_at"),
     @Index(name = "idx_order_number", columnList = "order_number")
@@ -39,9 +39,9 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
             @Param("minUnitPrice") BigDecimal minUnitPrice,
             @Param("currency") Currency currency);
 
-    /** İlan yanıtında Great Seller rozeti: aynı kurallarla toplu satış sayısı. */
+    /** Great Seller yeniden hesaplama: aynı kurallarla toplu satış sayısı ve penceredeki en eski satış. */
     @Query("""
-            SELECT oi.seller.id, COUNT(oi) FROM OrderItem oi
+            SELECT oi.seller.id, COUNT(oi), MIN(oi.order.createdAt) FROM OrderItem oi
             WHERE oi.seller.id IN :sellerIds
               AND oi.order.paymentStatus = :completed
               AND oi.order.status <> :cancelled
@@ -62,7 +62,7 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
             @Param("minUnitPrice") BigDecimal minUnitPrice,
             @Param("currency") Currency currency);
 
-    /** Aynı filtreler {@link #countGreatSellerEligibleSales} ile; liste için tek GROUP BY (N kez COUNT çalıştırmamak). */
+    /** Aynı filtreler {@link #countGreatSellerEligibleSales} ile; satış şartını karşılayan satıcılar tek GROUP BY ile. */
     @Query("""
             SELECT oi.seller.id, COUNT(oi)
             FROM OrderItem oi
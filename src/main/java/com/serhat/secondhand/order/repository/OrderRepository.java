@@ -47,8 +47,68 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT DISTINCT o FROM Order o JOIN FETCH o.orderItems oi JOIN FETCH oi.listing l WHERE o.id = :orderId AND l.seller.id = :sellerId")
     Optional<Order> findByIdForSeller(@Param("orderId") Long orderId, @Param("sellerId") Long sellerId);
 
-    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.shipping WHERE o.status = :status ORDER BY o.updatedAt ASC")
-    List<Order> findByStatusWithShipping(@Param("status") OrderStatus status);
+    // Automatic transition due-time lookups: keyset by id within one shard, IDs only.
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status AND o.id > :afterId " +
+           "AND MOD(o.id, :shardCount) = :shardIndex " +
+           "AND COALESCE(o.updatedAt, o.createdAt) <= :dueBefore ORDER BY o.id")
+    List<Long> findDueIdsByLastActivity(@Param("status") OrderStatus status,
+                                        @Param("dueBefore") LocalDateTime dueBefore,
+                                        @Param("afterId") Long afterId,
+                                        @Param("shardIndex") int shardIndex,
+                                        @Param("shardCount") int shardCount,
+                                        Pageable pageable);
+
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status AND o.id > :afterId " +
+           "AND MOD(o.id, :shardCount) = :shardIndex " +
+           "AND o.updatedAt <= :dueBefore ORDER BY o.id")
+    List<Long> findDueIdsByUpdatedAt(@Param("status") OrderStatus status,
+                                     @Param("dueBefore") LocalDateTime dueBefore,
+                                     @Param("afterId") Long afterId,
+                                     @Param("shardIndex") int shardIndex,
+                                     @Param("shardCount") int shardCount,
+                                     Pageable pageable);
+
+    @Query("SELECT o.id FROM Order o LEFT JOIN o.shipping s WHERE o.status = :status AND o.id > :afterId " +
+           "AND MOD(o.id, :shardCount) = :shardIndex " +
+           "AND COALESCE(s.inTransitAt, o.updatedAt) <= :dueBefore ORDER BY o.id")
+    List<Long> findDueIdsByInTransitAt(@Param("status") OrderStatus status,
+                                       @Param("dueBefore") LocalDateTime dueBefore,
+                                       @Param("afterId") Long afterId,
+                                       @Param("shardIndex") int shardIndex,
+                                       @Param("shardCount") int shardCount,
+                                       Pageable pageable);
+
+    @Query("SELECT o.id FROM Order o JOIN o.shipping s WHERE o.status = :status AND o.id > :afterId " +
+           "AND MOD(o.id, :shardCount) = :shardIndex " +
+           "AND s.deliveredAt <= :dueBefore ORDER BY o.id")
+    List<Long> findDueIdsByDeliveredAt(@Param("status") OrderStatus status,
+                                       @Param("dueBefore") LocalDateTime dueBefore,
+                                       @Param("afterId") Long afterId,
+                                       @Param("shardIndex") int shardIndex,
+                                       @Param("shardCount") int shardCount,
+                                       Pageable pageable);
+
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status AND o.id > :afterId " +
+           "AND MOD(o.id, :shardCount) = :shardIndex " +
+           "AND o.deliveryMethod = :deliveryMethod AND o.meetupVerifiedAt <= :dueBefore ORDER BY o.id")
+    List<Long> findDueIdsByMeetupVerifiedAt(@Param("status") OrderStatus status,
+                                            @Param("deliveryMethod") DeliveryMethod deliveryMethod,
+                                            @Param("dueBefore") LocalDateTime dueBefore,
+                                            @Param("afterId") Long afterId,
+                                            @Param("shardIndex") int shardIndex,
+                                            @Param("shardCount") int shardCount,
+                                            Pageable pageable);
+
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status AND o.id > :afterId " +
+           "AND MOD(o.id, :shardCount) = :shardIndex " +
+           "AND o.deliveryMethod = :deliveryMethod AND o.createdAt <= :dueBefore ORDER BY o.id")
+    List<Long> findDueIdsByCreatedAt(@Param("status") OrderStatus status,
+                                     @Param("deliveryMethod") DeliveryMethod deliveryMethod,
+                                     @Param("dueBefore") LocalDateTime dueBefore,
+                                     @Param("afterId") Long afterId,
+                                     @Param("shardIndex") int shardIndex,
+                                     @Param("shardCount") int shardCount,
+                                     Pageable pageable);
 
 
     // Dashboard Queries
@@ -0,0 +1,29 @@
+package com.serhat.secondhand.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Payment outbox dağıtıcısı. Her node kayıtları {@code FOR UPDATE SKIP LOCKED} ile parti halinde
+ * sahiplenir, bu yüzden birden fazla node aynı anda çalışabilir.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.payment.outbox")
+@Getter
+@Setter
+public class PaymentOutboxConfig {
+    private boolean enabled = true;
+    private long initialDelayMs = 5_000;
+    private int batchSize = 50;
+    private int workerThreads = 4;
+    /** Sahiplenilen kaydın kilit süresi; dolarsa kayıt başka bir node tarafından tekrar alınır. */
+    private long leaseMs = 60_000;
+    /** Kuyruk boşaldıktan sonraki ilk bekleme; her boş turda iki katına çıkar. */
+    private long minPollDelayMs = 100;
+    private long maxPollDelayMs = 5_000;
+    /** {@code true}: Postgres LISTEN/NOTIFY ile yeni kayıtta hemen uyanılır (bir bağlantıyı sürekli tutar). */
+    private boolean listenNotify = false;
+    private long metricsRefreshMs = 15_000;
+}
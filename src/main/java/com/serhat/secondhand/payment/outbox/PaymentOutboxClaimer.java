@@ -0,0 +1,60 @@
+package com.serhat.secondhand.payment.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Claims due outbox events for one node. The claim is a single auto-committed statement:
+ * {@code FOR UPDATE SKIP LOCKED} lets concurrent nodes pick disjoint rows without waiting on each
+ * other, and the claimed rows are marked {@code PROCESSING} with a lease so that a node that dies
+ * mid-batch only delays its events until the lease expires.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxClaimer {
+
+    private static final String CLAIM_SQL = """
+            UPDATE payment_outbox_events e
+               SET status = 'PROCESSING', locked_by = ?, locked_until = ?, updated_at = ?
+             WHERE e.id IN (
+                   SELECT c.id FROM payment_outbox_events c
+                    WHERE (c.status IN ('PENDING', 'FAILED') AND c.next_attempt_at <= ?)
+                       OR (c.status = 'PROCESSING' AND (c.locked_until IS NULL OR c.locked_until < ?))
+                    ORDER BY c.next_attempt_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED)
+            RETURNING e.id
+            """;
+
+    private static final String BACKLOG_SQL = """
+            SELECT COUNT(*) AS depth, MIN(created_at) AS oldest
+              FROM payment_outbox_events
+             WHERE status IN ('PENDING', 'PROCESSING')
+                OR (status = 'FAILED' AND next_attempt_at <= ?)
+            """;
+
+    public record Backlog(long depth, LocalDateTime oldestCreatedAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<UUID> claim(String owner, int limit, Duration lease) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp leaseUntil = new Timestamp(now.getTime() + lease.toMillis());
+        return jdbcTemplate.queryForList(CLAIM_SQL, UUID.class, owner, leaseUntil, now, now, now, limit);
+    }
+
+    public Backlog backlog() {
+        Map<String, Object> row = jdbcTemplate.queryForMap(BACKLOG_SQL, Timestamp.valueOf(LocalDateTime.now()));
+        Timestamp oldest = (Timestamp) row.get("oldest");
+        return new Backlog(((Number) row.get("depth")).longValue(), oldest != null ? oldest.toLocalDateTime() : null);
+    }
+}
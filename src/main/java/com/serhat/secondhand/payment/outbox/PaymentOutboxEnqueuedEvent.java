@@ -0,0 +1,6 @@
+package com.serhat.secondhand.payment.outbox;
+
+import java.util.UUID;
+
+public record PaymentOutboxEnqueuedEvent(UUID eventId) {
+}
@@ -0,0 +1,86 @@
+package com.serhat.secondhand.payment.outbox;
+
+import com.serhat.secondhand.payment.config.PaymentOutboxConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Listens on the {@code payment_outbox} Postgres channel, notified by an insert trigger on
+ * {@code payment_outbox_events}, and wakes up {@link PaymentOutboxWorker} so that events enqueued on
+ * any node are picked up without waiting for the idle poll delay. Holds one pooled connection for
+ * as long as it runs.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentOutboxNotificationListener {
+
+    private static final String CHANNEL = "payment_outbox";
+    private static final int RECEIVE_TIMEOUT_MS = 1_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private final DataSource dataSource;
+    private final PaymentOutboxWorker worker;
+    private final PaymentOutboxConfig config;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    @PostConstruct
+    void start() {
+        if (!config.isEnabled() || !config.isListenNotify()) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listenLoop, "payment-outbox-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Listening for payment outbox notifications");
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(RECEIVE_TIMEOUT_MS);
+                    if (notifications != null && notifications.length > 0) {
+                        worker.wakeUp();
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Payment outbox listener connection lost, retrying | message={}", e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.serhat.secondhand.payment.outbox;
 
 import com.serhat.secondhand.payment.entity.Payment;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -11,6 +12,7 @@ public class PaymentOutboxService {
     public static final String EVENT_PAYMENT_COMPLETED = "PAYMENT_COMPLETED";
 
     private final PaymentOutboxRepository paymentOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void enqueuePaymentCompleted(Payment payment) {
         PaymentOutboxEvent event = PaymentOutboxEvent.builder()
@@ -20,6 +22,7 @@ public class PaymentOutboxService {
                 .payload(payment.getId().toString())
                 .status(OutboxStatus.PENDING)
                 .build();
-        paymentOutboxRepository.save(event);
+        PaymentOutboxEvent saved = paymentOutboxRepository.save(event);
+        eventPublisher.publishEvent(new PaymentOutboxEnqueuedEvent(saved.getId()));
     }
 }
@@ -1,79 +1,271 @@
 package com.serhat.secondhand.payment.outbox;
 
 import com.serhat.secondhand.payment.application.PaymentCompletionDispatcher;
+import com.serhat.secondhand.payment.config.PaymentOutboxConfig;
 import com.serhat.secondhand.payment.entity.Payment;
 import com.serhat.secondhand.payment.repository.PaymentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Dispatches payment outbox events.
+ * <p>
+ * A single poller thread claims due events in batches through {@link PaymentOutboxClaimer} and runs
+ * them on a fixed worker pool, each event in its own transaction. Polling is adaptive: a full batch
+ * is followed immediately by the next claim, while empty polls back off exponentially from
+ * {@code min-poll-delay-ms} to {@code max-poll-delay-ms}. Enqueues on this node (after commit) and,
+ * with {@code listen-notify}, Postgres notifications from other nodes wake the poller early.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentOutboxWorker {
 
     private final PaymentOutboxRepository paymentOutboxRepository;
+    private final PaymentOutboxClaimer claimer;
     private final PaymentRepository paymentRepository;
     private final PaymentCompletionDispatcher paymentCompletionDispatcher;
+    private final PaymentOutboxConfig config;
+    private final MeterRegistry meterRegistry;
 
     @Lazy
     @Autowired
     private PaymentOutboxWorker self;
 
-    @org.springframework.scheduling.annotation.Scheduled(
-            fixedDelayString = "${app.payment.outbox.fixed-delay-ms:5000}",
-            initialDelayString = "${app.payment.outbox.initial-delay-ms:5000}"
-    )
-    @Transactional
-    public void processPendingEvents() {
-        List<PaymentOutboxEvent> events = paymentOutboxRepository
-                .findByStatusInAndNextAttemptAtLessThanEqualOrderByCreatedAtAsc(
-                        List.of(OutboxStatus.PENDING, OutboxStatus.FAILED),
-                        LocalDateTime.now(),
-                        PageRequest.of(0, 50)
-                );
-
-        for (PaymentOutboxEvent event : events) {
-            self.processEvent(event.getId());
+    private final String owner = UUID.randomUUID().toString();
+    private final Semaphore wakeUps = new Semaphore(0);
+    private final AtomicLong backlogDepth = new AtomicLong();
+    private final AtomicLong oldestEventAgeSeconds = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread poller;
+    private ExecutorService workers;
+
+    @PostConstruct
+    void start() {
+        Gauge.builder("payment.outbox.backlog", backlogDepth, AtomicLong::get)
+                .description("Outbox events waiting to be dispatched")
+                .register(meterRegistry);
+        Gauge.builder("payment.outbox.oldest.age.seconds", oldestEventAgeSeconds, AtomicLong::get)
+                .description("Age of the oldest undispatched outbox event")
+                .register(meterRegistry);
+        if (!config.isEnabled()) {
+            return;
         }
+        AtomicInteger workerIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(Math.max(1, config.getWorkerThreads()), r -> {
+            Thread thread = new Thread(r, "payment-outbox-worker-" + workerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        poller = new Thread(this::pollLoop, "payment-outbox-poller");
+        poller.setDaemon(true);
+        poller.start();
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void processEvent(UUID eventId) {
-        PaymentOutboxEvent event = paymentOutboxRepository.findById(eventId).orElse(null);
-        if (event == null || event.getStatus() == OutboxStatus.PROCESSED) {
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+        }
+        if (workers != null) {
+            workers.shutdown();
+            try {
+                workers.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** Cuts the current poll delay short; called on local enqueue and on Postgres notifications. */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEnqueued(PaymentOutboxEnqueuedEvent event) {
+        wakeUp();
+    }
+
+    // ── Polling ──────────────────────────────────────────────────────────────
+
+    private void pollLoop() {
+        if (!awaitWakeUp(config.getInitialDelayMs())) {
             return;
         }
+        long minDelay = Math.max(1, config.getMinPollDelayMs());
+        long maxDelay = Math.max(minDelay, config.getMaxPollDelayMs());
+        long delay = minDelay;
+        while (running) {
+            int claimed;
+            try {
+                claimed = dispatchBatch();
+            } catch (RuntimeException e) {
+                log.warn("Payment outbox poll failed | type={} message={}", e.getClass().getSimpleName(), e.getMessage());
+                claimed = -1;
+            }
+            if (claimed >= config.getBatchSize()) {
+                delay = minDelay;
+                continue;
+            }
+            if (claimed < 0) {
+                delay = maxDelay;
+            } else {
+                delay = claimed > 0 ? minDelay : Math.min(delay * 2, maxDelay);
+            }
+            if (!awaitWakeUp(delay)) {
+                return;
+            }
+        }
+    }
 
+    private boolean awaitWakeUp(long delayMs) {
         try {
-            event.setStatus(OutboxStatus.PROCESSING);
-            paymentOutboxRepository.save(event);
+            wakeUps.tryAcquire(delayMs, TimeUnit.MILLISECONDS);
+            wakeUps.drainPermits();
+            return running;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 
-            UUID paymentId = UUID.fromString(event.getPayload());
-            Payment payment = paymentRepository.findById(paymentId).orElseThrow();
-            paymentCompletionDispatcher.dispatch(payment);
+    private int dispatchBatch() {
+        List<UUID> eventIds = claimer.claim(owner, config.getBatchSize(), Duration.ofMillis(config.getLeaseMs()));
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        CompletableFuture<?>[] dispatches = eventIds.stream()
+                .map(eventId -> CompletableFuture.runAsync(() -> dispatch(eventId), workers))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(dispatches).join();
+        return eventIds.size();
+    }
 
-            event.setStatus(OutboxStatus.PROCESSED);
-            event.setProcessedAt(LocalDateTime.now());
-            event.setLastError(null);
-            paymentOutboxRepository.save(event);
+    private void dispatch(UUID eventId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome;
+        try {
+            LocalDateTime createdAt = self.processEvent(eventId, owner);
+            if (createdAt != null) {
+                outcome = "processed";
+                Timer.builder("payment.outbox.dispatch.latency")
+                        .description("Time from enqueue to successful dispatch")
+                        .register(meterRegistry)
+                        .record(Duration.between(createdAt, LocalDateTime.now()));
+            } else {
+                outcome = "skipped";
+            }
         } catch (Exception ex) {
-            int newAttempt = event.getAttemptCount() + 1;
-            event.setAttemptCount(newAttempt);
-            event.setLastError(ex.getMessage());
-            event.setNextAttemptAt(LocalDateTime.now().plusSeconds(Math.min(300, newAttempt * 10L)));
-            event.setStatus(newAttempt >= event.getMaxAttempts() ? OutboxStatus.FAILED : OutboxStatus.PENDING);
-            paymentOutboxRepository.save(event);
             log.error("Payment outbox processing failed for event {}", eventId, ex);
+            outcome = recordFailure(eventId, ex);
+        }
+        sample.stop(Timer.builder("payment.outbox.dispatch.duration").register(meterRegistry));
+        Counter.builder("payment.outbox.events")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private String recordFailure(UUID eventId, Exception cause) {
+        try {
+            return self.markFailed(eventId, owner, cause.getMessage());
+        } catch (RuntimeException e) {
+            // Kayıt PROCESSING olarak kalır; lease dolunca tekrar sahiplenilir.
+            log.warn("Could not record outbox failure for event {} | message={}", eventId, e.getMessage());
+            return "failed";
+        }
+    }
+
+    // ── Per-event transactions ───────────────────────────────────────────────
+
+    /**
+     * Dispatches one claimed event. Returns the event's creation time when it was dispatched, or
+     * {@code null} if it is no longer claimed by this node (lease expired and taken over).
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public LocalDateTime processEvent(UUID eventId, String claimOwner) {
+        PaymentOutboxEvent event = paymentOutboxRepository.findById(eventId).orElse(null);
+        if (event == null || event.getStatus() != OutboxStatus.PROCESSING || !claimOwner.equals(event.getLockedBy())) {
+            return null;
+        }
+
+        UUID paymentId = UUID.fromString(event.getPayload());
+        Payment payment = paymentRepository.findById(paymentId).orElseThrow();
+        paymentCompletionDispatcher.dispatch(payment);
+
+        event.setStatus(OutboxStatus.PROCESSED);
+        event.setProcessedAt(LocalDateTime.now());
+        event.setLastError(null);
+        event.setLockedBy(null);
+        event.setLockedUntil(null);
+        paymentOutboxRepository.save(event);
+        return event.getCreatedAt();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public String markFailed(UUID eventId, String claimOwner, String error) {
+        PaymentOutboxEvent event = paymentOutboxRepository.findById(eventId).orElse(null);
+        if (event == null || !claimOwner.equals(event.getLockedBy())) {
+            return "skipped";
+        }
+        int newAttempt = event.getAttemptCount() + 1;
+        event.setAttemptCount(newAttempt);
+        event.setLastError(error);
+        event.setNextAttemptAt(LocalDateTime.now().plusSeconds(Math.min(300, newAttempt * 10L)));
+        event.setStatus(newAttempt >= event.getMaxAttempts() ? OutboxStatus.FAILED : OutboxStatus.PENDING);
+        event.setLockedBy(null);
+        event.setLockedUntil(null);
+        paymentOutboxRepository.save(event);
+        return event.getStatus() == OutboxStatus.FAILED ? "failed" : "retry";
+    }
+
+    // ── Metrics ──────────────────────────────────────────────────────────────
+
+    @Scheduled(fixedDelayString = "${app.payment.outbox.metrics-refresh-ms:15000}")
+    public void refreshBacklogMetrics() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            PaymentOutboxClaimer.Backlog backlog = claimer.backlog();
+            backlogDepth.set(backlog.depth());
+            oldestEventAgeSeconds.set(backlog.oldestCreatedAt() != null
+                    ? Math.max(0, Duration.between(backlog.oldestCreatedAt(), LocalDateTime.now()).toSeconds())
+                    : 0);
+        } catch (RuntimeException e) {
+            log.warn("Payment outbox backlog sampling failed | message={}", e.getMessage());
         }
     }
 }
@@ -1,7 +1,7 @@
 package com.serhat.secondhand.pricing.application;
 
-import com.serhat.secondhand.campaign.entity.Campaign;
-import com.serhat.secondhand.campaign.application.ICampaignService;
+import com.serhat.secondhand.campaign.application.index.CampaignPricingIndex;
+import com.serhat.secondhand.campaign.application.index.SellerCampaigns;
 import com.serhat.secondhand.cart.entity.Cart;
 import com.serhat.secondhand.core.result.Result;
 import com.serhat.secondhand.coupon.entity.Coupon;
@@ -25,7 +25,7 @@ import java.util.*;
 @Transactional(readOnly = true)
 public class PricingService implements IPricingService {
 
-    private final ICampaignService campaignService;
+    private final CampaignPricingIndex campaignPricingIndex;
     private final CouponRepository couponRepository;
     private final CouponValidator couponValidator;
     private final PriceCalculationEngine priceCalculationEngine;
@@ -57,8 +57,7 @@ public class PricingService implements IPricingService {
                 .distinct()
                 .toList();
 
-        List<Campaign> activeCampaigns = campaignService.loadActiveCampaignsForSellers(sellerIds);
-        Map<Long, List<Campaign>> campaignsBySeller = priceCalculationEngine.groupCampaignsBySeller(activeCampaigns);
+        Map<Long, SellerCampaigns> campaignsBySeller = campaignPricingIndex.forSellers(sellerIds);
 
         // 1. Calculate pricing without coupon first to get true subtotal after campaigns
         PricingResultDto campaignPricing = priceCalculationEngine.calculateCartPricing(cartItems, campaignsBySeller, null, offerOverride);
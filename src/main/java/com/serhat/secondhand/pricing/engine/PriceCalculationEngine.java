@@ -1,12 +1,11 @@
 package com.serhat.secondhand.pricing.engine;
 
-import com.serhat.secondhand.campaign.entity.Campaign;
-import com.serhat.secondhand.campaign.entity.CampaignDiscountKind;
+import com.serhat.secondhand.campaign.application.index.CompiledCampaign;
+import com.serhat.secondhand.campaign.application.index.SellerCampaigns;
 import com.serhat.secondhand.campaign.mapper.CampaignMapper;
 import com.serhat.secondhand.cart.entity.Cart;
 import com.serhat.secondhand.coupon.entity.Coupon;
 import com.serhat.secondhand.coupon.entity.CouponDiscountKind;
-import com.serhat.secondhand.listing.util.ListingCampaignPricingUtil;
 import com.serhat.secondhand.listing.domain.entity.Listing;
 import com.serhat.secondhand.listing.domain.entity.enums.base.ListingType;
 import com.serhat.secondhand.pricing.dto.AppliedCampaignDto;
@@ -20,18 +19,19 @@ import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDateTime;
 import java.util.*;
 
 /**
  * Stateless pricing calculation engine.
  * Pure computation - no service dependencies, no external calls.
  * All pricing and discount logic centralized here.
+ * Campaigns come in as the per-seller entries of the campaign pricing index.
  */
 @Component
 @RequiredArgsConstructor
 public class PriceCalculationEngine {
 
-    private final ListingCampaignPricingUtil campaignPricingUtil;
     private final CampaignMapper campaignMapper;
     private final PricingMapper pricingMapper;
 
@@ -41,7 +41,7 @@ public class PriceCalculationEngine {
      */
     public PricingResultDto calculateCartPricing(
             List<Cart> cartItems,
-            Map<Long, List<Campaign>> campaignsBySeller,
+            Map<Long, SellerCampaigns> campaignsBySeller,
             Coupon coupon,
             OfferPriceHandler.OfferOverride offerOverride) {
 
@@ -49,8 +49,10 @@ public class PriceCalculationEngine {
             return pricingMapper.toEmptyResult();
         }
 
+        LocalDateTime now = LocalDateTime.now();
+
         // Calculate total qualifying quantities for each campaign per seller
-        Map<UUID, Integer> campaignQualifyingQuantities = calculateCampaignQualifyingQuantities(cartItems, campaignsBySeller);
+        Map<UUID, Integer> campaignQualifyingQuantities = calculateCampaignQualifyingQuantities(cartItems, campaignsBySeller, now);
 
         BigDecimal originalSubtotal = BigDecimal.ZERO;
         BigDecimal subtotalAfterCampaigns = BigDecimal.ZERO;
@@ -80,8 +82,8 @@ public class PriceCalculationEngine {
             BigDecimal campaignUnitPrice = unitPrice;
 
             if (!isOfferLine && type != ListingType.REAL_ESTATE && type != ListingType.VEHICLE) {
-                List<Campaign> sellerCampaigns = campaignsBySeller.getOrDefault(listing.getSeller().getId(), List.of());
-                AppliedCampaignDto best = findBestCampaignForListing(sellerCampaigns, listing, campaignQualifyingQuantities);
+                SellerCampaigns sellerCampaigns = campaignsBySeller.get(listing.getSeller().getId());
+                AppliedCampaignDto best = findBestCampaignForListing(sellerCampaigns, listing, campaignQualifyingQuantities, now);
                 if (best != null && best.getDiscountAmount() != null && best.getDiscountAmount().compareTo(BigDecimal.ZERO) > 0) {
                     appliedCampaign = best;
                     campaignUnitPrice = PricingUtil.scale(unitPrice.subtract(best.getDiscountAmount()));
@@ -194,33 +196,16 @@ public class PriceCalculationEngine {
         );
     }
 
-    /**
-     * Groups campaigns by seller ID.
-     */
-    public Map<Long, List<Campaign>> groupCampaignsBySeller(List<Campaign> campaigns) {
-        Map<Long, List<Campaign>> map = new HashMap<>();
-        for (Campaign c : campaigns) {
-            if (c.getSeller() == null) {
-                continue;
-            }
-            Long sellerId = c.getSeller().getId();
-            map.computeIfAbsent(sellerId, k -> new ArrayList<>()).add(c);
-        }
-        return map;
-    }
-
-    private Map<UUID, Integer> calculateCampaignQualifyingQuantities(List<Cart> cartItems, Map<Long, List<Campaign>> campaignsBySeller) {
+    private Map<UUID, Integer> calculateCampaignQualifyingQuantities(List<Cart> cartItems, Map<Long, SellerCampaigns> campaignsBySeller, LocalDateTime now) {
         Map<UUID, Integer> qualifyingQuantities = new HashMap<>();
         for (Cart item : cartItems) {
             Listing listing = item.getListing();
-            if (listing == null) continue;
-            Long sellerId = listing.getSeller().getId();
-            List<Campaign> sellerCampaigns = campaignsBySeller.getOrDefault(sellerId, List.of());
-            
-            for (Campaign c : sellerCampaigns) {
-                if (campaignPricingUtil.isApplicable(c, listing.getId(), listing.getListingType())) {
-                    qualifyingQuantities.put(c.getId(), qualifyingQuantities.getOrDefault(c.getId(), 0) + item.getQuantity());
-                }
+            if (listing == null || isNonCampaignable(listing.getListingType())) continue;
+            SellerCampaigns sellerCampaigns = campaignsBySeller.get(listing.getSeller().getId());
+            if (sellerCampaigns == null) continue;
+
+            for (CompiledCampaign c : sellerCampaigns.applicable(listing.getId(), listing.getListingType(), now)) {
+                qualifyingQuantities.put(c.id(), qualifyingQuantities.getOrDefault(c.id(), 0) + item.getQuantity());
             }
         }
         return qualifyingQuantities;
@@ -229,30 +214,24 @@ public class PriceCalculationEngine {
     /**
      * Finds the best campaign (highest discount) for a listing.
      */
-    public AppliedCampaignDto findBestCampaignForListing(List<Campaign> campaigns, Listing listing, Map<UUID, Integer> qualifyingQuantities) {
-        if (campaigns == null || campaigns.isEmpty() || listing == null) {
+    public AppliedCampaignDto findBestCampaignForListing(SellerCampaigns campaigns, Listing listing, Map<UUID, Integer> qualifyingQuantities, LocalDateTime now) {
+        if (campaigns == null || campaigns.isEmpty() || listing == null || isNonCampaignable(listing.getListingType())) {
             return null;
         }
 
         BigDecimal unitPrice = PricingUtil.scale(listing.getPrice());
-        UUID listingId = listing.getId();
-        ListingType type = listing.getListingType();
 
         BigDecimal bestDiscount = BigDecimal.ZERO;
-        Campaign bestCampaign = null;
-
-        for (Campaign c : campaigns) {
-            if (!campaignPricingUtil.isApplicable(c, listingId, type)) {
-                continue;
-            }
+        CompiledCampaign bestCampaign = null;
 
+        for (CompiledCampaign c : campaigns.applicable(listing.getId(), listing.getListingType(), now)) {
             // Check minimum quantity for bundle
-            int qualifyingQty = qualifyingQuantities != null ? qualifyingQuantities.getOrDefault(c.getId(), 0) : 0;
-            if (c.getMinQuantity() != null && qualifyingQty < c.getMinQuantity()) {
+            int qualifyingQty = qualifyingQuantities != null ? qualifyingQuantities.getOrDefault(c.id(), 0) : 0;
+            if (qualifyingQty < c.minQuantity()) {
                 continue;
             }
 
-            BigDecimal discount = computeCampaignDiscountAmount(c, unitPrice);
+            BigDecimal discount = c.discountFor(unitPrice);
             if (discount.compareTo(bestDiscount) > 0) {
                 bestDiscount = discount;
                 bestCampaign = c;
@@ -266,21 +245,8 @@ public class PriceCalculationEngine {
         return campaignMapper.toAppliedCampaignDto(bestCampaign, bestDiscount);
     }
 
-    /**
-     * Computes campaign discount amount based on discount kind (percent/fixed).
-     */
-    public BigDecimal computeCampaignDiscountAmount(Campaign campaign, BigDecimal unitPrice) {
-        BigDecimal discount;
-        if (campaign.getDiscountKind() == CampaignDiscountKind.PERCENT) {
-            BigDecimal pct = campaign.getValue().divide(BigDecimal.valueOf(100), 6, RoundingMode.HALF_UP);
-            discount = PricingUtil.scale(unitPrice.multiply(pct));
-        } else {
-            discount = PricingUtil.scale(campaign.getValue());
-        }
-        if (discount.compareTo(unitPrice) > 0) {
-            discount = unitPrice;
-        }
-        return discount;
+    private boolean isNonCampaignable(ListingType type) {
+        return type == ListingType.REAL_ESTATE || type == ListingType.VEHICLE;
     }
 
     /**
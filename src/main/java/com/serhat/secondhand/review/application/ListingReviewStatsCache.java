@@ -0,0 +1,164 @@
+package com.serhat.secondhand.review.application;
+
+import com.serhat.secondhand.review.application.event.ReviewCreatedEvent;
+import com.serhat.secondhand.review.dto.ReviewStatsDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Per-listing review statistics in Redis hashes ({@code stats:review:{listingId}}) holding the
+ * review count, the rating sum and one counter per star, so the average and distribution are
+ * derived on read and a new review is applied with HINCRBY instead of an eviction. Listings without
+ * reviews are cached too (all zeros). Batches are read with one pipelined HMGET round trip and only
+ * the misses are loaded from the database; {@code null} means Redis is unavailable.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ListingReviewStatsCache {
+
+    private static final String KEY_PREFIX = "stats:review:";
+    private static final String[] FIELDS = {"n", "sum", "r5", "r4", "r3", "r2", "r1", "r0"};
+    private static final Duration TTL = Duration.ofHours(1);
+
+    /** ARGV[1] = rating. */
+    private static final RedisScript<Long> ADD_REVIEW_IF_PRESENT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            redis.call('HINCRBY', KEYS[1], 'n', 1)
+            redis.call('HINCRBY', KEYS[1], 'sum', ARGV[1])
+            redis.call('HINCRBY', KEYS[1], 'r' .. ARGV[1], 1)
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Map<UUID, ReviewStatsDto> getStats(List<UUID> listingIds, Function<List<UUID>, Map<UUID, ReviewStatsDto>> loader) {
+        List<Object> replies;
+        try {
+            replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (UUID listingId : listingIds) {
+                    stringConnection.hMGet(key(listingId), FIELDS);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Review stats cache read failed | message={}", e.getMessage());
+            return null;
+        }
+
+        Map<UUID, ReviewStatsDto> stats = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+        for (int i = 0; i < listingIds.size(); i++) {
+            ReviewStatsDto cached = toDto(replies.get(i));
+            if (cached != null) {
+                stats.put(listingIds.get(i), cached);
+            } else {
+                misses.add(listingIds.get(i));
+            }
+        }
+        if (!misses.isEmpty()) {
+            Map<UUID, ReviewStatsDto> loaded = loader.apply(misses);
+            Map<UUID, ReviewStatsDto> backfill = new HashMap<>();
+            for (UUID listingId : misses) {
+                ReviewStatsDto dto = loaded.getOrDefault(listingId, ReviewStatsDto.empty());
+                stats.put(listingId, dto);
+                backfill.put(listingId, dto);
+            }
+            write(backfill);
+        }
+        return stats;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        if (event.listingId() == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(ADD_REVIEW_IF_PRESENT, List.of(key(event.listingId())), String.valueOf(event.rating()));
+        } catch (RuntimeException e) {
+            log.warn("Review stats update failed, evicting | listingId={} message={}", event.listingId(), e.getMessage());
+            try {
+                redisTemplate.delete(key(event.listingId()));
+            } catch (RuntimeException ignored) {
+            }
+        }
+    }
+
+    private void write(Map<UUID, ReviewStatsDto> stats) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stats.forEach((listingId, dto) -> {
+                    String key = key(listingId);
+                    long total = nz(dto.getTotalReviews());
+                    long sum = 5 * nz(dto.getFiveStarReviews()) + 4 * nz(dto.getFourStarReviews())
+                            + 3 * nz(dto.getThreeStarReviews()) + 2 * nz(dto.getTwoStarReviews())
+                            + nz(dto.getOneStarReviews());
+                    Map<String, String> fields = new HashMap<>();
+                    fields.put("n", String.valueOf(total));
+                    fields.put("sum", String.valueOf(sum));
+                    fields.put("r5", String.valueOf(nz(dto.getFiveStarReviews())));
+                    fields.put("r4", String.valueOf(nz(dto.getFourStarReviews())));
+                    fields.put("r3", String.valueOf(nz(dto.getThreeStarReviews())));
+                    fields.put("r2", String.valueOf(nz(dto.getTwoStarReviews())));
+                    fields.put("r1", String.valueOf(nz(dto.getOneStarReviews())));
+                    fields.put("r0", String.valueOf(nz(dto.getZeroStarReviews())));
+                    stringConnection.hMSet(key, fields);
+                    stringConnection.expire(key, TTL.toSeconds());
+                });
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Review stats backfill failed | listings={} message={}", stats.size(), e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ReviewStatsDto toDto(Object reply) {
+        if (!(reply instanceof List<?> values) || values.size() != FIELDS.length || values.get(0) == null) {
+            return null;
+        }
+        List<String> v = (List<String>) values;
+        long total = parse(v.get(0));
+        long sum = parse(v.get(1));
+        return new ReviewStatsDto(
+                total,
+                total > 0 ? (double) sum / total : 0.0,
+                parse(v.get(2)),
+                parse(v.get(3)),
+                parse(v.get(4)),
+                parse(v.get(5)),
+                parse(v.get(6)),
+                parse(v.get(7)));
+    }
+
+    private static long parse(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    private static long nz(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static String key(UUID listingId) {
+        return KEY_PREFIX + listingId;
+    }
+}
@@ -6,6 +6,7 @@ import com.serhat.secondhand.listing.domain.entity.Listing;
 import com.serhat.secondhand.listing.domain.repository.listing.ListingRepository;
 import com.serhat.secondhand.order.entity.OrderItem;
 import com.serhat.secondhand.order.repository.OrderItemRepository;
+import com.serhat.secondhand.review.application.event.ReviewCreatedEvent;
 import com.serhat.secondhand.review.dto.CreateReviewRequest;
 import com.serhat.secondhand.review.dto.ReviewDto;
 import com.serhat.secondhand.review.dto.ReviewStatsDto;
@@ -24,8 +25,6 @@ import com.serhat.secondhand.user.domain.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -33,7 +32,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -50,9 +48,9 @@ public class ReviewService implements IReviewService {
     private final INotificationService notificationService;
     private final NotificationTemplateCatalog notificationTemplateCatalog;
     private final ApplicationEventPublisher eventPublisher;
+    private final ListingReviewStatsCache listingReviewStatsCache;
 
     @Transactional
-    @CacheEvict(value = "reviewStatsBatch", allEntries = true)
     public Result<ReviewDto> createReview(Long reviewerId, CreateReviewRequest request) {
         log.info("Creating review for order item {} by user {}", request.getOrderItemId(), reviewerId);
 
@@ -96,6 +94,9 @@ public class ReviewService implements IReviewService {
             log.error("Failed to create in-app notification for review received: {}", e.getMessage());
         }
         eventPublisher.publishEvent(new SellerEligibilityRecheckEvent(reviewedUser.getId()));
+        if (orderItem.getListing() != null && savedReview.getRating() != null) {
+            eventPublisher.publishEvent(new ReviewCreatedEvent(orderItem.getListing().getId(), savedReview.getRating()));
+        }
         return Result.success(reviewMapper.toDto(savedReview));
     }
 
@@ -156,14 +157,20 @@ public class ReviewService implements IReviewService {
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(
-            value = "reviewStatsBatch",
-            key = "#root.target.createStableListingStatsKey(#listingIds)",
-            unless = "#result == null || #result.isEmpty()"
-    )
     public Map<UUID, ReviewStatsDto> getListingReviewStatsDto(List<UUID> listingIds) {
         if (listingIds == null || listingIds.isEmpty()) return new HashMap<>();
-        log.info("ReviewService#getListingReviewStatsDto CACHE MISS for {} listings", listingIds.size());
+        List<UUID> uniqueListingIds = listingIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (uniqueListingIds.isEmpty()) return new HashMap<>();
+
+        Map<UUID, ReviewStatsDto> statsMap = listingReviewStatsCache.getStats(uniqueListingIds, this::loadListingReviewStats);
+        return statsMap != null ? statsMap : loadListingReviewStats(uniqueListingIds);
+    }
+
+    private Map<UUID, ReviewStatsDto> loadListingReviewStats(List<UUID> listingIds) {
+        log.debug("Loading review stats from database for {} listings", listingIds.size());
         List<ListingReviewStatsProjection> rows = reviewRepository.getListingReviewStats(listingIds);
         Map<UUID, ReviewStatsDto> statsMap = new HashMap<>();
         for (UUID id : listingIds) {
@@ -177,19 +184,6 @@ public class ReviewService implements IReviewService {
         return statsMap;
     }
 
-    public String createStableListingStatsKey(List<UUID> listingIds) {
-        if (listingIds == null || listingIds.isEmpty()) {
-            return "empty";
-        }
-        String stableKey = listingIds.stream()
-                .filter(Objects::nonNull)
-                .map(UUID::toString)
-                .sorted()
-                .distinct()
-                .collect(Collectors.joining(","));
-        return stableKey.isEmpty() ? "empty" : stableKey;
-    }
-
     @Transactional(readOnly = true)
     public Result<UserReviewStatsDto> getListingReviewStats(String listingId) {
         log.info("Getting review stats for listing: {}", listingId);
@@ -0,0 +1,7 @@
+package com.serhat.secondhand.review.application.event;
+
+import java.util.UUID;
+
+/** İlana ait yeni yorum; ilan yorum istatistikleri commit sonrası güncellenir. */
+public record ReviewCreatedEvent(UUID listingId, int rating) {
+}
@@ -1,10 +1,13 @@
 package com.serhat.secondhand.showcase;
 
 import com.serhat.secondhand.core.config.ShowcaseConfig;
+import com.serhat.secondhand.core.scheduling.ClusterLeased;
+import com.serhat.secondhand.core.scheduling.SchedulerLeaseService;
 import com.serhat.secondhand.showcase.application.ShowcaseService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
@@ -12,9 +15,13 @@ public class ShowcaseScheduler {
     
     private final ShowcaseService showcaseService;
     private final ShowcaseConfig showcaseConfig;
+    private final SchedulerLeaseService schedulerLeaseService;
     
     @Scheduled(cron = "#{@showcaseConfig.scheduler.expireCron}")
+    @ClusterLeased(name = "showcase-expiry", lockAtLeastForMs = 30_000)
+    @Transactional
     public void expireShowcases() {
+        schedulerLeaseService.fenceCurrent();
         showcaseService.expireShowcases();
     }
 }
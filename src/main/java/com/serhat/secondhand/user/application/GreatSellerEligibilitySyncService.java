@@ -6,6 +6,7 @@ import com.serhat.secondhand.email.application.event.impl.GreatSellerAchievement
 import com.serhat.secondhand.email.application.event.model.GenericEmailData;
 import com.serhat.secondhand.notification.application.NotificationEventPublisher;
 import com.serhat.secondhand.notification.template.NotificationTemplateCatalog;
+import com.serhat.secondhand.user.domain.entity.SellerGreatStatus;
 import com.serhat.secondhand.user.domain.entity.User;
 import com.serhat.secondhand.user.domain.entity.enums.AccountStatus;
 import com.serhat.secondhand.user.domain.repository.UserRepository;
@@ -14,19 +15,22 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class GreatSellerEligibilitySyncService {
 
     private final UserRepository userRepository;
-    private final GreatSellerService greatSellerService;
+    private final GreatSellerEvaluator greatSellerEvaluator;
     private final EmailEventPublisher emailEventPublisher;
     private final EmailConfig emailConfig;
     private final NotificationEventPublisher notificationEventPublisher;
     private final NotificationTemplateCatalog notificationTemplateCatalog;
 
     /**
+     * {@code seller_great_status} satırını yeniden hesaplar (ilan rozetleri ve anasayfa buradan okur).
      * Snapshotsiz ilk çalıştırma: kaydı günceller, bildirim göndermez (retroaktif spam önlenir).
      * Sonrasında false→true geçişinde in-app + e-posta.
      */
@@ -35,12 +39,13 @@ public class GreatSellerEligibilitySyncService {
         if (sellerId == null) {
             return;
         }
+        SellerGreatStatus status = greatSellerEvaluator.recompute(List.of(sellerId)).get(sellerId);
         User user = userRepository.findById(sellerId).orElse(null);
         if (user == null || user.getAccountStatus() != AccountStatus.ACTIVE) {
             return;
         }
 
-        boolean now = Boolean.TRUE.equals(greatSellerService.getStatus(sellerId).isEligible());
+        boolean now = status != null && status.isEligible();
         Boolean previous = user.getGreatSellerEligibleSnapshot();
 
         if (previous == null) {
@@ -0,0 +1,110 @@
+package com.serhat.secondhand.user.application;
+
+import com.serhat.secondhand.core.scheduling.SchedulerLeaseService;
+import com.serhat.secondhand.listing.domain.entity.enums.base.Currency;
+import com.serhat.secondhand.order.entity.enums.OrderStatus;
+import com.serhat.secondhand.order.repository.OrderItemRepository;
+import com.serhat.secondhand.payment.entity.PaymentStatus;
+import com.serhat.secondhand.review.repository.ReviewRepository;
+import com.serhat.secondhand.user.domain.entity.SellerGreatStatus;
+import com.serhat.secondhand.user.domain.greatseller.GreatSellerPolicy;
+import com.serhat.secondhand.user.domain.repository.SellerGreatStatusRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates {@link GreatSellerPolicy} for a batch of sellers with one grouped sales query and one
+ * grouped review query, and stores the result in {@code seller_great_status}.
+ */
+@Component
+@RequiredArgsConstructor
+public class GreatSellerEvaluator {
+
+    private final OrderItemRepository orderItemRepository;
+    private final ReviewRepository reviewRepository;
+    private final SellerGreatStatusRepository statusRepository;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    /**
+     * Evaluates and persists in its own transaction, so it can also be called from read-only
+     * request paths (listing enrichment) for sellers that were never evaluated.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<Long, SellerGreatStatus> recompute(Collection<Long> sellerIds) {
+        schedulerLeaseService.fenceCurrent();
+        Map<Long, SellerGreatStatus> statuses = evaluate(sellerIds);
+        for (SellerGreatStatus s : statuses.values()) {
+            statusRepository.upsert(s.getSellerId(), s.isEligible(), s.getQualifyingSales(), s.getDistinctReviewers(),
+                    s.getAverageRating(), s.getNextExpiryAt(), s.getComputedAt());
+        }
+        return statuses;
+    }
+
+    public Map<Long, SellerGreatStatus> evaluate(Collection<Long> sellerIds) {
+        Set<Long> unique = sellerIds == null ? Set.of() : sellerIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (unique.isEmpty()) {
+            return Map.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = now.minusDays(GreatSellerPolicy.ROLLING_WINDOW_DAYS);
+
+        Map<Long, Long> salesBySeller = new HashMap<>();
+        Map<Long, LocalDateTime> oldestSaleBySeller = new HashMap<>();
+        for (Object[] row : orderItemRepository.countGreatSellerEligibleSalesBySellerIds(
+                unique,
+                PaymentStatus.COMPLETED,
+                OrderStatus.CANCELLED,
+                OrderStatus.REFUNDED,
+                start,
+                now,
+                GreatSellerPolicy.MIN_UNIT_PRICE_TRY,
+                Currency.TRY)) {
+            Long sellerId = (Long) row[0];
+            salesBySeller.put(sellerId, ((Number) row[1]).longValue());
+            oldestSaleBySeller.put(sellerId, (LocalDateTime) row[2]);
+        }
+
+        Map<Long, Long> reviewersBySeller = new HashMap<>();
+        Map<Long, Double> ratingBySeller = new HashMap<>();
+        for (Object[] row : reviewRepository.aggregateGreatSellerReviewMetricsBySellerIds(unique)) {
+            Long sellerId = (Long) row[0];
+            reviewersBySeller.put(sellerId, ((Number) row[1]).longValue());
+            ratingBySeller.put(sellerId, ((Number) row[2]).doubleValue());
+        }
+
+        Map<Long, SellerGreatStatus> out = new LinkedHashMap<>();
+        for (Long id : unique) {
+            long sales = salesBySeller.getOrDefault(id, 0L);
+            long reviewers = reviewersBySeller.getOrDefault(id, 0L);
+            double rating = ratingBySeller.getOrDefault(id, 0.0);
+            LocalDateTime oldestSale = oldestSaleBySeller.get(id);
+            boolean eligible = sales >= GreatSellerPolicy.MIN_QUALIFYING_SALES
+                    && reviewers >= GreatSellerPolicy.MIN_DISTINCT_REVIEWERS
+                    && rating >= GreatSellerPolicy.MIN_AVERAGE_RATING;
+            out.put(id, SellerGreatStatus.builder()
+                    .sellerId(id)
+                    .eligible(eligible)
+                    .qualifyingSales(Math.toIntExact(Math.min(sales, Integer.MAX_VALUE)))
+                    .distinctReviewers(Math.toIntExact(Math.min(reviewers, Integer.MAX_VALUE)))
+                    .averageRating(rating)
+                    .nextExpiryAt(oldestSale != null ? oldestSale.plusDays(GreatSellerPolicy.ROLLING_WINDOW_DAYS) : null)
+                    .computedAt(now)
+                    .build());
+        }
+        return out;
+    }
+}
@@ -8,11 +8,14 @@ import com.serhat.secondhand.review.repository.ReviewRepository;
 import com.serhat.secondhand.review.repository.projection.GreatSellerReviewMetrics;
 import com.serhat.secondhand.user.domain.dto.GreatSellerPublicProfileDto;
 import com.serhat.secondhand.user.domain.dto.GreatSellerStatusDto;
+import com.serhat.secondhand.user.domain.entity.SellerGreatStatus;
 import com.serhat.secondhand.user.domain.entity.User;
 import com.serhat.secondhand.user.domain.entity.enums.AccountStatus;
 import com.serhat.secondhand.user.domain.greatseller.GreatSellerPolicy;
+import com.serhat.secondhand.user.domain.repository.SellerGreatStatusRepository;
 import com.serhat.secondhand.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,13 +26,14 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class GreatSellerService {
 
     private final UserRepository userRepository;
     private final OrderItemRepository orderItemRepository;
     private final ReviewRepository reviewRepository;
-
-    private static final int MAX_SALES_ROW_SCAN = 120;
+    private final SellerGreatStatusRepository statusRepository;
+    private final GreatSellerEvaluator greatSellerEvaluator;
 
     @Transactional(readOnly = true)
     public GreatSellerStatusDto getStatus(Long sellerId) {
@@ -74,6 +78,10 @@ public class GreatSellerService {
                 .build();
     }
 
+    /**
+     * İlan rozetleri: {@code seller_great_status} üzerinde tek PK multi-get. Hiç değerlendirilmemiş
+     * satıcılar bir kez hesaplanıp tabloya yazılır; sonraki sayfalar yalnızca okur.
+     */
     @Transactional(readOnly = true)
     public Map<Long, Boolean> eligibleFlagsBySellerIds(Collection<Long> sellerIds) {
         if (sellerIds == null || sellerIds.isEmpty()) {
@@ -83,93 +91,47 @@ public class GreatSellerService {
         if (unique.isEmpty()) {
             return Map.of();
         }
-        LocalDateTime end = LocalDateTime.now();
-        LocalDateTime start = end.minusDays(GreatSellerPolicy.ROLLING_WINDOW_DAYS);
-
-        Map<Long, Long> salesBySeller = new HashMap<>();
-        List<Object[]> salesRows = orderItemRepository.countGreatSellerEligibleSalesBySellerIds(
-                unique,
-                PaymentStatus.COMPLETED,
-                OrderStatus.CANCELLED,
-                OrderStatus.REFUNDED,
-                start,
-                end,
-                GreatSellerPolicy.MIN_UNIT_PRICE_TRY,
-                Currency.TRY);
-        for (Object[] row : salesRows) {
-            salesBySeller.put((Long) row[0], ((Number) row[1]).longValue());
-        }
-
-        Map<Long, ReviewAgg> reviewBySeller = loadReviewAggregates(new ArrayList<>(unique));
-
         Map<Long, Boolean> out = new HashMap<>();
-        for (Long id : unique) {
-            long sales = salesBySeller.getOrDefault(id, 0L);
-            ReviewAgg agg = reviewBySeller.getOrDefault(id, ReviewAgg.ZERO);
-            boolean salesMet = sales >= GreatSellerPolicy.MIN_QUALIFYING_SALES;
-            boolean eligible = salesMet && passesGreatSellerReviewCriteria(agg);
-            out.put(id, eligible);
+        for (SellerGreatStatus status : statusRepository.findAllById(unique)) {
+            out.put(status.getSellerId(), status.isEligible());
+        }
+        List<Long> missing = unique.stream().filter(id -> !out.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            Map<Long, SellerGreatStatus> computed;
+            try {
+                computed = greatSellerEvaluator.recompute(missing);
+            } catch (RuntimeException e) {
+                log.warn("Great Seller status could not be stored, evaluating without it | sellers={} message={}",
+                        missing.size(), e.getMessage());
+                computed = greatSellerEvaluator.evaluate(missing);
+            }
+            computed.forEach((id, status) -> out.put(id, status.isEligible()));
         }
         return out;
     }
 
-    /** Anasayfa: satış şartı tek GROUP BY; yorum metrikleri toplu (N+1 yok). */
+    /** Anasayfa: uygun satıcılar materialised tablodan, satış hacmine göre. */
     @Transactional(readOnly = true)
     public List<GreatSellerPublicProfileDto> listGreatSellerProfiles(int limit) {
         int safeLimit = Math.max(1, Math.min(48, limit));
-        LocalDateTime end = LocalDateTime.now();
-        LocalDateTime start = end.minusDays(GreatSellerPolicy.ROLLING_WINDOW_DAYS);
-        List<Object[]> rows = orderItemRepository.findSellerIdsWithGreatSellerEligibleSalesVolume(
-                PaymentStatus.COMPLETED,
-                OrderStatus.CANCELLED,
-                OrderStatus.REFUNDED,
-                start,
-                end,
-                GreatSellerPolicy.MIN_UNIT_PRICE_TRY,
-                Currency.TRY,
-                GreatSellerPolicy.MIN_QUALIFYING_SALES,
-                PageRequest.of(0, MAX_SALES_ROW_SCAN));
-
-        List<Long> candidateSalesOrder = new ArrayList<>();
-        for (Object[] row : rows) {
-            candidateSalesOrder.add((Long) row[0]);
-            if (candidateSalesOrder.size() >= safeLimit * 4) {
-                break;
-            }
-        }
-        if (candidateSalesOrder.isEmpty()) {
+        List<SellerGreatStatus> statuses = statusRepository.findEligibleOrderBySales(PageRequest.of(0, safeLimit * 2));
+        if (statuses.isEmpty()) {
             return List.of();
         }
 
-        Map<Long, ReviewAgg> reviewAggBySeller = loadReviewAggregates(candidateSalesOrder);
-
-        List<Long> qualifyingOrder = new ArrayList<>();
-        for (Long sid : candidateSalesOrder) {
-            ReviewAgg agg = reviewAggBySeller.getOrDefault(sid, ReviewAgg.ZERO);
-            if (passesGreatSellerReviewCriteria(agg)) {
-                qualifyingOrder.add(sid);
-                if (qualifyingOrder.size() >= safeLimit * 4) {
-                    break;
-                }
-            }
-        }
-        if (qualifyingOrder.isEmpty()) {
-            return List.of();
-        }
-
-        Map<Long, User> byId = userRepository.findAllById(qualifyingOrder).stream()
+        Map<Long, User> byId = userRepository.findAllById(statuses.stream().map(SellerGreatStatus::getSellerId).toList())
+                .stream()
                 .collect(Collectors.toMap(User::getId, u -> u));
 
         List<GreatSellerPublicProfileDto> out = new ArrayList<>();
-        for (Long id : qualifyingOrder) {
-            User u = byId.get(id);
+        for (SellerGreatStatus status : statuses) {
+            User u = byId.get(status.getSellerId());
             if (u != null && u.getAccountStatus() == AccountStatus.ACTIVE) {
-                ReviewAgg agg = reviewAggBySeller.getOrDefault(id, ReviewAgg.ZERO);
                 out.add(GreatSellerPublicProfileDto.builder()
                         .id(u.getId())
                         .name(u.getName())
                         .surname(u.getSurname())
-                        .averageRating(round2(agg.averageRating))
+                        .averageRating(round2(status.getAverageRating()))
                         .createdAt(u.getAccountCreationDate().atStartOfDay())
                         .build());
                 if (out.size() >= safeLimit) {
@@ -180,26 +142,6 @@ public class GreatSellerService {
         return out;
     }
 
-    private Map<Long, ReviewAgg> loadReviewAggregates(List<Long> sellerIds) {
-        if (sellerIds.isEmpty()) {
-            return Map.of();
-        }
-        List<Object[]> aggRows = reviewRepository.aggregateGreatSellerReviewMetricsBySellerIds(sellerIds);
-        Map<Long, ReviewAgg> map = new HashMap<>();
-        for (Object[] row : aggRows) {
-            Long sid = (Long) row[0];
-            long reviewers = ((Number) row[1]).longValue();
-            double avg = ((Number) row[2]).doubleValue();
-            map.put(sid, new ReviewAgg(reviewers, avg));
-        }
-        return map;
-    }
-
-    private static boolean passesGreatSellerReviewCriteria(ReviewAgg agg) {
-        return agg.distinctReviewers >= GreatSellerPolicy.MIN_DISTINCT_REVIEWERS
-                && agg.averageRating >= GreatSellerPolicy.MIN_AVERAGE_RATING;
-    }
-
     private static double round2(double v) {
         return Math.round(v * 100.0) / 100.0;
     }
@@ -220,8 +162,4 @@ public class GreatSellerService {
                 .rollingWindowDays(GreatSellerPolicy.ROLLING_WINDOW_DAYS)
                 .build();
     }
-
-    private record ReviewAgg(long distinctReviewers, double averageRating) {
-        static final ReviewAgg ZERO = new ReviewAgg(0L, 0.0);
-    }
 }
@@ -0,0 +1,104 @@
+package com.serhat.secondhand.user.application;
+
+import com.serhat.secondhand.core.scheduling.ClusterLeased;
+import com.serhat.secondhand.core.scheduling.SchedulerLeaseLostException;
+import com.serhat.secondhand.listing.domain.entity.enums.base.Currency;
+import com.serhat.secondhand.order.entity.enums.OrderStatus;
+import com.serhat.secondhand.order.repository.OrderItemRepository;
+import com.serhat.secondhand.payment.entity.PaymentStatus;
+import com.serhat.secondhand.user.domain.entity.SellerGreatStatus;
+import com.serhat.secondhand.user.domain.greatseller.GreatSellerPolicy;
+import com.serhat.secondhand.user.domain.repository.SellerGreatStatusRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps {@code seller_great_status} in line with the rolling window between events.
+ * <ul>
+ *   <li>Nightly, sellers whose oldest qualifying sale has left the window are recomputed.</li>
+ *   <li>Periodically, sellers that meet the sales volume but were never evaluated (existing data,
+ *       sales counted before the order completed) get their first row.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GreatSellerStatusScheduler {
+
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_BACKFILL_CANDIDATES = 1_000;
+
+    private final SellerGreatStatusRepository statusRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final GreatSellerEvaluator greatSellerEvaluator;
+    private final GreatSellerEligibilitySyncService syncService;
+
+    // Her gece 03:15 — pencereden düşen satışlar rozeti kaldırabilir
+    @Scheduled(cron = "${app.great-seller.expiry-cron:0 15 3 * * *}")
+    @ClusterLeased(name = "great-seller-expiry", leaseMs = 10 * 60 * 1000L, lockAtLeastForMs = 5 * 60 * 1000L)
+    public void expireSlidingWindow() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> attempted = new HashSet<>();
+        while (true) {
+            List<Long> due = statusRepository.findSellerIdsDueForExpiry(now, PageRequest.of(0, BATCH_SIZE));
+            List<Long> fresh = due.stream().filter(attempted::add).toList();
+            if (fresh.isEmpty()) {
+                break;
+            }
+            for (Long sellerId : fresh) {
+                try {
+                    syncService.syncEligibilityAndNotify(sellerId);
+                } catch (SchedulerLeaseLostException e) {
+                    throw e;
+                } catch (RuntimeException e) {
+                    log.warn("Great Seller expiry recompute failed for {}: {}", sellerId, e.getMessage());
+                }
+            }
+            if (due.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        log.info("Great Seller expiry pass recomputed {} sellers", attempted.size());
+    }
+
+    @Scheduled(initialDelayString = "${app.great-seller.backfill-initial-delay-ms:60000}",
+            fixedDelayString = "${app.great-seller.backfill-interval-ms:3600000}")
+    @ClusterLeased(name = "great-seller-backfill", leaseMs = 10 * 60 * 1000L)
+    public void backfillUnevaluatedSellers() {
+        LocalDateTime end = LocalDateTime.now();
+        LocalDateTime start = end.minusDays(GreatSellerPolicy.ROLLING_WINDOW_DAYS);
+        List<Long> candidates = orderItemRepository.findSellerIdsWithGreatSellerEligibleSalesVolume(
+                        PaymentStatus.COMPLETED,
+                        OrderStatus.CANCELLED,
+                        OrderStatus.REFUNDED,
+                        start,
+                        end,
+                        GreatSellerPolicy.MIN_UNIT_PRICE_TRY,
+                        Currency.TRY,
+                        GreatSellerPolicy.MIN_QUALIFYING_SALES,
+                        PageRequest.of(0, MAX_BACKFILL_CANDIDATES))
+                .stream()
+                .map(row -> (Long) row[0])
+                .toList();
+        if (candidates.isEmpty()) {
+            return;
+        }
+        Set<Long> evaluated = new HashSet<>();
+        statusRepository.findAllById(candidates).stream().map(SellerGreatStatus::getSellerId).forEach(evaluated::add);
+        List<Long> missing = candidates.stream().filter(id -> !evaluated.contains(id)).toList();
+        for (int i = 0; i < missing.size(); i += BATCH_SIZE) {
+            greatSellerEvaluator.recompute(missing.subList(i, Math.min(missing.size(), i + BATCH_SIZE)));
+        }
+        if (!missing.isEmpty()) {
+            log.info("Great Seller backfill evaluated {} sellers", missing.size());
+        }
+    }
+}
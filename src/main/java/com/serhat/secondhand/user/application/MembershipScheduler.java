@@ -1,5 +1,7 @@
 package com.serhat.secondhand.user.application;
 
+import com.serhat.secondhand.core.scheduling.ClusterLeased;
+import com.serhat.secondhand.core.scheduling.SchedulerLeaseService;
 import com.serhat.secondhand.user.domain.entity.User;
 import com.serhat.secondhand.user.domain.entity.enums.MembershipPlan;
 import com.serhat.secondhand.user.domain.repository.UserRepository;
@@ -19,11 +21,14 @@ public class MembershipScheduler {
 
     private final UserRepository userRepository;
     private final MembershipService membershipService;
+    private final SchedulerLeaseService schedulerLeaseService;
 
     // Her gece 00:01'de çalışır — süresi dolan Premium'ları yenile veya FREE'ye düşür
     @Scheduled(cron = "0 1 0 * * *")
+    @ClusterLeased(name = "membership-expiry", leaseMs = 10 * 60 * 1000L, lockAtLeastForMs = 5 * 60 * 1000L)
     @Transactional
     public void downgradeExpiredPremiumUsers() {
+        schedulerLeaseService.fenceCurrent();
         List<User> expired = userRepository.findExpiredPremiumUsers(LocalDateTime.now());
         expired.forEach(user -> {
             if (user.isAutoRenew()) {
@@ -44,8 +49,10 @@ public class MembershipScheduler {
 
     // Her ayın 1'inde AI ilan kotasını resetle
     @Scheduled(cron = "0 0 1 1 * *")
+    @ClusterLeased(name = "membership-ai-quota-reset", leaseMs = 10 * 60 * 1000L, lockAtLeastForMs = 5 * 60 * 1000L)
     @Transactional
     public void resetMonthlyAiQuota() {
+        schedulerLeaseService.fenceCurrent();
         List<User> users = userRepository.findAll();
         users.forEach(user -> 
             user.setAiListingQuota(user.getEffectivePlan().getMonthlyAiListingQuota())
@@ -1,9 +1,14 @@
 package com.serhat.secondhand.user.application;
 
+import com.serhat.secondhand.email.application.BulkEmailTemplate;
+import com.serhat.secondhand.email.application.EmailContentBuilder;
+import com.serhat.secondhand.email.application.EmailQueueWriter;
 import com.serhat.secondhand.email.application.event.EmailEventPublisher;
 import com.serhat.secondhand.email.application.event.impl.*;
 import com.serhat.secondhand.email.application.event.model.GenericEmailData;
 import com.serhat.secondhand.email.config.EmailConfig;
+import com.serhat.secondhand.email.domain.entity.enums.EmailPriority;
+import com.serhat.secondhand.email.domain.entity.enums.EmailType;
 import com.serhat.secondhand.notification.application.NotificationEventPublisher;
 import com.serhat.secondhand.notification.template.NotificationTemplateCatalog;
 import com.serhat.secondhand.core.verification.IVerificationService;
@@ -16,26 +21,37 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 @Slf4j
 public class UserNotificationService {
 
+    private static final int PRICE_CHANGE_EMAIL_BATCH = 500;
+
     private final EmailEventPublisher emailEventPublisher;
     private final EmailConfig emailConfig;
     private final NotificationEventPublisher notificationEventPublisher;
     private final NotificationTemplateCatalog notificationTemplateCatalog;
     private final IVerificationService verificationService;
+    private final EmailContentBuilder emailContentBuilder;
+    private final EmailQueueWriter emailQueueWriter;
 
     public UserNotificationService(
             EmailEventPublisher emailEventPublisher,
             EmailConfig emailConfig,
             NotificationEventPublisher notificationEventPublisher,
             NotificationTemplateCatalog notificationTemplateCatalog,
-            @Lazy IVerificationService verificationService) {
+            @Lazy IVerificationService verificationService,
+            EmailContentBuilder emailContentBuilder,
+            EmailQueueWriter emailQueueWriter) {
         this.emailEventPublisher = emailEventPublisher;
         this.emailConfig = emailConfig;
+        this.emailContentBuilder = emailContentBuilder;
+        this.emailQueueWriter = emailQueueWriter;
         this.notificationEventPublisher = notificationEventPublisher;
         this.notificationTemplateCatalog = notificationTemplateCatalog;
         this.verificationService = verificationService;
@@ -149,37 +165,60 @@ public class UserNotificationService {
         }
     }
 
+    /**
+     * Price-drop fan-out to everyone who favorited the listing. The email is rendered once and only the
+     * recipient name is substituted; emails are queued in JDBC batches instead of one event per user.
+     */
     @Async("notificationExecutor")
-    public void sendPriceChangeNotification(User user, String listingTitle, String oldPriceStr, String newPriceStr, UUID listingId) {
-        try {
-            String subject = emailConfig.getPriceChangeSubject();
-            String content = String.format("Favorilerinizdeki '%s' ilanının fiyatı %s'den %s'ye düştü.", listingTitle, oldPriceStr, newPriceStr);
-
-            var data = GenericEmailData.builder()
-                    .userName(user.getName())
-                    .headerTitle("Fiyat Düştü!")
-                    .message(content)
-                    .actionText("İlanı İncele")
-                    .actionUrl("/listings/" + listingId)
-                    .build();
-
-            emailEventPublisher.publish(new PriceChangeEmailEvent(user, subject, data));
-            log.info("Price change notification event published for user: {}", user.getEmail());
+    public void sendPriceChangeNotifications(List<User> users, String listingTitle, String oldPriceStr, String newPriceStr, UUID listingId) {
+        if (users.isEmpty()) {
+            return;
+        }
+        String subject = emailConfig.getPriceChangeSubject();
+        String content = String.format("Favorilerinizdeki '%s' ilanının fiyatı %s'den %s'ye düştü.", listingTitle, oldPriceStr, newPriceStr);
+        var data = GenericEmailData.builder()
+                .headerTitle("Fiyat Düştü!")
+                .message(content)
+                .actionText("İlanı İncele")
+                .actionUrl("/listings/" + listingId)
+                .build();
 
-            var request = notificationTemplateCatalog.listingPriceDropped(
-                    user.getId(),
-                    listingId,
-                    oldPriceStr,
-                    newPriceStr,
-                    listingTitle
-            );
-            notificationEventPublisher.publishDispatch(
-                    request,
-                    "user",
-                    "price-dropped:" + user.getId() + ":" + (listingId != null ? listingId : "no-listing") + ":" + newPriceStr
-            );
+        try {
+            BulkEmailTemplate template = emailContentBuilder.prepareBulk(PriceChangeEmailEvent.TEMPLATE_PATH, data,
+                    EmailType.NOTIFICATION, "userName");
+            List<EmailQueueWriter.QueuedEmail> batch = new ArrayList<>(PRICE_CHANGE_EMAIL_BATCH);
+            for (User user : users) {
+                String name = user.getName() == null ? "" : user.getName();
+                batch.add(new EmailQueueWriter.QueuedEmail(user.getId(), user.getEmail(), subject,
+                        template.render(Map.of("userName", name)), EmailType.NOTIFICATION, EmailPriority.NORMAL));
+                if (batch.size() == PRICE_CHANGE_EMAIL_BATCH) {
+                    emailQueueWriter.enqueue(batch);
+                    batch = new ArrayList<>(PRICE_CHANGE_EMAIL_BATCH);
+                }
+            }
+            emailQueueWriter.enqueue(batch);
+            log.info("Queued {} price change emails for listing {}", users.size(), listingId);
         } catch (Exception e) {
-            log.warn("Failed to publish price change notification for user {}: {}", user.getEmail(), e.getMessage());
+            log.warn("Failed to queue price change emails for listing {}: {}", listingId, e.getMessage());
+        }
+
+        for (User user : users) {
+            try {
+                var request = notificationTemplateCatalog.listingPriceDropped(
+                        user.getId(),
+                        listingId,
+                        oldPriceStr,
+                        newPriceStr,
+                        listingTitle
+                );
+                notificationEventPublisher.publishDispatch(
+                        request,
+                        "user",
+                        "price-dropped:" + user.getId() + ":" + (listingId != null ? listingId : "no-listing") + ":" + newPriceStr
+                );
+            } catch (Exception e) {
+                log.warn("Failed to publish price change notification for user {}: {}", user.getEmail(), e.getMessage());
+            }
         }
     }
 }
@@ -1,6 +1,9 @@
 package com.serhat.secondhand.user.application.listener;
 
+import com.serhat.secondhand.order.application.event.OrderCancelledEvent;
 import com.serhat.secondhand.order.application.event.OrderCompletedEvent;
+import com.serhat.secondhand.order.application.event.OrderRefundedEvent;
+import com.serhat.secondhand.order.entity.Order;
 import com.serhat.secondhand.order.repository.OrderRepository;
 import com.serhat.secondhand.user.application.GreatSellerEligibilitySyncService;
 import com.serhat.secondhand.user.application.event.SellerEligibilityRecheckEvent;
@@ -25,8 +28,35 @@ public class GreatSellerEligibilityEventListener {
     @Async("notificationExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onOrderCompleted(OrderCompletedEvent event) {
+        syncSellersOf(event.order(), "order complete");
+    }
+
+    /** İade ve iptal penceredeki nitelikli satışı düşürür; rozet bir sonraki gece geçişini beklemeden güncellenir. */
+    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderRefunded(OrderRefundedEvent event) {
+        syncSellersOf(event.order(), "order refund");
+    }
+
+    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        syncSellersOf(event.order(), "order cancel");
+    }
+
+    @Async("notificationExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSellerRecheck(SellerEligibilityRecheckEvent event) {
+        try {
+            greatSellerEligibilitySyncService.syncEligibilityAndNotify(event.sellerId());
+        } catch (Exception e) {
+            log.warn("Great Seller sync after milestone failed: {}", e.getMessage());
+        }
+    }
+
+    private void syncSellersOf(Order order, String trigger) {
         try {
-            var loaded = orderRepository.findByIdWithOrderItemsAndSellers(event.order().getId());
+            var loaded = orderRepository.findByIdWithOrderItemsAndSellers(order.getId());
             if (loaded.isEmpty()) {
                 return;
             }
@@ -40,17 +70,7 @@ public class GreatSellerEligibilityEventListener {
                 greatSellerEligibilitySyncService.syncEligibilityAndNotify(sid);
             }
         } catch (Exception e) {
-            log.warn("Great Seller sync after order complete failed: {}", e.getMessage());
-        }
-    }
-
-    @Async("notificationExecutor")
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
-    public void onSellerRecheck(SellerEligibilityRecheckEvent event) {
-        try {
-            greatSellerEligibilitySyncService.syncEligibilityAndNotify(event.sellerId());
-        } catch (Exception e) {
-            log.warn("Great Seller sync after milestone failed: {}", e.getMessage());
+            log.warn("Great Seller sync after {} failed: {}", trigger, e.getMessage());
         }
     }
 }
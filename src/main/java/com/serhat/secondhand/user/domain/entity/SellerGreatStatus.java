@@ -0,0 +1,43 @@
+package com.serhat.secondhand.user.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Materialised Great Seller evaluation of one seller, written by {@code GreatSellerEvaluator.recompute}.
+ * Sellers without a row have never been evaluated.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "seller_great_status")
+public class SellerGreatStatus {
+
+    @Id
+    @Column(name = "seller_id")
+    private Long sellerId;
+
+    @Column(name = "eligible", nullable = false)
+    private boolean eligible;
+
+    @Column(name = "qualifying_sales", nullable = false)
+    private int qualifyingSales;
+
+    @Column(name = "distinct_reviewers", nullable = false)
+    private int distinctReviewers;
+
+    @Column(name = "average_rating", nullable = false)
+    private double averageRating;
+
+    /** When the oldest qualifying sale leaves the rolling window; {@code null} without sales. */
+    @Column(name = "next_expiry_at")
+    private LocalDateTime nextExpiryAt;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,44 @@
+package com.serhat.secondhand.user.domain.repository;
+
+import com.serhat.secondhand.user.domain.entity.SellerGreatStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SellerGreatStatusRepository extends JpaRepository<SellerGreatStatus, Long> {
+
+    @Query("SELECT s FROM SellerGreatStatus s WHERE s.eligible = true ORDER BY s.qualifyingSales DESC, s.sellerId")
+    List<SellerGreatStatus> findEligibleOrderBySales(Pageable pageable);
+
+    @Query("SELECT s.sellerId FROM SellerGreatStatus s WHERE s.nextExpiryAt <= :now ORDER BY s.nextExpiryAt")
+    List<Long> findSellerIdsDueForExpiry(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /** Concurrent recomputes of the same seller both succeed; the last writer wins. */
+    @Modifying
+    @Query(value = """
+            INSERT INTO seller_great_status
+                (seller_id, eligible, qualifying_sales, distinct_reviewers, average_rating, next_expiry_at, computed_at)
+            VALUES (:sellerId, :eligible, :sales, :reviewers, :rating, :nextExpiryAt, :computedAt)
+            ON CONFLICT (seller_id) DO UPDATE SET
+                eligible = EXCLUDED.eligible,
+                qualifying_sales = EXCLUDED.qualifying_sales,
+                distinct_reviewers = EXCLUDED.distinct_reviewers,
+                average_rating = EXCLUDED.average_rating,
+                next_expiry_at = EXCLUDED.next_expiry_at,
+                computed_at = EXCLUDED.computed_at
+            """, nativeQuery = true)
+    int upsert(@Param("sellerId") Long sellerId,
+               @Param("eligible") boolean eligible,
+               @Param("sales") int sales,
+               @Param("reviewers") int reviewers,
+               @Param("rating") double rating,
+               @Param("nextExpiryAt") LocalDateTime nextExpiryAt,
+               @Param("computedAt") LocalDateTime computedAt);
+}
@@ -0,0 +1,20 @@
+-- ─── Listing global search: full-text + trigram ──────────────────────────────
+-- Backs the "postgres" engine of ListingSearchService.globalSearch
+-- (app.listing.search.engine=postgres). The 'simple' configuration is used on
+-- purpose: the application already strips Turkish suffixes and sends prefix
+-- queries (token:*), so a second stemmer would only skew the matches.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE listings ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(listing_no, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_listing_search_vector ON listings USING GIN (search_vector);
+
+CREATE INDEX IF NOT EXISTS idx_listing_title_trgm ON listings USING GIN (lower(title) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_listing_no_trgm ON listings USING GIN (lower(listing_no) gin_trgm_ops);
@@ -0,0 +1,11 @@
+-- Cluster-wide leases for @Scheduled jobs: one row per job (or job shard).
+-- fencing_token is incremented on every ownership change, so writes guarded by it
+-- can detect a node that kept running after its lease was taken over.
+CREATE TABLE IF NOT EXISTS scheduler_lease (
+    name          VARCHAR(128) PRIMARY KEY,
+    owner         VARCHAR(128) NOT NULL,
+    fencing_token BIGINT       NOT NULL,
+    lease_until   TIMESTAMPTZ  NOT NULL,
+    acquired_at   TIMESTAMPTZ  NOT NULL,
+    heartbeat_at  TIMESTAMPTZ  NOT NULL
+);
@@ -0,0 +1,5 @@
+-- Due-time lookups of OrderCompletionScheduler: keyset scan by id within a status,
+-- filtered by the timestamp that starts each automatic transition's timer.
+CREATE INDEX IF NOT EXISTS idx_orders_status_id ON orders (status, id);
+CREATE INDEX IF NOT EXISTS idx_orders_status_updated_at ON orders (status, updated_at);
+CREATE INDEX IF NOT EXISTS idx_shippings_delivered_at ON shippings (delivered_at);
@@ -0,0 +1,21 @@
+-- Payment outbox: batch claims with FOR UPDATE SKIP LOCKED and a per-row lease.
+ALTER TABLE payment_outbox_events ADD COLUMN IF NOT EXISTS locked_by VARCHAR(100);
+ALTER TABLE payment_outbox_events ADD COLUMN IF NOT EXISTS locked_until TIMESTAMP;
+
+-- PROCESSING rows whose lease expired (left by a crashed node) are claimed again.
+CREATE INDEX IF NOT EXISTS idx_payment_outbox_processing_lease
+    ON payment_outbox_events (locked_until)
+    WHERE status = 'PROCESSING';
+
+-- Wakes up listening workers when events are enqueued (app.payment.outbox.listen-notify).
+CREATE OR REPLACE FUNCTION payment_outbox_notify() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('payment_outbox', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_payment_outbox_notify ON payment_outbox_events;
+CREATE TRIGGER trg_payment_outbox_notify
+    AFTER INSERT ON payment_outbox_events
+    FOR EACH STATEMENT EXECUTE FUNCTION payment_outbox_notify();
@@ -0,0 +1,91 @@
+-- Dashboard rollups: per-day aggregates that the seller and buyer dashboards sum over a date range
+-- instead of scanning orders, order_items and listing_views. Every (owner, day) slice is recomputed
+-- from the raw tables, so refreshing a slice twice is harmless.
+
+-- Qualifying sales (payment COMPLETED, order not CANCELLED/REFUNDED) per seller, day and listing.
+CREATE TABLE IF NOT EXISTS dashboard_seller_daily_sales (
+    seller_id    BIGINT         NOT NULL,
+    day          DATE           NOT NULL,
+    listing_id   UUID           NOT NULL,
+    listing_type VARCHAR(50),
+    revenue      NUMERIC(19, 2) NOT NULL DEFAULT 0,
+    order_count  BIGINT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (seller_id, day, listing_id)
+);
+
+-- Orders of any status containing the seller's items, per seller, day and order status.
+CREATE TABLE IF NOT EXISTS dashboard_seller_daily_orders (
+    seller_id   BIGINT      NOT NULL,
+    day         DATE        NOT NULL,
+    status      VARCHAR(30) NOT NULL,
+    order_count BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (seller_id, day, status)
+);
+
+-- Orders of any status containing the seller's items, per seller, day and listing type.
+CREATE TABLE IF NOT EXISTS dashboard_seller_daily_category_orders (
+    seller_id    BIGINT      NOT NULL,
+    day          DATE        NOT NULL,
+    listing_type VARCHAR(50) NOT NULL,
+    order_count  BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (seller_id, day, listing_type)
+);
+
+-- Buyer orders per day and status; spent_amount only counts qualifying orders.
+CREATE TABLE IF NOT EXISTS dashboard_buyer_daily_orders (
+    user_id      BIGINT         NOT NULL,
+    day          DATE           NOT NULL,
+    status       VARCHAR(30)    NOT NULL,
+    order_count  BIGINT         NOT NULL DEFAULT 0,
+    spent_amount NUMERIC(19, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, day, status)
+);
+
+-- Buyer orders and item spending per day and listing type; spent_amount only counts qualifying orders.
+CREATE TABLE IF NOT EXISTS dashboard_buyer_daily_category (
+    user_id      BIGINT         NOT NULL,
+    day          DATE           NOT NULL,
+    listing_type VARCHAR(50)    NOT NULL,
+    order_count  BIGINT         NOT NULL DEFAULT 0,
+    spent_amount NUMERIC(19, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, day, listing_type)
+);
+
+-- Views per listing and day; unique_viewers counts distinct users (or sessions) within the day.
+CREATE TABLE IF NOT EXISTS dashboard_listing_daily_views (
+    listing_id     UUID   NOT NULL,
+    day            DATE   NOT NULL,
+    seller_id      BIGINT NOT NULL,
+    views          BIGINT NOT NULL DEFAULT 0,
+    unique_viewers BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (listing_id, day)
+);
+
+CREATE INDEX IF NOT EXISTS idx_dashboard_listing_daily_views_seller_day
+    ON dashboard_listing_daily_views (seller_id, day);
+
+-- Favorites received by each seller's listings; maintained by deltas, re-counted nightly.
+CREATE TABLE IF NOT EXISTS dashboard_seller_favorites (
+    seller_id      BIGINT PRIMARY KEY,
+    favorite_count BIGINT NOT NULL DEFAULT 0
+);
+
+-- Slices waiting to be recomputed. A re-mark bumps marked_at, so a slice that changes while it is
+-- being refreshed stays queued.
+CREATE TABLE IF NOT EXISTS dashboard_rollup_dirty (
+    scope     VARCHAR(20) NOT NULL,
+    owner_key VARCHAR(64) NOT NULL,
+    day       DATE        NOT NULL,
+    marked_at TIMESTAMP   NOT NULL DEFAULT now(),
+    PRIMARY KEY (scope, owner_key, day)
+);
+
+CREATE INDEX IF NOT EXISTS idx_dashboard_rollup_dirty_marked_at
+    ON dashboard_rollup_dirty (marked_at);
+
+-- Tracks the one-time history backfill; dashboards read the rollups once it has completed.
+CREATE TABLE IF NOT EXISTS dashboard_rollup_state (
+    name         VARCHAR(50) PRIMARY KEY,
+    requested_at TIMESTAMP   NOT NULL,
+    completed_at TIMESTAMP
+);
@@ -0,0 +1,21 @@
+-- Great Seller eligibility per seller, recomputed on order, refund and review events instead of
+-- being aggregated for every listing page. next_expiry_at is when the oldest qualifying sale leaves
+-- the rolling window; the nightly pass recomputes sellers whose count can drop at that point.
+CREATE TABLE IF NOT EXISTS seller_great_status (
+    seller_id          BIGINT           PRIMARY KEY,
+    eligible           BOOLEAN          NOT NULL DEFAULT FALSE,
+    qualifying_sales   INTEGER          NOT NULL DEFAULT 0,
+    distinct_reviewers INTEGER          NOT NULL DEFAULT 0,
+    average_rating     DOUBLE PRECISION NOT NULL DEFAULT 0,
+    next_expiry_at     TIMESTAMP,
+    computed_at        TIMESTAMP        NOT NULL
+);
+
+-- Home page list: eligible sellers by sales volume.
+CREATE INDEX IF NOT EXISTS idx_seller_great_status_eligible_sales
+    ON seller_great_status (qualifying_sales DESC)
+    WHERE eligible;
+
+CREATE INDEX IF NOT EXISTS idx_seller_great_status_next_expiry
+    ON seller_great_status (next_expiry_at)
+    WHERE next_expiry_at IS NOT NULL;
@@ -0,0 +1,29 @@
+-- Broadcast notifications get a monotonically increasing sequence; "mark all as read" stores the
+-- highest sequence a user has seen instead of one notification_event_reads row per event.
+CREATE SEQUENCE IF NOT EXISTS notification_event_seq;
+
+ALTER TABLE notification_events ADD COLUMN IF NOT EXISTS seq BIGINT;
+
+UPDATE notification_events e
+SET seq = ordered.rn
+FROM (SELECT id, row_number() OVER (ORDER BY created_at, id) AS rn FROM notification_events) ordered
+WHERE e.id = ordered.id AND e.seq IS NULL;
+
+SELECT setval('notification_event_seq', COALESCE((SELECT MAX(seq) FROM notification_events), 0) + 1, false);
+
+ALTER TABLE notification_events ALTER COLUMN seq SET DEFAULT nextval('notification_event_seq');
+ALTER TABLE notification_events ALTER COLUMN seq SET NOT NULL;
+ALTER SEQUENCE notification_event_seq OWNED BY notification_events.seq;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_notification_event_seq ON notification_events (seq);
+
+CREATE TABLE IF NOT EXISTS notification_read_watermarks (
+    user_id    BIGINT    PRIMARY KEY,
+    event_seq  BIGINT    NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- Unread badge seed/fallback: personal unread count per user.
+CREATE INDEX IF NOT EXISTS idx_notification_user_unread
+    ON notifications (user_id)
+    WHERE is_read = FALSE;
@@ -0,0 +1,56 @@
+-- New-listing fan-out to followers as a durable job: one row per listing, split into follower-id
+-- range chunks. cursor_follower_id is the checkpoint; it is committed together with each batch of
+-- notifications/emails, so a restarted worker resumes where the previous one stopped.
+CREATE TABLE IF NOT EXISTS follower_fanout_jobs (
+    id                BIGSERIAL    PRIMARY KEY,
+    listing_id        UUID         NOT NULL,
+    seller_id         BIGINT       NOT NULL,
+    seller_name       VARCHAR(255) NOT NULL,
+    email_subject     VARCHAR(255) NOT NULL,
+    listing_title     VARCHAR(255),
+    listing_price     VARCHAR(100),
+    listing_city      VARCHAR(255),
+    listing_image_url VARCHAR(1000),
+    status            VARCHAR(20)  NOT NULL,
+    total_chunks      INTEGER      NOT NULL,
+    created_at        TIMESTAMP    NOT NULL,
+    completed_at      TIMESTAMP,
+    CONSTRAINT uk_follower_fanout_jobs_listing UNIQUE (listing_id)
+);
+
+CREATE TABLE IF NOT EXISTS follower_fanout_chunks (
+    id                 BIGSERIAL   PRIMARY KEY,
+    job_id             BIGINT      NOT NULL REFERENCES follower_fanout_jobs (id) ON DELETE CASCADE,
+    range_start        BIGINT      NOT NULL,
+    range_end          BIGINT      NOT NULL,
+    cursor_follower_id BIGINT      NOT NULL,
+    status             VARCHAR(20) NOT NULL,
+    attempts           INTEGER     NOT NULL DEFAULT 0,
+    delivered          INTEGER     NOT NULL DEFAULT 0,
+    next_attempt_at    TIMESTAMP   NOT NULL,
+    locked_by          VARCHAR(100),
+    locked_until       TIMESTAMP,
+    last_error         VARCHAR(1000),
+    updated_at         TIMESTAMP   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_follower_fanout_chunks_due
+    ON follower_fanout_chunks (next_attempt_at)
+    WHERE status = 'PENDING';
+
+CREATE INDEX IF NOT EXISTS idx_follower_fanout_chunks_lease
+    ON follower_fanout_chunks (locked_until)
+    WHERE status = 'PROCESSING';
+
+CREATE INDEX IF NOT EXISTS idx_follower_fanout_chunks_job
+    ON follower_fanout_chunks (job_id, status);
+
+-- Range scans over a seller's notifiable followers, ordered by follower id.
+CREATE INDEX IF NOT EXISTS idx_seller_follows_notify_range
+    ON seller_follows (followed_id, follower_id)
+    WHERE deleted_at IS NULL AND notify_on_new_listing;
+
+-- Queued bulk emails, drained oldest first.
+CREATE INDEX IF NOT EXISTS idx_emails_queued
+    ON emails (created_at)
+    WHERE status = 'QUEUED' AND deleted_at IS NULL;
@@ -0,0 +1,23 @@
+-- Email delivery queue: every outbound email is a row that waits in QUEUED until next_attempt_at,
+-- is leased as PENDING by one node while it is being sent, and ends SENT or FAILED.
+ALTER TABLE emails ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP;
+ALTER TABLE emails ADD COLUMN IF NOT EXISTS locked_by VARCHAR(64);
+ALTER TABLE emails ADD COLUMN IF NOT EXISTS locked_until TIMESTAMP;
+
+-- Unsent rows from the previous sender (PENDING without a lease, FAILED with retries left) go back
+-- to the queue; FAILED rows that used up their retries stay terminal.
+UPDATE emails
+   SET status = 'QUEUED', next_attempt_at = COALESCE(created_at, now())
+ WHERE deleted_at IS NULL
+   AND (status IN ('QUEUED', 'PENDING') OR (status = 'FAILED' AND retry_count < 3));
+
+DROP INDEX IF EXISTS idx_emails_queued;
+
+-- Claim order: priority first, then due time.
+CREATE INDEX IF NOT EXISTS idx_emails_delivery_due
+    ON emails ((CASE priority WHEN 'CRITICAL' THEN 1 WHEN 'HIGH' THEN 2 WHEN 'NORMAL' THEN 3 ELSE 4 END), next_attempt_at)
+    WHERE status = 'QUEUED' AND deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_emails_delivery_lease
+    ON emails (locked_until)
+    WHERE status = 'PENDING';
@@ -0,0 +1,230 @@
+package com.serhat.secondhand.ai.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.serhat.secondhand.ai.config.GeminiTransportConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link GeminiTransport} against a stub {@code generateContent} endpoint served by reactor-netty on a
+ * loopback port. The stub echoes the prompt back as the candidate text and records the order and the
+ * per-model concurrency of the requests it receives.
+ */
+class GeminiTransportTest {
+
+    private record Call(String model, String prompt) {
+    }
+
+    private record StubReply(int status, String retryAfter, Duration delay) {
+        static StubReply ok(Duration delay) {
+            return new StubReply(200, null, delay);
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Call> received = new CopyOnWriteArrayList<>();
+    private final Map<String, AtomicInteger> active = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> peak = new ConcurrentHashMap<>();
+    private volatile Function<Call, StubReply> responder = call -> StubReply.ok(Duration.ZERO);
+
+    private DisposableServer server;
+    private GeminiTransportConfig config;
+    private GeminiTransport transport;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((request, response) -> request.receive().aggregate().asString(StandardCharsets.UTF_8)
+                        .defaultIfEmpty("")
+                        .flatMap(body -> {
+                            Call call = new Call(modelOf(request.uri()), promptOf(body));
+                            received.add(call);
+                            int now = active.computeIfAbsent(call.model(), m -> new AtomicInteger()).incrementAndGet();
+                            peak.computeIfAbsent(call.model(), m -> new AtomicInteger()).accumulateAndGet(now, Math::max);
+                            StubReply reply = responder.apply(call);
+                            return Mono.delay(reply.delay())
+                                    .doOnNext(ignored -> active.get(call.model()).decrementAndGet())
+                                    .thenReturn(new Object[]{call, reply});
+                        })
+                        .flatMap(pair -> {
+                            Call call = (Call) pair[0];
+                            StubReply reply = (StubReply) pair[1];
+                            response.status(HttpResponseStatus.valueOf(reply.status()));
+                            if (reply.retryAfter() != null) {
+                                response.header(HttpHeaderNames.RETRY_AFTER, reply.retryAfter());
+                            }
+                            return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                                    .sendString(Mono.just(reply.status() == 200 ? candidate("echo:" + call.prompt()) : "{}"))
+                                    .then();
+                        }))
+                .bindNow();
+
+        config = new GeminiTransportConfig();
+        config.setRetryBackoffMs(50);
+        config.setAcquireTimeoutMs(5_000);
+        config.setCallTimeoutMs(5_000);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (transport != null) {
+            transport.stop();
+        }
+        server.disposeNow();
+    }
+
+    @Test
+    void concurrentIdenticalCallsShareOneUpstreamRequest() throws Exception {
+        responder = call -> StubReply.ok(Duration.ofMillis(300));
+        startTransport();
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(transport.generate("gemini-a", "same prompt", false));
+        }
+
+        for (CompletableFuture<String> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("echo:same prompt");
+        }
+        assertThat(received).hasSize(1);
+        assertThat(meterRegistry.counter("ai.gemini.singleflight.joined").count()).isEqualTo(9);
+
+        // Tamamlanan çağrı tabloda kalmaz; aynı prompt yeniden istek atar.
+        assertThat(transport.generate("gemini-a", "same prompt", false).get(5, TimeUnit.SECONDS)).isEqualTo("echo:same prompt");
+        assertThat(received).hasSize(2);
+    }
+
+    @Test
+    void retriesStopAtTheCallDeadlineEvenWithALongRetryAfter() throws Exception {
+        config.setMaxRetries(5);
+        startTransport();
+        // İlk bağlantının kurulumu 400 ms'lik bütçeyi yemesin diye istemci önce ısıtılır.
+        transport.generate("gemini-a", "warm-up", false).get(5, TimeUnit.SECONDS);
+        responder = call -> new StubReply(429, "60", Duration.ZERO);
+        config.setCallTimeoutMs(400);
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<String> future = transport.generate("gemini-a", "rate limited", false);
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOfSatisfying(GeminiTransportException.class,
+                        e -> assertThat(e.getKind()).isEqualTo(GeminiTransportException.Kind.TIMEOUT));
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(3));
+
+        Thread.sleep(300);
+        // Retry-After 60 sn olsa da deneme süre sonuna çekildi ve orada düştü; ikinci istek atılmadı.
+        assertThat(received).filteredOn(call -> call.prompt().equals("rate limited")).hasSize(1);
+    }
+
+    @Test
+    void retriesWithinTheDeadlineUntilMaxRetries() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        responder = call -> calls.incrementAndGet() <= 2
+                ? new StubReply(503, null, Duration.ZERO)
+                : StubReply.ok(Duration.ZERO);
+        config.setMaxRetries(2);
+        startTransport();
+
+        assertThat(transport.generate("gemini-a", "flaky", false).get(5, TimeUnit.SECONDS)).isEqualTo("echo:flaky");
+        assertThat(received).hasSize(3);
+    }
+
+    @Test
+    void waitingCallsAreAdmittedInArrivalOrderPerModel() throws Exception {
+        responder = call -> StubReply.ok(Duration.ofMillis(100));
+        config.setMaxConcurrentPerModel(1);
+        startTransport();
+
+        List<CompletableFuture<String>> queued = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            queued.add(transport.generate("gemini-a", "a" + i, false));
+        }
+        CompletableFuture<String> otherModel = transport.generate("gemini-b", "b0", false);
+
+        assertThat(otherModel.get(5, TimeUnit.SECONDS)).isEqualTo("echo:b0");
+        for (CompletableFuture<String> future : queued) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        List<String> modelA = received.stream().filter(c -> c.model().equals("gemini-a")).map(Call::prompt).toList();
+        assertThat(modelA).containsExactly("a0", "a1", "a2", "a3", "a4");
+        assertThat(peak.get("gemini-a").get()).isEqualTo(1);
+        // Diğer modelin kuyruğu gemini-b'yi bekletmez.
+        assertThat(received.indexOf(new Call("gemini-b", "b0"))).isLessThan(received.indexOf(new Call("gemini-a", "a1")));
+    }
+
+    @Test
+    void callsBeyondTheWaitingLimitAreRejected() {
+        responder = call -> StubReply.ok(Duration.ofMillis(300));
+        config.setMaxConcurrentPerModel(1);
+        config.setMaxWaitingPerModel(1);
+        startTransport();
+
+        transport.generate("gemini-a", "running", false);
+        transport.generate("gemini-a", "waiting", false);
+        CompletableFuture<String> rejected = transport.generate("gemini-a", "rejected", false);
+
+        assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+                .cause()
+                .isInstanceOfSatisfying(GeminiTransportException.class,
+                        e -> assertThat(e.getKind()).isEqualTo(GeminiTransportException.Kind.OVERLOADED));
+    }
+
+    private void startTransport() {
+        transport = new GeminiTransport(config, objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(transport, "apiKey", "test-key");
+        ReflectionTestUtils.setField(transport, "baseUrl", "http://127.0.0.1:" + server.port());
+    }
+
+    private static String modelOf(String uri) {
+        int start = uri.indexOf("/models/") + "/models/".length();
+        return uri.substring(start, uri.indexOf(':', start));
+    }
+
+    private String promptOf(String body) {
+        try {
+            return objectMapper.readTree(body).path("contents").path(0).path("parts").path(0).path("text").asText();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String candidate(String text) {
+        try {
+            return objectMapper.writeValueAsString(Map.of("candidates",
+                    List.of(Map.of("content", Map.of("parts", List.of(Map.of("text", text)))))));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
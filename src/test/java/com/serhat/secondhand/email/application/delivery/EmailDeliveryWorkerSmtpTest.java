@@ -0,0 +1,329 @@
+package com.serhat.secondhand.email.application.delivery;
+
+import com.serhat.secondhand.email.application.EmailMetrics;
+import com.serhat.secondhand.email.application.EmailSender;
+import com.serhat.secondhand.email.config.EmailConfig;
+import com.serhat.secondhand.email.domain.entity.enums.EmailType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the delivery worker against an in-process SMTP server. The {@code emails} table is an in-memory
+ * map: the claim query hands out one batch, and the status writer's JDBC batches are applied to it
+ * with the same {@code WHERE status = 'PENDING'} guard as the real statements.
+ */
+class EmailDeliveryWorkerSmtpTest {
+
+    private static final String REJECTED_DOMAIN = "bounce.test";
+
+    private final Map<UUID, Row> table = new ConcurrentHashMap<>();
+    private FakeSmtpServer smtp;
+    private EmailConfig emailConfig;
+    private EmailStatusWriter statusWriter;
+    private EmailDeliveryWorker worker;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtp = new FakeSmtpServer();
+
+        emailConfig = new EmailConfig();
+        EmailConfig.Delivery delivery = emailConfig.getDelivery();
+        delivery.setWorkerThreads(1);
+        delivery.setMinPollDelayMs(10);
+        delivery.setMaxPollDelayMs(50);
+        delivery.setRatePerSecond(1_000);
+        delivery.setBurst(100);
+        delivery.setPerDomainRatePerSecond(1_000);
+        delivery.setPerDomainBurst(100);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (worker != null) {
+            worker.stop();
+        }
+        smtp.close();
+    }
+
+    @Test
+    void sendsOverOnePooledConnectionAndRecordsSentAndRetryTransitions() throws Exception {
+        OutboundEmail first = email("a@example.com", 0);
+        OutboundEmail second = email("b@example.com", 0);
+        OutboundEmail third = email("c@example.org", 0);
+        OutboundEmail retried = email("x@" + REJECTED_DOMAIN, 0);
+        OutboundEmail retriedAgain = email("y@" + REJECTED_DOMAIN, 1);
+        OutboundEmail exhausted = email("z@" + REJECTED_DOMAIN, 2);
+        List<OutboundEmail> batch = List.of(first, second, retried, third, retriedAgain, exhausted);
+        batch.forEach(e -> table.put(e.id(), new Row(e.retryCount())));
+
+        LocalDateTime before = LocalDateTime.now();
+        startWorker(batch);
+        awaitSettled(batch);
+        LocalDateTime after = LocalDateTime.now();
+
+        assertThat(smtp.recipients()).containsExactlyInAnyOrder("a@example.com", "b@example.com", "c@example.org");
+        assertThat(smtp.connections()).isEqualTo(1);
+
+        for (OutboundEmail sent : List.of(first, second, third)) {
+            Row row = table.get(sent.id());
+            assertThat(row.status).isEqualTo("SENT");
+            assertThat(row.sentAt).isNotNull();
+            assertThat(row.retryCount).isZero();
+        }
+
+        long base = emailConfig.getDelivery().getRetryBaseDelayMs();
+        assertRetry(table.get(retried.id()), 1, before.plus(Duration.ofMillis(base)), after.plus(Duration.ofMillis(base)));
+        assertRetry(table.get(retriedAgain.id()), 2, before.plus(Duration.ofMillis(2 * base)), after.plus(Duration.ofMillis(2 * base)));
+
+        Row failed = table.get(exhausted.id());
+        assertThat(failed.status).isEqualTo("FAILED");
+        assertThat(failed.retryCount).isEqualTo(3);
+        assertThat(failed.error).isNotBlank();
+    }
+
+    private static void assertRetry(Row row, int retryCount, LocalDateTime earliest, LocalDateTime latest) {
+        assertThat(row.status).isEqualTo("QUEUED");
+        assertThat(row.retryCount).isEqualTo(retryCount);
+        assertThat(row.error).isNotBlank();
+        assertThat(row.nextAttemptAt.toLocalDateTime()).isBetween(earliest, latest);
+    }
+
+    // ── Wiring ───────────────────────────────────────────────────────────────
+
+    @SuppressWarnings("unchecked")
+    private void startWorker(List<OutboundEmail> batch) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(InetAddress.getLoopbackAddress().getHostAddress());
+        mailSender.setPort(smtp.port());
+        ObjectProvider<JavaMailSender> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(mailSender);
+        SmtpTransportPool pool = new SmtpTransportPool(provider, emailConfig);
+
+        EmailSender sender = new EmailSender(pool);
+        ReflectionTestUtils.setField(sender, "mockMode", false);
+
+        JdbcTemplate jdbc = mock(JdbcTemplate.class);
+        AtomicBoolean claimed = new AtomicBoolean();
+        when(jdbc.query(anyString(), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(inv -> claimed.compareAndSet(false, true) ? batch : List.of());
+        when(jdbc.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(inv -> {
+                    applyBatch(inv.getArgument(0), inv.getArgument(1), inv.getArgument(3));
+                    return new int[0][];
+                });
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        statusWriter = new EmailStatusWriter(jdbc, emailConfig);
+        worker = new EmailDeliveryWorker(jdbc, sender, new EmailRateLimiter(emailConfig), statusWriter, pool,
+                new EmailMetrics(registry, emailConfig), emailConfig, registry);
+        worker.start();
+    }
+
+    private void awaitSettled(List<OutboundEmail> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (System.nanoTime() < deadline) {
+            statusWriter.flush();
+            if (batch.stream().noneMatch(e -> "PENDING".equals(table.get(e.id()).status))) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Emails still pending: " + table);
+    }
+
+    /** Applies SENT_SQL / RESCHEDULE_SQL to the in-memory table through the writer's own binder. */
+    private void applyBatch(String sql, Collection<Object> args, ParameterizedPreparedStatementSetter<Object> setter) throws Exception {
+        boolean sent = sql.contains("status = 'SENT'");
+        for (Object arg : args) {
+            Map<Integer, Object> params = new HashMap<>();
+            PreparedStatement ps = mock(PreparedStatement.class, inv -> {
+                String name = inv.getMethod().getName();
+                if (name.equals("setNull")) {
+                    params.put(inv.getArgument(0), null);
+                } else if (name.startsWith("set")) {
+                    params.put(inv.getArgument(0), inv.getArgument(1));
+                }
+                return null;
+            });
+            setter.setValues(ps, arg);
+            if (sent) {
+                Row row = table.get((UUID) params.get(2));
+                if (row != null && row.status.equals("PENDING")) {
+                    row.status = "SENT";
+                    row.sentAt = (Timestamp) params.get(1);
+                    row.error = null;
+                }
+            } else {
+                Row row = table.get((UUID) params.get(5));
+                if (row != null && row.status.equals("PENDING")) {
+                    row.status = (String) params.get(1);
+                    row.retryCount += (Integer) params.get(2);
+                    if (params.get(3) != null) {
+                        row.error = (String) params.get(3);
+                    }
+                    row.nextAttemptAt = (Timestamp) params.get(4);
+                }
+            }
+        }
+    }
+
+    private static OutboundEmail email(String recipient, int retryCount) {
+        return new OutboundEmail(UUID.randomUUID(), recipient, "noreply@secondhand.test", "Subject " + recipient,
+                "<p>Hello</p>", EmailType.NOTIFICATION, retryCount, LocalDateTime.now());
+    }
+
+    /** Claimed rows start as PENDING, as CLAIM_SQL leaves them. */
+    private static final class Row {
+        volatile String status = "PENDING";
+        volatile int retryCount;
+        volatile String error;
+        volatile Timestamp sentAt;
+        volatile Timestamp nextAttemptAt;
+
+        Row(int retryCount) {
+            this.retryCount = retryCount;
+        }
+
+        @Override
+        public String toString() {
+            return status + "/" + retryCount;
+        }
+    }
+
+    // ── Fake SMTP server ─────────────────────────────────────────────────────
+
+    /**
+     * Minimal SMTP responder: accepts every command, rejects recipients in {@link #REJECTED_DOMAIN} with
+     * 550 and records the recipients of completed DATA transactions and the number of connections.
+     */
+    private static final class FakeSmtpServer implements AutoCloseable {
+
+        private final ServerSocket serverSocket;
+        private final AtomicInteger connections = new AtomicInteger();
+        private final List<String> recipients = new CopyOnWriteArrayList<>();
+        private final Thread acceptor;
+
+        FakeSmtpServer() throws IOException {
+            serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            acceptor = new Thread(this::acceptLoop, "fake-smtp-acceptor");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        int connections() {
+            return connections.get();
+        }
+
+        List<String> recipients() {
+            return recipients;
+        }
+
+        private void acceptLoop() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    connections.incrementAndGet();
+                    Thread handler = new Thread(() -> serve(socket), "fake-smtp-session");
+                    handler.setDaemon(true);
+                    handler.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                 OutputStream out = socket.getOutputStream()) {
+                reply(out, "220 fake-smtp ready");
+                String recipient = null;
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.toUpperCase(Locale.ROOT);
+                    if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+                        reply(out, "250 fake-smtp");
+                    } else if (command.startsWith("MAIL FROM")) {
+                        recipient = null;
+                        reply(out, "250 OK");
+                    } else if (command.startsWith("RCPT TO")) {
+                        String address = line.substring(line.indexOf('<') + 1, line.lastIndexOf('>'));
+                        if (address.endsWith("@" + REJECTED_DOMAIN)) {
+                            reply(out, "550 mailbox unavailable");
+                        } else {
+                            recipient = address;
+                            reply(out, "250 OK");
+                        }
+                    } else if (command.equals("DATA")) {
+                        reply(out, "354 end with <CRLF>.<CRLF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // gövde okunup atılır
+                        }
+                        recipients.add(recipient);
+                        reply(out, "250 queued");
+                    } else if (command.equals("QUIT")) {
+                        reply(out, "221 bye");
+                        return;
+                    } else {
+                        reply(out, "250 OK");
+                    }
+                }
+            } catch (IOException ignored) {
+                // istemci bağlantıyı kapattı
+            }
+        }
+
+        private static void reply(OutputStream out, String line) throws IOException {
+            out.write((line + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
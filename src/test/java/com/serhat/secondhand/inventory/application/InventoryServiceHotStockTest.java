@@ -0,0 +1,183 @@
+package com.serhat.secondhand.inventory.application;
+
+import com.serhat.secondhand.core.exception.BusinessException;
+import com.serhat.secondhand.core.scheduling.SchedulerLeaseService;
+import com.serhat.secondhand.inventory.config.InventoryConfig;
+import com.serhat.secondhand.inventory.domain.entity.Inventory;
+import com.serhat.secondhand.inventory.domain.repository.InventoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Concurrent checkouts against a hot listing. Redis and the inventory row are replaced by in-memory
+ * stand-ins that keep the same atomicity: the Lua script runs under one lock, the conditional UPDATE
+ * under another.
+ */
+class InventoryServiceHotStockTest {
+
+    private static final UUID LISTING_ID = UUID.randomUUID();
+    private static final int STOCK = 5;
+    private static final int BUYERS = 40;
+
+    private final Map<String, String> redisValues = new ConcurrentHashMap<>();
+    private final Set<String> hotMembers = ConcurrentHashMap.newKeySet();
+    private final Object redisLock = new Object();
+    private final AtomicInteger rowStock = new AtomicInteger(STOCK);
+    private final AtomicInteger rowUpdates = new AtomicInteger();
+
+    private HotStockCounter counter;
+    private InventoryService inventoryService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        SetOperations<String, String> sets = mock(SetOperations.class);
+        when(redis.opsForValue()).thenReturn(values);
+        when(redis.opsForSet()).thenReturn(sets);
+
+        when(sets.add(anyString(), any(String[].class))).thenAnswer(inv -> {
+            hotMembers.add(inv.getArgument(1));
+            return 1L;
+        });
+        when(sets.members(HotStockCounter.HOT_SET_KEY)).thenAnswer(inv -> Set.copyOf(hotMembers));
+
+        // ACQUIRE_SCRIPT'in birebir karşılığı; Redis'te script tek parça çalıştığı için kilit altında
+        doAnswer(inv -> {
+            String key = ((List<String>) inv.getArgument(1)).get(0);
+            int quantity = Integer.parseInt((String) ((Object[]) inv.getRawArguments()[2])[0]);
+            synchronized (redisLock) {
+                String current = redisValues.get(key);
+                if (current == null) {
+                    return -2L;
+                }
+                if (Integer.parseInt(current) < quantity) {
+                    return -1L;
+                }
+                long remaining = Long.parseLong(current) - quantity;
+                redisValues.put(key, String.valueOf(remaining));
+                return remaining;
+            }
+        }).when(redis).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        when(values.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(inv -> {
+            synchronized (redisLock) {
+                return redisValues.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null;
+            }
+        });
+        when(redis.hasKey(anyString())).thenAnswer(inv -> redisValues.containsKey(inv.<String>getArgument(0)));
+        when(values.increment(anyString(), anyLong())).thenAnswer(inv -> {
+            synchronized (redisLock) {
+                long next = Long.parseLong(redisValues.get(inv.<String>getArgument(0))) + inv.<Long>getArgument(1);
+                redisValues.put(inv.getArgument(0), String.valueOf(next));
+                return next;
+            }
+        });
+
+        InventoryRepository repository = mock(InventoryRepository.class);
+        when(repository.findByListingId(LISTING_ID)).thenAnswer(inv -> Optional.of(Inventory.builder()
+                .listingId(LISTING_ID)
+                .availableQuantity(rowStock.get())
+                .build()));
+        when(repository.tryReserve(any(UUID.class), anyInt(), any(LocalDateTime.class))).thenAnswer(inv -> {
+            rowUpdates.incrementAndGet();
+            int quantity = inv.getArgument(1);
+            int current;
+            do {
+                current = rowStock.get();
+                if (current < quantity) {
+                    return 0;
+                }
+            } while (!rowStock.compareAndSet(current, current - quantity));
+            return 1;
+        });
+
+        InventoryConfig config = new InventoryConfig();
+        config.getHotStock().setEnabled(true);
+        counter = new HotStockCounter(redis, repository, config, mock(SchedulerLeaseService.class));
+        inventoryService = new InventoryService(repository, counter, new SimpleMeterRegistry());
+        counter.markHot(LISTING_ID);
+    }
+
+    @Test
+    void concurrentCheckoutsNeverOversellAndSoldOutBuyersNeverReachTheRow() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < BUYERS; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        inventoryService.reserveQuantity(LISTING_ID, 1);
+                        reserved.incrementAndGet();
+                    } catch (BusinessException e) {
+                        refused.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(reserved.get()).isEqualTo(STOCK);
+        assertThat(refused.get()).isEqualTo(BUYERS - STOCK);
+        assertThat(rowStock.get()).isZero();
+        assertThat(redisValues.get("inventory:hot:stock:" + LISTING_ID)).isEqualTo("0");
+        // Yalnızca sayaçtan geçen alıcılar satıra ulaşır
+        assertThat(rowUpdates.get()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void soldOutCounterRejectsWithoutAdmission() {
+        for (int i = 0; i < STOCK; i++) {
+            inventoryService.reserveQuantity(LISTING_ID, 1);
+        }
+
+        assertThat(counter.tryAcquire(LISTING_ID, 1)).isEqualTo(HotStockCounter.Admission.REJECTED);
+        assertThat(rowUpdates.get()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void unmarkedListingIsNotGated() {
+        assertThat(counter.tryAcquire(UUID.randomUUID(), 1)).isEqualTo(HotStockCounter.Admission.NOT_GATED);
+    }
+}